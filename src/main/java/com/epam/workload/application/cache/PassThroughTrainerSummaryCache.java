@@ -0,0 +1,26 @@
+package com.epam.workload.application.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+
+/** Caches nothing: every read goes to the loader. Used when the summary cache is disabled. */
+public class PassThroughTrainerSummaryCache implements TrainerSummaryCache {
+    private final TrainerSummaryLoader loader;
+
+    public PassThroughTrainerSummaryCache(TrainerSummaryLoader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public Optional<TrainerSummaryResponse> get(String username) {
+        return loader.load(username);
+    }
+
+    @Override
+    public void invalidate(String username) {}
+
+    @Override
+    public void invalidateAll(Collection<String> usernames) {}
+}
@@ -0,0 +1,16 @@
+package com.epam.workload.application.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+
+/** Read-through cache of full (unbounded) trainer summaries, keyed by username. */
+public interface TrainerSummaryCache {
+    /** Returns the cached summary, loading it on a miss. Unknown trainers are not cached. */
+    Optional<TrainerSummaryResponse> get(String username);
+
+    void invalidate(String username);
+
+    void invalidateAll(Collection<String> usernames);
+}
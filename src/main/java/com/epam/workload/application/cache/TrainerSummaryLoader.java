@@ -0,0 +1,61 @@
+package com.epam.workload.application.cache;
+
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.epam.workload.application.dto.response.MonthSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/** Builds trainer summaries straight from the repository; the source behind {@link TrainerSummaryCache}. */
+@Component
+public class TrainerSummaryLoader {
+    private final TrainerWorkloadRepository repository;
+
+    @Autowired
+    public TrainerSummaryLoader(TrainerWorkloadRepository repository) {
+        this.repository = repository;
+    }
+
+    public Optional<TrainerSummaryResponse> load(String username) {
+        return repository.findByUsername(username).map(TrainerSummaryLoader::toResponse);
+    }
+
+    public Map<String, TrainerSummaryResponse> loadAll(Collection<String> usernames) {
+        return repository.findAllByUsernames(usernames).stream()
+                .collect(Collectors.toMap(TrainerWorkload::getUsername, TrainerSummaryLoader::toResponse));
+    }
+
+    public List<String> findRecentlyActive(YearMonth since, int limit) {
+        return repository.findUsernamesActiveSince(since, limit);
+    }
+
+    public static TrainerSummaryResponse toResponse(TrainerWorkload workload) {
+        YearlyDurations durations = workload.getDurations();
+        List<YearSummaryDTO> years = new ArrayList<>();
+        for (Year year : durations.years()) {
+            List<MonthSummaryDTO> months = new ArrayList<>(12);
+            durations.forEachMonth(year, (month, minutes) -> months.add(new MonthSummaryDTO(month, minutes)));
+            years.add(new YearSummaryDTO(year, durations.total(year), months));
+        }
+
+        return new TrainerSummaryResponse(
+                workload.getUsername(),
+                workload.getFirstName(),
+                workload.getLastName(),
+                workload.getActive(),
+                durations.total(),
+                years);
+    }
+}
@@ -0,0 +1,23 @@
+package com.epam.workload.application.consistency;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/** For stores without replicas: every read already sees every write, so no tokens are issued. */
+public class PassThroughReadConsistency implements ReadConsistency {
+
+    @Override
+    public Optional<String> lastWriteToken() {
+        return Optional.empty();
+    }
+
+    @Override
+    public <T> T read(String afterToken, Supplier<T> read) {
+        return read.get();
+    }
+
+    @Override
+    public <T> T readAfterLocalWrites(Supplier<T> read) {
+        return read.get();
+    }
+}
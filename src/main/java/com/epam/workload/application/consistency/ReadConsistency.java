@@ -0,0 +1,24 @@
+package com.epam.workload.application.consistency;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Routes summary reads to replicas without giving up read-your-writes. A write hands out an opaque
+ * token; a read given that token runs only once the replica serving it has applied the write.
+ */
+public interface ReadConsistency {
+    /** Token covering the writes the calling thread has made so far; empty when the store issues none. */
+    Optional<String> lastWriteToken();
+
+    /**
+     * Runs {@code read} with the configured summary read preference, against data no older than the
+     * write behind {@code afterToken}. {@code null} places no bound.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    <T> T read(String afterToken, Supplier<T> read);
+
+    /** Like {@link #read}, bounded by the newest write this instance has made - for loads that get cached. */
+    <T> T readAfterLocalWrites(Supplier<T> read);
+}
@@ -0,0 +1,82 @@
+package com.epam.workload.application.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import com.epam.workload.application.exception.DeadlineExceededException;
+
+/**
+ * The time by which the current unit of work - an HTTP request or a Kafka event - has to be done.
+ * It is bound to the handling thread with {@link #bind}. The persistence layer turns the remaining
+ * time into a server-side limit on every MongoDB call, and {@link #check} fails before a call once
+ * nothing is left.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /** The deadline bound to the calling thread, if any. */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @throws DeadlineExceededException if the calling thread's deadline has passed
+     */
+    public static void check(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException("Deadline exceeded before " + operation);
+        }
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /** Binds this deadline to the calling thread until the scope closes. An earlier deadline already bound wins. */
+    public Scope bind() {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.expiresAtNanos - expiresAtNanos < 0 ? previous : this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Lifts the calling thread's deadline until the scope closes. Meant for bookkeeping that has to
+     * follow a write once the write has succeeded.
+     */
+    public static Scope suspend() {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.remove();
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
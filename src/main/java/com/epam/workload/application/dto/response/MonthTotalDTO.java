@@ -0,0 +1,5 @@
+package com.epam.workload.application.dto.response;
+
+import java.time.YearMonth;
+
+public record MonthTotalDTO(YearMonth month, long totalMinutes) {}
@@ -0,0 +1,17 @@
+package com.epam.workload.application.dto.response;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+/** Progress of a month-end report job; the counts cover the chunks done so far. */
+public record ReportJobResponse(
+        String id,
+        YearMonth month,
+        String status,
+        int chunks,
+        long chunksDone,
+        long trainers,
+        long minutes,
+        Instant createdAt,
+        Instant updatedAt,
+        String error) {}
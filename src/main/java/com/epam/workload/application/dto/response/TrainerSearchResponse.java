@@ -0,0 +1,6 @@
+package com.epam.workload.application.dto.response;
+
+import java.util.List;
+
+/** One page of a name search; {@code nextCursor} is {@code null} on the last page. */
+public record TrainerSearchResponse(List<TrainerProfileDTO> trainers, String nextCursor) {}
@@ -0,0 +1,6 @@
+package com.epam.workload.application.dto.response;
+
+import java.util.List;
+
+/** Summaries in the order they were asked for; {@code notFound} lists the usernames without a workload. */
+public record TrainerSummariesResponse(List<TrainerSummaryResponse> summaries, List<String> notFound) {}
@@ -0,0 +1,5 @@
+package com.epam.workload.application.dto.response;
+
+import java.util.List;
+
+public record TrainerTotalsResponse(String username, long lifetimeTotal, List<YearTotalDTO> years) {}
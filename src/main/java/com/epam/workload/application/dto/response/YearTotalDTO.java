@@ -0,0 +1,5 @@
+package com.epam.workload.application.dto.response;
+
+import java.time.Year;
+
+public record YearTotalDTO(Year year, long yearTotal) {}
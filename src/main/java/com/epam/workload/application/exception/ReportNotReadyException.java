@@ -0,0 +1,8 @@
+package com.epam.workload.application.exception;
+
+/** The result of a report job was asked for before the job completed, or after it failed. */
+public class ReportNotReadyException extends RuntimeException {
+    public ReportNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.epam.workload.application.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/** The workload store is refusing calls for now; worth retrying after {@link #getRetryAfter()}. */
+@Getter
+public class StoreUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public StoreUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.workload.application.resilience;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Whether the current request was answered, in part, from data kept since an earlier read instead
+ * of from the store. Tracking is opened per request with {@link #track}; {@link #record} outside a
+ * tracked scope does nothing.
+ */
+public final class StaleRead {
+    private static final ThreadLocal<Tracker> CURRENT = new ThreadLocal<>();
+
+    private StaleRead() {}
+
+    /** Starts tracking on the calling thread until the scope closes. */
+    public static Scope track() {
+        Tracker previous = CURRENT.get();
+        CURRENT.set(new Tracker());
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /** Notes that data read from the store at {@code asOf} was served. */
+    public static void record(Instant asOf) {
+        Tracker tracker = CURRENT.get();
+        if (tracker != null && (tracker.oldest == null || asOf.isBefore(tracker.oldest))) {
+            tracker.oldest = asOf;
+        }
+    }
+
+    /** When the oldest stale data served in the tracked scope was read from the store. */
+    public static Optional<Instant> oldest() {
+        Tracker tracker = CURRENT.get();
+        return tracker == null ? Optional.empty() : Optional.ofNullable(tracker.oldest);
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Tracker {
+        private Instant oldest;
+    }
+}
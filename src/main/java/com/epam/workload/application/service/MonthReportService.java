@@ -0,0 +1,24 @@
+package com.epam.workload.application.service;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+import com.epam.workload.application.dto.response.ReportJobResponse;
+
+public interface MonthReportService {
+    /** Queues a report of every trainer's minutes in {@code month}; it is computed in the background. */
+    ReportJobResponse submit(YearMonth month);
+
+    /**
+     * @throws com.epam.workload.application.exception.EntityNotFoundException for an unknown job
+     */
+    ReportJobResponse getJob(String id);
+
+    /**
+     * The gzip-compressed CSV of a completed job.
+     *
+     * @throws com.epam.workload.application.exception.EntityNotFoundException for an unknown job
+     * @throws com.epam.workload.application.exception.ReportNotReadyException while it is not completed
+     */
+    Path getResult(String id);
+}
@@ -0,0 +1,346 @@
+package com.epam.workload.application.service;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import com.epam.workload.application.dto.response.ReportJobResponse;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.exception.ReportNotReadyException;
+import com.epam.workload.domain.model.ReportChunk;
+import com.epam.workload.domain.model.ReportJob;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.port.ReportJobRepository;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Computes month-end reports in the background, one job at a time. A job is planned by cutting the
+ * usernames into ranges of {@code chunk-size} trainers, read off the username index; the chunks then
+ * run on a pool of {@code parallelism} threads, each streaming its range through a cursor into a
+ * gzip part file of its own and checkpointing itself in the job once the part is in place. When
+ * all are done, the parts are appended behind a header into {@code <directory>/<job id>.csv.gz}:
+ * concatenated gzip members make one valid gzip file, so nothing is compressed twice.
+ *
+ * <p>Every {@code resume-interval}, starting on startup, jobs left unfinished are picked up again:
+ * queued ones, and running ones whose worker stopped checkpointing more than {@code stale-after}
+ * ago. Chunks already checkpointed with their part on disk are skipped. A graceful shutdown puts
+ * the running job back in the queue, so a restart resumes it without waiting for it to go stale.
+ * With several instances, {@code directory} has to be shared between them.
+ */
+@Service
+@Slf4j
+public class MonthReportServiceImpl implements MonthReportService {
+    static final String HEADER = "username,firstName,lastName,minutes,hours\n";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private final ReportJobRepository jobs;
+    private final TrainerWorkloadRepository repository;
+    private final Clock clock;
+    private final Path directory;
+    private final int chunkSize;
+    private final int batchSize;
+    private final Duration staleAfter;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService chunkExecutor;
+    // Jobs queued or running on this instance
+    private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    MonthReportServiceImpl(
+            ReportJobRepository jobs,
+            TrainerWorkloadRepository repository,
+            Clock clock,
+            @Value("${app.reports.directory:reports}") Path directory,
+            @Value("${app.reports.chunk-size:10000}") int chunkSize,
+            @Value("${app.reports.batch-size:500}") int batchSize,
+            @Value("${app.reports.parallelism:4}") int parallelism,
+            @Value("${app.reports.stale-after:10m}") Duration staleAfter) {
+        this.jobs = jobs;
+        this.repository = repository;
+        this.clock = clock;
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.staleAfter = staleAfter;
+        this.jobExecutor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("workload-report-job-", 0).factory());
+        this.chunkExecutor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("workload-report-", 0).factory());
+    }
+
+    @Override
+    public ReportJobResponse submit(YearMonth month) {
+        ReportJob job = ReportJob.queued(UUID.randomUUID().toString(), month, clock.instant());
+        jobs.insert(job);
+        log.info("Queued report job {} for {}", job.id(), month);
+        enqueue(job.id());
+        return toResponse(job);
+    }
+
+    @Override
+    public ReportJobResponse getJob(String id) {
+        return toResponse(find(id));
+    }
+
+    @Override
+    public Path getResult(String id) {
+        ReportJob job = find(id);
+        if (job.status() == ReportJob.Status.FAILED) {
+            throw new ReportNotReadyException("Report job " + id + " failed: " + job.error());
+        }
+        if (job.status() != ReportJob.Status.COMPLETED) {
+            throw new ReportNotReadyException("Report job " + id + " is " + job.status() + " (" + job.chunksDone()
+                    + " of " + job.chunks().size() + " chunks done)");
+        }
+        Path result = resultFile(id);
+        if (!Files.exists(result)) {
+            throw new EntityNotFoundException("Result of report job " + id + " is not on this instance");
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reports.resume-interval:1m}")
+    public void resumeUnfinished() {
+        jobs.findUnfinishedIds().forEach(this::enqueue);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupts the running job, which puts itself back in the queue
+        jobExecutor.shutdownNow();
+        chunkExecutor.shutdownNow();
+    }
+
+    private void enqueue(String id) {
+        if (localJobs.add(id)) {
+            jobExecutor.execute(() -> {
+                try {
+                    run(id);
+                } finally {
+                    localJobs.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(String id) {
+        Instant now = clock.instant();
+        ReportJob job = jobs.claim(id, now.minus(staleAfter), now).orElse(null);
+        if (job == null) {
+            // Finished meanwhile, or running on another instance
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            List<ReportChunk> chunks = job.chunks();
+            if (chunks.isEmpty()) {
+                chunks = plan();
+                jobs.savePlan(id, chunks, clock.instant());
+                log.info("Planned report job {} for {} in {} chunks", id, job.month(), chunks.size());
+            } else {
+                log.info("Resuming report job {} after {} of {} chunks", id, job.chunksDone(), chunks.size());
+            }
+            runChunks(job, chunks);
+            assemble(id, chunks.size());
+            jobs.updateStatus(id, ReportJob.Status.COMPLETED, null, clock.instant());
+            log.info("Completed report job {} in {} ms", id, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            if (!jobExecutor.isShutdown()) {
+                log.error("Report job {} failed", id, e);
+                jobs.updateStatus(id, ReportJob.Status.FAILED, String.valueOf(e.getMessage()), clock.instant());
+                return;
+            }
+            // Interrupted by the shutdown; the flag is cleared for the write and restored after it
+            boolean interrupted = Thread.interrupted();
+            log.info("Report job {} stopped by shutdown - back to the queue", id);
+            jobs.updateStatus(id, ReportJob.Status.QUEUED, null, clock.instant());
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Ranges of {@code chunk-size} trainers; the first and the last are open, to take in trainers added since. */
+    private List<ReportChunk> plan() {
+        List<String> boundaries = repository.findUsernameBoundaries(chunkSize);
+        List<ReportChunk> chunks = new ArrayList<>(boundaries.size());
+        for (int i = 0; i < boundaries.size(); i++) {
+            chunks.add(ReportChunk.pending(
+                    i, i == 0 ? null : boundaries.get(i), i + 1 < boundaries.size() ? boundaries.get(i + 1) : null));
+        }
+        return chunks;
+    }
+
+    private void runChunks(ReportJob job, List<ReportChunk> chunks) throws IOException, InterruptedException {
+        Path parts = Files.createDirectories(partsDirectory(job.id()));
+        List<Future<?>> pending = new ArrayList<>();
+        for (ReportChunk chunk : chunks) {
+            // A part lost with the disk of another instance is computed again
+            if (!chunk.done() || !Files.exists(partFile(parts, chunk.index()))) {
+                pending.add(chunkExecutor.submit(() -> {
+                    runChunk(job, chunk, parts);
+                    return null;
+                }));
+            }
+        }
+        try {
+            for (Future<?> chunk : pending) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(
+                    "Report chunk failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pending.forEach(chunk -> chunk.cancel(true));
+        }
+    }
+
+    private void runChunk(ReportJob job, ReportChunk chunk, Path parts) throws IOException {
+        Year year = Year.of(job.month().getYear());
+        Path part = partFile(parts, chunk.index());
+        Path partial = part.resolveSibling(part.getFileName() + ".tmp");
+        long trainers = 0;
+        long minutes = 0;
+        try (Stream<TrainerWorkload> workloads =
+                        repository.streamMonth(job.month(), chunk.fromUsername(), chunk.toUsername(), batchSize);
+                Writer out = new BufferedWriter(
+                        new OutputStreamWriter(
+                                new GZIPOutputStream(Files.newOutputStream(partial), BUFFER_SIZE),
+                                StandardCharsets.UTF_8),
+                        BUFFER_SIZE)) {
+            for (Iterator<TrainerWorkload> iterator = workloads.iterator(); iterator.hasNext(); ) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Report chunk " + chunk.index() + " interrupted");
+                }
+                TrainerWorkload workload = iterator.next();
+                int monthMinutes = workload.getDurations()
+                        .get(year, job.month().getMonth())
+                        .orElse(0);
+                out.write(row(workload, monthMinutes));
+                trainers++;
+                minutes += monthMinutes;
+            }
+        }
+        Files.move(partial, part, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        jobs.completeChunk(job.id(), chunk.index(), trainers, minutes, clock.instant());
+        log.debug("Report job {}: chunk {} done with {} trainers", job.id(), chunk.index(), trainers);
+    }
+
+    private void assemble(String id, int chunks) throws IOException {
+        Path parts = partsDirectory(id);
+        Path result = resultFile(id);
+        Path partial = result.resolveSibling(result.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(partial)) {
+            out.write(gzip(HEADER));
+            for (int i = 0; i < chunks; i++) {
+                Files.copy(partFile(parts, i), out);
+            }
+        }
+        Files.move(partial, result, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (int i = 0; i < chunks; i++) {
+            Files.deleteIfExists(partFile(parts, i));
+        }
+        Files.deleteIfExists(parts);
+    }
+
+    private ReportJob find(String id) {
+        return jobs.findById(id).orElseThrow(() -> new EntityNotFoundException("Report job not found: " + id));
+    }
+
+    private Path resultFile(String id) {
+        return directory.resolve(id + ".csv.gz");
+    }
+
+    private Path partsDirectory(String id) {
+        return directory.resolve(id);
+    }
+
+    private static Path partFile(Path parts, int index) {
+        return parts.resolve(String.format("chunk-%06d.csv.gz", index));
+    }
+
+    private static String row(TrainerWorkload workload, int minutes) {
+        return field(workload.getUsername())
+                + ','
+                + field(workload.getFirstName())
+                + ','
+                + field(workload.getLastName())
+                + ','
+                + minutes
+                + ','
+                + BigDecimal.valueOf(minutes)
+                        .divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP)
+                        .toPlainString()
+                + '\n';
+    }
+
+    /** Quoted (RFC 4180) only when it holds a separator, quote or line break; {@code null} stays empty. */
+    private static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ReportJobResponse toResponse(ReportJob job) {
+        return new ReportJobResponse(
+                job.id(),
+                job.month(),
+                job.status().name(),
+                job.chunks().size(),
+                job.chunksDone(),
+                job.trainers(),
+                job.minutes(),
+                job.createdAt(),
+                job.updatedAt(),
+                job.error());
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.workload.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-runs a read-modify-write while it loses version conflicts. Attempts are spaced by "full
+ * jitter" exponential backoff, so writers contending for the same trainer spread out instead of
+ * colliding again in lockstep.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    @Autowired
+    public OptimisticRetryExecutor(
+            @Value("${app.workload.optimistic.max-attempts:5}") int maxAttempts,
+            @Value("${app.workload.optimistic.backoff:10ms}") Duration baseBackoff,
+            @Value("${app.workload.optimistic.max-backoff:200ms}") Duration maxBackoff,
+            MeterRegistry meterRegistry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.workload.optimistic.max-attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.conflicts = Counter.builder("workload.update.conflicts")
+                .description("Read-modify-write saves rejected because the trainer changed meanwhile")
+                .register(meterRegistry);
+        this.retries = Counter.builder("workload.update.retries")
+                .description("Read-modify-write attempts repeated after a conflict")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("workload.update.retries.exhausted")
+                .description("Updates that still conflicted after the last attempt")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String username, Supplier<T> attempt) {
+        for (int attemptNo = 1; ; attemptNo++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attemptNo >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Giving up on trainer '{}' after {} conflicting attempts", username, attemptNo);
+                    throw e;
+                }
+                log.debug("Version conflict on trainer '{}' (attempt {}/{})", username, attemptNo, maxAttempts);
+                retries.increment();
+                backOff(attemptNo);
+            }
+        }
+    }
+
+    private void backOff(int attemptNo) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attemptNo - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.epam.workload.application.service;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import reactor.core.publisher.Mono;
+
+/** Summary reads that hold no thread while the store answers. */
+public interface ReactiveTrainerSummaryService {
+    /**
+     * Like {@link TrainerWorkloadService#getTrainerSummary(String, WorkloadPeriod)}, completing with
+     * {@link com.epam.workload.application.exception.EntityNotFoundException} for unknown trainers.
+     */
+    Mono<TrainerSummaryResponse> getTrainerSummary(String username, WorkloadPeriod period);
+}
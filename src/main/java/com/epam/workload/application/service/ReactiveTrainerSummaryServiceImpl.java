@@ -0,0 +1,47 @@
+package com.epam.workload.application.service;
+
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.exception.DeadlineExceededException;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.port.ReactiveTrainerWorkloadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Always reads the store: the summary cache and the read-your-writes sessions are blocking and
+ * thread-bound, so neither is consulted here.
+ */
+@Service
+@Slf4j
+public class ReactiveTrainerSummaryServiceImpl implements ReactiveTrainerSummaryService {
+    private final ReactiveTrainerWorkloadRepository repository;
+
+    @Autowired
+    ReactiveTrainerSummaryServiceImpl(ReactiveTrainerWorkloadRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Mono<TrainerSummaryResponse> getTrainerSummary(String username, WorkloadPeriod period) {
+        log.debug("Fetching workload summary for trainer: {} within {} (non-blocking)", username, period);
+
+        RequestDeadline.check("reading trainer '" + username + "'");
+        Mono<TrainerSummaryResponse> summary = repository
+                .findByUsername(username, period)
+                .map(TrainerSummaryLoader::toResponse)
+                .switchIfEmpty(
+                        Mono.error(() -> new EntityNotFoundException("No workload found for trainer: " + username)));
+        // Captured now: the deadline is bound to the calling thread, the read completes on another one
+        return RequestDeadline.current()
+                .map(deadline -> summary.timeout(
+                        deadline.remaining(),
+                        Mono.error(() -> new DeadlineExceededException(
+                                "Deadline exceeded while reading trainer '" + username + "'"))))
+                .orElse(summary);
+    }
+}
@@ -1,11 +1,90 @@
 package com.epam.workload.application.service;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.TrainerSearchResponse;
+import com.epam.workload.application.dto.response.TrainerSummariesResponse;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
+import com.epam.workload.domain.model.SourcePosition;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
 
 public interface TrainerWorkloadService {
     TrainerWorkload processRequest(UpdateTrainerWorkloadCommand request);
 
+    /**
+     * Applies the request at most once per source position, recording the position in the same
+     * write. Returns empty when the position was applied before. Needs the atomic update mode.
+     *
+     * @throws IllegalStateException in any other update mode
+     */
+    Optional<TrainerWorkload> processRequest(UpdateTrainerWorkloadCommand request, SourcePosition position);
+
+    /**
+     * Applies all commands in order with one bulk read, each at most once per source position like
+     * {@link #processRequest(UpdateTrainerWorkloadCommand, SourcePosition)}; {@code positions.get(i)}
+     * is where {@code requests.get(i)} came from. Runs of ADDs share one bulk write. DELETEs that no
+     * stored or archived month can cover are logged and skipped; the rest of the batch is still
+     * applied. A failed write is rethrown, and retrying the whole batch skips what already landed.
+     */
+    List<TrainerWorkload> processBatch(List<UpdateTrainerWorkloadCommand> requests, List<SourcePosition> positions);
+
+    /**
+     * Sets every month present in {@code imported} to the minutes it holds there, with one bulk read
+     * and one bulk write; the trainers' other months stay as stored, the profile fields are taken
+     * over. Setting instead of adding makes importing the same data twice harmless.
+     */
+    List<TrainerWorkload> importWorkloads(List<TrainerWorkload> imported);
+
     TrainerSummaryResponse getTrainerSummary(String username);
+
+    /** Summary restricted to the given period; the slice is cut by the store, not in memory. */
+    TrainerSummaryResponse getTrainerSummary(String username, WorkloadPeriod period);
+
+    /**
+     * Summaries of several trainers, restricted to {@code period}, read from the store in one query.
+     * They come in the order of {@code usernames}, each trainer once; unknown ones are listed in
+     * {@code notFound} instead of failing the whole request.
+     */
+    TrainerSummariesResponse getTrainerSummaries(List<String> usernames, WorkloadPeriod period);
+
+    /**
+     * Summary read from data that includes the write behind {@code afterToken}, bypassing the cache.
+     * A {@code null} token behaves like the overloads without one.
+     */
+    TrainerSummaryResponse getTrainerSummary(String username, WorkloadPeriod period, String afterToken);
+
+    /** Token for {@link #getTrainerSummary(String, WorkloadPeriod, String)} covering this thread's last write. */
+    Optional<String> lastWriteToken();
+
+    /** Like {@link #getTrainerSummary(String, WorkloadPeriod)}, also reading years moved to the archive. */
+    TrainerSummaryResponse getTrainerSummaryIncludingArchive(String username, WorkloadPeriod period);
+
+    /**
+     * Summary as it stood at {@code asOf}, rebuilt from the latest journal snapshot before it plus the
+     * events recorded in between.
+     *
+     * @throws com.epam.workload.application.exception.EntityNotFoundException when the journal holds
+     *     nothing about the trainer up to {@code asOf}
+     */
+    TrainerSummaryResponse getTrainerSummaryAsOf(String username, WorkloadPeriod period, Instant asOf);
+
+    /**
+     * Up to {@code limit} trainers whose first and last names start with the given prefixes
+     * (case-sensitive; blank does not restrict), ordered by first name, last name and username.
+     * {@code cursor} is the {@code nextCursor} of the previous page, {@code null} for the first.
+     *
+     * @throws IllegalArgumentException for a malformed cursor or a limit outside 1-100
+     */
+    TrainerSearchResponse searchTrainers(String firstName, String lastName, String cursor, int limit);
+
+    /** Per-year and lifetime totals read from the stored running sums, without loading any months. */
+    TrainerTotalsResponse getTrainerTotals(String username);
+
+    /** Totals over the whole history including archived years, summed from the months. */
+    TrainerTotalsResponse getTrainerTotalsIncludingArchive(String username);
 }
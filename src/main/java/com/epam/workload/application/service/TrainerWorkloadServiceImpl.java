@@ -1,37 +1,99 @@
 package com.epam.workload.application.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.Month;
 import java.time.Year;
-import java.util.EnumMap;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.consistency.ReadConsistency;
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.epam.workload.application.dto.request.ActionType;
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
-import com.epam.workload.application.dto.response.MonthSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerProfileDTO;
+import com.epam.workload.application.dto.response.TrainerSearchResponse;
+import com.epam.workload.application.dto.response.TrainerSummariesResponse;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
-import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
+import com.epam.workload.application.dto.response.YearTotalDTO;
 import com.epam.workload.application.exception.EntityNotFoundException;
 import com.epam.workload.application.exception.InsufficientDurationException;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.MonthTotalsRepository;
 import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.domain.port.WorkloadJournal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class TrainerWorkloadServiceImpl implements TrainerWorkloadService {
+    static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_IMPORT_ATTEMPTS = 3;
+    private static final String CURSOR_SEPARATOR = "\0";
+    private static final String CURSOR_VALUE = "=";
+    private static final String CURSOR_NULL = "~";
 
     private final TrainerWorkloadRepository repository;
+    private final WorkloadUpdateMode updateMode;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final TrainerSummaryCache summaryCache;
+    private final MonthTotalsRepository monthTotals;
+    private final ReadConsistency readConsistency;
+    private final WorkloadJournal journal;
+    private final Clock clock;
 
     @Autowired
-    TrainerWorkloadServiceImpl(TrainerWorkloadRepository repository) {
+    TrainerWorkloadServiceImpl(
+            TrainerWorkloadRepository repository,
+            @Value("${app.workload.update-mode:atomic}") WorkloadUpdateMode updateMode,
+            OptimisticRetryExecutor retryExecutor,
+            TrainerSummaryCache summaryCache,
+            MonthTotalsRepository monthTotals,
+            ReadConsistency readConsistency,
+            WorkloadJournal journal,
+            Clock clock) {
         this.repository = repository;
+        this.updateMode = updateMode;
+        this.retryExecutor = retryExecutor;
+        this.summaryCache = summaryCache;
+        this.monthTotals = monthTotals;
+        this.readConsistency = readConsistency;
+        this.journal = journal;
+        this.clock = clock;
     }
 
     @Override
     public TrainerWorkload processRequest(UpdateTrainerWorkloadCommand request) {
+        RequestDeadline.check("updating trainer '" + request.trainerUsername() + "'");
         Year year = Year.of(request.trainingDate().getYear());
         Month month = request.trainingDate().getMonth();
 
@@ -42,20 +104,19 @@ public class TrainerWorkloadServiceImpl implements TrainerWorkloadService {
                 year,
                 month);
 
-        TrainerWorkload workload = repository
-                .findByUsername(request.trainerUsername())
-                .orElseGet(() -> {
-                    log.debug("No existing document for trainer '{}' - creating new record", request.trainerUsername());
-                    return createNewWorkload(request);
-                });
-
         TrainerWorkload updated =
-                switch (request.actionType()) {
-                    case ADD -> addDuration(workload, year, month, request.trainingDurationMinutes());
-                    case DELETE -> subtractDuration(workload, year, month, request.trainingDurationMinutes());
+                switch (updateMode) {
+                    case ATOMIC -> applyAtomically(request, year, month);
+                    case READ_MODIFY_WRITE -> readModifyWrite(request, year, month);
+                    case OPTIMISTIC -> retryExecutor.execute(
+                            request.trainerUsername(), () -> readModifyWrite(request, year, month));
                 };
+        // Only reached once the trainer write succeeded; the reconciliation job repairs a crash in between
+        addToMonthTotals(YearMonth.of(year.getValue(), month), signedMinutes(request));
+        Instant recordedAt = clock.instant();
+        journal(List.of(toEvent(request, updated, recordedAt)), List.of(updated), recordedAt);
+        summaryCache.invalidate(request.trainerUsername());
 
-        repository.save(updated);
         log.info(
                 "Saved workload for trainer '{}' - action: {}, [{}/{}]",
                 request.trainerUsername(),
@@ -65,59 +126,677 @@ public class TrainerWorkloadServiceImpl implements TrainerWorkloadService {
         return updated;
     }
 
+    @Override
+    public Optional<TrainerWorkload> processRequest(UpdateTrainerWorkloadCommand request, SourcePosition position) {
+        if (updateMode != WorkloadUpdateMode.ATOMIC) {
+            // Only the single conditional update can record the position together with the change
+            throw new IllegalStateException("Applying requests once per source position needs update mode ATOMIC");
+        }
+        RequestDeadline.check("updating trainer '" + request.trainerUsername() + "'");
+        Year year = Year.of(request.trainingDate().getYear());
+        Month month = request.trainingDate().getMonth();
+        int minutes = request.trainingDurationMinutes();
+
+        Optional<TrainerWorkload> updated =
+                switch (request.actionType()) {
+                    case ADD -> repository.incrementDuration(
+                            createNewWorkload(request), year, month, minutes, position);
+                    case DELETE -> {
+                        Optional<TrainerWorkload> decremented =
+                                repository.decrementDuration(request.trainerUsername(), year, month, minutes, position);
+                        if (decremented.isPresent()
+                                || repository.hasApplied(request.trainerUsername(), year, position)) {
+                            yield decremented;
+                        }
+                        yield Optional.of(repository
+                                .decrementArchived(request.trainerUsername(), year, month, minutes, position)
+                                .orElseThrow(() -> rejectedDelete(request, year, month)));
+                    }
+                };
+        if (updated.isEmpty()) {
+            log.info(
+                    "Skipping {} request for trainer '{}' - {} offset {} was applied before",
+                    request.actionType(),
+                    request.trainerUsername(),
+                    position.source(),
+                    position.offset());
+            return updated;
+        }
+        addToMonthTotals(YearMonth.of(year.getValue(), month), signedMinutes(request));
+        Instant recordedAt = clock.instant();
+        journal(List.of(toEvent(request, updated.get(), recordedAt)), List.of(updated.get()), recordedAt);
+        summaryCache.invalidate(request.trainerUsername());
+
+        log.info(
+                "Saved workload for trainer '{}' - action: {}, [{}/{}] from {} offset {}",
+                request.trainerUsername(),
+                request.actionType(),
+                year,
+                month,
+                position.source(),
+                position.offset());
+        return updated;
+    }
+
+    @Override
+    public List<TrainerWorkload> processBatch(
+            List<UpdateTrainerWorkloadCommand> requests, List<SourcePosition> positions) {
+        if (requests.size() != positions.size()) {
+            throw new IllegalArgumentException(
+                    "Got " + positions.size() + " source positions for " + requests.size() + " requests");
+        }
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        RequestDeadline.check("applying a batch of " + requests.size() + " requests");
+        Set<String> usernames = requests.stream()
+                .map(UpdateTrainerWorkloadCommand::trainerUsername)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, TrainerWorkload> workloads = repository.findAllByUsernames(usernames).stream()
+                .collect(
+                        Collectors.toMap(TrainerWorkload::getUsername, Function.identity(), (a, b) -> a, HashMap::new));
+        log.debug(
+                "Batch of {} requests touches {} trainers, {} already stored",
+                requests.size(),
+                usernames.size(),
+                workloads.size());
+
+        // One write per request, in source order, each recording its position: netting requests of
+        // different positions into one write would leave a failed batch half applied with no way to
+        // tell which half on the retry
+        BatchWrite batch = new BatchWrite(workloads);
+        boolean completed = false;
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                switch (requests.get(i).actionType()) {
+                    case ADD -> batch.add(requests.get(i), positions.get(i));
+                    case DELETE -> batch.delete(requests.get(i), positions.get(i));
+                }
+            }
+            batch.flushAdds();
+            completed = true;
+        } finally {
+            // On a failure the writes that landed stay and the retry skips them, so account for them
+            // now; a bulk write that failed part way may have landed more than we know of, which only
+            // the cache can be told about
+            batch.record(completed ? batch.touched() : usernames);
+        }
+        log.info("Saved batch of {} requests for {} trainers", requests.size(), batch.changed.size());
+        return List.copyOf(batch.changed.values());
+    }
+
+    /**
+     * The writes of one batch: ADDs are collected into a bulk write that goes out before the next
+     * DELETE, which needs a guarded update of its own, so every document sees its positions in order.
+     */
+    private final class BatchWrite {
+        private final Map<String, TrainerWorkload> workloads;
+        private final Map<String, TrainerWorkload> changed = new LinkedHashMap<>();
+        private final Set<String> archived = new LinkedHashSet<>();
+        private final List<AppliedRequest> applied = new ArrayList<>();
+        private final List<UpdateTrainerWorkloadCommand> adds = new ArrayList<>();
+        private final List<WorkloadIncrement> increments = new ArrayList<>();
+
+        BatchWrite(Map<String, TrainerWorkload> workloads) {
+            this.workloads = workloads;
+        }
+
+        void add(UpdateTrainerWorkloadCommand request, SourcePosition position) {
+            TrainerWorkload profile =
+                    workloads.computeIfAbsent(request.trainerUsername(), username -> createNewWorkload(request));
+            adds.add(request);
+            increments.add(new WorkloadIncrement(
+                    profile,
+                    Year.of(request.trainingDate().getYear()),
+                    request.trainingDate().getMonth(),
+                    request.trainingDurationMinutes(),
+                    position));
+        }
+
+        void flushAdds() {
+            if (increments.isEmpty()) {
+                return;
+            }
+            Set<SourcePosition> written = repository.incrementAll(List.copyOf(increments)).stream()
+                    .map(WorkloadIncrement::position)
+                    .collect(Collectors.toSet());
+            for (int i = 0; i < increments.size(); i++) {
+                UpdateTrainerWorkloadCommand request = adds.get(i);
+                WorkloadIncrement increment = increments.get(i);
+                if (!written.contains(increment.position())) {
+                    skipReplay(request, increment.position());
+                    continue;
+                }
+                TrainerWorkload updated = addDuration(
+                        workloads.get(request.trainerUsername()),
+                        increment.year(),
+                        increment.month(),
+                        increment.minutes());
+                track(request, updated, increment.year(), increment.month());
+            }
+            adds.clear();
+            increments.clear();
+        }
+
+        void delete(UpdateTrainerWorkloadCommand request, SourcePosition position) {
+            flushAdds();
+            String username = request.trainerUsername();
+            Year year = Year.of(request.trainingDate().getYear());
+            Month month = request.trainingDate().getMonth();
+            int minutes = request.trainingDurationMinutes();
+
+            Optional<TrainerWorkload> decremented =
+                    repository.decrementDuration(username, year, month, minutes, position);
+            if (decremented.isPresent()) {
+                // The store is the reference: another writer may have changed the month since the batch read it
+                TrainerWorkload current = workloads.getOrDefault(username, decremented.get());
+                int minutesAfter =
+                        decremented.get().getDurations().get(year, month).orElse(0);
+                track(
+                        request,
+                        current.withDurations(current.getDurations().with(year, month, minutesAfter)),
+                        year,
+                        month);
+                return;
+            }
+            if (repository.hasApplied(username, year, position)) {
+                skipReplay(request, position);
+                return;
+            }
+            // The month may have been moved to the archive tier
+            Optional<TrainerWorkload> fromArchive =
+                    repository.decrementArchived(username, year, month, minutes, position);
+            if (fromArchive.isPresent()) {
+                archived.add(username);
+                applied.add(new AppliedRequest(
+                        request,
+                        fromArchive.get().getDurations().get(year, month).orElse(0)));
+                return;
+            }
+            log.error(
+                    "Skipping DELETE request for trainer '{}' in batch - no stored or archived entry holds {} minutes in {}/{}",
+                    username,
+                    minutes,
+                    month,
+                    year);
+        }
+
+        Set<String> touched() {
+            Set<String> touched = new LinkedHashSet<>(changed.keySet());
+            touched.addAll(archived);
+            return touched;
+        }
+
+        /** Month totals, journal and cache for the requests applied so far. */
+        void record(Set<String> invalidated) {
+            Map<YearMonth, Long> monthDeltas = new HashMap<>();
+            applied.forEach(request -> monthDeltas.merge(
+                    YearMonth.from(request.request().trainingDate()), signedMinutes(request.request()), Long::sum));
+            if (!monthDeltas.isEmpty()) {
+                try (RequestDeadline.Scope ignored = RequestDeadline.suspend()) {
+                    monthTotals.addAll(monthDeltas);
+                } catch (RuntimeException e) {
+                    // The trainer writes stand and a redelivered batch skips them; the reconciliation
+                    // job brings the totals back in line
+                    log.error("Updating month totals for {} months failed - totals lag behind", monthDeltas.size(), e);
+                }
+            }
+            Instant recordedAt = clock.instant();
+            journal(
+                    applied.stream()
+                            .map(request -> toEvent(request.request(), request.minutesAfter(), recordedAt))
+                            .toList(),
+                    changed.values(),
+                    recordedAt);
+            if (!invalidated.isEmpty()) {
+                summaryCache.invalidateAll(invalidated);
+            }
+        }
+
+        private void track(UpdateTrainerWorkloadCommand request, TrainerWorkload updated, Year year, Month month) {
+            workloads.put(request.trainerUsername(), updated);
+            changed.put(request.trainerUsername(), updated);
+            applied.add(new AppliedRequest(
+                    request, updated.getDurations().get(year, month).orElse(0)));
+        }
+
+        private void skipReplay(UpdateTrainerWorkloadCommand request, SourcePosition position) {
+            log.info(
+                    "Skipping {} request for trainer '{}' in batch - {} offset {} was applied before",
+                    request.actionType(),
+                    request.trainerUsername(),
+                    position.source(),
+                    position.offset());
+        }
+    }
+
+    @Override
+    public List<TrainerWorkload> importWorkloads(List<TrainerWorkload> imported) {
+        if (imported.isEmpty()) {
+            return List.of();
+        }
+        Map<String, TrainerWorkload> stored =
+                repository
+                        .findAllByUsernames(imported.stream()
+                                .map(TrainerWorkload::getUsername)
+                                .toList())
+                        .stream()
+                        .collect(Collectors.toMap(TrainerWorkload::getUsername, Function.identity(), (a, b) -> a));
+
+        // Each month is moved to its imported value by the difference to what was read, as atomic
+        // updates: a change another writer makes meanwhile is kept on top and never overwritten
+        Instant recordedAt = clock.instant();
+        List<TrainerWorkload> merged = new ArrayList<>(imported.size());
+        List<WorkloadIncrement> raised = new ArrayList<>();
+        List<WorkloadIncrement> lowered = new ArrayList<>();
+        for (TrainerWorkload workload : imported) {
+            TrainerWorkload current =
+                    stored.getOrDefault(workload.getUsername(), workload.withDurations(YearlyDurations.empty()));
+            // Updated from the month callback below
+            YearlyDurations[] durations = {current.getDurations()};
+            for (Year year : workload.getDurations().years()) {
+                workload.getDurations().forEachMonth(year, (month, minutes) -> {
+                    int before = durations[0].get(year, month).orElse(0);
+                    if (minutes == before && durations[0].contains(year, month)) {
+                        return;
+                    }
+                    durations[0] = durations[0].with(year, month, minutes);
+                    // A missing month is created even when it imports zero minutes
+                    (minutes >= before ? raised : lowered)
+                            .add(new WorkloadIncrement(workload, year, month, minutes - before));
+                });
+            }
+            merged.add(current.withFirstName(workload.getFirstName())
+                    .withLastName(workload.getLastName())
+                    .withActive(workload.getActive())
+                    .withDurations(durations[0]));
+        }
+
+        repository.incrementAll(raised);
+        Map<YearMonth, Long> monthDeltas = new HashMap<>();
+        List<WorkloadEvent> events = new ArrayList<>(raised.size() + lowered.size());
+        Stream.concat(raised.stream(), lowered.stream()).forEach(change -> {
+            int minutesAfter = change.profile()
+                    .getDurations()
+                    .get(change.year(), change.month())
+                    .orElse(0);
+            int applied = change.minutes() < 0 ? lower(change, minutesAfter) : change.minutes();
+            monthDeltas.merge(YearMonth.of(change.year().getValue(), change.month()), (long) applied, Long::sum);
+            events.add(new WorkloadEvent(
+                    change.username(),
+                    change.profile().getFirstName(),
+                    change.profile().getLastName(),
+                    change.profile().getActive(),
+                    change.year(),
+                    change.month(),
+                    applied,
+                    minutesAfter,
+                    recordedAt));
+        });
+        repository.saveProfiles(imported);
+        monthTotals.addAll(monthDeltas);
+        journal(events, merged, recordedAt);
+        summaryCache.invalidateAll(
+                merged.stream().map(TrainerWorkload::getUsername).toList());
+        log.info("Imported {} trainers, {} months changed", merged.size(), events.size());
+        return merged;
+    }
+
+    /**
+     * Lowers an imported month towards {@code target} by the difference to what was read, with a
+     * decrement that refuses to go below zero; when another writer took minutes meanwhile, re-reads
+     * the month and tries again with the new difference. Returns the signed minutes applied.
+     */
+    private int lower(WorkloadIncrement change, int target) {
+        String username = change.username();
+        int current = target - change.minutes();
+        for (int attempt = 1; ; attempt++) {
+            if (current <= target) {
+                // Another writer took more than the import would have
+                if (current < target) {
+                    repository.incrementDuration(change.profile(), change.year(), change.month(), target - current);
+                }
+                return target - current;
+            }
+            if (repository
+                    .decrementDuration(username, change.year(), change.month(), current - target)
+                    .isPresent()) {
+                return target - current;
+            }
+            if (attempt == MAX_IMPORT_ATTEMPTS) {
+                throw new OptimisticLockingFailureException(String.format(
+                        "Trainer '%s' [%s/%s] kept changing while importing it",
+                        username, change.year(), change.month()));
+            }
+            current = repository
+                    .findForUpdate(username, change.year())
+                    .map(workload -> workload.getDurations()
+                            .get(change.year(), change.month())
+                            .orElse(0))
+                    .orElse(0);
+        }
+    }
+
     @Override
     public TrainerSummaryResponse getTrainerSummary(String username) {
         log.debug("Fetching workload summary for trainer: {}", username);
 
+        // A miss is cached, so it must not load from a replica behind this instance's own writes
+        return readConsistency
+                .readAfterLocalWrites(() -> summaryCache.get(username))
+                .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username));
+    }
+
+    @Override
+    public TrainerSummaryResponse getTrainerSummary(String username, WorkloadPeriod period) {
+        log.debug("Fetching workload summary for trainer: {} within {}", username, period);
+
+        TrainerWorkload workload = readConsistency
+                .read(null, () -> repository.findByUsername(username, period))
+                .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username));
+
+        return TrainerSummaryLoader.toResponse(workload);
+    }
+
+    @Override
+    public TrainerSummariesResponse getTrainerSummaries(List<String> usernames, WorkloadPeriod period) {
+        Set<String> requested = new LinkedHashSet<>(usernames);
+        RequestDeadline.check("fetching summaries of " + requested.size() + " trainers");
+        log.debug("Fetching workload summaries for {} trainers within {}", requested.size(), period);
+
+        // One $in for the whole page; the period is cut from the loaded trainers
+        Map<String, TrainerWorkload> found =
+                readConsistency.read(null, () -> repository.findAllByUsernames(requested)).stream()
+                        .collect(Collectors.toMap(TrainerWorkload::getUsername, Function.identity()));
+
+        List<TrainerSummaryResponse> summaries = new ArrayList<>(found.size());
+        List<String> notFound = new ArrayList<>();
+        for (String username : requested) {
+            TrainerWorkload workload = found.get(username);
+            if (workload == null) {
+                notFound.add(username);
+            } else {
+                summaries.add(TrainerSummaryLoader.toResponse(
+                        workload.withDurations(workload.getDurations().within(period))));
+            }
+        }
+        return new TrainerSummariesResponse(summaries, notFound);
+    }
+
+    @Override
+    public TrainerSummaryResponse getTrainerSummary(String username, WorkloadPeriod period, String afterToken) {
+        if (afterToken == null) {
+            return period.isUnbounded() ? getTrainerSummary(username) : getTrainerSummary(username, period);
+        }
+        log.debug("Fetching workload summary for trainer: {} within {} after a client's write", username, period);
+
+        // Straight from the store: the cache may predate the write, e.g. when it went through another instance
+        TrainerWorkload workload = readConsistency
+                .read(afterToken, () -> repository.findByUsername(username, period))
+                .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username));
+
+        return TrainerSummaryLoader.toResponse(workload);
+    }
+
+    @Override
+    public Optional<String> lastWriteToken() {
+        return readConsistency.lastWriteToken();
+    }
+
+    @Override
+    public TrainerSummaryResponse getTrainerSummaryIncludingArchive(String username, WorkloadPeriod period) {
+        log.debug("Fetching workload summary for trainer: {} within {} including archive", username, period);
+
         TrainerWorkload workload = repository
-                .findByUsername(username)
+                .findByUsernameIncludingArchive(username, period)
                 .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username));
 
-        return mapToResponse(workload);
+        return TrainerSummaryLoader.toResponse(workload);
+    }
+
+    @Override
+    public TrainerSummaryResponse getTrainerSummaryAsOf(String username, WorkloadPeriod period, Instant asOf) {
+        log.debug("Fetching workload summary for trainer: {} within {} as of {}", username, period, asOf);
+
+        WorkloadSnapshot snapshot = journal.findLatestSnapshot(username, asOf)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("No workload history for trainer: " + username + " as of " + asOf));
+        TrainerWorkload workload = snapshot.replay(journal.findEvents(username, snapshot.takenAt(), asOf), asOf)
+                .workload();
+
+        return TrainerSummaryLoader.toResponse(
+                workload.withDurations(workload.getDurations().within(period)));
+    }
+
+    @Override
+    public TrainerTotalsResponse getTrainerTotals(String username) {
+        log.debug("Fetching workload totals for trainer: {}", username);
+
+        return toTotalsResponse(repository
+                .findTotals(username)
+                .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username)));
+    }
+
+    @Override
+    public TrainerTotalsResponse getTrainerTotalsIncludingArchive(String username) {
+        log.debug("Fetching workload totals for trainer: {} including archive", username);
+
+        return toTotalsResponse(repository
+                .findByUsernameIncludingArchive(username, WorkloadPeriod.all())
+                .map(WorkloadTotals::of)
+                .orElseThrow(() -> new EntityNotFoundException("No workload found for trainer: " + username)));
+    }
+
+    @Override
+    public TrainerSearchResponse searchTrainers(String firstName, String lastName, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT + ": " + limit);
+        }
+        RequestDeadline.check("searching trainers by name");
+        // One more than the page tells whether another page follows
+        List<TrainerWorkload> found = repository.findProfilesByName(
+                blankToNull(firstName), blankToNull(lastName), decodeCursor(cursor), limit + 1);
+
+        List<TrainerWorkload> page = found.subList(0, Math.min(limit, found.size()));
+        String nextCursor = found.size() > limit ? encodeCursor(TrainerNameKey.of(page.getLast())) : null;
+        return new TrainerSearchResponse(
+                page.stream()
+                        .map(workload -> new TrainerProfileDTO(
+                                workload.getUsername(),
+                                workload.getFirstName(),
+                                workload.getLastName(),
+                                Boolean.TRUE.equals(workload.getActive())))
+                        .toList(),
+                nextCursor);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /** Base64url of the key fields, each marked present or missing, so that a missing name survives. */
+    private static String encodeCursor(TrainerNameKey key) {
+        String fields = Stream.of(key.firstName(), key.lastName(), key.username())
+                .map(field -> field == null ? CURSOR_NULL : CURSOR_VALUE + field)
+                .collect(Collectors.joining(CURSOR_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fields.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TrainerNameKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] fields = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, -1);
+            if (fields.length == 3 && fields[2].startsWith(CURSOR_VALUE)) {
+                return new TrainerNameKey(cursorField(fields[0]), cursorField(fields[1]), cursorField(fields[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below like any other cursor this service did not hand out
+        }
+        throw new IllegalArgumentException("Malformed cursor: " + cursor);
+    }
+
+    private static String cursorField(String field) {
+        if (field.equals(CURSOR_NULL)) {
+            return null;
+        }
+        if (!field.startsWith(CURSOR_VALUE)) {
+            throw new IllegalArgumentException("Malformed cursor field");
+        }
+        return field.substring(CURSOR_VALUE.length());
+    }
+
+    private static TrainerTotalsResponse toTotalsResponse(WorkloadTotals totals) {
+        List<YearTotalDTO> years = totals.yearTotals().entrySet().stream()
+                .map(entry -> new YearTotalDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        return new TrainerTotalsResponse(totals.username(), totals.lifetimeTotal(), years);
+    }
+
+    private void addToMonthTotals(YearMonth month, long minutes) {
+        // The trainer write already happened; a deadline cutting this short would only leave the totals behind
+        try (RequestDeadline.Scope ignored = RequestDeadline.suspend()) {
+            monthTotals.add(month, minutes);
+        }
+    }
+
+    /**
+     * Appends the events and, for trainers the journal sees for the first time, a baseline snapshot of
+     * everything stored so far. {@code updated} holds each touched trainer as written.
+     */
+    private void journal(List<WorkloadEvent> events, Collection<TrainerWorkload> updated, Instant recordedAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<String, TrainerWorkload> written = updated.stream()
+                .collect(Collectors.toMap(TrainerWorkload::getUsername, Function.identity(), (a, b) -> b));
+        try (RequestDeadline.Scope ignored = RequestDeadline.suspend()) {
+            journal.append(
+                    events,
+                    // Layouts may return only the touched year, and archived years are elsewhere
+                    username -> new WorkloadSnapshot(
+                            repository
+                                    .findByUsernameIncludingArchive(username, WorkloadPeriod.all())
+                                    .or(() -> Optional.ofNullable(written.get(username)))
+                                    .orElseThrow(),
+                            recordedAt));
+        } catch (RuntimeException e) {
+            // The trainer write stands; failing the request now would have a retry apply it twice
+            log.error("Journaling {} events failed - history misses them", events.size(), e);
+        }
+    }
+
+    private static WorkloadEvent toEvent(
+            UpdateTrainerWorkloadCommand request, TrainerWorkload updated, Instant recordedAt) {
+        Year year = Year.of(request.trainingDate().getYear());
+        Month month = request.trainingDate().getMonth();
+        return toEvent(request, updated.getDurations().get(year, month).orElse(0), recordedAt);
+    }
+
+    private static WorkloadEvent toEvent(UpdateTrainerWorkloadCommand request, int minutesAfter, Instant recordedAt) {
+        return new WorkloadEvent(
+                request.trainerUsername(),
+                request.trainerFirstname(),
+                request.trainerLastname(),
+                request.isActive(),
+                Year.of(request.trainingDate().getYear()),
+                request.trainingDate().getMonth(),
+                (int) signedMinutes(request),
+                minutesAfter,
+                recordedAt);
+    }
+
+    private static long signedMinutes(UpdateTrainerWorkloadCommand request) {
+        return switch (request.actionType()) {
+            case ADD -> request.trainingDurationMinutes();
+            case DELETE -> -request.trainingDurationMinutes();
+        };
+    }
+
+    private TrainerWorkload applyAtomically(UpdateTrainerWorkloadCommand request, Year year, Month month) {
+        int minutes = request.trainingDurationMinutes();
+        return switch (request.actionType()) {
+            case ADD -> repository.incrementDuration(createNewWorkload(request), year, month, minutes);
+            case DELETE -> repository
+                    .decrementDuration(request.trainerUsername(), year, month, minutes)
+                    .or(() -> repository.decrementArchived(request.trainerUsername(), year, month, minutes))
+                    .orElseThrow(() -> rejectedDelete(request, year, month));
+        };
+    }
+
+    private RuntimeException rejectedDelete(UpdateTrainerWorkloadCommand request, Year year, Month month) {
+        // The guarded update only tells us that nothing matched - re-read to report why
+        TrainerWorkload current =
+                repository.findForUpdate(request.trainerUsername(), year).orElseGet(() -> createNewWorkload(request));
+        subtractDuration(current, year, month, request.trainingDurationMinutes());
+
+        // A concurrent ADD landed between the guarded update and the re-read
+        return new InsufficientDurationException(String.format(
+                "Cannot subtract %d minutes from trainer '%s' in %s/%s - entry changed concurrently",
+                request.trainingDurationMinutes(), request.trainerUsername(), month, year));
+    }
+
+    private TrainerWorkload readModifyWrite(UpdateTrainerWorkloadCommand request, Year year, Month month) {
+        TrainerWorkload workload = repository
+                .findForUpdate(request.trainerUsername(), year)
+                .orElseGet(() -> {
+                    log.debug("No existing document for trainer '{}' - creating new record", request.trainerUsername());
+                    return createNewWorkload(request);
+                });
+
+        TrainerWorkload updated;
+        try {
+            updated = apply(workload, request, year, month);
+        } catch (EntityNotFoundException | InsufficientDurationException e) {
+            if (request.actionType() == ActionType.ADD) {
+                throw e;
+            }
+            // The month may have been moved to the archive tier
+            return repository
+                    .decrementArchived(request.trainerUsername(), year, month, request.trainingDurationMinutes())
+                    .orElseThrow(() -> e);
+        }
+        repository.save(updated);
+        return updated;
+    }
+
+    private TrainerWorkload apply(
+            TrainerWorkload workload, UpdateTrainerWorkloadCommand request, Year year, Month month) {
+        return switch (request.actionType()) {
+            case ADD -> addDuration(workload, year, month, request.trainingDurationMinutes());
+            case DELETE -> subtractDuration(workload, year, month, request.trainingDurationMinutes());
+        };
     }
 
     private TrainerWorkload addDuration(TrainerWorkload workload, Year year, Month month, int minutes) {
-        Map<Year, Map<Month, Integer>> updated = deepCopy(workload.getYearMonthDuration());
-        updated.computeIfAbsent(year, y -> new EnumMap<>(Month.class)).merge(month, minutes, Integer::sum);
+        YearlyDurations durations = workload.getDurations();
+        int current = durations.get(year, month).orElse(0);
 
         log.debug("Added {} minutes to trainer '{}' [{}/{}]", minutes, workload.getUsername(), year, month);
-        return workload.withYearMonthDuration(updated);
+        return workload.withDurations(durations.with(year, month, current + minutes));
     }
 
     private TrainerWorkload subtractDuration(TrainerWorkload workload, Year year, Month month, int minutes) {
-        Map<Year, Map<Month, Integer>> yearMap = workload.getYearMonthDuration();
-        Map<Month, Integer> monthMap = yearMap.get(year);
+        YearlyDurations durations = workload.getDurations();
+        OptionalInt stored = durations.get(year, month);
 
-        if (monthMap == null || !monthMap.containsKey(month)) {
+        if (stored.isEmpty()) {
             throw new EntityNotFoundException(
                     String.format("No workload entry for trainer '%s' in %s/%s", workload.getUsername(), month, year));
         }
 
-        int current = monthMap.get(month);
+        int current = stored.getAsInt();
         if (current - minutes < 0) {
             throw new InsufficientDurationException(String.format(
                     "Cannot subtract %d minutes from trainer '%s' in %s/%s - current is %d min",
                     minutes, workload.getUsername(), month, year, current));
         }
 
-        Map<Year, Map<Month, Integer>> updated = deepCopy(yearMap);
-        updated.get(year).put(month, current - minutes);
-
         log.debug("Subtracted {} minutes from trainer '{}' [{}/{}]", minutes, workload.getUsername(), year, month);
-        return workload.withYearMonthDuration(updated);
-    }
-
-    private TrainerSummaryResponse mapToResponse(TrainerWorkload workload) {
-        List<YearSummaryDTO> years = workload.getYearMonthDuration().entrySet().stream()
-                .map(ye -> new YearSummaryDTO(
-                        ye.getKey(),
-                        ye.getValue().entrySet().stream()
-                                .map(me -> new MonthSummaryDTO(me.getKey(), me.getValue()))
-                                .toList()))
-                .toList();
-
-        return new TrainerSummaryResponse(
-                workload.getUsername(), workload.getFirstName(), workload.getLastName(), workload.getActive(), years);
+        return workload.withDurations(durations.with(year, month, current - minutes));
     }
 
     private TrainerWorkload createNewWorkload(UpdateTrainerWorkloadCommand request) {
@@ -129,9 +808,6 @@ public class TrainerWorkloadServiceImpl implements TrainerWorkloadService {
                 .build();
     }
 
-    private Map<Year, Map<Month, Integer>> deepCopy(Map<Year, Map<Month, Integer>> original) {
-        Map<Year, Map<Month, Integer>> copy = new HashMap<>();
-        original.forEach((year, months) -> copy.put(year, new EnumMap<>(months)));
-        return copy;
-    }
+    /** A batch request that was written, with the minutes its month held right after it. */
+    private record AppliedRequest(UpdateTrainerWorkloadCommand request, int minutesAfter) {}
 }
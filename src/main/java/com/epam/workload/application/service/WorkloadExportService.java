@@ -0,0 +1,13 @@
+package com.epam.workload.application.service;
+
+import java.util.stream.Stream;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+
+public interface WorkloadExportService {
+    /**
+     * Full summaries of every trainer, ascending by username, read from the store as the stream is
+     * consumed. The caller must close the stream.
+     */
+    Stream<TrainerSummaryResponse> streamSummaries();
+}
@@ -0,0 +1,36 @@
+package com.epam.workload.application.service;
+
+import java.util.stream.Stream;
+
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads the trainers for an export straight from the repository cursor, {@code batch-size} at a
+ * time, bypassing the summary cache. Only one batch is held in memory, whatever the number of
+ * trainers.
+ */
+@Service
+@Slf4j
+public class WorkloadExportServiceImpl implements WorkloadExportService {
+    private final TrainerWorkloadRepository repository;
+    private final int batchSize;
+
+    @Autowired
+    WorkloadExportServiceImpl(
+            TrainerWorkloadRepository repository, @Value("${app.export.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Stream<TrainerSummaryResponse> streamSummaries() {
+        log.debug("Opening export cursor with batches of {} trainers", batchSize);
+        return repository.streamAll(batchSize).map(TrainerSummaryLoader::toResponse);
+    }
+}
@@ -0,0 +1,14 @@
+package com.epam.workload.application.service;
+
+import java.time.YearMonth;
+
+import com.epam.workload.application.dto.response.MonthTotalsResponse;
+
+public interface WorkloadStatsService {
+    /**
+     * Minutes of all trainers per month from {@code from} to {@code to} inclusive, one entry per
+     * month including empty ones. A missing {@code to} means the current month; a missing {@code
+     * from} means eleven months before {@code to}.
+     */
+    MonthTotalsResponse getMonthTotals(YearMonth from, YearMonth to);
+}
@@ -0,0 +1,56 @@
+package com.epam.workload.application.service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.epam.workload.application.dto.response.MonthTotalDTO;
+import com.epam.workload.application.dto.response.MonthTotalsResponse;
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.port.MonthTotalsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class WorkloadStatsServiceImpl implements WorkloadStatsService {
+    static final int MAX_MONTHS = 1200;
+
+    private final MonthTotalsRepository monthTotals;
+    private final Clock clock;
+
+    @Autowired
+    WorkloadStatsServiceImpl(MonthTotalsRepository monthTotals, Clock clock) {
+        this.monthTotals = monthTotals;
+        this.clock = clock;
+    }
+
+    @Override
+    public MonthTotalsResponse getMonthTotals(YearMonth from, YearMonth to) {
+        YearMonth end = to == null ? YearMonth.now(clock) : to;
+        YearMonth start = from == null ? end.minusMonths(11) : from;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from " + start + " is after to " + end);
+        }
+        if (ChronoUnit.MONTHS.between(start, end) >= MAX_MONTHS) {
+            throw new IllegalArgumentException("At most " + MAX_MONTHS + " months can be requested at once");
+        }
+        log.debug("Fetching month totals from {} to {}", start, end);
+
+        Map<YearMonth, Long> stored = monthTotals.findBetween(start, end).stream()
+                .collect(Collectors.toMap(MonthTotal::month, MonthTotal::totalMinutes));
+        List<MonthTotalDTO> months = new ArrayList<>();
+        long totalMinutes = 0;
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            long minutes = stored.getOrDefault(month, 0L);
+            months.add(new MonthTotalDTO(month, minutes));
+            totalMinutes += minutes;
+        }
+        return new MonthTotalsResponse(start, end, totalMinutes, months);
+    }
+}
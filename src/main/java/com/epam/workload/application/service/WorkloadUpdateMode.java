@@ -0,0 +1,13 @@
+package com.epam.workload.application.service;
+
+public enum WorkloadUpdateMode {
+    /** Each ADD/DELETE is a single conditional update executed by the repository. */
+    ATOMIC,
+    /**
+     * Load the trainer, apply the change in memory and save the whole workload back. The save is
+     * version-checked; a conflict is reported to the caller.
+     */
+    READ_MODIFY_WRITE,
+    /** As {@link #READ_MODIFY_WRITE}, but a version conflict re-reads and retries with backoff. */
+    OPTIMISTIC
+}
@@ -0,0 +1,6 @@
+package com.epam.workload.domain.model;
+
+import java.time.YearMonth;
+
+/** Training minutes of all trainers together in one calendar month. */
+public record MonthTotal(YearMonth month, long totalMinutes) {}
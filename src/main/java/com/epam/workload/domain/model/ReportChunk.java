@@ -0,0 +1,18 @@
+package com.epam.workload.domain.model;
+
+/**
+ * One slice of a {@link ReportJob}: the trainers from {@code fromUsername} (inclusive) to {@code
+ * toUsername} (exclusive; {@code null} for the last chunk). {@code trainers} and {@code minutes}
+ * are set once the chunk is done.
+ */
+public record ReportChunk(
+        int index, String fromUsername, String toUsername, boolean done, long trainers, long minutes) {
+
+    public static ReportChunk pending(int index, String fromUsername, String toUsername) {
+        return new ReportChunk(index, fromUsername, toUsername, false, 0, 0);
+    }
+
+    public ReportChunk completed(long trainers, long minutes) {
+        return new ReportChunk(index, fromUsername, toUsername, true, trainers, minutes);
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.workload.domain.model;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * A month-end report of the minutes of every trainer with workload in {@code month}, computed in
+ * {@link ReportChunk chunks} of usernames. {@code chunks} stays empty until the job is planned.
+ * {@code updatedAt} is moved by every checkpoint, so a running job left alone for long has lost
+ * its worker. {@code error} is set for a failed job only.
+ */
+public record ReportJob(
+        String id,
+        YearMonth month,
+        Status status,
+        List<ReportChunk> chunks,
+        Instant createdAt,
+        Instant updatedAt,
+        String error) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static ReportJob queued(String id, YearMonth month, Instant now) {
+        return new ReportJob(id, month, Status.QUEUED, List.of(), now, now, null);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public long chunksDone() {
+        return chunks.stream().filter(ReportChunk::done).count();
+    }
+
+    /** Trainers in the chunks done so far. */
+    public long trainers() {
+        return chunks.stream().mapToLong(ReportChunk::trainers).sum();
+    }
+
+    /** Minutes in the chunks done so far. */
+    public long minutes() {
+        return chunks.stream().mapToLong(ReportChunk::minutes).sum();
+    }
+}
@@ -0,0 +1,12 @@
+package com.epam.workload.domain.model;
+
+/**
+ * Position of a change in an ordered source, e.g. a Kafka topic partition. Positions from one
+ * source only grow, so a store that remembers the last one it applied can skip replays.
+ */
+public record SourcePosition(String source, long offset) {
+
+    public static SourcePosition of(String topic, int partition, long offset) {
+        return new SourcePosition(topic + "-" + partition, offset);
+    }
+}
@@ -0,0 +1,23 @@
+package com.epam.workload.domain.model;
+
+import java.util.Comparator;
+
+/**
+ * Position of a trainer in name order: first name, then last name, then username to tell namesakes
+ * apart. Missing names sort first. Used as the search-after key of name searches.
+ */
+public record TrainerNameKey(String firstName, String lastName, String username) implements Comparable<TrainerNameKey> {
+    private static final Comparator<TrainerNameKey> ORDER = Comparator.comparing(
+                    TrainerNameKey::firstName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(TrainerNameKey::lastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(TrainerNameKey::username);
+
+    public static TrainerNameKey of(TrainerWorkload workload) {
+        return new TrainerNameKey(workload.getFirstName(), workload.getLastName(), workload.getUsername());
+    }
+
+    @Override
+    public int compareTo(TrainerNameKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -1,10 +1,5 @@
 package com.epam.workload.domain.model;
 
-import java.time.Month;
-import java.time.Year;
-import java.util.HashMap;
-import java.util.Map;
-
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
@@ -27,6 +22,8 @@ public class TrainerWorkload {
 
     Boolean active;
 
+    Long version;
+
     @Builder.Default
-    Map<Year, Map<Month, Integer>> yearMonthDuration = new HashMap<>();
+    YearlyDurations durations = YearlyDurations.empty();
 }
@@ -0,0 +1,20 @@
+package com.epam.workload.domain.model;
+
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * One applied ADD or DELETE as the journal keeps it: the signed change to a month, the minutes the
+ * month held afterwards and the trainer's profile at the time.
+ */
+public record WorkloadEvent(
+        String username,
+        String firstName,
+        String lastName,
+        Boolean active,
+        Year year,
+        Month month,
+        int minutes,
+        int minutesAfter,
+        Instant recordedAt) {}
@@ -0,0 +1,20 @@
+package com.epam.workload.domain.model;
+
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Minutes to add to one month of a trainer. {@code profile} supplies the names and active flag
+ * when the trainer is not stored yet; its durations are ignored. {@code position}, when set, is
+ * where the change came from in its source, so that a replay of it is skipped; may be {@code null}.
+ */
+public record WorkloadIncrement(TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+
+    public WorkloadIncrement(TrainerWorkload profile, Year year, Month month, int minutes) {
+        this(profile, year, month, minutes, null);
+    }
+
+    public String username() {
+        return profile.getUsername();
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.workload.domain.model;
+
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Slice of a trainer's history to read. {@code null} bounds are open; a {@code null} month selects
+ * every month of the selected years.
+ */
+public record WorkloadPeriod(Year fromYear, Year toYear, Month month) {
+    private static final WorkloadPeriod ALL = new WorkloadPeriod(null, null, null);
+
+    public WorkloadPeriod {
+        if (fromYear != null && toYear != null && fromYear.isAfter(toYear)) {
+            throw new IllegalArgumentException("fromYear " + fromYear + " is after toYear " + toYear);
+        }
+    }
+
+    public static WorkloadPeriod all() {
+        return ALL;
+    }
+
+    public static WorkloadPeriod ofYear(Year year) {
+        return new WorkloadPeriod(year, year, null);
+    }
+
+    public boolean isUnbounded() {
+        return fromYear == null && toYear == null && month == null;
+    }
+
+    public boolean includes(Year year) {
+        return (fromYear == null || !year.isBefore(fromYear)) && (toYear == null || !year.isAfter(toYear));
+    }
+
+    public boolean includes(Month candidate) {
+        return month == null || month == candidate;
+    }
+}
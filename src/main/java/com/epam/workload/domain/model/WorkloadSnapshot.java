@@ -0,0 +1,25 @@
+package com.epam.workload.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/** A trainer's profile and months as they stood at {@code takenAt}. */
+public record WorkloadSnapshot(TrainerWorkload workload, Instant takenAt) {
+
+    /**
+     * This snapshot moved forward to {@code asOf} by {@code events}, oldest first. Each event sets its
+     * month to the minutes it held afterwards rather than adding the change, so an event the snapshot
+     * already covers does no harm when replayed.
+     */
+    public WorkloadSnapshot replay(List<WorkloadEvent> events, Instant asOf) {
+        TrainerWorkload replayed = workload;
+        YearlyDurations durations = workload.getDurations();
+        for (WorkloadEvent event : events) {
+            durations = durations.with(event.year(), event.month(), event.minutesAfter());
+            replayed = replayed.withFirstName(event.firstName())
+                    .withLastName(event.lastName())
+                    .withActive(event.active());
+        }
+        return new WorkloadSnapshot(replayed.withDurations(durations), asOf);
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.workload.domain.model;
+
+import java.time.Year;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/** Training minutes of one trainer summed per year and over the whole history. */
+public record WorkloadTotals(String username, long lifetimeTotal, SortedMap<Year, Long> yearTotals) {
+    public WorkloadTotals {
+        yearTotals = Collections.unmodifiableSortedMap(new TreeMap<>(yearTotals));
+    }
+
+    public static WorkloadTotals of(TrainerWorkload workload) {
+        SortedMap<Year, Long> yearTotals = new TreeMap<>();
+        YearlyDurations durations = workload.getDurations();
+        for (Year year : durations.years()) {
+            yearTotals.put(year, durations.total(year));
+        }
+        return new WorkloadTotals(workload.getUsername(), durations.total(), yearTotals);
+    }
+}
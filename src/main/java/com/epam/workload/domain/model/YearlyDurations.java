@@ -0,0 +1,306 @@
+package com.epam.workload.domain.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Immutable training minutes per year and month: a sorted {@code int[]} of years plus one
+ * {@code int[12]} of minutes per year, {@code -1} marking a month without an entry.
+ *
+ * <p>Updates share structure: changing a month copies that year's twelve ints and the outer array
+ * of references, every other year is reused as is.
+ *
+ * <p>Instances created by {@link #lazy} know their years up front but read a year's months from the
+ * {@link MonthSource} only when that year is first accessed.
+ */
+public final class YearlyDurations {
+    private static final int ABSENT = -1;
+    private static final YearlyDurations EMPTY = new YearlyDurations(new int[0], new int[0][], null);
+    private static final VarHandle MONTHS = MethodHandles.arrayElementVarHandle(int[][].class);
+
+    private final int[] years;
+    private final int[][] months;
+    private final MonthSource source;
+
+    private YearlyDurations(int[] years, int[][] months, MonthSource source) {
+        this.years = years;
+        this.months = months;
+        this.source = source;
+    }
+
+    public static YearlyDurations empty() {
+        return EMPTY;
+    }
+
+    public static YearlyDurations of(Map<Year, ? extends Map<Month, Integer>> yearMonthDuration) {
+        Builder builder = builder();
+        yearMonthDuration.forEach((year, months) ->
+                months.forEach((month, minutes) -> builder.put(year.getValue(), month.getValue(), minutes)));
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Durations for strictly ascending {@code years} whose months are read from {@code source} on
+     * first access. The source may be called from any thread and more than once per year.
+     */
+    public static YearlyDurations lazy(int[] years, MonthSource source) {
+        for (int i = 1; i < years.length; i++) {
+            if (years[i - 1] >= years[i]) {
+                throw new IllegalArgumentException("Years must be strictly ascending: " + Arrays.toString(years));
+            }
+        }
+        return years.length == 0 ? EMPTY : new YearlyDurations(years.clone(), new int[years.length][], source);
+    }
+
+    public boolean isEmpty() {
+        return years.length == 0;
+    }
+
+    /** Years holding at least one month entry, ascending. */
+    public List<Year> years() {
+        List<Year> result = new ArrayList<>(years.length);
+        for (int year : years) {
+            result.add(Year.of(year));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public boolean contains(Year year, Month month) {
+        return get(year, month).isPresent();
+    }
+
+    public OptionalInt get(Year year, Month month) {
+        int index = Arrays.binarySearch(years, year.getValue());
+        if (index < 0 || monthsAt(index)[month.ordinal()] == ABSENT) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(monthsAt(index)[month.ordinal()]);
+    }
+
+    /** Returns a copy with the month set to {@code minutes}, creating the year or month entry if needed. */
+    public YearlyDurations with(Year year, Month month, int minutes) {
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Duration cannot be negative: " + minutes);
+        }
+        int index = Arrays.binarySearch(years, year.getValue());
+        if (index >= 0) {
+            int[][] updatedMonths = months.clone();
+            updatedMonths[index] = monthsAt(index).clone();
+            updatedMonths[index][month.ordinal()] = minutes;
+            return new YearlyDurations(years, updatedMonths, source);
+        }
+
+        int insertAt = -index - 1;
+        int[] updatedYears = new int[years.length + 1];
+        int[][] updatedMonths = new int[years.length + 1][];
+        System.arraycopy(years, 0, updatedYears, 0, insertAt);
+        System.arraycopy(months, 0, updatedMonths, 0, insertAt);
+        System.arraycopy(years, insertAt, updatedYears, insertAt + 1, years.length - insertAt);
+        System.arraycopy(months, insertAt, updatedMonths, insertAt + 1, years.length - insertAt);
+        updatedYears[insertAt] = year.getValue();
+        updatedMonths[insertAt] = absentMonths();
+        updatedMonths[insertAt][month.ordinal()] = minutes;
+        return new YearlyDurations(updatedYears, updatedMonths, source);
+    }
+
+    /** The entries {@code period} selects; years left without any are dropped. */
+    public YearlyDurations within(WorkloadPeriod period) {
+        if (period.isUnbounded()) {
+            return this;
+        }
+        Builder builder = builder();
+        for (int i = 0; i < years.length; i++) {
+            if (!period.includes(Year.of(years[i]))) {
+                continue;
+            }
+            int[] yearMonths = monthsAt(i);
+            for (int m = 0; m < yearMonths.length; m++) {
+                if (yearMonths[m] != ABSENT && period.includes(Month.of(m + 1))) {
+                    builder.put(years[i], m + 1, yearMonths[m]);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /** Sum of the month entries of {@code year}; 0 when the year has none. */
+    public long total(Year year) {
+        int index = Arrays.binarySearch(years, year.getValue());
+        return index < 0 ? 0 : sum(monthsAt(index));
+    }
+
+    /** Sum over all years. */
+    public long total() {
+        long total = 0;
+        for (int i = 0; i < years.length; i++) {
+            total += sum(monthsAt(i));
+        }
+        return total;
+    }
+
+    /** Calls {@code consumer} for every month entry of {@code year}, in calendar order. */
+    public void forEachMonth(Year year, MonthDurationConsumer consumer) {
+        int index = Arrays.binarySearch(years, year.getValue());
+        if (index < 0) {
+            return;
+        }
+        int[] yearMonths = monthsAt(index);
+        for (int m = 0; m < yearMonths.length; m++) {
+            if (yearMonths[m] != ABSENT) {
+                consumer.accept(Month.of(m + 1), yearMonths[m]);
+            }
+        }
+    }
+
+    /** Boxed copy, ascending by year and month. Meant for tests and diagnostics, not the update path. */
+    public Map<Year, Map<Month, Integer>> toMap() {
+        Map<Year, Map<Month, Integer>> result = new LinkedHashMap<>();
+        for (Year year : years()) {
+            Map<Month, Integer> yearMonths = new EnumMap<>(Month.class);
+            forEachMonth(year, yearMonths::put);
+            result.put(year, Collections.unmodifiableMap(yearMonths));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof YearlyDurations other) || !Arrays.equals(years, other.years)) {
+            return false;
+        }
+        for (int i = 0; i < years.length; i++) {
+            if (!Arrays.equals(monthsAt(i), other.monthsAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(years);
+        for (int i = 0; i < years.length; i++) {
+            hash = 31 * hash + Arrays.hashCode(monthsAt(i));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "YearlyDurations" + toMap();
+    }
+
+    private int[] monthsAt(int index) {
+        int[] yearMonths = (int[]) MONTHS.getAcquire(months, index);
+        if (yearMonths == null) {
+            int[] loaded = absentMonths();
+            source.read(years[index], (month, minutes) -> loaded[month.ordinal()] = minutes);
+            // Publish the fully populated array; a concurrent reader may load the same year again
+            MONTHS.setRelease(months, index, loaded);
+            yearMonths = loaded;
+        }
+        return yearMonths;
+    }
+
+    private static long sum(int[] yearMonths) {
+        long total = 0;
+        for (int minutes : yearMonths) {
+            if (minutes != ABSENT) {
+                total += minutes;
+            }
+        }
+        return total;
+    }
+
+    private static int[] absentMonths() {
+        int[] yearMonths = new int[12];
+        Arrays.fill(yearMonths, ABSENT);
+        return yearMonths;
+    }
+
+    @FunctionalInterface
+    public interface MonthDurationConsumer {
+        void accept(Month month, int minutes);
+    }
+
+    /** Supplies the month entries of one year for {@link #lazy} instances. */
+    @FunctionalInterface
+    public interface MonthSource {
+        void read(int year, MonthDurationConsumer into);
+    }
+
+    /** Collects entries in any order; used when mapping stored documents. */
+    public static final class Builder {
+        private int[] years = new int[4];
+        private int[][] months = new int[4][];
+        private int size;
+
+        private Builder() {}
+
+        public Builder put(int year, int month, int minutes) {
+            if (month < 1 || month > 12) {
+                throw new IllegalArgumentException("Invalid month: " + month);
+            }
+            if (minutes < 0) {
+                throw new IllegalArgumentException("Duration cannot be negative: " + minutes);
+            }
+            int index = indexOf(year);
+            if (index < 0) {
+                if (size == years.length) {
+                    years = Arrays.copyOf(years, size * 2);
+                    months = Arrays.copyOf(months, size * 2);
+                }
+                index = size++;
+                years[index] = year;
+                months[index] = absentMonths();
+            }
+            months[index][month - 1] = minutes;
+            return this;
+        }
+
+        public YearlyDurations build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(years[a], years[b]));
+
+            int[] sortedYears = new int[size];
+            int[][] sortedMonths = new int[size][];
+            for (int i = 0; i < size; i++) {
+                sortedYears[i] = years[order[i]];
+                sortedMonths[i] = months[order[i]].clone();
+            }
+            return new YearlyDurations(sortedYears, sortedMonths, null);
+        }
+
+        private int indexOf(int year) {
+            for (int i = 0; i < size; i++) {
+                if (years[i] == year) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.epam.workload.domain.port;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.domain.model.MonthTotal;
+
+/** Running totals of training minutes per calendar month, across all trainers. */
+public interface MonthTotalsRepository {
+    /** Adds {@code minutes} (negative for a DELETE) to the month in a single atomic write. */
+    void add(YearMonth month, long minutes);
+
+    /** Applies all deltas in a single unordered bulk write. */
+    void addAll(Map<YearMonth, Long> minutesByMonth);
+
+    /** Stored totals from {@code from} to {@code to} inclusive, ascending; months without any are absent. */
+    List<MonthTotal> findBetween(YearMonth from, YearMonth to);
+}
@@ -0,0 +1,14 @@
+package com.epam.workload.domain.port;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the read side of {@link TrainerWorkloadRepository}: no thread waits
+ * for the store while a read is in flight.
+ */
+public interface ReactiveTrainerWorkloadRepository {
+    /** Same data as {@link TrainerWorkloadRepository#findByUsername(String, WorkloadPeriod)}; empty for unknown trainers. */
+    Mono<TrainerWorkload> findByUsername(String username, WorkloadPeriod period);
+}
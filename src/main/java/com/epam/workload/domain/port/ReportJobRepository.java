@@ -0,0 +1,37 @@
+package com.epam.workload.domain.port;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.domain.model.ReportChunk;
+import com.epam.workload.domain.model.ReportJob;
+
+/**
+ * Month-end report jobs with a checkpoint per chunk, so that a job interrupted by a restart picks
+ * up after its last finished chunk. Every change stamps the job's {@code updatedAt} with {@code now}.
+ */
+public interface ReportJobRepository {
+    void insert(ReportJob job);
+
+    Optional<ReportJob> findById(String id);
+
+    /** Ids of the queued and running jobs, oldest first. */
+    List<String> findUnfinishedIds();
+
+    /**
+     * Moves the job to RUNNING if it is queued, or running but not updated since {@code staleBefore}
+     * because its worker went away. Returns the job claimed; empty when it is finished or another
+     * worker holds it.
+     */
+    Optional<ReportJob> claim(String id, Instant staleBefore, Instant now);
+
+    /** Stores the chunks of a job planned for the first time. */
+    void savePlan(String id, List<ReportChunk> chunks, Instant now);
+
+    /** Checkpoints chunk {@code index} as done with its counts. */
+    void completeChunk(String id, int index, long trainers, long minutes, Instant now);
+
+    /** Moves the job to {@code status}; {@code error} is recorded for FAILED and cleared otherwise. */
+    void updateStatus(String id, ReportJob.Status status, String error, Instant now);
+}
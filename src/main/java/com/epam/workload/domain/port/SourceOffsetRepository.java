@@ -0,0 +1,12 @@
+package com.epam.workload.domain.port;
+
+import java.util.Map;
+import java.util.Optional;
+
+/** Last processed offset per source partition, used to resume consumption where it stopped. */
+public interface SourceOffsetRepository {
+    Optional<Long> findLastProcessed(String source);
+
+    /** Raises each source's stored offset to the given one in a single bulk write; never lowers it. */
+    void advanceAll(Map<String, Long> lastProcessedBySource);
+}
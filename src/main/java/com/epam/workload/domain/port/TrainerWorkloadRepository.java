@@ -1,11 +1,139 @@
 package com.epam.workload.domain.port;
 
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
 
 public interface TrainerWorkloadRepository {
     Optional<TrainerWorkload> findByUsername(String username);
 
+    /** Loads the trainer with only the years and months selected by {@code period}. */
+    Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period);
+
+    /**
+     * Like {@link #findByUsername(String, WorkloadPeriod)}, plus the years moved to the archive tier.
+     * Layouts without an archive tier return the same as that method.
+     */
+    Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period);
+
+    /** Per-year and lifetime totals, read from the stored running totals without loading months. */
+    Optional<WorkloadTotals> findTotals(String username);
+
+    /**
+     * Loads a trainer for a change to {@code year}. Other years may be left out by layouts that store
+     * years separately; saving the result must leave them untouched.
+     */
+    Optional<TrainerWorkload> findForUpdate(String username, Year year);
+
+    /**
+     * Saves the workload if the stored trainer is still at {@code workload.getVersion()}. The bucketed
+     * layout saves without the version check and therefore only runs with atomic updates.
+     *
+     * @throws org.springframework.dao.OptimisticLockingFailureException if it was changed meanwhile
+     */
     void save(TrainerWorkload workload);
+
+    /** Usernames of up to {@code limit} trainers with workload recorded in {@code since} or later. */
+    List<String> findUsernamesActiveSince(YearMonth since, int limit);
+
+    List<TrainerWorkload> findAllByUsernames(Collection<String> usernames);
+
+    /**
+     * Profiles, without any months, of up to {@code limit} trainers whose first and last names start
+     * with the given prefixes (case-sensitive; {@code null} does not restrict), in {@link TrainerNameKey}
+     * order starting after {@code after} ({@code null}: from the first).
+     */
+    List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit);
+
+    /**
+     * Every trainer with all its years, ascending by username. Stores with a cursor read {@code
+     * batchSize} trainers at a time and only as far as the stream is consumed. The stream holds the
+     * cursor open until it is closed.
+     */
+    Stream<TrainerWorkload> streamAll(int batchSize);
+
+    /**
+     * The first username and every {@code every}-th after it, ascending: the lower bounds of ranges
+     * of {@code every} trainers each. Empty when there are no trainers.
+     */
+    List<String> findUsernameBoundaries(int every);
+
+    /**
+     * Trainers with minutes recorded in {@code month} and a username from {@code fromUsername}
+     * (inclusive) to {@code toUsername} (exclusive), each with only that month, ascending by username.
+     * {@code null} bounds are open. Archived years are not read. Like {@link #streamAll}, the
+     * stream holds the cursor open until it is closed.
+     */
+    Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize);
+
+    /**
+     * Sets the names and active flag of each trainer, keyed by username, in a single unordered bulk
+     * write, creating the missing trainers without any months. Stored months are left untouched.
+     */
+    void saveProfiles(Collection<TrainerWorkload> profiles);
+
+    /**
+     * Like {@link #incrementDuration(TrainerWorkload, Year, Month, int)} for each increment, in a
+     * single bulk write. Every increment is an atomic update of its month, so changes other writers
+     * made since the caller read the trainers are kept. An increment with a position is applied at
+     * most once, like {@link #incrementDuration(TrainerWorkload, Year, Month, int, SourcePosition)};
+     * the increments of one source must come in position order. Returns the increments applied.
+     */
+    List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments);
+
+    /**
+     * Adds minutes to a month in a single atomic write, creating the trainer (from {@code profile}),
+     * year or month entry when missing. Returns the workload as stored after the update.
+     */
+    TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes);
+
+    /**
+     * Subtracts minutes from a month in a single atomic write. Returns empty - and writes nothing -
+     * when the month entry does not exist or holds fewer minutes than requested.
+     */
+    Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes);
+
+    /**
+     * Like {@link #incrementDuration(TrainerWorkload, Year, Month, int)}, applied at most once per
+     * source position: the document holding the year records the last position applied from each
+     * source in the same write. Returns empty - and writes nothing - for a position at or below it.
+     */
+    Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position);
+
+    /**
+     * Like {@link #decrementDuration(String, Year, Month, int)}, applied at most once per source
+     * position. Empty both for a replay and for a rejected subtraction; {@link #hasApplied} tells them apart.
+     */
+    Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position);
+
+    /**
+     * Whether the document holding {@code year}, or an archived part of it, has applied {@code
+     * position} or a later one from its source.
+     */
+    boolean hasApplied(String username, Year year, SourcePosition position);
+
+    /**
+     * Like {@link #decrementDuration(String, Year, Month, int)}, against the years moved to the
+     * archive tier. Returns the trainer with that year, archived minutes included. Layouts without an
+     * archive tier always return empty.
+     */
+    Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes);
+
+    /** Like {@link #decrementArchived(String, Year, Month, int)}, applied at most once per source position. */
+    Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position);
 }
@@ -0,0 +1,36 @@
+package com.epam.workload.domain.port;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+
+/**
+ * Append-only history of the applied workload changes, plus per-trainer snapshots so that a trainer
+ * can be rebuilt as of any point in time from the nearest snapshot and the events after it.
+ */
+public interface WorkloadJournal {
+    /**
+     * Appends {@code events} in one write. For each trainer the journal has no snapshot for yet, it
+     * first stores the baseline {@code baselines} returns for the username, covering what happened
+     * before the trainer's first journaled event. {@code baselines} is only called for those trainers,
+     * and a baseline is only stored where none exists, so concurrent appends keep the first one.
+     */
+    void append(List<WorkloadEvent> events, Function<String, WorkloadSnapshot> baselines);
+
+    /** Stores snapshots taken later on; saving one twice for the same trainer and time keeps one copy. */
+    void saveSnapshots(Collection<WorkloadSnapshot> snapshots);
+
+    /** The trainer's latest snapshot taken at or before {@code asOf}. */
+    Optional<WorkloadSnapshot> findLatestSnapshot(String username, Instant asOf);
+
+    /** The trainer's events recorded after {@code after} up to {@code upTo} inclusive, oldest first. */
+    List<WorkloadEvent> findEvents(String username, Instant after, Instant upTo);
+
+    /** Trainers with events recorded after {@code after} up to {@code upTo} inclusive. */
+    List<String> findUsernamesRecordedBetween(Instant after, Instant upTo);
+}
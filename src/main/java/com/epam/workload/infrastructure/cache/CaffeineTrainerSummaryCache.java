@@ -0,0 +1,120 @@
+package com.epam.workload.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.resilience.StaleRead;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caffeine-backed summary cache. Entries are weighed by their number of year and month entries, so
+ * the budget bounds memory rather than trainer count, and are reloaded in the background once older
+ * than the refresh interval while the stale value keeps being served. A summary the repository
+ * answered from its last known good data while the store was unavailable is served to the caller
+ * but expires at once, so the cache never outlives the outage with it.
+ */
+@Slf4j
+public class CaffeineTrainerSummaryCache implements TrainerSummaryCache {
+    static final String CACHE_NAME = "trainerSummaries";
+
+    private final LoadingCache<String, Loaded> cache;
+    private final TrainerSummaryLoader loader;
+
+    public CaffeineTrainerSummaryCache(
+            TrainerSummaryLoader loader,
+            long maxWeight,
+            Duration refreshAfterWrite,
+            Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String username, Loaded loaded) -> weigh(loaded.summary()))
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfter(Expiry.writing((String username, Loaded loaded) ->
+                        loaded.staleSince() == null ? expireAfterWrite : Duration.ZERO))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<TrainerSummaryResponse> get(String username) {
+        Loaded loaded = cache.get(username);
+        if (loaded == null) {
+            return Optional.empty();
+        }
+        if (loaded.staleSince() != null) {
+            StaleRead.record(loaded.staleSince());
+        }
+        return Optional.of(loaded.summary());
+    }
+
+    @Override
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void invalidateAll(Collection<String> usernames) {
+        cache.invalidateAll(usernames);
+    }
+
+    /** Loads trainers with workload in the last {@code months} months, in one bulk read. */
+    public void preload(int months, int limit, Clock clock) {
+        try {
+            List<String> usernames =
+                    loader.findRecentlyActive(YearMonth.now(clock).minusMonths(months - 1L), limit);
+            if (usernames.isEmpty()) {
+                return;
+            }
+            cache.putAll(loader.loadAll(usernames).entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> new Loaded(entry.getValue(), null))));
+            log.info("Preloaded {} trainer summaries", usernames.size());
+        } catch (RuntimeException e) {
+            // The cache fills on demand anyway - a failed warm-up must not stop the service
+            log.warn("Summary cache preload failed: {}", e.getMessage());
+        }
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Loaded load(String username) {
+        // Tracked apart from the request, so the entry itself remembers whether it is stale
+        try (StaleRead.Scope scope = StaleRead.track()) {
+            return loader.load(username)
+                    .map(summary -> new Loaded(summary, StaleRead.oldest().orElse(null)))
+                    .orElse(null);
+        }
+    }
+
+    private static int weigh(TrainerSummaryResponse summary) {
+        int weight = 1;
+        for (YearSummaryDTO year : summary.years()) {
+            weight += 1 + year.months().size();
+        }
+        return weight;
+    }
+
+    /** A cached summary; {@code staleSince} is when its stale data was read, {@code null} if fresh. */
+    private record Loaded(TrainerSummaryResponse summary, Instant staleSince) {}
+}
@@ -0,0 +1,23 @@
+package com.epam.workload.infrastructure.config;
+
+import com.epam.workload.application.consistency.PassThroughReadConsistency;
+import com.epam.workload.application.consistency.ReadConsistency;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The local layouts - {@code in-memory} and {@code file}, each with the profile of the same name -
+ * replace MongoDB, whose auto-configuration the profiles exclude, with the repositories in
+ * {@code infrastructure.persistence.memory} and {@code infrastructure.persistence.file}. Only what
+ * {@link ReadRoutingConfig} would otherwise provide is declared here.
+ */
+@Configuration
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class LocalPersistenceConfig {
+
+    @Bean
+    public ReadConsistency passThroughReadConsistency() {
+        return new PassThroughReadConsistency();
+    }
+}
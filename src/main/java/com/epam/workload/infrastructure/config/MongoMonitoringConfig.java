@@ -0,0 +1,72 @@
+package com.epam.workload.infrastructure.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.infrastructure.monitoring.ConnectionCheckoutListener;
+import com.epam.workload.infrastructure.monitoring.SlowQueryEndpoint;
+import com.epam.workload.infrastructure.monitoring.SlowQueryListener;
+import com.epam.workload.infrastructure.monitoring.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Adds slow-query capture and connection checkout timing to the Mongo client. Per-command timers
+ * ({@code mongodb.driver.commands}) and pool gauges ({@code mongodb.driver.pool.*}) are registered
+ * by Spring Boot's Mongo metrics auto-configuration.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.mongo.monitoring", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MongoMonitoringConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${app.mongo.monitoring.slow-query.capacity:100}") int capacity) {
+        return new SlowQueryLog(capacity);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService slowQueryExplainExecutor() {
+        // One explain at a time, a short queue, and drop the rest: diagnostics must never pile up
+        return new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                new CustomizableThreadFactory("slow-query-explain-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(
+            SlowQueryLog slowQueryLog,
+            @Value("${app.mongo.monitoring.slow-query.threshold:100ms}") Duration threshold,
+            @Value("${app.mongo.monitoring.slow-query.explain:true}") boolean explain,
+            ObjectProvider<MongoTemplate> mongoTemplate,
+            ExecutorService slowQueryExplainExecutor) {
+        return new SlowQueryListener(slowQueryLog, threshold, mongoTemplate, explain ? slowQueryExplainExecutor : null);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoMonitoringCustomizer(
+            SlowQueryListener slowQueryListener, MeterRegistry meterRegistry) {
+        ConnectionCheckoutListener checkoutListener = new ConnectionCheckoutListener(meterRegistry);
+        return settings -> settings.addCommandListener(slowQueryListener)
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(checkoutListener));
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+}
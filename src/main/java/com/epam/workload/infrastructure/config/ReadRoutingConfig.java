@@ -0,0 +1,68 @@
+package com.epam.workload.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.infrastructure.persistence.consistency.MongoReadConsistency;
+import com.epam.workload.infrastructure.persistence.consistency.OperationTimeTracker;
+import com.epam.workload.infrastructure.persistence.consistency.ReadRoutingMongoDatabaseFactory;
+import com.epam.workload.infrastructure.persistence.deadline.DeadlineMongoDatabaseFactory;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+/**
+ * Replaces Boot's {@code MongoDatabaseFactory} with one that can route summary reads to replicas
+ * ({@code app.persistence.summary-reads.*}); everything else keeps reading and writing on the primary.
+ * Every database it hands out is also limited to the caller's request deadline.
+ */
+@Configuration
+@ConditionalOnExpression("!{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class ReadRoutingConfig {
+
+    @Bean
+    public OperationTimeTracker operationTimeTracker() {
+        return new OperationTimeTracker();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer operationTimeTrackerCustomizer(OperationTimeTracker tracker) {
+        return settings -> settings.addCommandListener(tracker);
+    }
+
+    @Bean
+    public ReadRoutingMongoDatabaseFactory mongoDatabaseFactory(
+            MongoClient mongoClient, MongoProperties properties, MongoConnectionDetails connectionDetails) {
+        // Same database resolution as Boot's own factory, which backs off once this bean exists
+        String database = properties.getDatabase() != null
+                ? properties.getDatabase()
+                : connectionDetails.getConnectionString().getDatabase();
+        return new ReadRoutingMongoDatabaseFactory(
+                new DeadlineMongoDatabaseFactory(new SimpleMongoClientDatabaseFactory(mongoClient, database)));
+    }
+
+    @Bean
+    public MongoReadConsistency mongoReadConsistency(
+            ReadRoutingMongoDatabaseFactory databaseFactory,
+            OperationTimeTracker tracker,
+            @Value("${app.persistence.summary-reads.read-preference:primary}") String readPreference,
+            @Value("${app.persistence.summary-reads.max-staleness:0s}") Duration maxStaleness) {
+        return new MongoReadConsistency(databaseFactory, tracker, readPreference(readPreference, maxStaleness));
+    }
+
+    private static ReadPreference readPreference(String name, Duration maxStaleness) {
+        if (maxStaleness.isZero()) {
+            return ReadPreference.valueOf(name);
+        }
+        // The server rejects anything below 90 seconds; primary rejects a bound altogether
+        return ReadPreference.valueOf(name, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.workload.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.epam.workload.application.exception.DeadlineExceededException;
+import com.epam.workload.infrastructure.persistence.resilience.CircuitBreakingRepositoryPostProcessor;
+import com.mongodb.MongoException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+@Configuration
+// Nothing remote to break with the local layouts
+@ConditionalOnExpression("${app.persistence.circuit-breaker.enabled:false}"
+        + " and !{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class RepositoryCircuitBreakerConfig {
+
+    @Bean
+    static CircuitBreakingRepositoryPostProcessor circuitBreakingRepositoryPostProcessor(
+            @Value("${app.persistence.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.persistence.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${app.persistence.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${app.persistence.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${app.persistence.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${app.persistence.circuit-breaker.wait-in-open:30s}") Duration waitInOpen,
+            @Value("${app.persistence.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+            @Value("${app.persistence.circuit-breaker.last-known-good.max-weight:100000}") long lastKnownGoodMaxWeight,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<Clock> clock) {
+        CircuitBreakerConfig breakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitInOpen)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .recordException(RepositoryCircuitBreakerConfig::isStoreFailure)
+                // Never reached the store
+                .ignoreExceptions(DeadlineExceededException.class)
+                .build();
+        return new CircuitBreakingRepositoryPostProcessor(breakerConfig, lastKnownGoodMaxWeight, meterRegistry, clock);
+    }
+
+    /**
+     * Failures that say something about the store's health. Conflicts and duplicates do not; a call
+     * cut short by its caller's deadline still counts towards the slow calls when it took long.
+     */
+    static boolean isStoreFailure(Throwable e) {
+        if (e instanceof OptimisticLockingFailureException
+                || e instanceof DataIntegrityViolationException
+                || e instanceof QueryTimeoutException) {
+            return false;
+        }
+        return e instanceof DataAccessException || e instanceof MongoException;
+    }
+}
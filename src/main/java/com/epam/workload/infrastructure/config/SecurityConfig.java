@@ -7,6 +7,7 @@ import java.util.List;
 
 import com.epam.workload.infrastructure.security.filter.JwtAuthenticationFilter;
 import com.epam.workload.infrastructure.security.provider.JwtAuthenticationProvider;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,7 +44,11 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(new RestAuthenticationEntryPoint()))
-                .authorizeHttpRequests(auth -> auth.requestMatchers("/h2-console/**")
+                .authorizeHttpRequests(auth -> auth
+                        // Re-dispatch of an async (Mono) response: the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
+                        .requestMatchers("/h2-console/**")
                         .permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/actuator/**")
                         .permitAll()
@@ -65,7 +70,7 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "X-Consistency-Token"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,49 @@
+package com.epam.workload.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.epam.workload.application.cache.PassThroughTrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.infrastructure.cache.CaffeineTrainerSummaryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SummaryCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.summary", name = "enabled", havingValue = "true")
+    public CaffeineTrainerSummaryCache caffeineTrainerSummaryCache(
+            TrainerSummaryLoader loader,
+            @Value("${app.cache.summary.max-weight:100000}") long maxWeight,
+            @Value("${app.cache.summary.refresh-after-write:5m}") Duration refreshAfterWrite,
+            @Value("${app.cache.summary.expire-after-write:30m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        return new CaffeineTrainerSummaryCache(loader, maxWeight, refreshAfterWrite, expireAfterWrite, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.summary.preload", name = "enabled", havingValue = "true")
+    public ApplicationListener<ApplicationReadyEvent> summaryCachePreloader(
+            ObjectProvider<CaffeineTrainerSummaryCache> cache,
+            Clock clock,
+            @Value("${app.cache.summary.preload.active-months:2}") int activeMonths,
+            @Value("${app.cache.summary.preload.limit:1000}") int limit) {
+        // Nothing to warm up while the cache itself is disabled
+        return event -> cache.ifAvailable(c -> c.preload(activeMonths, limit, clock));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.summary", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TrainerSummaryCache passThroughTrainerSummaryCache(TrainerSummaryLoader loader) {
+        return new PassThroughTrainerSummaryCache(loader);
+    }
+}
@@ -1,22 +1,59 @@
 package com.epam.workload.infrastructure.logging;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.UUID;
 
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.epam.workload.application.resilience.StaleRead;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Tags the request with a transaction ID and binds its deadline. The deadline is taken from {@value
+ * #REQUEST_TIMEOUT_HEADER} (milliseconds or an ISO-8601 duration) and/or {@value
+ * #REQUEST_DEADLINE_HEADER} (epoch milliseconds or an ISO-8601 instant), whichever ends first. It
+ * is capped at {@code app.web.deadline.max-timeout}. Without either header,
+ * {@code app.web.deadline.default-timeout} applies. A request that arrives past its deadline is
+ * answered with 504 without doing any work. Stale reads are tracked per request as well, for
+ * {@code StaleReadResponseAdvice}.
+ */
+@Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class TransactionIdFilter extends OncePerRequestFilter {
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+    public static final String REQUEST_DEADLINE_HEADER = "X-Request-Deadline";
+
+    private final Clock clock;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    @Autowired
+    TransactionIdFilter(
+            ObjectProvider<Clock> clock,
+            @Value("${app.web.deadline.default-timeout:10s}") Duration defaultTimeout,
+            @Value("${app.web.deadline.max-timeout:60s}") Duration maxTimeout) {
+        this.clock = clock.getIfAvailable(Clock::systemUTC);
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -37,11 +74,85 @@ public class TransactionIdFilter extends OncePerRequestFilter {
         // Add to response header
         response.setHeader(MdcConstants.TRANSACTION_ID_HEADER, transactionId);
 
-        try {
-            filterChain.doFilter(request, response);
+        try (StaleRead.Scope staleReads = StaleRead.track()) {
+            Duration budget;
+            try {
+                budget = budgetOf(request);
+            } catch (IllegalArgumentException e) {
+                reject(response, HttpServletResponse.SC_BAD_REQUEST, "INVALID_DEADLINE", e.getMessage());
+                return;
+            }
+            if (budget == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            if (budget.isNegative() || budget.isZero()) {
+                log.warn(
+                        "Rejecting {} {} - deadline passed before it arrived",
+                        request.getMethod(),
+                        request.getRequestURI());
+                reject(
+                        response,
+                        HttpServletResponse.SC_GATEWAY_TIMEOUT,
+                        "DEADLINE_EXCEEDED",
+                        "Request deadline has passed");
+                return;
+            }
+            try (RequestDeadline.Scope ignored = RequestDeadline.after(budget).bind()) {
+                filterChain.doFilter(request, response);
+            }
         } finally {
             // Clean up MDC
             MDC.remove(MdcConstants.TRANSACTION_ID_MDC_KEY);
         }
     }
+
+    /** Time the request may take from now; {@code null} when it is unbounded. */
+    Duration budgetOf(HttpServletRequest request) {
+        String timeout = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        String deadline = request.getHeader(REQUEST_DEADLINE_HEADER);
+        if (timeout == null && deadline == null) {
+            return defaultTimeout.isZero() ? null : defaultTimeout;
+        }
+        Duration budget = maxTimeout;
+        if (timeout != null) {
+            budget = min(budget, parseTimeout(timeout));
+        }
+        if (deadline != null) {
+            budget = min(budget, Duration.between(clock.instant(), parseDeadline(deadline)));
+        }
+        return budget;
+    }
+
+    private static Duration parseTimeout(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Duration.ofMillis(Long.parseLong(value))
+                    : Duration.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + REQUEST_TIMEOUT_HEADER + ": " + value);
+        }
+    }
+
+    private static Instant parseDeadline(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + REQUEST_DEADLINE_HEADER + ": " + value);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void reject(HttpServletResponse response, int status, String error, String message)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status);
+        response.getWriter()
+                .write("{\"error\": \"" + error + "\", \"message\": \"" + message.replace("\"", "'") + "\"}");
+    }
 }
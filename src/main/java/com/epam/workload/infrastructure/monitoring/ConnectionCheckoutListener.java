@@ -0,0 +1,44 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times how long operations wait to check a connection out of the pool. Pool size and usage
+ * gauges come from Micrometer's {@code MongoMetricsConnectionPoolListener}, which Spring Boot
+ * registers on its own.
+ */
+public class ConnectionCheckoutListener implements ConnectionPoolListener {
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionCheckoutListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        timer(event.getConnectionId().getServerId().getAddress().toString(), "success")
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        timer(
+                        event.getServerId().getAddress().toString(),
+                        event.getReason().name().toLowerCase())
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String serverAddress, String outcome) {
+        return Timer.builder("mongodb.driver.pool.checkout")
+                .description("Time spent waiting for a pooled connection")
+                .tag("server.address", serverAddress)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
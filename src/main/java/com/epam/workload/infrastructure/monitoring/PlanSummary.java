@@ -0,0 +1,52 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+
+/** Condenses an {@code explain} result to its winning plan, leaf stage first: {@code IXSCAN(username_1) > FETCH}. */
+final class PlanSummary {
+    private PlanSummary() {}
+
+    static String of(Document explain) {
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        if (queryPlanner == null) {
+            // Aggregations that are not fully pushed down report the plan inside their first stage
+            List<?> stages = explain.getList("stages", Object.class);
+            if (stages != null && !stages.isEmpty() && stages.getFirst() instanceof Document first) {
+                Document cursor = first.get("$cursor", Document.class);
+                queryPlanner = cursor == null ? null : cursor.get("queryPlanner", Document.class);
+            }
+        }
+        if (queryPlanner == null) {
+            return "unknown";
+        }
+        Document winningPlan = queryPlanner.get("winningPlan", Document.class);
+        if (winningPlan != null && winningPlan.containsKey("queryPlan")) {
+            // Slot-based engine wraps the classic tree
+            winningPlan = winningPlan.get("queryPlan", Document.class);
+        }
+        return winningPlan == null ? "unknown" : stage(winningPlan);
+    }
+
+    private static String stage(Document node) {
+        List<String> inputs = new ArrayList<>();
+        Document input = node.get("inputStage", Document.class);
+        if (input != null) {
+            inputs.add(stage(input));
+        }
+        List<Document> multiple = node.getList("inputStages", Document.class);
+        if (multiple != null) {
+            multiple.forEach(child -> inputs.add(stage(child)));
+        }
+
+        String name = node.getString("stage");
+        String index = node.getString("indexName");
+        String self = index == null ? name : name + "(" + index + ")";
+        if (inputs.isEmpty()) {
+            return self;
+        }
+        return (inputs.size() == 1 ? inputs.getFirst() : "[" + String.join(", ", inputs) + "]") + " > " + self;
+    }
+}
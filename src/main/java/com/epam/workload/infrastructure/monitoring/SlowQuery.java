@@ -0,0 +1,23 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import java.time.Instant;
+
+/**
+ * One command that took longer than the slow-query threshold. {@code shape} is the filter (or
+ * pipeline) with every literal replaced by {@code "?"}; {@code plan} is the winning plan from
+ * {@code explain}, {@code null} while the explain is still running.
+ */
+public record SlowQuery(
+        long id,
+        Instant startedAt,
+        String database,
+        String collection,
+        String command,
+        long durationMillis,
+        String shape,
+        String plan) {
+
+    SlowQuery withPlan(String plan) {
+        return new SlowQuery(id, startedAt, database, collection, command, durationMillis, shape, plan);
+    }
+}
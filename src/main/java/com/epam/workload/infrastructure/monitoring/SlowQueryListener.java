@@ -0,0 +1,202 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Records query commands slower than {@code threshold} in a {@link SlowQueryLog}, together with
+ * their filter shape and - asynchronously - the winning plan from {@code explain}.
+ *
+ * <p>The driver only guarantees a command document during {@code commandStarted}, so only the
+ * command is retained there - copied when it is backed by a pooled buffer, which is a single byte
+ * array copy. The shape, its JSON and the explainable copy are only built for commands that turn out
+ * slow.
+ */
+@Slf4j
+public class SlowQueryListener implements CommandListener {
+    private static final Set<String> QUERY_COMMANDS =
+            Set.of("find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "findAndModify");
+    private static final Set<String> SESSION_FIELDS =
+            Set.of("$db", "lsid", "$clusterTime", "txnNumber", "autocommit", "startTransaction", "$readPreference");
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final ExecutorService explainExecutor;
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+
+    /** {@code explainExecutor} may be {@code null} to record slow queries without their plans. */
+    public SlowQueryListener(
+            SlowQueryLog slowQueryLog,
+            Duration threshold,
+            ObjectProvider<MongoTemplate> mongoTemplate,
+            ExecutorService explainExecutor) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = threshold.toNanos();
+        this.mongoTemplate = mongoTemplate;
+        this.explainExecutor = explainExecutor;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (!QUERY_COMMANDS.contains(commandName)) {
+            return;
+        }
+        pending.put(event.getRequestId(), new Pending(Instant.now(), retained(event.getCommand())));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(
+                event.getRequestId(),
+                event.getDatabaseName(),
+                event.getCommandName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(
+                event.getRequestId(),
+                event.getDatabaseName(),
+                event.getCommandName(),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void completed(int requestId, String database, String commandName, long elapsedNanos) {
+        Pending started = pending.remove(requestId);
+        if (started == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+        BsonDocument command = started.command();
+        BsonValue collection = command.get(commandName);
+        SlowQuery entry = slowQueryLog.add(
+                started.startedAt(),
+                database,
+                collection != null && collection.isString()
+                        ? collection.asString().getValue()
+                        : "",
+                commandName,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                json(shapeOf(commandName, command)));
+        log.debug(
+                "Slow {} on {} took {} ms: {}", commandName, entry.collection(), entry.durationMillis(), entry.shape());
+        if (explainExecutor != null && EXPLAINABLE.contains(commandName)) {
+            explainLater(entry.id(), database, explainable(command));
+        }
+    }
+
+    private void explainLater(long id, String database, BsonDocument command) {
+        try {
+            explainExecutor.execute(() -> slowQueryLog.attachPlan(id, explain(database, command)));
+        } catch (RejectedExecutionException e) {
+            slowQueryLog.attachPlan(id, "skipped: explain queue full");
+        }
+    }
+
+    private String explain(String database, BsonDocument command) {
+        try {
+            Document result = mongoTemplate
+                    .getObject()
+                    .getMongoDatabaseFactory()
+                    .getMongoDatabase(database)
+                    .runCommand(
+                            new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")));
+            return PlanSummary.of(result);
+        } catch (RuntimeException e) {
+            log.debug("Explain failed for slow query {}", command, e);
+            return "unavailable: " + e.getMessage();
+        }
+    }
+
+    /** The part of the command that selects documents, with every literal replaced by {@code "?"}. */
+    static BsonValue shapeOf(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find" -> shape(command.get("filter", new BsonDocument()));
+            case "aggregate" -> shape(command.get("pipeline", new BsonArray()));
+            case "count", "distinct", "findAndModify" -> shape(command.get("query", new BsonDocument()));
+            case "update" -> firstStatement(command, "updates");
+            case "delete" -> firstStatement(command, "deletes");
+            default -> new BsonDocument();
+        };
+    }
+
+    private static BsonValue firstStatement(BsonDocument command, String field) {
+        BsonArray statements = command.getArray(field, new BsonArray());
+        // Bulk writes send many statements of the same shape; the first one stands for all
+        return statements.isEmpty() || !statements.get(0).isDocument()
+                ? new BsonDocument()
+                : shape(statements.get(0).asDocument().get("q", new BsonDocument()));
+    }
+
+    private static BsonValue shape(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument shaped = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> shaped.append(key, shape(nested)));
+            return shaped;
+        }
+        if (value.isArray()
+                && !value.asArray().isEmpty()
+                && value.asArray().get(0).isDocument()) {
+            BsonArray shaped = new BsonArray();
+            value.asArray().forEach(element -> shaped.add(shape(element)));
+            return shaped;
+        }
+        return PLACEHOLDER;
+    }
+
+    private static String json(BsonValue value) {
+        if (value.isArray()) {
+            // BsonArray has no JSON writer of its own
+            return value.asArray().stream().map(SlowQueryListener::json).collect(Collectors.joining(", ", "[", "]"));
+        }
+        return value.isDocument() ? value.asDocument().toJson() : "\"?\"";
+    }
+
+    /**
+     * The event's document may be backed by a pooled buffer that is released after the event; its
+     * {@code clone()} copies the bytes into a {@link RawBsonDocument}. Documents already on the heap
+     * are kept as they are, without a deep copy.
+     */
+    private static BsonDocument retained(BsonDocument command) {
+        return command instanceof RawBsonDocument || command.getClass() == BsonDocument.class
+                ? command
+                : command.clone();
+    }
+
+    private static BsonDocument explainable(BsonDocument command) {
+        BsonDocument copy = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!SESSION_FIELDS.contains(key)) {
+                copy.append(key, value);
+            }
+        });
+        return copy;
+    }
+
+    private record Pending(Instant startedAt, BsonDocument command) {}
+}
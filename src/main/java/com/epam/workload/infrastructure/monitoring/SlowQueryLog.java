@@ -0,0 +1,58 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+/** Keeps the last {@code capacity} slow queries; older entries are dropped as new ones arrive. */
+public class SlowQueryLog {
+    private final int capacity;
+    private final Deque<SlowQuery> entries;
+    private long nextId;
+
+    public SlowQueryLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Slow query log capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.entries = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized SlowQuery add(
+            Instant startedAt, String database, String collection, String command, long durationMillis, String shape) {
+        SlowQuery entry =
+                new SlowQuery(++nextId, startedAt, database, collection, command, durationMillis, shape, null);
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        entries.addLast(entry);
+        return entry;
+    }
+
+    /** Fills in the plan of an entry that is still in the log. */
+    public synchronized void attachPlan(long id, String plan) {
+        List<SlowQuery> updated = new ArrayList<>(entries);
+        for (ListIterator<SlowQuery> it = updated.listIterator(); it.hasNext(); ) {
+            SlowQuery entry = it.next();
+            if (entry.id() == id) {
+                it.set(entry.withPlan(plan));
+                entries.clear();
+                entries.addAll(updated);
+                return;
+            }
+        }
+    }
+
+    /** Newest first. */
+    public synchronized List<SlowQuery> snapshot() {
+        List<SlowQuery> result = new ArrayList<>(entries);
+        return result.reversed();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,268 @@
+package com.epam.workload.infrastructure.persistence.archive;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO.MonthSummaryDAO;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO.YearSummaryDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves years older than {@code app.archive.keep-years} out of {@code trainer_workloads} into
+ * {@code trainer_workloads_archive}, dropping zero-minute months and empty years on the way.
+ *
+ * <p>There is no transaction; each trainer is moved in three idempotent steps keyed by the version
+ * of the trainer document that was read:
+ *
+ * <ol>
+ *   <li>upsert the cold years into the archive, uncommitted;
+ *   <li>rewrite the trainer's years, only if the document is still at that version;
+ *   <li>commit the archived years if the rewrite won, otherwise keep only those that are gone from
+ *       the trainer document (another instance won) and delete the rest.
+ * </ol>
+ *
+ * Readers skip uncommitted years, so an interrupted run neither loses nor double counts minutes.
+ * Leftovers older than {@code app.archive.settle-after} are settled the same way by the next run.
+ *
+ * <p>Trainers are visited in username order, {@code batch-size} at a time with {@code pause} in
+ * between, so the job never holds the database for long.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("'${app.persistence.layout:embedded}' == 'embedded' and ${app.archive.enabled:false}")
+public class WorkloadArchivalJob {
+    private final MongoTemplate mongoTemplate;
+    private final TrainerSummaryCache summaryCache;
+    private final Clock clock;
+    private final int keepYears;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration settleAfter;
+    private final Counter archivedYears;
+    private final Counter compactedMonths;
+
+    @Autowired
+    WorkloadArchivalJob(
+            MongoTemplate mongoTemplate,
+            TrainerSummaryCache summaryCache,
+            Clock clock,
+            @Value("${app.archive.keep-years:3}") int keepYears,
+            @Value("${app.archive.batch-size:100}") int batchSize,
+            @Value("${app.archive.pause:200ms}") Duration pause,
+            @Value("${app.archive.settle-after:10m}") Duration settleAfter,
+            MeterRegistry meterRegistry) {
+        if (keepYears < 1) {
+            throw new IllegalArgumentException("app.archive.keep-years must be at least 1");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.summaryCache = summaryCache;
+        this.clock = clock;
+        this.keepYears = keepYears;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.settleAfter = settleAfter;
+        this.archivedYears = Counter.builder("workload.archive.years")
+                .description("Years moved to the archive collection")
+                .register(meterRegistry);
+        this.compactedMonths = Counter.builder("workload.archive.compacted.months")
+                .description("Zero-minute months dropped from trainer documents")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void run() {
+        settleStale();
+        int cutoffYear = Year.now(clock).getValue() - keepYears + 1;
+        int rewritten = archiveBefore(cutoffYear);
+        log.info(
+                "Archival run finished: {} trainer documents rewritten, years before {} archived",
+                rewritten,
+                cutoffYear);
+    }
+
+    /**
+     * Archives years before {@code cutoffYear} and compacts every trainer that needs it. Trainers
+     * changed while being processed are left for the next run. Returns the number rewritten.
+     */
+    public int archiveBefore(int cutoffYear) {
+        int rewritten = 0;
+        String after = "";
+        while (true) {
+            List<String> usernames = findCandidates(cutoffYear, after);
+            for (String username : usernames) {
+                if (archive(username, cutoffYear)) {
+                    rewritten++;
+                }
+            }
+            if (usernames.size() < batchSize || !pauseBetweenBatches()) {
+                return rewritten;
+            }
+            after = usernames.getLast();
+        }
+    }
+
+    private List<String> findCandidates(int cutoffYear, String after) {
+        Query query = query(new Criteria()
+                        .andOperator(
+                                where("username").gt(after),
+                                new Criteria()
+                                        .orOperator(
+                                                where("years.year").lt(cutoffYear),
+                                                where("years.months.durationMin")
+                                                        .is(0),
+                                                where("years.months").size(0))))
+                .with(Sort.by("username"))
+                .limit(batchSize);
+        query.fields().include("username");
+        return mongoTemplate.find(query, TrainerWorkloadDAO.class).stream()
+                .map(TrainerWorkloadDAO::getUsername)
+                .toList();
+    }
+
+    private boolean archive(String username, int cutoffYear) {
+        TrainerWorkloadDAO workload =
+                mongoTemplate.findOne(query(where("username").is(username)), TrainerWorkloadDAO.class);
+        if (workload == null) {
+            return false;
+        }
+
+        List<YearSummaryDAO> hot = new ArrayList<>();
+        List<YearSummaryDAO> cold = new ArrayList<>();
+        int droppedMonths = 0;
+        for (YearSummaryDAO year : workload.getYears()) {
+            List<MonthSummaryDAO> months = year.getMonths().stream()
+                    .filter(month -> month.getDurationMin() > 0)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            droppedMonths += year.getMonths().size() - months.size();
+            if (!months.isEmpty()) {
+                YearSummaryDAO compacted = YearSummaryDAO.builder()
+                        .year(year.getYear())
+                        .yearTotal(months.stream()
+                                .mapToLong(MonthSummaryDAO::getDurationMin)
+                                .sum())
+                        .months(months)
+                        .build();
+                (year.getYear() < cutoffYear ? cold : hot).add(compacted);
+            }
+        }
+        if (cold.isEmpty()
+                && droppedMonths == 0
+                && hot.size() == workload.getYears().size()) {
+            return false;
+        }
+
+        Long version = workload.getVersion();
+        Instant now = clock.instant();
+        for (YearSummaryDAO year : cold) {
+            mongoTemplate.upsert(
+                    query(where("_id").is(username + ":" + year.getYear() + ":" + version)),
+                    new Update()
+                            .setOnInsert("username", username)
+                            .setOnInsert("year", year.getYear())
+                            .setOnInsert("sourceVersion", version)
+                            .setOnInsert("yearTotal", year.getYearTotal())
+                            .setOnInsert("months", year.getMonths())
+                            .setOnInsert("committed", false)
+                            .setOnInsert("archivedAt", now),
+                    WorkloadArchiveDAO.class);
+        }
+
+        // {version: null} also matches documents written before the field existed
+        UpdateResult result = mongoTemplate.updateFirst(
+                query(where("username").is(username).and("version").is(version)),
+                new Update()
+                        .set("years", hot)
+                        .set(
+                                "lifetimeTotal",
+                                hot.stream()
+                                        .mapToLong(YearSummaryDAO::getYearTotal)
+                                        .sum())
+                        .inc("version", 1),
+                TrainerWorkloadDAO.class);
+
+        Criteria ownYears = where("username")
+                .is(username)
+                .and("sourceVersion")
+                .is(version)
+                .and("committed")
+                .is(false);
+        if (result.getMatchedCount() == 0) {
+            log.debug("Trainer '{}' changed while being archived - retrying on the next run", username);
+            settle(username, ownYears);
+            return false;
+        }
+        mongoTemplate.updateMulti(query(ownYears), new Update().set("committed", true), WorkloadArchiveDAO.class);
+        summaryCache.invalidate(username);
+        archivedYears.increment(cold.size());
+        compactedMonths.increment(droppedMonths);
+        return true;
+    }
+
+    private void settleStale() {
+        Criteria stale = where("committed")
+                .is(false)
+                .and("archivedAt")
+                .lt(clock.instant().minus(settleAfter));
+        for (String username :
+                mongoTemplate.findDistinct(query(stale), "username", WorkloadArchiveDAO.class, String.class)) {
+            settle(username, where("username").is(username).andOperator(stale));
+        }
+    }
+
+    /** Commits uncommitted years that are no longer in the trainer document and deletes the others. */
+    private void settle(String username, Criteria uncommitted) {
+        Query yearsOnly = query(where("username").is(username));
+        yearsOnly.fields().include("years.year");
+        TrainerWorkloadDAO workload = mongoTemplate.findOne(yearsOnly, TrainerWorkloadDAO.class);
+        Set<Integer> hotYears = workload == null
+                ? Set.of()
+                : workload.getYears().stream().map(YearSummaryDAO::getYear).collect(Collectors.toSet());
+
+        for (WorkloadArchiveDAO archived : mongoTemplate.find(query(uncommitted), WorkloadArchiveDAO.class)) {
+            if (hotYears.contains(archived.getYear())) {
+                mongoTemplate.remove(archived);
+            } else {
+                mongoTemplate.updateFirst(
+                        query(where("_id").is(archived.getId())),
+                        new Update().set("committed", true),
+                        WorkloadArchiveDAO.class);
+            }
+        }
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Archival run interrupted");
+            return false;
+        }
+    }
+}
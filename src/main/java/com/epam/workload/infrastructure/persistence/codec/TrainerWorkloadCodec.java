@@ -0,0 +1,188 @@
+package com.epam.workload.infrastructure.persistence.codec;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.types.ObjectId;
+
+/**
+ * Reads and writes {@code trainer_workloads} documents directly as {@link TrainerWorkload}, in the
+ * same shape the Spring Data mapping produces for {@code TrainerWorkloadDAO}.
+ *
+ * <p>Decoding streams over the top-level fields. Each {@code years} element is kept as a raw BSON
+ * slice and only its {@code year} is read; the slice's {@code months} are parsed when the domain
+ * model first touches that year, so summaries of long histories only pay for the years they use.
+ * The stored {@code yearTotal}/{@code lifetimeTotal} running sums are written but never decoded;
+ * the domain model derives them from the months. Fields it does not know, like {@code
+ * consumedOffsets}, are skipped; writers {@code $set} the encoded fields so that those stay.
+ */
+public class TrainerWorkloadCodec implements Codec<TrainerWorkload> {
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+
+    @Override
+    public TrainerWorkload decode(BsonReader reader, DecoderContext decoderContext) {
+        TrainerWorkload.TrainerWorkloadBuilder workload = TrainerWorkload.builder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> workload.id(readId(reader));
+                case "username" -> workload.username(readString(reader));
+                case "firstName" -> workload.firstName(readString(reader));
+                case "lastName" -> workload.lastName(readString(reader));
+                case "active" -> workload.active(reader.readBoolean());
+                case "version" -> workload.version(readLong(reader));
+                case "years" -> workload.durations(readYears(reader, decoderContext));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return workload.build();
+    }
+
+    @Override
+    public void encode(BsonWriter writer, TrainerWorkload value, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (value.getId() != null) {
+            writer.writeName("_id");
+            if (ObjectId.isValid(value.getId())) {
+                writer.writeObjectId(new ObjectId(value.getId()));
+            } else {
+                writer.writeString(value.getId());
+            }
+        }
+        writer.writeString("username", value.getUsername());
+        writeNullableString(writer, "firstName", value.getFirstName());
+        writeNullableString(writer, "lastName", value.getLastName());
+        writer.writeBoolean("active", Boolean.TRUE.equals(value.getActive()));
+        if (value.getVersion() != null) {
+            writer.writeInt64("version", value.getVersion());
+        }
+
+        writer.writeStartArray("years");
+        YearlyDurations durations = value.getDurations() == null ? YearlyDurations.empty() : value.getDurations();
+        for (Year year : durations.years()) {
+            writer.writeStartDocument();
+            writer.writeInt32("year", year.getValue());
+            writer.writeInt64("yearTotal", durations.total(year));
+            writer.writeStartArray("months");
+            durations.forEachMonth(year, (month, minutes) -> {
+                writer.writeStartDocument();
+                writer.writeInt32("month", month.getValue());
+                writer.writeInt32("durationMin", minutes);
+                writer.writeEndDocument();
+            });
+            writer.writeEndArray();
+            writer.writeEndDocument();
+        }
+        writer.writeEndArray();
+        writer.writeInt64("lifetimeTotal", durations.total());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<TrainerWorkload> getEncoderClass() {
+        return TrainerWorkload.class;
+    }
+
+    private static YearlyDurations readYears(BsonReader reader, DecoderContext decoderContext) {
+        List<RawBsonDocument> yearDocuments = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            yearDocuments.add(RAW_CODEC.decode(reader, decoderContext));
+        }
+        reader.readEndArray();
+
+        // Years are appended in event order, so they are usually but not necessarily ascending
+        int[] years = new int[yearDocuments.size()];
+        RawBsonDocument[] byYear = new RawBsonDocument[years.length];
+        Integer[] order = new Integer[years.length];
+        for (int i = 0; i < years.length; i++) {
+            years[i] = yearDocuments.get(i).getNumber("year").intValue();
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(years[a], years[b]));
+
+        int[] sortedYears = new int[years.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedYears[i] = years[order[i]];
+            byYear[i] = yearDocuments.get(order[i]);
+            if (i > 0 && sortedYears[i] == sortedYears[i - 1]) {
+                return readEagerly(yearDocuments);
+            }
+        }
+
+        return YearlyDurations.lazy(sortedYears, (year, into) -> {
+            RawBsonDocument yearDocument = byYear[Arrays.binarySearch(sortedYears, year)];
+            for (BsonValue month : yearDocument.getArray("months")) {
+                BsonDocument entry = month.asDocument();
+                into.accept(
+                        Month.of(entry.getNumber("month").intValue()),
+                        entry.getNumber("durationMin").intValue());
+            }
+        });
+    }
+
+    /** Repeated years can only come from manual edits; merge them like the mapping converter would. */
+    private static YearlyDurations readEagerly(List<RawBsonDocument> yearDocuments) {
+        YearlyDurations.Builder builder = YearlyDurations.builder();
+        for (RawBsonDocument yearDocument : yearDocuments) {
+            int year = yearDocument.getNumber("year").intValue();
+            for (BsonValue month : yearDocument.getArray("months")) {
+                builder.put(
+                        year,
+                        month.asDocument().getNumber("month").intValue(),
+                        month.asDocument().getNumber("durationMin").intValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static String readId(BsonReader reader) {
+        return reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                ? reader.readObjectId().toHexString()
+                : reader.readString();
+    }
+
+    private static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    private static Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> (long) reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> throw new IllegalStateException("Unexpected version type " + reader.getCurrentBsonType());
+        };
+    }
+
+    private static void writeNullableString(BsonWriter writer, String name, String value) {
+        if (value == null) {
+            writer.writeNull(name);
+        } else {
+            writer.writeString(name, value);
+        }
+    }
+}
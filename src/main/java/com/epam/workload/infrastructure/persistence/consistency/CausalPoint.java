@@ -0,0 +1,48 @@
+package com.epam.workload.infrastructure.persistence.consistency;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import org.bson.BsonDocument;
+import org.bson.BsonSerializationException;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * A point in the replica set's history: the {@code operationTime} of a write and the signed
+ * {@code $clusterTime} that came with it. Travels to clients as a URL-safe base64 BSON token.
+ */
+record CausalPoint(BsonTimestamp operationTime, BsonDocument clusterTime) {
+    private static final String OPERATION_TIME = "t";
+    private static final String CLUSTER_TIME = "c";
+
+    boolean isAfter(CausalPoint other) {
+        return other == null || operationTime.compareTo(other.operationTime) > 0;
+    }
+
+    String encode() {
+        BsonDocument document = new BsonDocument(OPERATION_TIME, operationTime);
+        if (clusterTime != null) {
+            document.append(CLUSTER_TIME, clusterTime);
+        }
+        ByteBuffer buffer = new RawBsonDocument(document, new BsonDocumentCodec())
+                .getByteBuffer()
+                .asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static CausalPoint decode(String token) {
+        try {
+            RawBsonDocument document =
+                    new RawBsonDocument(Base64.getUrlDecoder().decode(token));
+            return new CausalPoint(
+                    document.getTimestamp(OPERATION_TIME),
+                    document.containsKey(CLUSTER_TIME) ? document.getDocument(CLUSTER_TIME) : null);
+        } catch (IllegalArgumentException | BsonSerializationException | ClassCastException e) {
+            throw new IllegalArgumentException("Malformed consistency token", e);
+        }
+    }
+}
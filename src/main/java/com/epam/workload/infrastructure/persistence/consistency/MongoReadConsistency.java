@@ -0,0 +1,46 @@
+package com.epam.workload.infrastructure.persistence.consistency;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.epam.workload.application.consistency.ReadConsistency;
+import com.mongodb.ReadPreference;
+
+/** {@link ReadConsistency} on replica set operation times; tokens are encoded {@link CausalPoint}s. */
+public class MongoReadConsistency implements ReadConsistency {
+    private final ReadRoutingMongoDatabaseFactory databaseFactory;
+    private final OperationTimeTracker operationTimes;
+    private final ReadPreference readPreference;
+
+    public MongoReadConsistency(
+            ReadRoutingMongoDatabaseFactory databaseFactory,
+            OperationTimeTracker operationTimes,
+            ReadPreference readPreference) {
+        this.databaseFactory = databaseFactory;
+        this.operationTimes = operationTimes;
+        this.readPreference = readPreference;
+    }
+
+    @Override
+    public Optional<String> lastWriteToken() {
+        return operationTimes.lastOnCurrentThread().map(CausalPoint::encode);
+    }
+
+    @Override
+    public <T> T read(String afterToken, Supplier<T> read) {
+        CausalPoint after = afterToken == null ? null : CausalPoint.decode(afterToken);
+        return onPrimary() ? read.get() : databaseFactory.route(readPreference, after, read);
+    }
+
+    @Override
+    public <T> T readAfterLocalWrites(Supplier<T> read) {
+        return onPrimary()
+                ? read.get()
+                : databaseFactory.route(readPreference, operationTimes.latest().orElse(null), read);
+    }
+
+    private boolean onPrimary() {
+        // The primary has applied every acknowledged write - no session or routing needed
+        return readPreference.equals(ReadPreference.primary());
+    }
+}
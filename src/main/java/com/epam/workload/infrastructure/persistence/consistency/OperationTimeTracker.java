@@ -0,0 +1,51 @@
+package com.epam.workload.infrastructure.persistence.consistency;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Remembers the {@code operationTime} of successful writes, per thread and for the whole process.
+ * The synchronous driver notifies listeners on the thread that ran the command, so the per-thread
+ * value is the calling code's own last write. Standalone servers report no operation times.
+ */
+public class OperationTimeTracker implements CommandListener {
+    private static final Set<String> WRITE_COMMANDS = Set.of("insert", "update", "delete", "findAndModify");
+
+    private final ThreadLocal<CausalPoint> lastOnThread = new ThreadLocal<>();
+    private final AtomicReference<CausalPoint> latest = new AtomicReference<>();
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        if (!WRITE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument response = event.getResponse();
+        BsonValue operationTime = response.get("operationTime");
+        if (operationTime == null || !operationTime.isTimestamp()) {
+            return;
+        }
+        BsonValue clusterTime = response.get("$clusterTime");
+        // The response may be backed by a pooled buffer that is released after the event
+        CausalPoint point = new CausalPoint(
+                operationTime.asTimestamp(),
+                clusterTime != null && clusterTime.isDocument()
+                        ? clusterTime.asDocument().clone()
+                        : null);
+        lastOnThread.set(point);
+        latest.accumulateAndGet(point, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    Optional<CausalPoint> lastOnCurrentThread() {
+        return Optional.ofNullable(lastOnThread.get());
+    }
+
+    Optional<CausalPoint> latest() {
+        return Optional.ofNullable(latest.get());
+    }
+}
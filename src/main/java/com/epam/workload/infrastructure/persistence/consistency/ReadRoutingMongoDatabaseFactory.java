@@ -0,0 +1,123 @@
+package com.epam.workload.infrastructure.persistence.consistency;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+/**
+ * Hands out databases with a read preference, and a causally consistent session, for the duration
+ * of {@link #route}. {@code MongoTemplate} asks the factory for the database on every operation,
+ * so repositories and templates pick the routing up without knowing about it. Outside a routed
+ * block every call goes straight to the delegate.
+ *
+ * <p>The session is started only once the block actually touches the database, so cache hits cost
+ * nothing. Its operation time is advanced to the requested point, which makes the driver send
+ * {@code readConcern.afterClusterTime}: a secondary then waits until it has applied that point.
+ */
+public class ReadRoutingMongoDatabaseFactory implements MongoDatabaseFactory {
+    private static final ThreadLocal<Route> CURRENT = new ThreadLocal<>();
+
+    private final MongoDatabaseFactory delegate;
+
+    public ReadRoutingMongoDatabaseFactory(MongoDatabaseFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /** Runs {@code read} routed by {@code readPreference}, seeing at least {@code after} when it is not null. */
+    <T> T route(ReadPreference readPreference, CausalPoint after, Supplier<T> read) {
+        if (CURRENT.get() != null) {
+            // Nested blocks keep the outer routing
+            return read.get();
+        }
+        Route route = new Route(readPreference, after);
+        CURRENT.set(route);
+        try {
+            return read.get();
+        } finally {
+            CURRENT.remove();
+            route.close();
+        }
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase() throws DataAccessException {
+        return routed(MongoDatabaseFactory::getMongoDatabase);
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+        return routed(factory -> factory.getMongoDatabase(dbName));
+    }
+
+    @Override
+    public PersistenceExceptionTranslator getExceptionTranslator() {
+        return delegate.getExceptionTranslator();
+    }
+
+    @Override
+    public CodecRegistry getCodecRegistry() {
+        return delegate.getCodecRegistry();
+    }
+
+    @Override
+    public ClientSession getSession(ClientSessionOptions options) {
+        return delegate.getSession(options);
+    }
+
+    @Override
+    public MongoDatabaseFactory withSession(ClientSession session) {
+        return delegate.withSession(session);
+    }
+
+    private MongoDatabase routed(Function<MongoDatabaseFactory, MongoDatabase> lookup) {
+        Route route = CURRENT.get();
+        if (route == null) {
+            return lookup.apply(delegate);
+        }
+        return lookup.apply(route.factory()).withReadPreference(route.readPreference);
+    }
+
+    private final class Route implements AutoCloseable {
+        private final ReadPreference readPreference;
+        private final CausalPoint after;
+        private ClientSession session;
+        private MongoDatabaseFactory sessionFactory;
+
+        private Route(ReadPreference readPreference, CausalPoint after) {
+            this.readPreference = readPreference;
+            this.after = after;
+        }
+
+        MongoDatabaseFactory factory() {
+            if (after == null) {
+                return delegate;
+            }
+            if (sessionFactory == null) {
+                session = delegate.getSession(
+                        ClientSessionOptions.builder().causallyConsistent(true).build());
+                if (after.clusterTime() != null) {
+                    // Gossip the writer's cluster time so a lagging node accepts afterClusterTime
+                    session.advanceClusterTime(after.clusterTime());
+                }
+                session.advanceOperationTime(after.operationTime());
+                sessionFactory = delegate.withSession(session);
+            }
+            return sessionFactory;
+        }
+
+        @Override
+        public void close() {
+            if (session != null) {
+                session.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** Minutes of all trainers in one month, kept current by every ADD/DELETE and the reconciliation job. */
+@Document(collection = "workload_month_totals")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class MonthTotalDAO {
+    /** {@code yyyy-MM}, so the natural {@code _id} order is chronological. */
+    @Id
+    private String id;
+
+    private int year;
+
+    private int month;
+
+    private long totalMinutes;
+}
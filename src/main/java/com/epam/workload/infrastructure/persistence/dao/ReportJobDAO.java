@@ -0,0 +1,57 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** A month-end report job with its chunks - and their checkpoints - embedded. */
+@Document(collection = "report_jobs")
+@CompoundIndex(name = "status_created_idx", def = "{'status': 1, 'createdAt': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class ReportJobDAO {
+    @Id
+    private String id;
+
+    /** {@code yyyy-MM}. */
+    private String month;
+
+    /** QUEUED, RUNNING, COMPLETED or FAILED. */
+    private String status;
+
+    @Builder.Default
+    private List<ChunkDAO> chunks = new ArrayList<>();
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    private @Nullable String error;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class ChunkDAO {
+        private int index;
+        private @Nullable String fromUsername;
+        private @Nullable String toUsername;
+        private boolean done;
+        private long trainers;
+        private long minutes;
+    }
+}
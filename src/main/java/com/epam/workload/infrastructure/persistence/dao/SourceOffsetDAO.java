@@ -0,0 +1,27 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** Last processed offset of one Kafka topic partition; {@code _id} is {@code <topic>-<partition>}. */
+@Document(collection = "source_offsets")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class SourceOffsetDAO {
+    @Id
+    private String id;
+
+    private long offset;
+
+    private Instant updatedAt;
+}
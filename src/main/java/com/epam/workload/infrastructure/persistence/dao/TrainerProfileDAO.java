@@ -0,0 +1,34 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** Trainer profile of the bucketed layout; durations live in {@link WorkloadYearBucketDAO}. */
+@Document(collection = "trainer_profiles")
+@CompoundIndex(name = "name_search_idx", def = "{'firstName': 1, 'lastName': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class TrainerProfileDAO {
+    @Id
+    private @Nullable String id;
+
+    @Indexed(unique = true)
+    private String username;
+
+    private String firstName;
+
+    private String lastName;
+
+    private boolean active;
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -34,6 +35,13 @@ public class TrainerWorkloadDAO {
 
     private boolean active;
 
+    /** Bumped by every write; {@code null} for documents written before versioning was introduced. */
+    @Version
+    private @Nullable Long version;
+
+    /** Running sum of every month, {@code null} until backfilled on documents that predate it. */
+    private @Nullable Long lifetimeTotal;
+
     @Builder.Default
     private List<YearSummaryDAO> years = new ArrayList<>();
 
@@ -45,6 +53,9 @@ public class TrainerWorkloadDAO {
     public static class YearSummaryDAO {
         private int year;
 
+        /** Running sum of this year's months, maintained in the same write as each month. */
+        private @Nullable Long yearTotal;
+
         @Builder.Default
         private List<MonthSummaryDAO> months = new ArrayList<>();
     }
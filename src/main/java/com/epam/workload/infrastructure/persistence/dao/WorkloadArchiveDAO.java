@@ -0,0 +1,46 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** One year of one trainer moved out of {@code trainer_workloads} by the archival job. */
+@Document(collection = "trainer_workloads_archive")
+@CompoundIndex(name = "username_year_idx", def = "{'username': 1, 'year': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class WorkloadArchiveDAO {
+    /** {@code username:year:sourceVersion}, so repeating an interrupted run rewrites the same document. */
+    @Id
+    private String id;
+
+    private String username;
+
+    private int year;
+
+    /** Version of the trainer document the year was taken from. */
+    private @Nullable Long sourceVersion;
+
+    private long yearTotal;
+
+    @Builder.Default
+    private List<TrainerWorkloadDAO.MonthSummaryDAO> months = new ArrayList<>();
+
+    /** False until the year is gone from the trainer document; readers skip uncommitted years. */
+    private boolean committed;
+
+    private Instant archivedAt;
+}
@@ -0,0 +1,47 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** One applied ADD or DELETE; never updated once written. */
+@Document(collection = "workload_events")
+@CompoundIndex(name = "username_recorded_idx", def = "{'username': 1, 'recordedAt': 1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class WorkloadEventDAO {
+    @Id
+    private String id;
+
+    private String username;
+
+    private String firstName;
+
+    private String lastName;
+
+    private boolean active;
+
+    private int year;
+
+    private int month;
+
+    /** Negative for a DELETE. */
+    private int minutes;
+
+    private int minutesAfter;
+
+    /** Also indexed alone for the snapshot job, which looks for trainers with recent events. */
+    @Indexed
+    private Instant recordedAt;
+}
@@ -0,0 +1,41 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** A trainer as of {@code takenAt}, rebuilt from the journal or, for the first one, read from the workloads. */
+@Document(collection = "workload_snapshots")
+@CompoundIndex(name = "username_taken_idx", def = "{'username': 1, 'takenAt': -1}")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class WorkloadSnapshotDAO {
+    /** {@code username:baseline} for the first snapshot, {@code username:<takenAt millis>} for later ones. */
+    @Id
+    private String id;
+
+    private String username;
+
+    private String firstName;
+
+    private String lastName;
+
+    private boolean active;
+
+    private Instant takenAt;
+
+    @Builder.Default
+    private List<TrainerWorkloadDAO.YearSummaryDAO> years = new ArrayList<>();
+}
@@ -0,0 +1,42 @@
+package com.epam.workload.infrastructure.persistence.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/** One year of one trainer's workload in the bucketed layout. */
+@Document(collection = "trainer_workload_years")
+@CompoundIndexes({
+    @CompoundIndex(name = "username_year_idx", def = "{'username': 1, 'year': 1}", unique = true),
+    // Serves the year ranges of findUsernamesActiveSince
+    @CompoundIndex(name = "year_username_idx", def = "{'year': 1, 'username': 1}")
+})
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // Required by Spring Data MongoDB
+@Builder
+public class WorkloadYearBucketDAO {
+    @Id
+    private @Nullable String id;
+
+    private String username;
+
+    private int year;
+
+    /** Running sum of the bucket's months, maintained in the same write as each month. */
+    private @Nullable Long yearTotal;
+
+    @Builder.Default
+    private List<TrainerWorkloadDAO.MonthSummaryDAO> months = new ArrayList<>();
+}
@@ -0,0 +1,79 @@
+package com.epam.workload.infrastructure.persistence.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+/**
+ * Hands out databases limited to the calling thread's {@link RequestDeadline}. The driver's
+ * client-side operation timeout then bounds server selection, connection checkout and the command
+ * itself, and it sends the rest of the budget as {@code maxTimeMS}. {@code MongoTemplate} asks for
+ * the database on every operation, so each call gets the budget that is left at that moment. Once
+ * the deadline has passed, no command is sent at all.
+ *
+ * <p>The driver's timeout errors are translated to {@link QueryTimeoutException}. Spring's default
+ * translator leaves them uncategorized.
+ */
+public class DeadlineMongoDatabaseFactory implements MongoDatabaseFactory {
+    private final MongoDatabaseFactory delegate;
+    private final PersistenceExceptionTranslator exceptionTranslator;
+
+    public DeadlineMongoDatabaseFactory(MongoDatabaseFactory delegate) {
+        this.delegate = delegate;
+        PersistenceExceptionTranslator fallback = delegate.getExceptionTranslator();
+        this.exceptionTranslator =
+                ex -> ex instanceof MongoOperationTimeoutException || ex instanceof MongoExecutionTimeoutException
+                        ? new QueryTimeoutException(ex.getMessage(), ex)
+                        : fallback.translateExceptionIfPossible(ex);
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase() throws DataAccessException {
+        return bounded(delegate.getMongoDatabase());
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+        return bounded(delegate.getMongoDatabase(dbName));
+    }
+
+    @Override
+    public PersistenceExceptionTranslator getExceptionTranslator() {
+        return exceptionTranslator;
+    }
+
+    @Override
+    public CodecRegistry getCodecRegistry() {
+        return delegate.getCodecRegistry();
+    }
+
+    @Override
+    public ClientSession getSession(ClientSessionOptions options) {
+        return delegate.getSession(options);
+    }
+
+    @Override
+    public MongoDatabaseFactory withSession(ClientSession session) {
+        return new DeadlineMongoDatabaseFactory(delegate.withSession(session));
+    }
+
+    private static MongoDatabase bounded(MongoDatabase database) {
+        RequestDeadline deadline = RequestDeadline.current().orElse(null);
+        if (deadline == null) {
+            return database;
+        }
+        RequestDeadline.check("a MongoDB call");
+        // A zero timeout would mean "no limit" to the driver
+        return database.withTimeout(Math.max(1, deadline.remaining().toMillis()), TimeUnit.MILLISECONDS);
+    }
+}
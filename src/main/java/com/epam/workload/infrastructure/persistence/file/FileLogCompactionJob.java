@@ -0,0 +1,52 @@
+package com.epam.workload.infrastructure.persistence.file;
+
+import java.io.IOException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compacts the workload log every {@code app.persistence.file.compaction.interval} once superseded
+ * records make up more than {@code garbage-ratio} of it, so both the disk footprint and the replay on
+ * startup stay proportional to the number of trainers rather than the number of writes.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "file")
+public class FileLogCompactionJob {
+    private final FileTrainerWorkloadRepository repository;
+    private final double garbageRatio;
+
+    @Autowired
+    FileLogCompactionJob(
+            FileTrainerWorkloadRepository repository,
+            @Value("${app.persistence.file.compaction.garbage-ratio:0.5}") double garbageRatio) {
+        this.repository = repository;
+        this.garbageRatio = garbageRatio;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.persistence.file.compaction.interval:5m}",
+            initialDelayString = "${app.persistence.file.compaction.interval:5m}")
+    public void compact() {
+        double garbage = repository.garbageRatio();
+        if (garbage <= garbageRatio) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            repository.compact();
+        } catch (IOException e) {
+            // Every record is still reachable; the next run deletes what this one could not
+            log.error("Compacting the workload log failed", e);
+            return;
+        }
+        log.info(
+                "Compacted the workload log ({}% garbage) in {} ms",
+                Math.round(garbage * 100), (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,312 @@
+package com.epam.workload.infrastructure.persistence.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.memory.InMemoryMonthTotalsRepository;
+import com.epam.workload.infrastructure.persistence.memory.StoredWorkload;
+import com.epam.workload.infrastructure.persistence.memory.StoredWorkloadCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Keeps every trainer in a {@link SegmentLog} under {@code app.persistence.file.directory}: each
+ * write appends the trainer as it stands afterwards, encoded by {@link StoredWorkloadCodec}, and
+ * points the username at it in an index of log addresses. A read is one index lookup and one decode
+ * from the mapped segment; nothing leaves the process.
+ *
+ * <p>The index is rebuilt on startup by replaying the log - the last record of a trainer wins - and
+ * the month totals are rebuilt from it. Writes to one trainer run inside
+ * {@link ConcurrentHashMap#compute} on its index entry, so they are serialized and reach the log in
+ * version order. {@link #compact} copies the live records into fresh segments and drops the rest.
+ */
+@Repository
+@Slf4j
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "file")
+public class FileTrainerWorkloadRepository implements TrainerWorkloadRepository {
+    private final SegmentLog segmentLog;
+    private final ConcurrentHashMap<String, Long> index = new ConcurrentHashMap<>();
+    // Bytes of the records the index points at; the rest of the log is garbage
+    private final AtomicLong liveBytes = new AtomicLong();
+
+    @Autowired
+    FileTrainerWorkloadRepository(
+            @Value("${app.persistence.file.directory}") Path directory,
+            @Value("${app.persistence.file.segment-size:64MB}") DataSize segmentSize,
+            @Value("${app.persistence.file.sync-writes:false}") boolean syncWrites,
+            InMemoryMonthTotalsRepository monthTotals)
+            throws IOException {
+        long started = System.nanoTime();
+        this.segmentLog = SegmentLog.open(
+                directory,
+                Math.toIntExact(segmentSize.toBytes()),
+                syncWrites,
+                (address, payload) -> index.put(decode(payload).workload().getUsername(), address));
+        index.values().forEach(address -> liveBytes.addAndGet(segmentLog.sizeOf(address)));
+        monthTotals.clear();
+        monthTotals.addAll(StoredWorkload.monthTotals(entries().toList()));
+        log.info(
+                "Opened workload log {} with {} trainers in {} ms",
+                directory,
+                index.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username) {
+        return Optional.ofNullable(stored(username)).map(StoredWorkload::workload);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        return findByUsername(username)
+                .map(workload -> workload.withDurations(workload.getDurations().within(period)));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period) {
+        // No archive tier
+        return findByUsername(username, period);
+    }
+
+    @Override
+    public Optional<WorkloadTotals> findTotals(String username) {
+        return findByUsername(username).map(WorkloadTotals::of);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findForUpdate(String username, Year year) {
+        return findByUsername(username);
+    }
+
+    @Override
+    public void save(TrainerWorkload workload) {
+        index.compute(
+                workload.getUsername(),
+                (username, address) -> write(address, StoredWorkload.saving(read(address), workload)));
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(YearMonth since, int limit) {
+        return entries()
+                .filter(stored -> stored.activeSince(since))
+                .map(stored -> stored.workload().getUsername())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        return usernames.stream()
+                .map(this::stored)
+                .filter(Objects::nonNull)
+                .map(StoredWorkload::workload)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return StoredWorkload.profilesByName(entries(), firstNamePrefix, lastNamePrefix, after, limit);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        return StoredWorkload.byUsername(entries());
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return StoredWorkload.usernameBoundaries(entries(), every);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize) {
+        return StoredWorkload.inMonth(entries(), month, fromUsername, toUsername);
+    }
+
+    @Override
+    public void saveProfiles(Collection<TrainerWorkload> profiles) {
+        profiles.forEach(profile -> index.compute(
+                profile.getUsername(),
+                (username, address) -> write(address, StoredWorkload.renaming(read(address), profile))));
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments) {
+        return increments.stream()
+                .filter(increment -> update(
+                                increment.username(),
+                                increment.profile(),
+                                increment.position(),
+                                StoredWorkload.adding(increment.year(), increment.month(), increment.minutes()))
+                        .isPresent())
+                .toList();
+    }
+
+    @Override
+    public TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes) {
+        return update(profile.getUsername(), profile, null, StoredWorkload.adding(year, month, minutes))
+                .orElseThrow();
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes) {
+        return update(username, null, null, StoredWorkload.subtracting(year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+        return update(profile.getUsername(), profile, position, StoredWorkload.adding(year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return update(username, null, position, StoredWorkload.subtracting(year, month, minutes));
+    }
+
+    @Override
+    public boolean hasApplied(String username, Year year, SourcePosition position) {
+        // One record per trainer, so the year does not narrow anything
+        StoredWorkload stored = stored(username);
+        return stored != null && stored.hasApplied(position);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes) {
+        // No archive tier
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return Optional.empty();
+    }
+
+    /** Share of the log taken up by records that were superseded since. */
+    double garbageRatio() {
+        long size = segmentLog.size();
+        return size == 0 ? 0 : 1 - (double) liveBytes.get() / size;
+    }
+
+    /**
+     * Seals the active segment, re-appends the latest record of every trainer still pointing below it
+     * and deletes the sealed segments. Writes go on meanwhile: each trainer is moved inside its own
+     * {@link ConcurrentHashMap#compute}, so a concurrent write either lands before the move - and is
+     * moved - or after it. A crash halfway leaves both copies, and the replay keeps the later one.
+     */
+    synchronized void compact() throws IOException {
+        int boundary = segmentLog.roll();
+        for (String username : index.keySet()) {
+            index.computeIfPresent(
+                    username,
+                    (key, address) -> SegmentLog.segmentOf(address) < boundary
+                            ? segmentLog.append(segmentLog.read(address))
+                            : address);
+        }
+        segmentLog.dropBefore(boundary);
+    }
+
+    @PreDestroy
+    void close() {
+        segmentLog.close();
+    }
+
+    /** Applies {@code change} atomically; empty when {@link StoredWorkload#applying} left the trainer as it was. */
+    private Optional<TrainerWorkload> update(
+            String username, TrainerWorkload profile, SourcePosition position, UnaryOperator<YearlyDurations> change) {
+        TrainerWorkload[] updated = new TrainerWorkload[1];
+        index.compute(username, (key, address) -> {
+            StoredWorkload stored = read(address);
+            StoredWorkload next = StoredWorkload.applying(stored, profile, position, change);
+            if (next == stored) {
+                return address;
+            }
+            updated[0] = next.workload();
+            return write(address, next);
+        });
+        return Optional.ofNullable(updated[0]);
+    }
+
+    /** Appends {@code next} in place of the record at {@code address}; called inside the index entry's compute. */
+    private long write(Long address, StoredWorkload next) {
+        long written = segmentLog.append(encode(next));
+        liveBytes.addAndGet(segmentLog.sizeOf(written) - (address == null ? 0 : segmentLog.sizeOf(address)));
+        return written;
+    }
+
+    /** The record at {@code address}; called inside the index entry's compute, so its segment is still there. */
+    private StoredWorkload read(Long address) {
+        return address == null ? null : decode(segmentLog.read(address));
+    }
+
+    private StoredWorkload stored(String username) {
+        while (true) {
+            Long address = index.get(username);
+            if (address == null) {
+                return null;
+            }
+            byte[] payload = segmentLog.read(address);
+            if (payload != null) {
+                return decode(payload);
+            }
+            // Compacted away between the lookup and the read; the index points at the copy by now
+        }
+    }
+
+    private Stream<StoredWorkload> entries() {
+        return new ArrayList<>(index.keySet()).stream().map(this::stored).filter(Objects::nonNull);
+    }
+
+    private static byte[] encode(StoredWorkload stored) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            StoredWorkloadCodec.write(out, stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StoredWorkload decode(byte[] payload) {
+        try {
+            return StoredWorkloadCodec.read(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (IOException e) {
+            // Checksummed on the way in, so this is a bug rather than a bad disk
+            throw new UncheckedIOException("Undecodable workload record", e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.epam.workload.infrastructure.persistence.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of opaque records in fixed-size segment files, each memory-mapped whole. A record
+ * is {@code (payload length, CRC32C of the payload, payload)}; its address is the segment id in the
+ * high and the position in the low 32 bits. A zero length - never written, the file is sparse - or a
+ * checksum mismatch ends a segment, so a record torn by a crash is dropped on the next open.
+ *
+ * <p>Appends are serialized; reads are lock-free and see every record whose address they were
+ * handed. Dropped segments are deleted right away; a read of an address in one of them returns
+ * {@code null}, and the caller looks the record up again.
+ */
+@Slf4j
+final class SegmentLog implements AutoCloseable {
+    private static final String SUFFIX = ".segment";
+    private static final int HEADER = 8;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncWrites;
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active;
+
+    /** Receives every intact record on {@link #open}, oldest first. */
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(long address, byte[] payload);
+    }
+
+    private SegmentLog(Path directory, int segmentSize, boolean syncWrites) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+    }
+
+    /**
+     * Maps the segments in {@code directory}, replays their records into {@code handler} and starts
+     * a fresh segment for appends, leaving whatever a crash tore off the last one behind. Empty
+     * segments are deleted.
+     */
+    static SegmentLog open(Path directory, int segmentSize, boolean syncWrites, RecordHandler handler)
+            throws IOException {
+        Files.createDirectories(directory);
+        SegmentLog log = new SegmentLog(directory, segmentSize, syncWrites);
+        for (Path path : segmentFiles(directory)) {
+            Segment segment = log.map(path, Files.size(path));
+            segment.end = log.replay(segment, handler);
+            if (segment.end == 0) {
+                // Nothing made it into this one, typically the active segment of a run without writes
+                Files.delete(path);
+            } else {
+                log.segments.put(segment.id, segment);
+            }
+        }
+        log.roll();
+        return log;
+    }
+
+    synchronized long append(byte[] payload) {
+        int size = HEADER + payload.length;
+        if (size > segmentSize) {
+            throw new IllegalArgumentException(
+                    "Record of " + size + " bytes does not fit a " + segmentSize + " byte segment");
+        }
+        if (active.end + size > segmentSize) {
+            roll();
+        }
+        int position = active.end;
+        MappedByteBuffer buffer = active.buffer;
+        buffer.putInt(position + 4, checksum(payload));
+        buffer.put(position + HEADER, payload);
+        // Length last: a record whose length is visible was written completely
+        buffer.putInt(position, payload.length);
+        if (syncWrites) {
+            buffer.force(position, size);
+        }
+        active.end += size;
+        return address(active.id, position);
+    }
+
+    /** The payload at {@code address}, or {@code null} once its segment was dropped. */
+    byte[] read(long address) {
+        Segment segment = segments.get(segmentOf(address));
+        if (segment == null) {
+            return null;
+        }
+        // A mapping stays readable after its file was deleted
+        MappedByteBuffer buffer = segment.buffer;
+        int position = positionOf(address);
+        byte[] payload = new byte[buffer.getInt(position)];
+        buffer.get(position + HEADER, payload);
+        return payload;
+    }
+
+    /** Bytes the record at {@code address} takes up, header included. */
+    int sizeOf(long address) {
+        return HEADER + segments.get(segmentOf(address)).buffer.getInt(positionOf(address));
+    }
+
+    /** Bytes taken up by all records in the log, live or not. */
+    synchronized long size() {
+        return segments.values().stream().mapToLong(segment -> segment.end).sum();
+    }
+
+    /** Seals the active segment and starts a new one; returns the new segment's id. */
+    synchronized int roll() {
+        if (active != null) {
+            active.buffer.force();
+        }
+        int id = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+        try {
+            active = map(directory.resolve("%010d%s".formatted(id, SUFFIX)), segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create segment " + id + " in " + directory, e);
+        }
+        segments.put(id, active);
+        return id;
+    }
+
+    /** Deletes every segment older than {@code id}. */
+    synchronized void dropBefore(int id) throws IOException {
+        Map<Integer, Segment> dropped = segments.headMap(id);
+        for (Segment segment : List.copyOf(dropped.values())) {
+            Files.deleteIfExists(segment.path);
+            segments.remove(segment.id);
+        }
+    }
+
+    synchronized void force() {
+        active.buffer.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+    }
+
+    private Segment map(Path path, long size) throws IOException {
+        String name = path.getFileName().toString();
+        int id = Integer.parseInt(name, 0, name.length() - SUFFIX.length(), 10);
+        // The mapping outlives the channel
+        try (FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /** Hands every intact record of {@code segment} to {@code handler}; returns where they end. */
+    private int replay(Segment segment, RecordHandler handler) {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + HEADER <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || position + HEADER + length > buffer.capacity()) {
+                log.warn("Dropping the tail of {} from {}: bad record length {}", segment.path, position, length);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER, payload);
+            if (checksum(payload) != buffer.getInt(position + 4)) {
+                log.warn("Dropping the tail of {} from {}: checksum mismatch", segment.path, position);
+                break;
+            }
+            handler.accept(address(segment.id, position), payload);
+            position += HEADER + length;
+        }
+        return position;
+    }
+
+    private static List<Path> segmentFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static long address(int segment, int position) {
+        return (long) segment << 32 | position;
+    }
+
+    static int segmentOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int positionOf(long address) {
+        return (int) address;
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // Guarded by the log; only the active segment still grows
+        private int end;
+
+        private Segment(int id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
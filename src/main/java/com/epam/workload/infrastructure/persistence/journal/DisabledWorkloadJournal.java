@@ -0,0 +1,43 @@
+package com.epam.workload.infrastructure.persistence.journal;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.port.WorkloadJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Records nothing, so writes pay no extra round trips. Used unless {@code app.journal.enabled=true};
+ * an {@code asOf} read then finds no history.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class DisabledWorkloadJournal implements WorkloadJournal {
+
+    @Override
+    public void append(List<WorkloadEvent> events, Function<String, WorkloadSnapshot> baselines) {}
+
+    @Override
+    public void saveSnapshots(Collection<WorkloadSnapshot> snapshots) {}
+
+    @Override
+    public Optional<WorkloadSnapshot> findLatestSnapshot(String username, Instant asOf) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<WorkloadEvent> findEvents(String username, Instant after, Instant upTo) {
+        return List.of();
+    }
+
+    @Override
+    public List<String> findUsernamesRecordedBetween(Instant after, Instant upTo) {
+        return List.of();
+    }
+}
@@ -0,0 +1,93 @@
+package com.epam.workload.infrastructure.persistence.journal;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import com.epam.workload.domain.port.WorkloadJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshots every trainer with events since the previous run, built from the trainer's latest
+ * snapshot and those events alone, so an {@code asOf} read never replays more than one run's worth.
+ * Runs cover events up to {@code settle-after} ago, leaving appends in flight time to land. How far
+ * the last run got is kept as the offset of source {@value #SOURCE}, so a restart resumes there.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${app.journal.enabled:false} and ${app.journal.snapshot.enabled:true}")
+public class WorkloadSnapshotJob {
+    static final String SOURCE = "workload_events";
+
+    private final WorkloadJournal journal;
+    private final SourceOffsetRepository offsets;
+    private final Clock clock;
+    private final Duration settleAfter;
+    private final int batchSize;
+
+    @Autowired
+    WorkloadSnapshotJob(
+            WorkloadJournal journal,
+            SourceOffsetRepository offsets,
+            Clock clock,
+            @Value("${app.journal.snapshot.settle-after:1m}") Duration settleAfter,
+            @Value("${app.journal.snapshot.batch-size:100}") int batchSize) {
+        this.journal = journal;
+        this.offsets = offsets;
+        this.clock = clock;
+        this.settleAfter = settleAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.journal.snapshot.cron:0 15 * * * *}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    /** Returns the number of snapshots taken. */
+    public int snapshot() {
+        // The stores keep milliseconds
+        Instant upTo = clock.instant().minus(settleAfter).truncatedTo(ChronoUnit.MILLIS);
+        Instant after =
+                offsets.findLastProcessed(SOURCE).map(Instant::ofEpochMilli).orElse(Instant.EPOCH);
+        if (!upTo.isAfter(after)) {
+            return 0;
+        }
+
+        int taken = 0;
+        List<WorkloadSnapshot> batch = new ArrayList<>(batchSize);
+        for (String username : journal.findUsernamesRecordedBetween(after, upTo)) {
+            Optional<WorkloadSnapshot> latest = journal.findLatestSnapshot(username, upTo);
+            if (latest.isEmpty()) {
+                // The baseline was never saved; later snapshots would miss everything before the journal
+                log.warn("Trainer '{}' has journaled events but no baseline snapshot - skipping", username);
+                continue;
+            }
+            WorkloadSnapshot snapshot = latest.get();
+            batch.add(snapshot.replay(journal.findEvents(username, snapshot.takenAt(), upTo), upTo));
+            if (batch.size() == batchSize) {
+                journal.saveSnapshots(batch);
+                taken += batch.size();
+                batch.clear();
+            }
+        }
+        journal.saveSnapshots(batch);
+        taken += batch.size();
+
+        offsets.advanceAll(Map.of(SOURCE, upTo.toEpochMilli()));
+        log.info("Took {} workload snapshots as of {}", taken, upTo);
+        return taken;
+    }
+}
@@ -2,13 +2,25 @@ package com.epam.workload.infrastructure.persistence.mapper;
 
 import java.time.Month;
 import java.time.Year;
-import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
 import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadEventDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadSnapshotDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -16,13 +28,9 @@ import org.springframework.stereotype.Component;
 public class TrainerWorkloadMapper {
 
     public TrainerWorkload toDomain(@NonNull TrainerWorkloadDAO entity) {
-        Map<Year, Map<Month, Integer>> yearMonthDuration = new HashMap<>();
+        YearlyDurations.Builder durations = YearlyDurations.builder();
         for (TrainerWorkloadDAO.YearSummaryDAO yearDAO : entity.getYears()) {
-            Map<Month, Integer> months = new EnumMap<>(Month.class);
-            for (TrainerWorkloadDAO.MonthSummaryDAO monthDAO : yearDAO.getMonths()) {
-                months.put(Month.of(monthDAO.getMonth()), monthDAO.getDurationMin());
-            }
-            yearMonthDuration.put(Year.of(yearDAO.getYear()), months);
+            putMonths(durations, yearDAO.getYear(), yearDAO.getMonths());
         }
 
         return TrainerWorkload.builder()
@@ -31,22 +39,19 @@ public class TrainerWorkloadMapper {
                 .firstName(entity.getFirstName())
                 .lastName(entity.getLastName())
                 .active(entity.isActive())
-                .yearMonthDuration(yearMonthDuration)
+                .version(entity.getVersion())
+                .durations(durations.build())
                 .build();
     }
 
     public TrainerWorkloadDAO toEntity(@NonNull TrainerWorkload domain) {
-        List<TrainerWorkloadDAO.YearSummaryDAO> years = (domain.getYearMonthDuration() == null)
+        List<TrainerWorkloadDAO.YearSummaryDAO> years = (domain.getDurations() == null)
                 ? List.of()
-                : domain.getYearMonthDuration().entrySet().stream()
-                        .map(ye -> TrainerWorkloadDAO.YearSummaryDAO.builder()
-                                .year(ye.getKey().getValue())
-                                .months(ye.getValue().entrySet().stream()
-                                        .map(me -> TrainerWorkloadDAO.MonthSummaryDAO.builder()
-                                                .month(me.getKey().getValue())
-                                                .durationMin(me.getValue())
-                                                .build())
-                                        .toList())
+                : domain.getDurations().years().stream()
+                        .map(year -> TrainerWorkloadDAO.YearSummaryDAO.builder()
+                                .year(year.getValue())
+                                .yearTotal(domain.getDurations().total(year))
+                                .months(toMonthDAOs(domain.getDurations(), year))
                                 .build())
                         .toList();
 
@@ -56,7 +61,179 @@ public class TrainerWorkloadMapper {
                 .firstName(domain.getFirstName())
                 .lastName(domain.getLastName())
                 .active(domain.getActive())
+                .version(domain.getVersion())
+                .lifetimeTotal(
+                        domain.getDurations() == null
+                                ? 0L
+                                : domain.getDurations().total())
                 .years(years)
                 .build();
     }
+
+    /** Totals from the stored running sums; empty if the document predates them. */
+    public Optional<WorkloadTotals> toTotals(@NonNull TrainerWorkloadDAO entity) {
+        if (entity.getLifetimeTotal() == null) {
+            return Optional.empty();
+        }
+        SortedMap<Year, Long> yearTotals = new TreeMap<>();
+        for (TrainerWorkloadDAO.YearSummaryDAO yearDAO : entity.getYears()) {
+            if (yearDAO.getYearTotal() == null) {
+                return Optional.empty();
+            }
+            yearTotals.put(Year.of(yearDAO.getYear()), yearDAO.getYearTotal());
+        }
+        return Optional.of(new WorkloadTotals(entity.getUsername(), entity.getLifetimeTotal(), yearTotals));
+    }
+
+    /** Totals from the buckets' running sums; empty if any bucket predates them. */
+    public Optional<WorkloadTotals> toTotals(
+            @NonNull TrainerProfileDAO profile, @NonNull Collection<WorkloadYearBucketDAO> buckets) {
+        SortedMap<Year, Long> yearTotals = new TreeMap<>();
+        long lifetimeTotal = 0;
+        for (WorkloadYearBucketDAO bucket : buckets) {
+            if (bucket.getYearTotal() == null) {
+                return Optional.empty();
+            }
+            yearTotals.put(Year.of(bucket.getYear()), bucket.getYearTotal());
+            lifetimeTotal += bucket.getYearTotal();
+        }
+        return Optional.of(new WorkloadTotals(profile.getUsername(), lifetimeTotal, yearTotals));
+    }
+
+    /** Adds the archived months selected by {@code period} to {@code workload}'s durations. */
+    public TrainerWorkload withArchived(
+            @NonNull TrainerWorkload workload,
+            @NonNull Collection<WorkloadArchiveDAO> archived,
+            @NonNull WorkloadPeriod period) {
+        YearlyDurations durations = workload.getDurations();
+        for (WorkloadArchiveDAO archivedYear : archived) {
+            Year year = Year.of(archivedYear.getYear());
+            if (!period.includes(year)) {
+                continue;
+            }
+            for (TrainerWorkloadDAO.MonthSummaryDAO monthDAO : archivedYear.getMonths()) {
+                Month month = Month.of(monthDAO.getMonth());
+                if (period.includes(month)) {
+                    // A year archived twice (late events) is summed, not overwritten
+                    durations = durations.with(
+                            year, month, durations.get(year, month).orElse(0) + monthDAO.getDurationMin());
+                }
+            }
+        }
+        return workload.withDurations(durations);
+    }
+
+    public TrainerWorkload toDomain(
+            @NonNull TrainerProfileDAO profile, @NonNull Collection<WorkloadYearBucketDAO> buckets) {
+        YearlyDurations.Builder durations = YearlyDurations.builder();
+        for (WorkloadYearBucketDAO bucket : buckets) {
+            putMonths(durations, bucket.getYear(), bucket.getMonths());
+        }
+
+        return TrainerWorkload.builder()
+                .id(profile.getId())
+                .username(profile.getUsername())
+                .firstName(profile.getFirstName())
+                .lastName(profile.getLastName())
+                .active(profile.isActive())
+                .durations(durations.build())
+                .build();
+    }
+
+    public TrainerProfileDAO toProfile(@NonNull TrainerWorkload domain) {
+        return TrainerProfileDAO.builder()
+                .id(domain.getId())
+                .username(domain.getUsername())
+                .firstName(domain.getFirstName())
+                .lastName(domain.getLastName())
+                .active(domain.getActive())
+                .build();
+    }
+
+    public List<WorkloadYearBucketDAO> toBuckets(@NonNull TrainerWorkload domain) {
+        if (domain.getDurations() == null) {
+            return List.of();
+        }
+        return domain.getDurations().years().stream()
+                .map(year -> WorkloadYearBucketDAO.builder()
+                        .username(domain.getUsername())
+                        .year(year.getValue())
+                        .yearTotal(domain.getDurations().total(year))
+                        .months(toMonthDAOs(domain.getDurations(), year))
+                        .build())
+                .toList();
+    }
+
+    public WorkloadEventDAO toEntity(@NonNull WorkloadEvent event) {
+        return WorkloadEventDAO.builder()
+                .username(event.username())
+                .firstName(event.firstName())
+                .lastName(event.lastName())
+                .active(Boolean.TRUE.equals(event.active()))
+                .year(event.year().getValue())
+                .month(event.month().getValue())
+                .minutes(event.minutes())
+                .minutesAfter(event.minutesAfter())
+                .recordedAt(event.recordedAt())
+                .build();
+    }
+
+    public WorkloadEvent toDomain(@NonNull WorkloadEventDAO entity) {
+        return new WorkloadEvent(
+                entity.getUsername(),
+                entity.getFirstName(),
+                entity.getLastName(),
+                entity.isActive(),
+                Year.of(entity.getYear()),
+                Month.of(entity.getMonth()),
+                entity.getMinutes(),
+                entity.getMinutesAfter(),
+                entity.getRecordedAt());
+    }
+
+    public WorkloadSnapshotDAO toEntity(@NonNull WorkloadSnapshot snapshot, @NonNull String id) {
+        TrainerWorkloadDAO workload = toEntity(snapshot.workload());
+        return WorkloadSnapshotDAO.builder()
+                .id(id)
+                .username(workload.getUsername())
+                .firstName(workload.getFirstName())
+                .lastName(workload.getLastName())
+                .active(workload.isActive())
+                .takenAt(snapshot.takenAt())
+                .years(workload.getYears())
+                .build();
+    }
+
+    public WorkloadSnapshot toDomain(@NonNull WorkloadSnapshotDAO entity) {
+        YearlyDurations.Builder durations = YearlyDurations.builder();
+        for (TrainerWorkloadDAO.YearSummaryDAO yearDAO : entity.getYears()) {
+            putMonths(durations, yearDAO.getYear(), yearDAO.getMonths());
+        }
+        TrainerWorkload workload = TrainerWorkload.builder()
+                .username(entity.getUsername())
+                .firstName(entity.getFirstName())
+                .lastName(entity.getLastName())
+                .active(entity.isActive())
+                .durations(durations.build())
+                .build();
+        return new WorkloadSnapshot(workload, entity.getTakenAt());
+    }
+
+    private void putMonths(
+            YearlyDurations.Builder durations, int year, List<TrainerWorkloadDAO.MonthSummaryDAO> monthDAOs) {
+        for (TrainerWorkloadDAO.MonthSummaryDAO monthDAO : monthDAOs) {
+            durations.put(year, monthDAO.getMonth(), monthDAO.getDurationMin());
+        }
+    }
+
+    private List<TrainerWorkloadDAO.MonthSummaryDAO> toMonthDAOs(YearlyDurations durations, Year year) {
+        List<TrainerWorkloadDAO.MonthSummaryDAO> months = new ArrayList<>(12);
+        durations.forEachMonth(
+                year,
+                (month, minutes) -> months.add(TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                        .month(month.getValue())
+                        .durationMin(minutes)
+                        .build()));
+        return months;
+    }
 }
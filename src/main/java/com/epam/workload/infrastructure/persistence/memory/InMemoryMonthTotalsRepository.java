@@ -0,0 +1,40 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.port.MonthTotalsRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+/** Month totals as one {@link LongAdder} per month, kept in month order for range reads. */
+@Repository
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class InMemoryMonthTotalsRepository implements MonthTotalsRepository {
+    private final ConcurrentSkipListMap<YearMonth, LongAdder> totals = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void add(YearMonth month, long minutes) {
+        totals.computeIfAbsent(month, key -> new LongAdder()).add(minutes);
+    }
+
+    @Override
+    public void addAll(Map<YearMonth, Long> minutesByMonth) {
+        minutesByMonth.forEach(this::add);
+    }
+
+    @Override
+    public List<MonthTotal> findBetween(YearMonth from, YearMonth to) {
+        return totals.subMap(from, true, to, true).entrySet().stream()
+                .map(entry -> new MonthTotal(entry.getKey(), entry.getValue().sum()))
+                .toList();
+    }
+
+    public void clear() {
+        totals.clear();
+    }
+}
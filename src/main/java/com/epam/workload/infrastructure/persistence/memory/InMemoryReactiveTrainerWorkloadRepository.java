@@ -0,0 +1,28 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.port.ReactiveTrainerWorkloadRepository;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** Local reads never wait on the network, so the blocking repository is simply called on subscription. */
+@Repository
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class InMemoryReactiveTrainerWorkloadRepository implements ReactiveTrainerWorkloadRepository {
+    private final TrainerWorkloadRepository repository;
+
+    @Autowired
+    InMemoryReactiveTrainerWorkloadRepository(TrainerWorkloadRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Mono<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        return Mono.fromCallable(() -> repository.findByUsername(username, period))
+                .flatMap(Mono::justOrEmpty);
+    }
+}
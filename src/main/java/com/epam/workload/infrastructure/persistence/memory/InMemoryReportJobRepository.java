@@ -0,0 +1,83 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.epam.workload.domain.model.ReportChunk;
+import com.epam.workload.domain.model.ReportJob;
+import com.epam.workload.domain.port.ReportJobRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+/** Jobs as immutable records, each change a {@link ConcurrentHashMap#computeIfPresent} of its own. */
+@Repository
+// Lost on restart with the file layout too; unfinished jobs have to be submitted again
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class InMemoryReportJobRepository implements ReportJobRepository {
+    private final ConcurrentHashMap<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public void insert(ReportJob job) {
+        if (jobs.putIfAbsent(job.id(), job) != null) {
+            throw new IllegalStateException("Report job " + job.id() + " exists already");
+        }
+    }
+
+    @Override
+    public Optional<ReportJob> findById(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public List<String> findUnfinishedIds() {
+        return jobs.values().stream()
+                .filter(job -> !job.isFinished())
+                .sorted(Comparator.comparing(ReportJob::createdAt))
+                .map(ReportJob::id)
+                .toList();
+    }
+
+    @Override
+    public Optional<ReportJob> claim(String id, Instant staleBefore, Instant now) {
+        ReportJob[] claimed = new ReportJob[1];
+        jobs.computeIfPresent(id, (key, job) -> {
+            boolean claimable = job.status() == ReportJob.Status.QUEUED
+                    || job.status() == ReportJob.Status.RUNNING
+                            && job.updatedAt().isBefore(staleBefore);
+            if (!claimable) {
+                return job;
+            }
+            claimed[0] = new ReportJob(
+                    id, job.month(), ReportJob.Status.RUNNING, job.chunks(), job.createdAt(), now, job.error());
+            return claimed[0];
+        });
+        return Optional.ofNullable(claimed[0]);
+    }
+
+    @Override
+    public void savePlan(String id, List<ReportChunk> chunks, Instant now) {
+        jobs.computeIfPresent(
+                id,
+                (key, job) -> new ReportJob(
+                        id, job.month(), job.status(), List.copyOf(chunks), job.createdAt(), now, job.error()));
+    }
+
+    @Override
+    public void completeChunk(String id, int index, long trainers, long minutes, Instant now) {
+        jobs.computeIfPresent(id, (key, job) -> {
+            List<ReportChunk> chunks = new ArrayList<>(job.chunks());
+            chunks.replaceAll(chunk -> chunk.index() == index ? chunk.completed(trainers, minutes) : chunk);
+            return new ReportJob(id, job.month(), job.status(), List.copyOf(chunks), job.createdAt(), now, job.error());
+        });
+    }
+
+    @Override
+    public void updateStatus(String id, ReportJob.Status status, String error, Instant now) {
+        jobs.computeIfPresent(
+                id, (key, job) -> new ReportJob(id, job.month(), status, job.chunks(), job.createdAt(), now, error));
+    }
+}
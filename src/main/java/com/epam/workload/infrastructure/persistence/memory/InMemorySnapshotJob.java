@@ -0,0 +1,89 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restores the in-memory trainers from {@code app.persistence.in-memory.snapshot.path} on startup -
+ * before the listeners start - and writes them back every {@code snapshot.interval} when anything
+ * changed, and once more on shutdown. Month totals are rebuilt from the trainers rather than stored.
+ *
+ * <p>Each trainer is written as of its last write, but trainers updated while the snapshot is being
+ * taken may be caught on either side of that update.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression(
+        "'${app.persistence.layout:embedded}' == 'in-memory' and '${app.persistence.in-memory.snapshot.path:}' != ''")
+public class InMemorySnapshotJob {
+    private final InMemoryTrainerWorkloadRepository repository;
+    private final InMemoryMonthTotalsRepository monthTotals;
+    private final Path path;
+    private long snapshotAt = -1;
+
+    @Autowired
+    InMemorySnapshotJob(
+            InMemoryTrainerWorkloadRepository repository,
+            InMemoryMonthTotalsRepository monthTotals,
+            @Value("${app.persistence.in-memory.snapshot.path}") Path path) {
+        this.repository = repository;
+        this.monthTotals = monthTotals;
+        this.path = path;
+        restore();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.persistence.in-memory.snapshot.interval:1m}",
+            initialDelayString = "${app.persistence.in-memory.snapshot.interval:1m}")
+    public void snapshot() {
+        long changes = repository.changeCount();
+        if (changes == snapshotAt) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            WorkloadSnapshotFile.write(path, repository.entries());
+        } catch (IOException e) {
+            // The next run tries again; the previous snapshot is still intact
+            log.error("Writing workload snapshot {} failed", path, e);
+            return;
+        }
+        snapshotAt = changes;
+        log.info("Wrote workload snapshot {} in {} ms", path, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void restore() {
+        if (!Files.exists(path)) {
+            log.info("No workload snapshot at {} - starting empty", path);
+            return;
+        }
+        List<StoredWorkload> entries;
+        try {
+            entries = WorkloadSnapshotFile.read(path);
+        } catch (IOException e) {
+            // Starting empty would overwrite the snapshot with nothing on the next run
+            throw new UncheckedIOException("Cannot read workload snapshot " + path, e);
+        }
+        repository.restore(entries);
+        monthTotals.clear();
+        monthTotals.addAll(StoredWorkload.monthTotals(entries));
+        snapshotAt = repository.changeCount();
+        log.info("Restored {} trainers from workload snapshot {}", entries.size(), path);
+    }
+}
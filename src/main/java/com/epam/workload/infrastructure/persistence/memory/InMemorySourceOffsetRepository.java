@@ -0,0 +1,26 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+@Repository
+// Lost on restart with the file layout too; the positions recorded with each trainer still skip replays
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class InMemorySourceOffsetRepository implements SourceOffsetRepository {
+    private final ConcurrentHashMap<String, Long> offsets = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Long> findLastProcessed(String source) {
+        return Optional.ofNullable(offsets.get(source));
+    }
+
+    @Override
+    public void advanceAll(Map<String, Long> lastProcessedBySource) {
+        lastProcessedBySource.forEach((source, offset) -> offsets.merge(source, offset, Math::max));
+    }
+}
@@ -0,0 +1,206 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps every trainer in a {@link ConcurrentHashMap} of immutable entries; the minutes themselves
+ * sit in the {@code int[]} rows of {@link YearlyDurations}. A write replaces the trainer's entry
+ * inside {@link ConcurrentHashMap#compute}, so writes to one trainer are serialized and atomic,
+ * while reads never block.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "in-memory")
+public class InMemoryTrainerWorkloadRepository implements TrainerWorkloadRepository {
+    private final ConcurrentHashMap<String, StoredWorkload> workloads = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username) {
+        StoredWorkload stored = workloads.get(username);
+        return stored == null ? Optional.empty() : Optional.of(stored.workload());
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        return findByUsername(username)
+                .map(workload -> workload.withDurations(workload.getDurations().within(period)));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period) {
+        // No archive tier
+        return findByUsername(username, period);
+    }
+
+    @Override
+    public Optional<WorkloadTotals> findTotals(String username) {
+        return findByUsername(username).map(WorkloadTotals::of);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findForUpdate(String username, Year year) {
+        return findByUsername(username);
+    }
+
+    @Override
+    public void save(TrainerWorkload workload) {
+        workloads.compute(workload.getUsername(), (username, stored) -> {
+            StoredWorkload saved = StoredWorkload.saving(stored, workload);
+            changes.incrementAndGet();
+            return saved;
+        });
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(YearMonth since, int limit) {
+        return workloads.values().stream()
+                .filter(stored -> stored.activeSince(since))
+                .map(stored -> stored.workload().getUsername())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        return usernames.stream()
+                .map(workloads::get)
+                .filter(Objects::nonNull)
+                .map(StoredWorkload::workload)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return StoredWorkload.profilesByName(
+                workloads.values().stream(), firstNamePrefix, lastNamePrefix, after, limit);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        return StoredWorkload.byUsername(workloads.values().stream());
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return StoredWorkload.usernameBoundaries(workloads.values().stream(), every);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize) {
+        return StoredWorkload.inMonth(workloads.values().stream(), month, fromUsername, toUsername);
+    }
+
+    @Override
+    public void saveProfiles(Collection<TrainerWorkload> profiles) {
+        profiles.forEach(profile -> this.workloads.compute(profile.getUsername(), (username, stored) -> {
+            changes.incrementAndGet();
+            return StoredWorkload.renaming(stored, profile);
+        }));
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments) {
+        return increments.stream()
+                .filter(increment -> update(
+                                increment.username(),
+                                increment.profile(),
+                                increment.position(),
+                                StoredWorkload.adding(increment.year(), increment.month(), increment.minutes()))
+                        .isPresent())
+                .toList();
+    }
+
+    @Override
+    public TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes) {
+        return update(profile.getUsername(), profile, null, StoredWorkload.adding(year, month, minutes))
+                .orElseThrow();
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes) {
+        return update(username, null, null, StoredWorkload.subtracting(year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+        return update(profile.getUsername(), profile, position, StoredWorkload.adding(year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return update(username, null, position, StoredWorkload.subtracting(year, month, minutes));
+    }
+
+    @Override
+    public boolean hasApplied(String username, Year year, SourcePosition position) {
+        // One entry per trainer, so the year does not narrow anything
+        StoredWorkload stored = workloads.get(username);
+        return stored != null && stored.hasApplied(position);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes) {
+        // No archive tier
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return Optional.empty();
+    }
+
+    /** Number of writes so far; tells a snapshot whether anything changed since the last one. */
+    long changeCount() {
+        return changes.get();
+    }
+
+    Collection<StoredWorkload> entries() {
+        return workloads.values();
+    }
+
+    /** Replaces the whole content, e.g. with a snapshot read on startup. */
+    void restore(Collection<StoredWorkload> entries) {
+        workloads.clear();
+        entries.forEach(entry -> workloads.put(entry.workload().getUsername(), entry));
+    }
+
+    /** Applies {@code change} atomically; empty when {@link StoredWorkload#applying} left the trainer as it was. */
+    private Optional<TrainerWorkload> update(
+            String username, TrainerWorkload profile, SourcePosition position, UnaryOperator<YearlyDurations> change) {
+        TrainerWorkload[] updated = new TrainerWorkload[1];
+        workloads.compute(username, (key, stored) -> {
+            StoredWorkload next = StoredWorkload.applying(stored, profile, position, change);
+            if (next != stored) {
+                updated[0] = next.workload();
+                changes.incrementAndGet();
+            }
+            return next;
+        });
+        return Optional.ofNullable(updated[0]);
+    }
+}
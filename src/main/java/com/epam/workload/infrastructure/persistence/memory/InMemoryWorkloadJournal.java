@@ -0,0 +1,93 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.port.WorkloadJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Events and snapshots per trainer in time-ordered skip lists. Lost on restart with the file layout
+ * too, like the month totals; an {@code asOf} read then finds no history before the restart.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+@ConditionalOnExpression("{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class InMemoryWorkloadJournal implements WorkloadJournal {
+    private final ConcurrentHashMap<String, ConcurrentSkipListMap<EventKey, WorkloadEvent>> events =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentSkipListMap<Instant, WorkloadSnapshot>> snapshots =
+            new ConcurrentHashMap<>();
+    // Orders the events of one batch, which share their recordedAt
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public void append(List<WorkloadEvent> appended, Function<String, WorkloadSnapshot> baselines) {
+        for (WorkloadEvent event : appended) {
+            snapshots.computeIfAbsent(event.username(), username -> {
+                WorkloadSnapshot baseline = baselines.apply(username);
+                ConcurrentSkipListMap<Instant, WorkloadSnapshot> trainerSnapshots = new ConcurrentSkipListMap<>();
+                trainerSnapshots.put(baseline.takenAt(), baseline);
+                return trainerSnapshots;
+            });
+            events.computeIfAbsent(event.username(), username -> new ConcurrentSkipListMap<>())
+                    .put(new EventKey(event.recordedAt(), sequence.incrementAndGet()), event);
+        }
+    }
+
+    @Override
+    public void saveSnapshots(Collection<WorkloadSnapshot> saved) {
+        saved.forEach(snapshot -> snapshots
+                .computeIfAbsent(snapshot.workload().getUsername(), username -> new ConcurrentSkipListMap<>())
+                .put(snapshot.takenAt(), snapshot));
+    }
+
+    @Override
+    public Optional<WorkloadSnapshot> findLatestSnapshot(String username, Instant asOf) {
+        ConcurrentSkipListMap<Instant, WorkloadSnapshot> trainerSnapshots = snapshots.get(username);
+        if (trainerSnapshots == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(trainerSnapshots.floorEntry(asOf)).map(Map.Entry::getValue);
+    }
+
+    @Override
+    public List<WorkloadEvent> findEvents(String username, Instant after, Instant upTo) {
+        ConcurrentSkipListMap<EventKey, WorkloadEvent> trainerEvents = events.get(username);
+        if (trainerEvents == null) {
+            return List.of();
+        }
+        return List.copyOf(trainerEvents
+                .subMap(new EventKey(after, Long.MAX_VALUE), new EventKey(upTo, Long.MAX_VALUE))
+                .values());
+    }
+
+    @Override
+    public List<String> findUsernamesRecordedBetween(Instant after, Instant upTo) {
+        return events.entrySet().stream()
+                .filter(entry -> !entry.getValue()
+                        .subMap(new EventKey(after, Long.MAX_VALUE), new EventKey(upTo, Long.MAX_VALUE))
+                        .isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private record EventKey(Instant recordedAt, long sequence) implements Comparable<EventKey> {
+        @Override
+        public int compareTo(EventKey other) {
+            int byTime = recordedAt.compareTo(other.recordedAt);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.YearlyDurations;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * A trainer as the local layouts keep it, with the last position applied to it from each source.
+ * Entries are immutable; every change yields a new entry at the next version.
+ */
+public record StoredWorkload(TrainerWorkload workload, Map<String, Long> applied) {
+
+    /** A new trainer with the profile of {@code profile} and no months yet. */
+    public static StoredWorkload created(TrainerWorkload profile) {
+        TrainerWorkload workload = TrainerWorkload.builder()
+                .id(UUID.randomUUID().toString())
+                .username(profile.getUsername())
+                .firstName(profile.getFirstName())
+                .lastName(profile.getLastName())
+                .active(profile.getActive())
+                .build();
+        return new StoredWorkload(workload, Map.of());
+    }
+
+    /** {@code workload} in place of {@code stored} (which may be missing), keeping id and applied positions. */
+    public static StoredWorkload replacing(StoredWorkload stored, TrainerWorkload workload) {
+        TrainerWorkload replacement = workload.withVersion(nextVersion(workload.getVersion()));
+        if (replacement.getId() == null) {
+            replacement = replacement.withId(
+                    stored == null
+                            ? UUID.randomUUID().toString()
+                            : stored.workload().getId());
+        }
+        return new StoredWorkload(replacement, stored == null ? Map.of() : stored.applied());
+    }
+
+    /** {@code stored} with the names and active flag of {@code profile}, or {@link #created} when missing. */
+    public static StoredWorkload renaming(StoredWorkload stored, TrainerWorkload profile) {
+        if (stored == null) {
+            return created(profile);
+        }
+        return replacing(
+                stored,
+                stored.workload()
+                        .withFirstName(profile.getFirstName())
+                        .withLastName(profile.getLastName())
+                        .withActive(profile.getActive()));
+    }
+
+    /** Like {@link #replacing}, but only when {@code workload} was read at the stored version. */
+    public static StoredWorkload saving(StoredWorkload stored, TrainerWorkload workload) {
+        Long storedVersion = stored == null ? null : stored.workload().getVersion();
+        if (!Objects.equals(storedVersion, workload.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Trainer " + workload.getUsername() + " is no longer at version " + workload.getVersion());
+        }
+        return replacing(stored, workload);
+    }
+
+    /** The name search of the local layouts: a scan and a sort, as there is no index. */
+    public static List<TrainerWorkload> profilesByName(
+            Stream<StoredWorkload> entries,
+            String firstNamePrefix,
+            String lastNamePrefix,
+            TrainerNameKey after,
+            int limit) {
+        return entries.map(StoredWorkload::workload)
+                .filter(workload -> startsWith(workload.getFirstName(), firstNamePrefix)
+                        && startsWith(workload.getLastName(), lastNamePrefix))
+                .filter(workload -> after == null || TrainerNameKey.of(workload).compareTo(after) > 0)
+                .sorted(Comparator.comparing(TrainerNameKey::of))
+                .limit(limit)
+                .map(workload -> workload.withDurations(YearlyDurations.empty()))
+                .toList();
+    }
+
+    /** The workloads of {@code entries} ascending by username. */
+    public static Stream<TrainerWorkload> byUsername(Stream<StoredWorkload> entries) {
+        return entries.map(StoredWorkload::workload).sorted(Comparator.comparing(TrainerWorkload::getUsername));
+    }
+
+    /** The first username of {@code entries} and every {@code every}-th after it, ascending. */
+    public static List<String> usernameBoundaries(Stream<StoredWorkload> entries, int every) {
+        List<String> usernames =
+                entries.map(stored -> stored.workload().getUsername()).sorted().toList();
+        return IntStream.iterate(0, position -> position < usernames.size(), position -> position + every)
+                .mapToObj(usernames::get)
+                .toList();
+    }
+
+    /**
+     * The workloads of {@code entries} from {@code fromUsername} (inclusive) to {@code toUsername}
+     * (exclusive) with minutes in {@code month}, cut to that month, ascending by username.
+     */
+    public static Stream<TrainerWorkload> inMonth(
+            Stream<StoredWorkload> entries, YearMonth month, String fromUsername, String toUsername) {
+        Year year = Year.of(month.getYear());
+        WorkloadPeriod period = new WorkloadPeriod(year, year, month.getMonth());
+        return byUsername(entries.filter(stored -> {
+                    String username = stored.workload().getUsername();
+                    return (fromUsername == null || username.compareTo(fromUsername) >= 0)
+                            && (toUsername == null || username.compareTo(toUsername) < 0)
+                            && stored.workload().getDurations().contains(year, month.getMonth());
+                }))
+                .map(workload -> workload.withDurations(workload.getDurations().within(period)));
+    }
+
+    /** Minutes per month summed over {@code entries}, for rebuilding the month totals on startup. */
+    public static Map<YearMonth, Long> monthTotals(Iterable<StoredWorkload> entries) {
+        Map<YearMonth, Long> totals = new HashMap<>();
+        for (StoredWorkload entry : entries) {
+            YearlyDurations durations = entry.workload().getDurations();
+            durations
+                    .years()
+                    .forEach(year -> durations.forEachMonth(
+                            year, (month, minutes) -> totals.merge(year.atMonth(month), (long) minutes, Long::sum)));
+        }
+        return totals;
+    }
+
+    public static UnaryOperator<YearlyDurations> adding(Year year, Month month, int minutes) {
+        return durations ->
+                durations.with(year, month, durations.get(year, month).orElse(0) + minutes);
+    }
+
+    /** Returns {@code null} - no change - when the month holds fewer than {@code minutes}. */
+    public static UnaryOperator<YearlyDurations> subtracting(Year year, Month month, int minutes) {
+        return durations -> {
+            int current = durations.get(year, month).orElse(-1);
+            return current < minutes ? null : durations.with(year, month, current - minutes);
+        };
+    }
+
+    /**
+     * {@code stored} with {@code change} applied to its months and {@code position}, if any,
+     * recorded; a {@code profile} creates the trainer when missing. Returns {@code stored} itself -
+     * nothing to write - for a replayed position, a missing trainer without profile, or when
+     * {@code change} returns {@code null}.
+     */
+    public static StoredWorkload applying(
+            StoredWorkload stored,
+            TrainerWorkload profile,
+            SourcePosition position,
+            UnaryOperator<YearlyDurations> change) {
+        if (stored == null && profile == null || stored != null && position != null && stored.hasApplied(position)) {
+            return stored;
+        }
+        TrainerWorkload current = stored == null ? created(profile).workload() : stored.workload();
+        YearlyDurations durations = change.apply(current.getDurations());
+        if (durations == null) {
+            return stored;
+        }
+        TrainerWorkload updated = current.withDurations(durations).withVersion(nextVersion(current.getVersion()));
+        if (position == null) {
+            return new StoredWorkload(updated, stored == null ? Map.of() : stored.applied());
+        }
+        Map<String, Long> positions = stored == null ? new HashMap<>() : new HashMap<>(stored.applied());
+        positions.put(position.source(), position.offset());
+        return new StoredWorkload(updated, Map.copyOf(positions));
+    }
+
+    public boolean hasApplied(SourcePosition position) {
+        Long last = applied.get(position.source());
+        return last != null && last >= position.offset();
+    }
+
+    /** Whether the trainer has minutes in {@code since} or any later month. */
+    public boolean activeSince(YearMonth since) {
+        YearlyDurations durations = workload.getDurations();
+        for (Year year : durations.years()) {
+            if (year.getValue() > since.getYear()) {
+                return true;
+            }
+            if (year.getValue() == since.getYear()) {
+                boolean[] found = new boolean[1];
+                durations.forEachMonth(year, (month, minutes) -> found[0] |= month.getValue() >= since.getMonthValue());
+                if (found[0]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(String name, String prefix) {
+        return prefix == null || prefix.isEmpty() || (name != null && name.startsWith(prefix));
+    }
+
+    private static Long nextVersion(Long version) {
+        return version == null ? 0L : version + 1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+
+/**
+ * Binary form of a {@link StoredWorkload}: profile, version, applied source positions and one
+ * {@code (year, month count, (month, minutes)...)} run per year.
+ */
+public final class StoredWorkloadCodec {
+
+    private StoredWorkloadCodec() {}
+
+    public static void write(DataOutput out, StoredWorkload entry) throws IOException {
+        TrainerWorkload workload = entry.workload();
+        out.writeUTF(workload.getUsername());
+        writeNullable(out, workload.getId());
+        writeNullable(out, workload.getFirstName());
+        writeNullable(out, workload.getLastName());
+        out.writeByte(workload.getActive() == null ? -1 : workload.getActive() ? 1 : 0);
+        out.writeLong(workload.getVersion() == null ? -1 : workload.getVersion());
+
+        out.writeInt(entry.applied().size());
+        for (Map.Entry<String, Long> applied : entry.applied().entrySet()) {
+            out.writeUTF(applied.getKey());
+            out.writeLong(applied.getValue());
+        }
+
+        YearlyDurations durations = workload.getDurations();
+        List<Year> years = durations.years();
+        out.writeInt(years.size());
+        for (Year year : years) {
+            int[] months = new int[12];
+            int[] minutes = new int[12];
+            int[] size = new int[1];
+            durations.forEachMonth(year, (month, value) -> {
+                months[size[0]] = month.getValue();
+                minutes[size[0]++] = value;
+            });
+            out.writeInt(year.getValue());
+            out.writeByte(size[0]);
+            for (int i = 0; i < size[0]; i++) {
+                out.writeByte(months[i]);
+                out.writeInt(minutes[i]);
+            }
+        }
+    }
+
+    public static StoredWorkload read(DataInput in) throws IOException {
+        String username = in.readUTF();
+        String id = readNullable(in);
+        String firstName = readNullable(in);
+        String lastName = readNullable(in);
+        byte active = in.readByte();
+        long version = in.readLong();
+
+        int appliedCount = in.readInt();
+        Map<String, Long> applied = new HashMap<>(appliedCount * 2);
+        for (int i = 0; i < appliedCount; i++) {
+            applied.put(in.readUTF(), in.readLong());
+        }
+
+        YearlyDurations.Builder durations = YearlyDurations.builder();
+        int yearCount = in.readInt();
+        for (int i = 0; i < yearCount; i++) {
+            int year = in.readInt();
+            int monthCount = in.readByte();
+            for (int j = 0; j < monthCount; j++) {
+                durations.put(year, in.readByte(), in.readInt());
+            }
+        }
+
+        TrainerWorkload workload = TrainerWorkload.builder()
+                .id(id)
+                .username(username)
+                .firstName(firstName)
+                .lastName(lastName)
+                .active(active < 0 ? null : active == 1)
+                .version(version < 0 ? null : version)
+                .durations(durations.build())
+                .build();
+        return new StoredWorkload(workload, Map.copyOf(applied));
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
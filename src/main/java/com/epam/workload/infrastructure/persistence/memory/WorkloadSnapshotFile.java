@@ -0,0 +1,63 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Binary snapshot of the in-memory trainers, each encoded by {@link StoredWorkloadCodec}. Written to a
+ * temporary file next to the target and moved over it, so a crash mid-write keeps the previous
+ * snapshot.
+ */
+final class WorkloadSnapshotFile {
+    private static final int MAGIC = 0x54575331; // "TWS1"
+
+    private WorkloadSnapshotFile() {}
+
+    static void write(Path path, Collection<StoredWorkload> entries) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            // Entries are immutable, but the collection is not: count while writing, put the count last
+            int count = 0;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                for (StoredWorkload entry : entries) {
+                    out.writeBoolean(true);
+                    StoredWorkloadCodec.write(out, entry);
+                    count++;
+                }
+                out.writeBoolean(false);
+                out.writeInt(count);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static List<StoredWorkload> read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a workload snapshot: " + path);
+            }
+            List<StoredWorkload> entries = new ArrayList<>();
+            while (in.readBoolean()) {
+                entries.add(StoredWorkloadCodec.read(in));
+            }
+            if (in.readInt() != entries.size()) {
+                throw new IOException("Truncated workload snapshot: " + path);
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.workload.infrastructure.persistence.migration;
+
+import static com.mongodb.client.model.Filters.exists;
+
+import java.util.List;
+
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes {@code yearTotal}/{@code lifetimeTotal} for documents written before the running sums
+ * existed. Runs once per startup, before the Kafka listeners start, as a server-side pipeline
+ * update that only matches documents still lacking the fields.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+        prefix = "app.persistence.totals-backfill",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+class WorkloadTotalsBackfill implements SmartInitializingSingleton {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    WorkloadTotalsBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Document yearsWithTotals = new Document(
+                "$map",
+                new Document("input", new Document("$ifNull", List.of("$years", List.of())))
+                        .append("as", "y")
+                        .append(
+                                "in",
+                                new Document(
+                                        "$mergeObjects",
+                                        List.of("$$y", new Document("yearTotal", sum("$$y.months.durationMin"))))));
+        UpdateResult workloads = mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(TrainerWorkloadDAO.class))
+                .updateMany(
+                        exists("lifetimeTotal", false),
+                        List.of(
+                                new Document("$set", new Document("years", yearsWithTotals)),
+                                new Document("$set", new Document("lifetimeTotal", sum("$years.yearTotal")))));
+
+        UpdateResult buckets = mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(WorkloadYearBucketDAO.class))
+                .updateMany(
+                        exists("yearTotal", false),
+                        List.of(new Document("$set", new Document("yearTotal", sum("$months.durationMin")))));
+
+        if (workloads.getModifiedCount() > 0 || buckets.getModifiedCount() > 0) {
+            log.info(
+                    "Backfilled workload totals for {} trainer documents and {} year buckets",
+                    workloads.getModifiedCount(),
+                    buckets.getModifiedCount());
+        }
+    }
+
+    private static Document sum(String arrayPath) {
+        // $sum of a missing array is 0; $toLong keeps the type the $inc updates expect
+        return new Document("$toLong", new Document("$sum", arrayPath));
+    }
+}
@@ -0,0 +1,163 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.infrastructure.persistence.codec.TrainerWorkloadCodec;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt64;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Embedded layout whose whole-document reads and writes go through {@link TrainerWorkloadCodec}
+ * instead of {@code MappingMongoConverter} and the DAO graph. Atomic updates and projections are
+ * inherited unchanged.
+ *
+ * <p>The collection is only used through {@link MongoTemplate#execute(String,
+ * org.springframework.data.mongodb.core.CollectionCallback)}, and cursor errors through its exception
+ * translator, so failures surface as {@code DataAccessException}s like on the other layouts.
+ */
+@Repository
+@ConditionalOnExpression(
+        "'${app.persistence.layout:embedded}' == 'embedded' and '${app.persistence.codec:mapping}' == 'raw'")
+public class BsonCodecTrainerWorkloadRepositoryImpl extends TrainerWorkloadRepositoryImpl {
+    private final MongoTemplate mongoTemplate;
+    private final String collectionName;
+    private static final TrainerWorkloadCodec CODEC = new TrainerWorkloadCodec();
+
+    private final CodecRegistry codecRegistry = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(CODEC), MongoClientSettings.getDefaultCodecRegistry());
+
+    @Autowired
+    BsonCodecTrainerWorkloadRepositoryImpl(
+            TrainerWorkloadMongoRepository mongoRepository,
+            WorkloadArchiveMongoRepository archiveRepository,
+            TrainerWorkloadMapper mapper,
+            MongoTemplate mongoTemplate) {
+        super(mongoRepository, archiveRepository, mapper);
+        this.mongoTemplate = mongoTemplate;
+        this.collectionName = mongoTemplate.getCollectionName(TrainerWorkloadDAO.class);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username) {
+        return Optional.ofNullable(inCollection(
+                collection -> collection.find(Filters.eq("username", username)).first()));
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        return inCollection(
+                collection -> collection.find(Filters.in("username", usernames)).into(new ArrayList<>()));
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        MongoCursor<TrainerWorkload> cursor = inCollection(collection -> collection
+                .find()
+                .sort(Sorts.ascending("username"))
+                .batchSize(batchSize)
+                .iterator());
+        // Later batches are fetched while the stream is consumed, outside of execute()
+        Iterator<TrainerWorkload> translated = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return cursor.hasNext();
+                } catch (RuntimeException e) {
+                    throw translate(e);
+                }
+            }
+
+            @Override
+            public TrainerWorkload next() {
+                try {
+                    return cursor.next();
+                } catch (RuntimeException e) {
+                    throw translate(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(translated, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    @Override
+    public void save(TrainerWorkload workload) {
+        Long expected = workload.getVersion();
+        if (workload.getId() == null && expected == null) {
+            try {
+                inCollection(collection -> collection.insertOne(workload.withVersion(0L)));
+                return;
+            } catch (DuplicateKeyException e) {
+                throw new OptimisticLockingFailureException(
+                        "Trainer '" + workload.getUsername() + "' was created concurrently", e);
+            }
+        }
+
+        // {version: null} also matches documents written before the field existed
+        UpdateResult result = inCollection(collection -> collection.updateOne(
+                Filters.and(Filters.eq("username", workload.getUsername()), Filters.eq("version", expected)),
+                setFields(workload)));
+        if (result.getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Trainer '%s' was modified concurrently (expected version %s)", workload.getUsername(), expected));
+        }
+    }
+
+    /**
+     * The encoded trainer as a {@code $set} of its fields plus a version bump. Unlike a replace it
+     * leaves fields the codec does not know, like the consumed offsets, in place.
+     */
+    private static Bson setFields(TrainerWorkload workload) {
+        BsonDocument fields = new BsonDocument();
+        CODEC.encode(
+                new BsonDocumentWriter(fields),
+                workload,
+                EncoderContext.builder().build());
+        fields.remove("_id");
+        fields.remove("version");
+        return new BsonDocument("$set", fields).append("$inc", new BsonDocument("version", new BsonInt64(1)));
+    }
+
+    private <T> T inCollection(Function<MongoCollection<TrainerWorkload>, T> action) {
+        // Looked up per call: the database factory may route the current read to a replica
+        return mongoTemplate.execute(
+                collectionName,
+                collection -> action.apply(
+                        collection.withDocumentClass(TrainerWorkload.class).withCodecRegistry(codecRegistry)));
+    }
+
+    private RuntimeException translate(RuntimeException e) {
+        DataAccessException translated = mongoTemplate.getExceptionTranslator().translateExceptionIfPossible(e);
+        return translated != null ? translated : e;
+    }
+}
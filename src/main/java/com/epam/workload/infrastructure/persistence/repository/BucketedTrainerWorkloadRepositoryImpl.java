@@ -0,0 +1,277 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores one profile document per trainer plus one document per (username, year) in
+ * {@code trainer_workload_years}, so writes and year-scoped reads only move the buckets they touch.
+ * Workloads returned by updates carry only the updated year.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "bucketed")
+public class BucketedTrainerWorkloadRepositoryImpl implements TrainerWorkloadRepository {
+    private final TrainerProfileMongoRepository profileRepository;
+    private final WorkloadYearBucketMongoRepository bucketRepository;
+    private final TrainerWorkloadMapper mapper;
+
+    @Autowired
+    BucketedTrainerWorkloadRepositoryImpl(
+            TrainerProfileMongoRepository profileRepository,
+            WorkloadYearBucketMongoRepository bucketRepository,
+            TrainerWorkloadMapper mapper,
+            @Value("${app.workload.update-mode:atomic}") String updateMode) {
+        // Profiles and buckets carry no version, so save() cannot detect a concurrent change and the
+        // read-modify-write modes would lose updates silently
+        if (!"atomic".equalsIgnoreCase(updateMode)) {
+            throw new IllegalStateException("app.persistence.layout=bucketed needs app.workload.update-mode=atomic");
+        }
+        this.profileRepository = profileRepository;
+        this.bucketRepository = bucketRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username) {
+        return profileRepository
+                .findByUsername(username)
+                .map(profile -> mapper.toDomain(profile, bucketRepository.findByUsername(username)));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        if (period.isUnbounded()) {
+            return findByUsername(username);
+        }
+        return profileRepository
+                .findByUsername(username)
+                .map(profile -> mapper.toDomain(
+                        profile,
+                        bucketRepository.findProjected(
+                                username,
+                                period.fromYear() == null
+                                        ? null
+                                        : period.fromYear().getValue(),
+                                period.toYear() == null ? null : period.toYear().getValue(),
+                                period.month() == null ? null : period.month().getValue())));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period) {
+        // No archive tier: each year already lives in its own bucket
+        return findByUsername(username, period);
+    }
+
+    @Override
+    public Optional<WorkloadTotals> findTotals(String username) {
+        return profileRepository.findByUsername(username).map(profile -> mapper.toTotals(
+                        profile, bucketRepository.findTotals(username))
+                // Buckets not backfilled yet - sum the months instead
+                .orElseGet(
+                        () -> WorkloadTotals.of(mapper.toDomain(profile, bucketRepository.findByUsername(username)))));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findForUpdate(String username, Year year) {
+        return profileRepository
+                .findByUsername(username)
+                .map(profile -> mapper.toDomain(
+                        profile,
+                        bucketRepository.findByUsernameAndYear(username, year.getValue()).stream()
+                                .toList()));
+    }
+
+    @Override
+    public void save(TrainerWorkload workload) {
+        bucketRepository.upsertAll(List.of(mapper.toProfile(workload)), mapper.toBuckets(workload));
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(YearMonth since, int limit) {
+        return bucketRepository.findUsernamesActiveSince(since.getYear(), since.getMonthValue(), limit);
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        Map<String, List<WorkloadYearBucketDAO>> buckets = bucketRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.groupingBy(WorkloadYearBucketDAO::getUsername));
+
+        return profileRepository.findByUsernameIn(usernames).stream()
+                .map(profile -> mapper.toDomain(profile, buckets.getOrDefault(profile.getUsername(), List.of())))
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        // trainer_profiles alone - no bucket is read
+        return profileRepository.findProfilesByName(firstNamePrefix, lastNamePrefix, after, limit).stream()
+                .map(profile -> mapper.toDomain(profile, List.of()))
+                .toList();
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        // Both cursors run in username order, so each profile picks up the buckets in front of it
+        Stream<WorkloadYearBucketDAO> buckets = bucketRepository.streamAll(batchSize);
+        try {
+            BucketsByUsername byUsername = new BucketsByUsername(buckets.iterator());
+            return profileRepository
+                    .streamAll(batchSize)
+                    .map(profile -> mapper.toDomain(profile, byUsername.take(profile.getUsername())))
+                    .onClose(buckets::close);
+        } catch (RuntimeException e) {
+            buckets.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return profileRepository.findUsernameBoundaries(every);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize) {
+        // Same merge as streamAll over the range; profiles without a bucket holding the month drop out
+        Stream<WorkloadYearBucketDAO> buckets = bucketRepository.streamMonth(
+                month.getYear(), month.getMonthValue(), fromUsername, toUsername, batchSize);
+        try {
+            BucketsByUsername byUsername = new BucketsByUsername(buckets.iterator());
+            return profileRepository
+                    .streamRange(fromUsername, toUsername, batchSize)
+                    .map(profile -> mapper.toDomain(profile, byUsername.take(profile.getUsername())))
+                    .filter(workload -> !workload.getDurations().isEmpty())
+                    .onClose(buckets::close);
+        } catch (RuntimeException e) {
+            buckets.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveProfiles(Collection<TrainerWorkload> profiles) {
+        bucketRepository.upsertAll(profiles.stream().map(mapper::toProfile).toList(), List.of());
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments) {
+        return bucketRepository.incrementAll(List.copyOf(increments));
+    }
+
+    @Override
+    public TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes) {
+        TrainerProfileDAO profileDAO = mapper.toProfile(profile);
+        WorkloadYearBucketDAO bucket =
+                bucketRepository.incrementDuration(profileDAO, year.getValue(), month.getValue(), minutes);
+        return mapper.toDomain(profileDAO, List.of(bucket));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes) {
+        return bucketRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes)
+                .map(bucket -> withProfile(username, bucket));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+        TrainerProfileDAO profileDAO = mapper.toProfile(profile);
+        return bucketRepository
+                .incrementDuration(profileDAO, year.getValue(), month.getValue(), minutes, consumed(position))
+                .map(bucket -> mapper.toDomain(profileDAO, List.of(bucket)));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return bucketRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes, consumed(position))
+                .map(bucket -> withProfile(username, bucket));
+    }
+
+    @Override
+    public boolean hasApplied(String username, Year year, SourcePosition position) {
+        return bucketRepository.hasConsumed(username, year.getValue(), consumed(position));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes) {
+        // No archive tier: each year already lives in its own bucket
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return Optional.empty();
+    }
+
+    private TrainerWorkload withProfile(String username, WorkloadYearBucketDAO bucket) {
+        return mapper.toDomain(
+                profileRepository.findByUsername(username).orElseGet(() -> TrainerProfileDAO.builder()
+                        .username(username)
+                        .build()),
+                List.of(bucket));
+    }
+
+    private static ConsumedOffset consumed(SourcePosition position) {
+        return new ConsumedOffset(position.source(), position.offset());
+    }
+
+    /** Hands out the buckets of a username-ordered cursor one trainer at a time. */
+    private static final class BucketsByUsername {
+        private final Iterator<WorkloadYearBucketDAO> buckets;
+        private WorkloadYearBucketDAO next;
+
+        BucketsByUsername(Iterator<WorkloadYearBucketDAO> buckets) {
+            this.buckets = buckets;
+            this.next = buckets.hasNext() ? buckets.next() : null;
+        }
+
+        /** Buckets of {@code username}; buckets of usernames before it have no profile and are skipped. */
+        List<WorkloadYearBucketDAO> take(String username) {
+            List<WorkloadYearBucketDAO> taken = new ArrayList<>();
+            while (next != null && compare(next.getUsername(), username) <= 0) {
+                if (next.getUsername().equals(username)) {
+                    taken.add(next);
+                }
+                next = buckets.hasNext() ? buckets.next() : null;
+            }
+            return taken;
+        }
+
+        // MongoDB orders strings by their UTF-8 bytes, which String.compareTo does not match beyond the BMP
+        private static int compare(String left, String right) {
+            return Arrays.compareUnsigned(
+                    left.getBytes(StandardCharsets.UTF_8), right.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
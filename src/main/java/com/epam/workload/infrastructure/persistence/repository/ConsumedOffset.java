@@ -0,0 +1,51 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import com.epam.workload.domain.model.SourcePosition;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * The last offset of a source partition applied to a document, kept under {@code consumedOffsets}.
+ * Filters built with {@link #pending} only match documents that have not seen the offset yet, and
+ * {@link #mark} records it in the same update, so a replayed change matches nothing.
+ *
+ * <p>Neither the DAOs nor the codec map the field, so writes of whole trainers {@code $set} their
+ * fields instead of replacing the document; a replace would drop the marks.
+ */
+public record ConsumedOffset(String source, long offset) {
+    static final String FIELD = "consumedOffsets";
+
+    /** The offset of {@code position}, or {@code null} for a change without one. */
+    static ConsumedOffset of(SourcePosition position) {
+        return position == null ? null : new ConsumedOffset(position.source(), position.offset());
+    }
+
+    /** Adds "not consumed yet" to {@code criteria}; also matches documents without any mark. */
+    Criteria pending(Criteria criteria) {
+        return criteria.and(path()).not().gte(offset);
+    }
+
+    Criteria consumed(Criteria criteria) {
+        return criteria.and(path()).gte(offset);
+    }
+
+    /** Like {@link #consumed}, checked against a document read with its {@code consumedOffsets}. */
+    boolean consumedBy(Document document) {
+        Document marks = document == null ? null : document.get(FIELD, Document.class);
+        return marks != null && marks.get(key()) instanceof Number mark && mark.longValue() >= offset;
+    }
+
+    Update mark(Update update) {
+        return update.set(path(), offset);
+    }
+
+    private String path() {
+        return FIELD + "." + key();
+    }
+
+    private String key() {
+        // Topic names may contain dots, which Mongo would read as nesting
+        return source.replace('.', '_');
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import com.epam.workload.infrastructure.persistence.dao.MonthTotalDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MonthTotalMongoRepository
+        extends MongoRepository<MonthTotalDAO, String>, MonthTotalMongoRepositoryCustom {}
@@ -0,0 +1,20 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.infrastructure.persistence.dao.MonthTotalDAO;
+
+public interface MonthTotalMongoRepositoryCustom {
+    /** {@code $inc}s each {@code yyyy-MM} month by its delta, creating missing months. */
+    void incrementAll(Map<String, Long> minutesById);
+
+    /** Months whose {@code _id} lies between {@code fromId} and {@code toId} inclusive, ascending. */
+    List<MonthTotalDAO> findRange(String fromId, String toId);
+
+    /**
+     * Totals recomputed from the stored workloads: the embedded documents plus committed archive
+     * years, or the year buckets - whichever layout is active.
+     */
+    Map<String, Long> aggregateFromWorkloads(boolean bucketed);
+}
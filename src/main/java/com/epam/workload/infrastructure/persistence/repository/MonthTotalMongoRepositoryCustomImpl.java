@@ -0,0 +1,106 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.infrastructure.persistence.dao.MonthTotalDAO;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Month totals are keyed {@code yyyy-MM}. Increments upsert, so the first event of a month
+ * creates it; the year and month fields are only written on insert.
+ */
+class MonthTotalMongoRepositoryCustomImpl implements MonthTotalMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    MonthTotalMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void incrementAll(Map<String, Long> minutesById) {
+        if (minutesById.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MonthTotalDAO.class);
+        minutesById.forEach((id, minutes) -> bulk.upsert(
+                query(where("_id").is(id)),
+                new Update()
+                        .inc("totalMinutes", minutes)
+                        .setOnInsert("year", Integer.parseInt(id.substring(0, id.indexOf('-'))))
+                        .setOnInsert("month", Integer.parseInt(id.substring(id.indexOf('-') + 1)))));
+        bulk.execute();
+    }
+
+    @Override
+    public List<MonthTotalDAO> findRange(String fromId, String toId) {
+        return mongoTemplate.find(query(where("_id").gte(fromId).lte(toId)).with(Sort.by("_id")), MonthTotalDAO.class);
+    }
+
+    @Override
+    public Map<String, Long> aggregateFromWorkloads(boolean bucketed) {
+        List<Document> pipeline = bucketed
+                ? List.of(unwind("$months"), project("$year", "$months.month", "$months.durationMin"), groupByMonth())
+                : List.of(
+                        unwind("$years"),
+                        unwind("$years.months"),
+                        project("$years.year", "$years.months.month", "$years.months.durationMin"),
+                        new Document(
+                                "$unionWith",
+                                new Document("coll", mongoTemplate.getCollectionName(WorkloadArchiveDAO.class))
+                                        .append(
+                                                "pipeline",
+                                                List.of(
+                                                        new Document("$match", new Document("committed", true)),
+                                                        unwind("$months"),
+                                                        project("$year", "$months.month", "$months.durationMin")))),
+                        groupByMonth());
+
+        Map<String, Long> totals = new HashMap<>();
+        mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(
+                        bucketed ? WorkloadYearBucketDAO.class : TrainerWorkloadDAO.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .forEach(row -> {
+                    Document id = row.get("_id", Document.class);
+                    totals.put(
+                            String.format("%04d-%02d", id.getInteger("year"), id.getInteger("month")),
+                            ((Number) row.get("totalMinutes")).longValue());
+                });
+        return totals;
+    }
+
+    private static Document unwind(String path) {
+        return new Document("$unwind", path);
+    }
+
+    private static Document project(String year, String month, String minutes) {
+        return new Document(
+                "$project",
+                new Document("_id", 0)
+                        .append("year", year)
+                        .append("month", month)
+                        .append("minutes", minutes));
+    }
+
+    private static Document groupByMonth() {
+        return new Document(
+                "$group",
+                new Document("_id", new Document("year", "$year").append("month", "$month"))
+                        .append("totalMinutes", new Document("$sum", new Document("$toLong", "$minutes"))));
+    }
+}
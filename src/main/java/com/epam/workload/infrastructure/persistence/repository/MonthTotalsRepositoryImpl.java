@@ -0,0 +1,42 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.port.MonthTotalsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnExpression("!{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class MonthTotalsRepositoryImpl implements MonthTotalsRepository {
+    private final MonthTotalMongoRepository mongoRepository;
+
+    @Autowired
+    MonthTotalsRepositoryImpl(MonthTotalMongoRepository mongoRepository) {
+        this.mongoRepository = mongoRepository;
+    }
+
+    @Override
+    public void add(YearMonth month, long minutes) {
+        mongoRepository.incrementAll(Map.of(month.toString(), minutes));
+    }
+
+    @Override
+    public void addAll(Map<YearMonth, Long> minutesByMonth) {
+        Map<String, Long> minutesById = new LinkedHashMap<>();
+        minutesByMonth.forEach((month, minutes) -> minutesById.put(month.toString(), minutes));
+        mongoRepository.incrementAll(minutesById);
+    }
+
+    @Override
+    public List<MonthTotal> findBetween(YearMonth from, YearMonth to) {
+        return mongoRepository.findRange(from.toString(), to.toString()).stream()
+                .map(dao -> new MonthTotal(YearMonth.of(dao.getYear(), dao.getMonth()), dao.getTotalMinutes()))
+                .toList();
+    }
+}
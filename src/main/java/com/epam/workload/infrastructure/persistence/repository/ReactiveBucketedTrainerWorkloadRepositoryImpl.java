@@ -0,0 +1,50 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.port.ReactiveTrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** Bucketed layout: the profile and the year buckets are read concurrently. */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "bucketed")
+public class ReactiveBucketedTrainerWorkloadRepositoryImpl implements ReactiveTrainerWorkloadRepository {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TrainerWorkloadMapper mapper;
+
+    @Autowired
+    ReactiveBucketedTrainerWorkloadRepositoryImpl(ReactiveMongoTemplate mongoTemplate, TrainerWorkloadMapper mapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        Mono<TrainerProfileDAO> profile =
+                mongoTemplate.findOne(query(where("username").is(username)), TrainerProfileDAO.class);
+        Mono<List<WorkloadYearBucketDAO>> buckets = mongoTemplate
+                .find(
+                        WorkloadYearBucketMongoRepositoryCustomImpl.projected(
+                                username,
+                                period.fromYear() == null
+                                        ? null
+                                        : period.fromYear().getValue(),
+                                period.toYear() == null ? null : period.toYear().getValue(),
+                                period.month() == null ? null : period.month().getValue()),
+                        WorkloadYearBucketDAO.class)
+                .collectList();
+        return Mono.zip(profile, buckets, mapper::toDomain);
+    }
+}
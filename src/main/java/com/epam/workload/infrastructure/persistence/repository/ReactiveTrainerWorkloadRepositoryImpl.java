@@ -0,0 +1,52 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.port.ReactiveTrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/** Embedded layout, whichever codec writes it: the same queries as the blocking adapters, on the reactive driver. */
+@Repository
+@ConditionalOnProperty(prefix = "app.persistence", name = "layout", havingValue = "embedded", matchIfMissing = true)
+public class ReactiveTrainerWorkloadRepositoryImpl implements ReactiveTrainerWorkloadRepository {
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TrainerWorkloadMapper mapper;
+
+    @Autowired
+    ReactiveTrainerWorkloadRepositoryImpl(ReactiveMongoTemplate mongoTemplate, TrainerWorkloadMapper mapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        Mono<TrainerWorkloadDAO> workload = period.isUnbounded()
+                ? mongoTemplate.findOne(query(where("username").is(username)), TrainerWorkloadDAO.class)
+                : mongoTemplate
+                        .aggregate(
+                                TrainerWorkloadMongoRepositoryCustomImpl.projectedByUsername(
+                                        username,
+                                        period.fromYear() == null
+                                                ? null
+                                                : period.fromYear().getValue(),
+                                        period.toYear() == null
+                                                ? null
+                                                : period.toYear().getValue(),
+                                        period.month() == null
+                                                ? null
+                                                : period.month().getValue()),
+                                TrainerWorkloadDAO.class,
+                                TrainerWorkloadDAO.class)
+                        .next();
+        return workload.map(mapper::toDomain);
+    }
+}
@@ -0,0 +1,12 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.epam.workload.infrastructure.persistence.dao.ReportJobDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ReportJobMongoRepository
+        extends MongoRepository<ReportJobDAO, String>, ReportJobMongoRepositoryCustom {
+    List<ReportJobDAO> findByStatusInOrderByCreatedAtAsc(Collection<String> statuses);
+}
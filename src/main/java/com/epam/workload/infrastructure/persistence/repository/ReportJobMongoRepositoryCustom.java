@@ -0,0 +1,18 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.ReportJobDAO;
+
+public interface ReportJobMongoRepositoryCustom {
+    /** Sets RUNNING if the job is QUEUED, or RUNNING with {@code updatedAt} before {@code staleBefore}. */
+    Optional<ReportJobDAO> claim(String id, Instant staleBefore, Instant now);
+
+    void savePlan(String id, List<ReportJobDAO.ChunkDAO> chunks, Instant now);
+
+    void completeChunk(String id, int index, long trainers, long minutes, Instant now);
+
+    void updateStatus(String id, String status, String error, Instant now);
+}
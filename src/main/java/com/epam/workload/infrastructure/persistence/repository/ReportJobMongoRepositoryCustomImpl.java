@@ -0,0 +1,69 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.ReportJobDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Single-document updates of a report job. The claim is one {@code findAndModify}, so of two
+ * instances resuming the same job only one gets it; a chunk checkpoint sets the chunk through the
+ * positional operator, leaving the others as they are.
+ */
+class ReportJobMongoRepositoryCustomImpl implements ReportJobMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    ReportJobMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<ReportJobDAO> claim(String id, Instant staleBefore, Instant now) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(where("_id")
+                        .is(id)
+                        .orOperator(
+                                where("status").is("QUEUED"),
+                                where("status").is("RUNNING").and("updatedAt").lt(staleBefore))),
+                new Update().set("status", "RUNNING").set("updatedAt", now),
+                FindAndModifyOptions.options().returnNew(true),
+                ReportJobDAO.class));
+    }
+
+    @Override
+    public void savePlan(String id, List<ReportJobDAO.ChunkDAO> chunks, Instant now) {
+        mongoTemplate.updateFirst(
+                query(where("_id").is(id)),
+                new Update().set("chunks", chunks).set("updatedAt", now),
+                ReportJobDAO.class);
+    }
+
+    @Override
+    public void completeChunk(String id, int index, long trainers, long minutes, Instant now) {
+        mongoTemplate.updateFirst(
+                query(where("_id").is(id).and("chunks.index").is(index)),
+                new Update()
+                        .set("chunks.$.done", true)
+                        .set("chunks.$.trainers", trainers)
+                        .set("chunks.$.minutes", minutes)
+                        .set("updatedAt", now),
+                ReportJobDAO.class);
+    }
+
+    @Override
+    public void updateStatus(String id, String status, String error, Instant now) {
+        mongoTemplate.updateFirst(
+                query(where("_id").is(id)),
+                new Update().set("status", status).set("error", error).set("updatedAt", now),
+                ReportJobDAO.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.domain.model.ReportChunk;
+import com.epam.workload.domain.model.ReportJob;
+import com.epam.workload.domain.port.ReportJobRepository;
+import com.epam.workload.infrastructure.persistence.dao.ReportJobDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnExpression("!{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class ReportJobRepositoryImpl implements ReportJobRepository {
+    private static final List<String> UNFINISHED =
+            List.of(ReportJob.Status.QUEUED.name(), ReportJob.Status.RUNNING.name());
+
+    private final ReportJobMongoRepository mongoRepository;
+
+    @Autowired
+    ReportJobRepositoryImpl(ReportJobMongoRepository mongoRepository) {
+        this.mongoRepository = mongoRepository;
+    }
+
+    @Override
+    public void insert(ReportJob job) {
+        mongoRepository.insert(toEntity(job));
+    }
+
+    @Override
+    public Optional<ReportJob> findById(String id) {
+        return mongoRepository.findById(id).map(ReportJobRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public List<String> findUnfinishedIds() {
+        return mongoRepository.findByStatusInOrderByCreatedAtAsc(UNFINISHED).stream()
+                .map(ReportJobDAO::getId)
+                .toList();
+    }
+
+    @Override
+    public Optional<ReportJob> claim(String id, Instant staleBefore, Instant now) {
+        return mongoRepository.claim(id, staleBefore, now).map(ReportJobRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public void savePlan(String id, List<ReportChunk> chunks, Instant now) {
+        mongoRepository.savePlan(
+                id, chunks.stream().map(ReportJobRepositoryImpl::toEntity).toList(), now);
+    }
+
+    @Override
+    public void completeChunk(String id, int index, long trainers, long minutes, Instant now) {
+        mongoRepository.completeChunk(id, index, trainers, minutes, now);
+    }
+
+    @Override
+    public void updateStatus(String id, ReportJob.Status status, String error, Instant now) {
+        mongoRepository.updateStatus(id, status.name(), error, now);
+    }
+
+    private static ReportJobDAO toEntity(ReportJob job) {
+        return ReportJobDAO.builder()
+                .id(job.id())
+                .month(job.month().toString())
+                .status(job.status().name())
+                .chunks(job.chunks().stream()
+                        .map(ReportJobRepositoryImpl::toEntity)
+                        .toList())
+                .createdAt(job.createdAt())
+                .updatedAt(job.updatedAt())
+                .error(job.error())
+                .build();
+    }
+
+    private static ReportJobDAO.ChunkDAO toEntity(ReportChunk chunk) {
+        return ReportJobDAO.ChunkDAO.builder()
+                .index(chunk.index())
+                .fromUsername(chunk.fromUsername())
+                .toUsername(chunk.toUsername())
+                .done(chunk.done())
+                .trainers(chunk.trainers())
+                .minutes(chunk.minutes())
+                .build();
+    }
+
+    private static ReportJob toDomain(ReportJobDAO dao) {
+        return new ReportJob(
+                dao.getId(),
+                YearMonth.parse(dao.getMonth()),
+                ReportJob.Status.valueOf(dao.getStatus()),
+                dao.getChunks().stream()
+                        .map(chunk -> new ReportChunk(
+                                chunk.getIndex(),
+                                chunk.getFromUsername(),
+                                chunk.getToUsername(),
+                                chunk.isDone(),
+                                chunk.getTrainers(),
+                                chunk.getMinutes()))
+                        .toList(),
+                dao.getCreatedAt(),
+                dao.getUpdatedAt(),
+                dao.getError());
+    }
+}
@@ -0,0 +1,7 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import com.epam.workload.infrastructure.persistence.dao.SourceOffsetDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SourceOffsetMongoRepository
+        extends MongoRepository<SourceOffsetDAO, String>, SourceOffsetMongoRepositoryCustom {}
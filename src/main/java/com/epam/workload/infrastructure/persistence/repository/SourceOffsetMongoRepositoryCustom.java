@@ -0,0 +1,8 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Map;
+
+public interface SourceOffsetMongoRepositoryCustom {
+    /** {@code $max}es each source's offset, creating missing sources. */
+    void advanceAll(Map<String, Long> offsetsById);
+}
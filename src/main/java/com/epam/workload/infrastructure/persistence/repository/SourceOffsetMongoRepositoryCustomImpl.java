@@ -0,0 +1,35 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.epam.workload.infrastructure.persistence.dao.SourceOffsetDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+class SourceOffsetMongoRepositoryCustomImpl implements SourceOffsetMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    SourceOffsetMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void advanceAll(Map<String, Long> offsetsById) {
+        if (offsetsById.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SourceOffsetDAO.class);
+        // $max: a flush from a consumer that lost the partition meanwhile cannot move it backwards
+        offsetsById.forEach((id, offset) -> bulk.upsert(
+                query(where("_id").is(id)), new Update().max("offset", offset).set("updatedAt", now)));
+        bulk.execute();
+    }
+}
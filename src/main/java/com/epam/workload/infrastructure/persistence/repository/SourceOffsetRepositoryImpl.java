@@ -0,0 +1,31 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import com.epam.workload.infrastructure.persistence.dao.SourceOffsetDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnExpression("!{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class SourceOffsetRepositoryImpl implements SourceOffsetRepository {
+    private final SourceOffsetMongoRepository mongoRepository;
+
+    @Autowired
+    SourceOffsetRepositoryImpl(SourceOffsetMongoRepository mongoRepository) {
+        this.mongoRepository = mongoRepository;
+    }
+
+    @Override
+    public Optional<Long> findLastProcessed(String source) {
+        return mongoRepository.findById(source).map(SourceOffsetDAO::getOffset);
+    }
+
+    @Override
+    public void advanceAll(Map<String, Long> lastProcessedBySource) {
+        mongoRepository.advanceAll(lastProcessedBySource);
+    }
+}
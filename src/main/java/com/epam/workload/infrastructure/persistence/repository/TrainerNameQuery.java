@@ -0,0 +1,77 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.epam.workload.domain.model.TrainerNameKey;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * The name search shared by {@code trainer_workloads} and {@code trainer_profiles}, both indexed by
+ * {@code name_search_idx} on {@code firstName}/{@code lastName}. The prefixes become anchored,
+ * case-sensitive regexes, which Mongo turns into index bounds; the search-after key becomes a
+ * range past the previous page, so a deep page reads no more index entries than the first. Only
+ * the profile fields are returned.
+ *
+ * <p>The index has no {@code username}, so namesakes are put in order by a sort over the matches
+ * past the key, bounded by the limit.
+ */
+final class TrainerNameQuery {
+    static final String INDEX = "name_search_idx";
+
+    private TrainerNameQuery() {}
+
+    static Query of(String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+        if (firstNamePrefix != null && !firstNamePrefix.isEmpty()) {
+            criteria.add(where("firstName").regex(prefix(firstNamePrefix)));
+        }
+        if (lastNamePrefix != null && !lastNamePrefix.isEmpty()) {
+            criteria.add(where("lastName").regex(prefix(lastNamePrefix)));
+        }
+        if (after != null) {
+            criteria.add(new Criteria()
+                    .orOperator(
+                            past("firstName", after.firstName()),
+                            past(where("firstName").is(after.firstName()).and("lastName"), after.lastName()),
+                            where("firstName")
+                                    .is(after.firstName())
+                                    .and("lastName")
+                                    .is(after.lastName())
+                                    .and("username")
+                                    .gt(after.username())));
+        }
+
+        Query query = new Query(criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria))
+                .with(Sort.by("firstName", "lastName", "username"))
+                .limit(limit)
+                .withHint(INDEX);
+        query.fields().include("username", "firstName", "lastName", "active");
+        return query;
+    }
+
+    private static Criteria past(String field, String value) {
+        return past(where(field), value);
+    }
+
+    /** Values after {@code value} in sort order; strings sort after a missing value. */
+    private static Criteria past(Criteria field, String value) {
+        return value == null ? field.ne(null) : field.gt(value);
+    }
+
+    /** Anchored regex matching {@code prefix} literally; escaping keeps it a plain prefix Mongo can bound. */
+    private static String prefix(String prefix) {
+        StringBuilder regex = new StringBuilder("^");
+        for (char c : prefix.toCharArray()) {
+            if (!Character.isLetterOrDigit(c)) {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+        return regex.toString();
+    }
+}
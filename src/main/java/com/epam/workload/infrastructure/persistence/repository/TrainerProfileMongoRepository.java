@@ -0,0 +1,15 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface TrainerProfileMongoRepository
+        extends MongoRepository<TrainerProfileDAO, String>, TrainerProfileMongoRepositoryCustom {
+    Optional<TrainerProfileDAO> findByUsername(String username);
+
+    List<TrainerProfileDAO> findByUsernameIn(Collection<String> usernames);
+}
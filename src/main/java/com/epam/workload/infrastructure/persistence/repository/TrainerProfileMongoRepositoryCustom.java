@@ -0,0 +1,22 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+
+public interface TrainerProfileMongoRepositoryCustom {
+    /** See {@link TrainerNameQuery}. */
+    List<TrainerProfileDAO> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit);
+
+    /** All profiles ascending by username, through a cursor fetching {@code batchSize} at a time. */
+    Stream<TrainerProfileDAO> streamAll(int batchSize);
+
+    /** See {@link UsernameRanges#boundaries}. */
+    List<String> findUsernameBoundaries(int every);
+
+    /** Profiles in the username range, ascending by username. */
+    Stream<TrainerProfileDAO> streamRange(String fromUsername, String toUsername, int batchSize);
+}
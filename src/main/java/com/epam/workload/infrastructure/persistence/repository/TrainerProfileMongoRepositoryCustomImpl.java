@@ -0,0 +1,47 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+class TrainerProfileMongoRepositoryCustomImpl implements TrainerProfileMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    TrainerProfileMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<TrainerProfileDAO> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return mongoTemplate.find(
+                TrainerNameQuery.of(firstNamePrefix, lastNamePrefix, after, limit), TrainerProfileDAO.class);
+    }
+
+    @Override
+    public Stream<TrainerProfileDAO> streamAll(int batchSize) {
+        return mongoTemplate.stream(
+                new Query().with(Sort.by("username")).cursorBatchSize(batchSize), TrainerProfileDAO.class);
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return UsernameRanges.boundaries(mongoTemplate, TrainerProfileDAO.class, every);
+    }
+
+    @Override
+    public Stream<TrainerProfileDAO> streamRange(String fromUsername, String toUsername, int batchSize) {
+        return mongoTemplate.stream(
+                new Query(UsernameRanges.between(fromUsername, toUsername))
+                        .with(Sort.by("username"))
+                        .cursorBatchSize(batchSize),
+                TrainerProfileDAO.class);
+    }
+}
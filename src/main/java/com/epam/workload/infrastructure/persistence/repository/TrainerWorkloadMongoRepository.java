@@ -1,10 +1,15 @@
 package com.epam.workload.infrastructure.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface TrainerWorkloadMongoRepository extends MongoRepository<TrainerWorkloadDAO, String> {
+public interface TrainerWorkloadMongoRepository
+        extends MongoRepository<TrainerWorkloadDAO, String>, TrainerWorkloadMongoRepositoryCustom {
     Optional<TrainerWorkloadDAO> findByUsername(String username);
+
+    List<TrainerWorkloadDAO> findByUsernameIn(Collection<String> usernames);
 }
@@ -0,0 +1,70 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+
+public interface TrainerWorkloadMongoRepositoryCustom {
+    /**
+     * Returns the trainer with {@code years} (and their {@code months}) filtered server-side.
+     * {@code null} arguments do not restrict.
+     */
+    Optional<TrainerWorkloadDAO> findProjectedByUsername(
+            String username, Integer fromYear, Integer toYear, Integer month);
+
+    /** The trainer with only {@code lifetimeTotal} and {@code years.year}/{@code years.yearTotal} loaded. */
+    Optional<TrainerWorkloadDAO> findTotalsByUsername(String username);
+
+    /**
+     * Writes the trainer only if its stored version still equals {@code workload.getVersion()}.
+     *
+     * @throws org.springframework.dao.OptimisticLockingFailureException if another writer got there first
+     */
+    void saveIfUnchanged(TrainerWorkloadDAO workload);
+
+    List<String> findUsernamesActiveSince(int year, int month, int limit);
+
+    /** Profile fields only; see {@link TrainerNameQuery}. */
+    List<TrainerWorkloadDAO> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit);
+
+    /** All trainers ascending by username, through a cursor fetching {@code batchSize} at a time. */
+    Stream<TrainerWorkloadDAO> streamAll(int batchSize);
+
+    /** See {@link UsernameRanges#boundaries}. */
+    List<String> findUsernameBoundaries(int every);
+
+    /**
+     * Trainers in the username range with minutes in the month, ascending by username, each with
+     * only its profile fields and the matching year.
+     */
+    Stream<TrainerWorkloadDAO> streamMonth(int year, int month, String fromUsername, String toUsername, int batchSize);
+
+    TrainerWorkloadDAO incrementDuration(TrainerWorkloadDAO profile, int year, int month, int minutes);
+
+    Optional<TrainerWorkloadDAO> decrementDuration(String username, int year, int month, int minutes);
+
+    /** Like {@link #incrementDuration}, empty - without writing - when the trainer has consumed the offset. */
+    Optional<TrainerWorkloadDAO> incrementDuration(
+            TrainerWorkloadDAO profile, int year, int month, int minutes, ConsumedOffset consumed);
+
+    /** Like {@link #decrementDuration}, also empty when the trainer has consumed the offset. */
+    Optional<TrainerWorkloadDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed);
+
+    boolean hasConsumed(String username, ConsumedOffset consumed);
+
+    /** Sets the profile fields of each trainer, creating missing ones without years; see {@code saveProfiles}. */
+    void upsertProfiles(List<TrainerWorkloadDAO> profiles);
+
+    /**
+     * Applies every increment as the same chain of conditional updates as {@link #incrementDuration},
+     * all in one ordered bulk write, and returns those applied: an increment with a position the
+     * trainer has consumed is skipped, one with a newer position records it in the same update.
+     */
+    List<WorkloadIncrement> incrementAll(List<WorkloadIncrement> increments);
+}
@@ -0,0 +1,479 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Single-document atomic updates of the nested {@code years.months} arrays.
+ *
+ * <p>Mongo cannot upsert an element into a nested array, so an increment runs as a chain of
+ * conditional updates: bump an existing month, push a new month into an existing year, push a new
+ * year (upserting the trainer). Each step only matches when the previous one could not, so the
+ * common case costs one round trip and concurrent writers never overwrite each other. The final
+ * upsert relies on the unique {@code username} index to turn a lost creation race into a retry.
+ *
+ * <p>Each increment also adds the minutes to {@code years.yearTotal} and {@code lifetimeTotal} in
+ * the same update, so totals never drift from the months they summarise.
+ *
+ * <p>Every write bumps {@code version}, so read-modify-write callers using {@link
+ * #saveIfUnchanged} notice any concurrent change, whichever path made it.
+ *
+ * <p>{@link #incrementAll} runs the same steps for many months in one ordered bulk write: create the
+ * trainer, year and month when missing, then increment the month. It never replaces a document, so
+ * concurrent increments are kept. Increments carrying a source position are guarded and marked like
+ * the {@link ConsumedOffset} variants below.
+ *
+ * <p>The {@link ConsumedOffset} variants add "offset not consumed yet" to every filter of the chain
+ * and record the offset in the same update, so a replayed event changes nothing.
+ */
+class TrainerWorkloadMongoRepositoryCustomImpl implements TrainerWorkloadMongoRepositoryCustom {
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+
+    private static final FindAndModifyOptions RETURN_NEW =
+            FindAndModifyOptions.options().returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    TrainerWorkloadMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<TrainerWorkloadDAO> findProjectedByUsername(
+            String username, Integer fromYear, Integer toYear, Integer month) {
+        return Optional.ofNullable(mongoTemplate
+                .aggregate(
+                        projectedByUsername(username, fromYear, toYear, month),
+                        TrainerWorkloadDAO.class,
+                        TrainerWorkloadDAO.class)
+                .getUniqueMappedResult());
+    }
+
+    /** The pipeline behind {@link #findProjectedByUsername}; shared with the reactive read path. */
+    static Aggregation projectedByUsername(String username, Integer fromYear, Integer toYear, Integer month) {
+        Object years = "$years";
+
+        List<Document> yearConditions = new ArrayList<>();
+        if (fromYear != null) {
+            yearConditions.add(new Document("$gte", List.of("$$y.year", fromYear)));
+        }
+        if (toYear != null) {
+            yearConditions.add(new Document("$lte", List.of("$$y.year", toYear)));
+        }
+        if (!yearConditions.isEmpty()) {
+            years = filter(years, "y", new Document("$and", yearConditions));
+        }
+
+        if (month != null) {
+            // Keep only the requested month inside each year, then drop years left without it
+            Document monthsOfYear = new Document("year", "$$y.year")
+                    .append("months", filter("$$y.months", "m", new Document("$eq", List.of("$$m.month", month))));
+            years = filter(
+                    new Document(
+                            "$map",
+                            new Document("input", years).append("as", "y").append("in", monthsOfYear)),
+                    "y",
+                    new Document("$gt", List.of(new Document("$size", "$$y.months"), 0)));
+        }
+
+        Document projection = new Document("username", 1)
+                .append("firstName", 1)
+                .append("lastName", 1)
+                .append("active", 1)
+                .append("years", years);
+        AggregationOperation project = context -> new Document("$project", projection);
+
+        return Aggregation.newAggregation(Aggregation.match(where("username").is(username)), project);
+    }
+
+    @Override
+    public Optional<TrainerWorkloadDAO> findTotalsByUsername(String username) {
+        Query query = query(where("username").is(username));
+        query.fields().include("username", "lifetimeTotal", "years.year", "years.yearTotal");
+        return Optional.ofNullable(mongoTemplate.findOne(query, TrainerWorkloadDAO.class));
+    }
+
+    @Override
+    public void saveIfUnchanged(TrainerWorkloadDAO workload) {
+        Long expected = workload.getVersion();
+        if (workload.getId() == null && expected == null) {
+            try {
+                // insert() initialises the version
+                mongoTemplate.insert(workload);
+                return;
+            } catch (DuplicateKeyException e) {
+                throw new OptimisticLockingFailureException(
+                        "Trainer '" + workload.getUsername() + "' was created concurrently", e);
+            }
+        }
+
+        // {version: null} also matches documents written before the field existed
+        UpdateResult result = mongoTemplate.updateFirst(
+                query(where("username")
+                        .is(workload.getUsername())
+                        .and("version")
+                        .is(expected)),
+                new Update()
+                        .set("firstName", workload.getFirstName())
+                        .set("lastName", workload.getLastName())
+                        .set("active", workload.isActive())
+                        .set("years", workload.getYears())
+                        .set("lifetimeTotal", workload.getLifetimeTotal())
+                        .inc("version", 1),
+                TrainerWorkloadDAO.class);
+        if (result.getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Trainer '%s' was modified concurrently (expected version %s)", workload.getUsername(), expected));
+        }
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(int year, int month, int limit) {
+        Query query = query(where("years")
+                        .elemMatch(new Criteria()
+                                .orOperator(
+                                        where("year").gt(year),
+                                        where("year")
+                                                .is(year)
+                                                .and("months.month")
+                                                .gte(month))))
+                .limit(limit);
+        query.fields().include("username");
+        return mongoTemplate.find(query, TrainerWorkloadDAO.class).stream()
+                .map(TrainerWorkloadDAO::getUsername)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkloadDAO> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return mongoTemplate.find(
+                TrainerNameQuery.of(firstNamePrefix, lastNamePrefix, after, limit), TrainerWorkloadDAO.class);
+    }
+
+    @Override
+    public Stream<TrainerWorkloadDAO> streamAll(int batchSize) {
+        // Walks the unique username index, so the order needs no in-memory sort
+        return mongoTemplate.stream(
+                new Query().with(Sort.by("username")).cursorBatchSize(batchSize), TrainerWorkloadDAO.class);
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return UsernameRanges.boundaries(mongoTemplate, TrainerWorkloadDAO.class, every);
+    }
+
+    @Override
+    public Stream<TrainerWorkloadDAO> streamMonth(
+            int year, int month, String fromUsername, String toUsername, int batchSize) {
+        Query query = query(UsernameRanges.between(fromUsername, toUsername)
+                        .and("years")
+                        .elemMatch(where("year").is(year).and("months.month").is(month)))
+                .with(Sort.by("username"))
+                .cursorBatchSize(batchSize);
+        // The other months of the year come along and are dropped by the caller
+        query.fields()
+                .include("username", "firstName", "lastName", "active")
+                .elemMatch("years", where("year").is(year));
+        return mongoTemplate.stream(query, TrainerWorkloadDAO.class);
+    }
+
+    @Override
+    public TrainerWorkloadDAO incrementDuration(TrainerWorkloadDAO profile, int year, int month, int minutes) {
+        return increment(profile, year, month, minutes, null).orElseThrow();
+    }
+
+    @Override
+    public Optional<TrainerWorkloadDAO> incrementDuration(
+            TrainerWorkloadDAO profile, int year, int month, int minutes, ConsumedOffset consumed) {
+        return increment(profile, year, month, minutes, consumed);
+    }
+
+    @Override
+    public Optional<TrainerWorkloadDAO> decrementDuration(String username, int year, int month, int minutes) {
+        return decrement(username, year, month, minutes, null);
+    }
+
+    @Override
+    public Optional<TrainerWorkloadDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        return decrement(username, year, month, minutes, consumed);
+    }
+
+    @Override
+    public boolean hasConsumed(String username, ConsumedOffset consumed) {
+        return mongoTemplate.exists(query(consumed.consumed(where("username").is(username))), TrainerWorkloadDAO.class);
+    }
+
+    private Optional<TrainerWorkloadDAO> increment(
+            TrainerWorkloadDAO profile, int year, int month, int minutes, ConsumedOffset consumed) {
+        String username = profile.getUsername();
+        for (int attempt = 1; ; attempt++) {
+            TrainerWorkloadDAO updated = incrementExistingMonth(username, year, month, minutes, consumed);
+            if (updated == null) {
+                updated = pushMonth(username, year, month, minutes, consumed);
+            }
+            if (updated != null) {
+                return Optional.of(updated);
+            }
+            if (consumed != null && hasConsumed(username, consumed)) {
+                // Replay: the upsert below would otherwise try to create the trainer again
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(pushYear(profile, year, month, minutes, consumed));
+            } catch (DuplicateKeyException e) {
+                // Another writer created the trainer between our filters - start over
+                if (attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Optional<TrainerWorkloadDAO> decrement(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        // The guard lives in the filter: a month holding fewer minutes than requested does not match
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(pending(
+                        where("username")
+                                .is(username)
+                                .and("years")
+                                .elemMatch(where("year")
+                                        .is(year)
+                                        .and("months")
+                                        .elemMatch(where("month")
+                                                .is(month)
+                                                .and("durationMin")
+                                                .gte(minutes))),
+                        consumed)),
+                mark(monthIncrement(year, month, -minutes), consumed),
+                RETURN_NEW,
+                TrainerWorkloadDAO.class));
+    }
+
+    @Override
+    public void upsertProfiles(List<TrainerWorkloadDAO> profiles) {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TrainerWorkloadDAO.class);
+        for (TrainerWorkloadDAO profile : profiles) {
+            // The years stay with the atomic month updates; bumping the version still invalidates
+            // concurrent read-modify-write callers
+            bulk.upsert(
+                    query(where("username").is(profile.getUsername())),
+                    new Update()
+                            .set("firstName", profile.getFirstName())
+                            .set("lastName", profile.getLastName())
+                            .set("active", profile.isActive())
+                            .setOnInsert("lifetimeTotal", 0L)
+                            .setOnInsert("years", List.of())
+                            .inc("version", 1));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(List<WorkloadIncrement> increments) {
+        List<WorkloadIncrement> pending = withoutConsumed(increments);
+        if (pending.isEmpty()) {
+            return pending;
+        }
+        // Ordered: the steps of one increment must run in sequence. Each creation step only matches
+        // when what it creates is missing, and bumps the version so that a concurrent archival
+        // rewrite of the years it read cannot drop it before the increment lands. Increments with a
+        // position record it in the same update, so the prefix a failed bulk wrote is skipped on replay.
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, TrainerWorkloadDAO.class);
+        Set<String> profiled = new HashSet<>();
+        for (WorkloadIncrement increment : pending) {
+            String username = increment.username();
+            int year = increment.year().getValue();
+            int month = increment.month().getValue();
+            if (profiled.add(username)) {
+                bulk.upsert(
+                        query(where("username").is(username)),
+                        new Update()
+                                .setOnInsert("firstName", increment.profile().getFirstName())
+                                .setOnInsert("lastName", increment.profile().getLastName())
+                                .setOnInsert(
+                                        "active",
+                                        Boolean.TRUE.equals(increment.profile().getActive()))
+                                .setOnInsert("lifetimeTotal", 0L)
+                                .setOnInsert("years", List.of()));
+            }
+            bulk.updateOne(
+                    query(where("username").is(username).and("years.year").ne(year)),
+                    new Update()
+                            .push(
+                                    "years",
+                                    TrainerWorkloadDAO.YearSummaryDAO.builder()
+                                            .year(year)
+                                            .yearTotal(0L)
+                                            .build())
+                            .inc("version", 1));
+            bulk.updateOne(
+                    query(where("username")
+                            .is(username)
+                            .and("years")
+                            .elemMatch(
+                                    where("year").is(year).and("months.month").ne(month))),
+                    new Update().push("years.$.months", month(month, 0)).inc("version", 1));
+            ConsumedOffset consumed = ConsumedOffset.of(increment.position());
+            bulk.updateOne(
+                    query(pending(where("username").is(username), consumed)),
+                    mark(monthIncrement(year, month, increment.minutes()), consumed));
+        }
+        bulk.execute();
+        return pending;
+    }
+
+    /** Drops the increments whose trainer has consumed their offset, read in one query. */
+    private List<WorkloadIncrement> withoutConsumed(List<WorkloadIncrement> increments) {
+        Set<String> usernames = new HashSet<>();
+        increments.stream()
+                .filter(increment -> increment.position() != null)
+                .forEach(increment -> usernames.add(increment.username()));
+        if (usernames.isEmpty()) {
+            return increments;
+        }
+        Query marksQuery = query(where("username").in(usernames));
+        marksQuery.fields().include("username", ConsumedOffset.FIELD);
+        Map<String, Document> marks = new HashMap<>();
+        mongoTemplate
+                .find(marksQuery, Document.class, mongoTemplate.getCollectionName(TrainerWorkloadDAO.class))
+                .forEach(document -> marks.put(document.getString("username"), document));
+        return increments.stream()
+                .filter(increment -> increment.position() == null
+                        || !ConsumedOffset.of(increment.position()).consumedBy(marks.get(increment.username())))
+                .toList();
+    }
+
+    private TrainerWorkloadDAO incrementExistingMonth(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        return mongoTemplate.findAndModify(
+                query(pending(
+                        where("username")
+                                .is(username)
+                                .and("years")
+                                .elemMatch(where("year")
+                                        .is(year)
+                                        .and("months.month")
+                                        .is(month)),
+                        consumed)),
+                mark(monthIncrement(year, month, minutes), consumed),
+                RETURN_NEW,
+                TrainerWorkloadDAO.class);
+    }
+
+    private TrainerWorkloadDAO pushMonth(String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        return mongoTemplate.findAndModify(
+                query(pending(
+                        where("username")
+                                .is(username)
+                                .and("years")
+                                .elemMatch(where("year")
+                                        .is(year)
+                                        .and("months.month")
+                                        .ne(month)),
+                        consumed)),
+                mark(
+                        new Update()
+                                .push("years.$.months", month(month, minutes))
+                                .inc("years.$.yearTotal", minutes)
+                                .inc("lifetimeTotal", minutes)
+                                .inc("version", 1),
+                        consumed),
+                RETURN_NEW,
+                TrainerWorkloadDAO.class);
+    }
+
+    private TrainerWorkloadDAO pushYear(
+            TrainerWorkloadDAO profile, int year, int month, int minutes, ConsumedOffset consumed) {
+        List<TrainerWorkloadDAO.MonthSummaryDAO> months = new ArrayList<>();
+        months.add(month(month, minutes));
+
+        return mongoTemplate.findAndModify(
+                query(pending(
+                        where("username")
+                                .is(profile.getUsername())
+                                .and("years.year")
+                                .ne(year),
+                        consumed)),
+                mark(
+                        new Update()
+                                .push(
+                                        "years",
+                                        TrainerWorkloadDAO.YearSummaryDAO.builder()
+                                                .year(year)
+                                                .yearTotal((long) minutes)
+                                                .months(months)
+                                                .build())
+                                .setOnInsert("firstName", profile.getFirstName())
+                                .setOnInsert("lastName", profile.getLastName())
+                                .setOnInsert("active", profile.isActive())
+                                .inc("lifetimeTotal", minutes)
+                                .inc("version", 1),
+                        consumed),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                TrainerWorkloadDAO.class);
+    }
+
+    private static Criteria pending(Criteria criteria, ConsumedOffset consumed) {
+        return consumed == null ? criteria : consumed.pending(criteria);
+    }
+
+    private static Update mark(Update update, ConsumedOffset consumed) {
+        return consumed == null ? update : consumed.mark(update);
+    }
+
+    private static Document filter(Object input, String as, Document cond) {
+        return new Document(
+                "$filter", new Document("input", input).append("as", as).append("cond", cond));
+    }
+
+    private static Update monthIncrement(int year, int month, int minutes) {
+        return new Update()
+                .inc("years.$[y].months.$[m].durationMin", minutes)
+                .inc("years.$[y].yearTotal", minutes)
+                .inc("lifetimeTotal", minutes)
+                .inc("version", 1)
+                .filterArray(where("y.year").is(year))
+                .filterArray(where("m.month").is(month));
+    }
+
+    private static TrainerWorkloadDAO.MonthSummaryDAO month(int month, int minutes) {
+        return TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                .month(month)
+                .durationMin(minutes)
+                .build();
+    }
+}
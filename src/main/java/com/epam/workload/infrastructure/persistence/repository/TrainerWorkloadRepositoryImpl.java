@@ -1,21 +1,40 @@
 package com.epam.workload.infrastructure.persistence.repository;
 
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
 import com.epam.workload.domain.port.TrainerWorkloadRepository;
 import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnExpression(
+        "'${app.persistence.layout:embedded}' == 'embedded' and '${app.persistence.codec:mapping}' != 'raw'")
 public class TrainerWorkloadRepositoryImpl implements TrainerWorkloadRepository {
     private final TrainerWorkloadMongoRepository mongoRepository;
+    private final WorkloadArchiveMongoRepository archiveRepository;
     private final TrainerWorkloadMapper mapper;
 
     @Autowired
-    TrainerWorkloadRepositoryImpl(TrainerWorkloadMongoRepository mongoRepository, TrainerWorkloadMapper mapper) {
+    TrainerWorkloadRepositoryImpl(
+            TrainerWorkloadMongoRepository mongoRepository,
+            WorkloadArchiveMongoRepository archiveRepository,
+            TrainerWorkloadMapper mapper) {
         this.mongoRepository = mongoRepository;
+        this.archiveRepository = archiveRepository;
         this.mapper = mapper;
     }
 
@@ -24,8 +43,153 @@ public class TrainerWorkloadRepositoryImpl implements TrainerWorkloadRepository
         return mongoRepository.findByUsername(username).map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        if (period.isUnbounded()) {
+            return findByUsername(username);
+        }
+        return mongoRepository
+                .findProjectedByUsername(
+                        username,
+                        period.fromYear() == null ? null : period.fromYear().getValue(),
+                        period.toYear() == null ? null : period.toYear().getValue(),
+                        period.month() == null ? null : period.month().getValue())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period) {
+        return findByUsername(username, period)
+                .map(workload -> mapper.withArchived(
+                        workload, archiveRepository.findByUsernameAndCommittedTrue(username), period));
+    }
+
+    @Override
+    public Optional<WorkloadTotals> findTotals(String username) {
+        return mongoRepository.findTotalsByUsername(username).map(dao -> mapper.toTotals(dao)
+                .orElseGet(() -> WorkloadTotals.of(mapper.toDomain(
+                        // Not backfilled yet - sum the months instead
+                        mongoRepository.findByUsername(username).orElse(dao)))));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findForUpdate(String username, Year year) {
+        // The whole history lives in one document - there is nothing narrower to load
+        return findByUsername(username);
+    }
+
     @Override
     public void save(TrainerWorkload workloadEntry) {
-        mongoRepository.save(mapper.toEntity(workloadEntry));
+        mongoRepository.saveIfUnchanged(mapper.toEntity(workloadEntry));
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(YearMonth since, int limit) {
+        return mongoRepository.findUsernamesActiveSince(since.getYear(), since.getMonthValue(), limit);
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        return mongoRepository.findByUsernameIn(usernames).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return mongoRepository.findProfilesByName(firstNamePrefix, lastNamePrefix, after, limit).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        return mongoRepository.streamAll(batchSize).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return mongoRepository.findUsernameBoundaries(every);
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize) {
+        WorkloadPeriod period =
+                new WorkloadPeriod(Year.of(month.getYear()), Year.of(month.getYear()), month.getMonth());
+        return mongoRepository
+                .streamMonth(month.getYear(), month.getMonthValue(), fromUsername, toUsername, batchSize)
+                .map(mapper::toDomain)
+                .map(workload -> workload.withDurations(workload.getDurations().within(period)));
+    }
+
+    @Override
+    public void saveProfiles(Collection<TrainerWorkload> profiles) {
+        mongoRepository.upsertProfiles(profiles.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments) {
+        return mongoRepository.incrementAll(List.copyOf(increments));
+    }
+
+    @Override
+    public TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes) {
+        return mapper.toDomain(mongoRepository.incrementDuration(
+                mapper.toEntity(profile), year.getValue(), month.getValue(), minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes) {
+        return mongoRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+        return mongoRepository
+                .incrementDuration(
+                        mapper.toEntity(profile), year.getValue(), month.getValue(), minutes, consumed(position))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return mongoRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes, consumed(position))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean hasApplied(String username, Year year, SourcePosition position) {
+        // One document per trainer, so the year only narrows the archive
+        return mongoRepository.hasConsumed(username, consumed(position))
+                || archiveRepository.hasConsumed(username, year.getValue(), consumed(position));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes) {
+        return archiveRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes)
+                .flatMap(archived -> findYearIncludingArchive(username, year));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return archiveRepository
+                .decrementDuration(username, year.getValue(), month.getValue(), minutes, consumed(position))
+                .flatMap(archived -> findYearIncludingArchive(username, year));
+    }
+
+    private Optional<TrainerWorkload> findYearIncludingArchive(String username, Year year) {
+        return findByUsernameIncludingArchive(username, WorkloadPeriod.ofYear(year));
+    }
+
+    private static ConsumedOffset consumed(SourcePosition position) {
+        return new ConsumedOffset(position.source(), position.offset());
     }
 }
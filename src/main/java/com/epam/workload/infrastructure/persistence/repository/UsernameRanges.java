@@ -0,0 +1,57 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Username ranges over {@code trainer_workloads} and {@code trainer_profiles}, which both have a
+ * unique {@code username} index. The boundaries come from a covered scan of that index - only
+ * {@code username} is projected and {@code _id} left out - so no document is fetched, and a range
+ * read is a bounded walk of the same index.
+ */
+final class UsernameRanges {
+    private static final int SCAN_BATCH_SIZE = 10_000;
+
+    private UsernameRanges() {}
+
+    static List<String> boundaries(MongoTemplate mongoTemplate, Class<?> type, int every) {
+        Query query = new Query().with(Sort.by("username")).cursorBatchSize(SCAN_BATCH_SIZE);
+        query.fields().include("username").exclude("_id");
+
+        List<String> boundaries = new ArrayList<>();
+        try (Stream<Document> usernames =
+                mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(type))) {
+            Iterator<Document> iterator = usernames.iterator();
+            for (long position = 0; iterator.hasNext(); position++) {
+                Document username = iterator.next();
+                if (position % every == 0) {
+                    boundaries.add(username.getString("username"));
+                }
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Usernames from {@code from} (inclusive) to {@code to} (exclusive), {@code null} bounds being
+     * open. An open start still becomes {@code >= ""} - every string - so the criteria is never
+     * empty and further fields can be chained onto it.
+     */
+    static Criteria between(String from, String to) {
+        Criteria username = where("username").gte(from == null ? "" : from);
+        if (to != null) {
+            username.lt(to);
+        }
+        return username;
+    }
+}
@@ -0,0 +1,11 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface WorkloadArchiveMongoRepository
+        extends MongoRepository<WorkloadArchiveDAO, String>, WorkloadArchiveMongoRepositoryCustom {
+    List<WorkloadArchiveDAO> findByUsernameAndCommittedTrue(String username);
+}
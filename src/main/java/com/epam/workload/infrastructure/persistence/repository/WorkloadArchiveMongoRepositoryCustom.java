@@ -0,0 +1,19 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+
+public interface WorkloadArchiveMongoRepositoryCustom {
+    /**
+     * Subtracts minutes from a month of one committed archive entry of the year. Empty - without
+     * writing - when no entry holds that many minutes in the month.
+     */
+    Optional<WorkloadArchiveDAO> decrementDuration(String username, int year, int month, int minutes);
+
+    /** Like {@link #decrementDuration}, also empty when the entries of the year have consumed the offset. */
+    Optional<WorkloadArchiveDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed);
+
+    boolean hasConsumed(String username, int year, ConsumedOffset consumed);
+}
@@ -0,0 +1,75 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.WorkloadArchiveDAO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Guarded decrements of archived years, so that a DELETE for a year the archival job moved out is
+ * still applied. Only committed entries are touched; uncommitted ones may still be deleted by the
+ * job. A year archived more than once has several entries, and the decrement lands on one that
+ * holds enough minutes.
+ *
+ * <p>The {@link ConsumedOffset} variants record the offset on the entry they change and skip the
+ * year when any of its entries has consumed it.
+ */
+class WorkloadArchiveMongoRepositoryCustomImpl implements WorkloadArchiveMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    WorkloadArchiveMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<WorkloadArchiveDAO> decrementDuration(String username, int year, int month, int minutes) {
+        return decrement(username, year, month, minutes, null);
+    }
+
+    @Override
+    public Optional<WorkloadArchiveDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        if (hasConsumed(username, year, consumed)) {
+            return Optional.empty();
+        }
+        return decrement(username, year, month, minutes, consumed);
+    }
+
+    @Override
+    public boolean hasConsumed(String username, int year, ConsumedOffset consumed) {
+        return mongoTemplate.exists(
+                query(consumed.consumed(where("username")
+                        .is(username)
+                        .and("year")
+                        .is(year)
+                        .and("committed")
+                        .is(true))),
+                WorkloadArchiveDAO.class);
+    }
+
+    private Optional<WorkloadArchiveDAO> decrement(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        Criteria entry = where("username")
+                .is(username)
+                .and("year")
+                .is(year)
+                .and("committed")
+                .is(true)
+                .and("months")
+                .elemMatch(where("month").is(month).and("durationMin").gte(minutes));
+        Update update = new Update().inc("months.$.durationMin", -minutes).inc("yearTotal", -minutes);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(consumed == null ? entry : consumed.pending(entry)),
+                consumed == null ? update : consumed.mark(update),
+                FindAndModifyOptions.options().returnNew(true),
+                WorkloadArchiveDAO.class));
+    }
+}
@@ -0,0 +1,150 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.port.WorkloadJournal;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadEventDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadSnapshotDAO;
+import com.epam.workload.infrastructure.persistence.mapper.TrainerWorkloadMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Events go to {@code workload_events}, snapshots to {@code workload_snapshots}. An append first
+ * looks up which of its trainers have a {@code username:baseline} snapshot and upserts the full
+ * baseline of the others with {@code $setOnInsert}, all in one bulk write before the events. A trainer
+ * therefore never has events without a baseline, and a concurrent append keeps the first baseline.
+ *
+ * <p>Baselines are never removed, so the usernames known to have one are remembered in a bounded
+ * cache and skip the lookup: once a trainer's baseline is in place, an append is a single insert.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.journal", name = "enabled", havingValue = "true")
+@ConditionalOnExpression("!{'in-memory', 'file'}.contains('${app.persistence.layout:embedded}')")
+public class WorkloadJournalImpl implements WorkloadJournal {
+    private final MongoTemplate mongoTemplate;
+    private final TrainerWorkloadMapper mapper;
+    private final Cache<String, Boolean> baselined;
+
+    @Autowired
+    WorkloadJournalImpl(
+            MongoTemplate mongoTemplate,
+            TrainerWorkloadMapper mapper,
+            @Value("${app.journal.baseline-cache-size:100000}") long baselineCacheSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.baselined = Caffeine.newBuilder().maximumSize(baselineCacheSize).build();
+    }
+
+    @Override
+    public void append(List<WorkloadEvent> events, Function<String, WorkloadSnapshot> baselines) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<String> usernames = events.stream()
+                .map(WorkloadEvent::username)
+                .filter(username -> baselined.getIfPresent(username) == null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!usernames.isEmpty()) {
+            Query known = query(where("_id")
+                    .in(usernames.stream().map(WorkloadJournalImpl::baselineId).toList()));
+            known.fields().include("username");
+            mongoTemplate.find(known, WorkloadSnapshotDAO.class).forEach(baseline -> {
+                usernames.remove(baseline.getUsername());
+                baselined.put(baseline.getUsername(), Boolean.TRUE);
+            });
+        }
+
+        if (!usernames.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorkloadSnapshotDAO.class);
+            for (String username : usernames) {
+                WorkloadSnapshotDAO baseline = mapper.toEntity(baselines.apply(username), baselineId(username));
+                bulk.upsert(
+                        query(where("_id").is(baseline.getId())),
+                        new Update()
+                                .setOnInsert("username", baseline.getUsername())
+                                .setOnInsert("firstName", baseline.getFirstName())
+                                .setOnInsert("lastName", baseline.getLastName())
+                                .setOnInsert("active", baseline.isActive())
+                                .setOnInsert("takenAt", baseline.getTakenAt())
+                                .setOnInsert("years", baseline.getYears()));
+            }
+            bulk.execute();
+            usernames.forEach(username -> baselined.put(username, Boolean.TRUE));
+        }
+        mongoTemplate.insert(events.stream().map(mapper::toEntity).toList(), WorkloadEventDAO.class);
+    }
+
+    @Override
+    public void saveSnapshots(Collection<WorkloadSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorkloadSnapshotDAO.class);
+        for (WorkloadSnapshot snapshot : snapshots) {
+            String id =
+                    snapshot.workload().getUsername() + ":" + snapshot.takenAt().toEpochMilli();
+            bulk.replaceOne(
+                    query(where("_id").is(id)),
+                    mapper.toEntity(snapshot, id),
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public Optional<WorkloadSnapshot> findLatestSnapshot(String username, Instant asOf) {
+        Query latest = query(where("username").is(username).and("takenAt").lte(asOf))
+                .with(Sort.by(Sort.Direction.DESC, "takenAt"))
+                .limit(1);
+        return Optional.ofNullable(mongoTemplate.findOne(latest, WorkloadSnapshotDAO.class))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<WorkloadEvent> findEvents(String username, Instant after, Instant upTo) {
+        // _id breaks ties between the events of one batch, which share their recordedAt
+        Query events = query(where("username")
+                        .is(username)
+                        .and("recordedAt")
+                        .gt(after)
+                        .lte(upTo))
+                .with(Sort.by("recordedAt", "_id"));
+        return mongoTemplate.find(events, WorkloadEventDAO.class).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<String> findUsernamesRecordedBetween(Instant after, Instant upTo) {
+        return mongoTemplate.findDistinct(
+                query(where("recordedAt").gt(after).lte(upTo)), "username", WorkloadEventDAO.class, String.class);
+    }
+
+    private static String baselineId(String username) {
+        return username + ":baseline";
+    }
+}
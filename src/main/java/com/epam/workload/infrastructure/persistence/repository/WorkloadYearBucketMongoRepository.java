@@ -0,0 +1,17 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface WorkloadYearBucketMongoRepository
+        extends MongoRepository<WorkloadYearBucketDAO, String>, WorkloadYearBucketMongoRepositoryCustom {
+    List<WorkloadYearBucketDAO> findByUsername(String username);
+
+    Optional<WorkloadYearBucketDAO> findByUsernameAndYear(String username, int year);
+
+    List<WorkloadYearBucketDAO> findByUsernameIn(Collection<String> usernames);
+}
@@ -0,0 +1,52 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+
+public interface WorkloadYearBucketMongoRepositoryCustom {
+    /** Buckets of one trainer within the year range, projected to the given month. Nulls do not restrict. */
+    List<WorkloadYearBucketDAO> findProjected(String username, Integer fromYear, Integer toYear, Integer month);
+
+    /** Buckets of one trainer with only {@code year} and {@code yearTotal} loaded. */
+    List<WorkloadYearBucketDAO> findTotals(String username);
+
+    List<String> findUsernamesActiveSince(int year, int month, int limit);
+
+    /** All buckets ascending by username and year, through a cursor fetching {@code batchSize} at a time. */
+    Stream<WorkloadYearBucketDAO> streamAll(int batchSize);
+
+    /**
+     * Buckets of {@code year} in the username range holding {@code month}, ascending by username,
+     * each projected to that month.
+     */
+    Stream<WorkloadYearBucketDAO> streamMonth(
+            int year, int month, String fromUsername, String toUsername, int batchSize);
+
+    WorkloadYearBucketDAO incrementDuration(TrainerProfileDAO profile, int year, int month, int minutes);
+
+    Optional<WorkloadYearBucketDAO> decrementDuration(String username, int year, int month, int minutes);
+
+    /** Like {@link #incrementDuration}, empty - without writing - when the bucket has consumed the offset. */
+    Optional<WorkloadYearBucketDAO> incrementDuration(
+            TrainerProfileDAO profile, int year, int month, int minutes, ConsumedOffset consumed);
+
+    /** Like {@link #decrementDuration}, also empty when the bucket has consumed the offset. */
+    Optional<WorkloadYearBucketDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed);
+
+    boolean hasConsumed(String username, int year, ConsumedOffset consumed);
+
+    void upsertAll(List<TrainerProfileDAO> profiles, List<WorkloadYearBucketDAO> buckets);
+
+    /**
+     * Applies every increment to its bucket in one ordered bulk write, creating buckets and months as
+     * {@link #incrementDuration} does, then inserts the profiles that are missing. Returns the
+     * increments applied: one with a position its bucket has consumed is skipped.
+     */
+    List<WorkloadIncrement> incrementAll(List<WorkloadIncrement> increments);
+}
@@ -0,0 +1,363 @@
+package com.epam.workload.infrastructure.persistence.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Atomic updates of a single (username, year) bucket. A bucket has one level of nesting, so the
+ * positional operator is enough: bump an existing month, otherwise push the month and upsert the
+ * bucket. The unique (username, year) index turns a lost creation race into a retry.
+ *
+ * <p>The {@link ConsumedOffset} variants keep the consumed offset per bucket, set in the same update.
+ */
+class WorkloadYearBucketMongoRepositoryCustomImpl implements WorkloadYearBucketMongoRepositoryCustom {
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    WorkloadYearBucketMongoRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<WorkloadYearBucketDAO> findProjected(String username, Integer fromYear, Integer toYear, Integer month) {
+        return mongoTemplate.find(projected(username, fromYear, toYear, month), WorkloadYearBucketDAO.class);
+    }
+
+    /** The query behind {@link #findProjected}; shared with the reactive read path. */
+    static Query projected(String username, Integer fromYear, Integer toYear, Integer month) {
+        Criteria criteria = where("username").is(username);
+        if (fromYear != null || toYear != null) {
+            Criteria year = criteria.and("year");
+            if (fromYear != null) {
+                year.gte(fromYear);
+            }
+            if (toYear != null) {
+                year.lte(toYear);
+            }
+        }
+
+        if (month != null) {
+            criteria.and("months.month").is(month);
+        }
+
+        Query query = query(criteria);
+        if (month != null) {
+            // Only the matching month element is returned from each bucket
+            query.fields().elemMatch("months", where("month").is(month));
+        }
+        return query;
+    }
+
+    @Override
+    public List<WorkloadYearBucketDAO> findTotals(String username) {
+        Query query = query(where("username").is(username));
+        query.fields().include("username", "year", "yearTotal");
+        return mongoTemplate.find(query, WorkloadYearBucketDAO.class);
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(int year, int month, int limit) {
+        // Grouped and limited on the server: only the buckets of recent years are read, via
+        // year_username_idx, and only up to limit usernames come back
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(new Criteria()
+                        .orOperator(
+                                where("year").gt(year),
+                                where("year").is(year).and("months.month").gte(month))),
+                Aggregation.group("username"),
+                Aggregation.limit(limit));
+        return mongoTemplate
+                .aggregate(aggregation, WorkloadYearBucketDAO.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(group -> group.getString("_id"))
+                .toList();
+    }
+
+    @Override
+    public Stream<WorkloadYearBucketDAO> streamAll(int batchSize) {
+        // Walks the unique (username, year) index, so the order needs no in-memory sort
+        return mongoTemplate.stream(
+                new Query().with(Sort.by("username", "year")).cursorBatchSize(batchSize), WorkloadYearBucketDAO.class);
+    }
+
+    @Override
+    public Stream<WorkloadYearBucketDAO> streamMonth(
+            int year, int month, String fromUsername, String toUsername, int batchSize) {
+        Query query = query(UsernameRanges.between(fromUsername, toUsername)
+                        .and("year")
+                        .is(year)
+                        .and("months.month")
+                        .is(month))
+                .with(Sort.by("username"))
+                .cursorBatchSize(batchSize);
+        query.fields().elemMatch("months", where("month").is(month));
+        return mongoTemplate.stream(query, WorkloadYearBucketDAO.class);
+    }
+
+    @Override
+    public WorkloadYearBucketDAO incrementDuration(TrainerProfileDAO profile, int year, int month, int minutes) {
+        return increment(profile, year, month, minutes, null).orElseThrow();
+    }
+
+    @Override
+    public Optional<WorkloadYearBucketDAO> incrementDuration(
+            TrainerProfileDAO profile, int year, int month, int minutes, ConsumedOffset consumed) {
+        return increment(profile, year, month, minutes, consumed);
+    }
+
+    @Override
+    public Optional<WorkloadYearBucketDAO> decrementDuration(String username, int year, int month, int minutes) {
+        return decrement(username, year, month, minutes, null);
+    }
+
+    @Override
+    public Optional<WorkloadYearBucketDAO> decrementDuration(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        return decrement(username, year, month, minutes, consumed);
+    }
+
+    @Override
+    public boolean hasConsumed(String username, int year, ConsumedOffset consumed) {
+        return mongoTemplate.exists(
+                query(consumed.consumed(
+                        where("username").is(username).and("year").is(year))),
+                WorkloadYearBucketDAO.class);
+    }
+
+    private Optional<WorkloadYearBucketDAO> increment(
+            TrainerProfileDAO profile, int year, int month, int minutes, ConsumedOffset consumed) {
+        String username = profile.getUsername();
+        for (int attempt = 1; ; attempt++) {
+            WorkloadYearBucketDAO updated = mongoTemplate.findAndModify(
+                    query(pending(
+                            where("username")
+                                    .is(username)
+                                    .and("year")
+                                    .is(year)
+                                    .and("months.month")
+                                    .is(month),
+                            consumed)),
+                    mark(new Update().inc("months.$.durationMin", minutes).inc("yearTotal", minutes), consumed),
+                    FindAndModifyOptions.options().returnNew(true),
+                    WorkloadYearBucketDAO.class);
+            if (updated != null) {
+                return Optional.of(updated);
+            }
+            if (consumed != null && hasConsumed(username, year, consumed)) {
+                // Replay: the upsert below would otherwise try to create the bucket again
+                return Optional.empty();
+            }
+            try {
+                updated = mongoTemplate.findAndModify(
+                        query(pending(
+                                where("username")
+                                        .is(username)
+                                        .and("year")
+                                        .is(year)
+                                        .and("months.month")
+                                        .ne(month),
+                                consumed)),
+                        mark(
+                                new Update()
+                                        .push(
+                                                "months",
+                                                TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                                                        .month(month)
+                                                        .durationMin(minutes)
+                                                        .build())
+                                        .inc("yearTotal", minutes),
+                                consumed),
+                        FindAndModifyOptions.options().returnNew(true).upsert(true),
+                        WorkloadYearBucketDAO.class);
+                insertProfileIfAbsent(profile);
+                return Optional.of(updated);
+            } catch (DuplicateKeyException e) {
+                // Another writer created the bucket or month between our filters - start over
+                if (attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Optional<WorkloadYearBucketDAO> decrement(
+            String username, int year, int month, int minutes, ConsumedOffset consumed) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(pending(
+                        where("username")
+                                .is(username)
+                                .and("year")
+                                .is(year)
+                                .and("months")
+                                .elemMatch(where("month")
+                                        .is(month)
+                                        .and("durationMin")
+                                        .gte(minutes)),
+                        consumed)),
+                mark(new Update().inc("months.$.durationMin", -minutes).inc("yearTotal", -minutes), consumed),
+                FindAndModifyOptions.options().returnNew(true),
+                WorkloadYearBucketDAO.class));
+    }
+
+    @Override
+    public void upsertAll(List<TrainerProfileDAO> profiles, List<WorkloadYearBucketDAO> buckets) {
+        if (!profiles.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TrainerProfileDAO.class);
+            profiles.forEach(profile -> bulk.upsert(
+                    query(where("username").is(profile.getUsername())),
+                    new Update()
+                            .set("firstName", profile.getFirstName())
+                            .set("lastName", profile.getLastName())
+                            .set("active", profile.isActive())));
+            bulk.execute();
+        }
+        if (!buckets.isEmpty()) {
+            // $set rather than a replace keeps the consumed offsets of each bucket
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorkloadYearBucketDAO.class);
+            buckets.forEach(bucket -> bulk.upsert(
+                    query(where("username").is(bucket.getUsername()).and("year").is(bucket.getYear())),
+                    new Update().set("yearTotal", bucket.getYearTotal()).set("months", bucket.getMonths())));
+            bulk.execute();
+        }
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(List<WorkloadIncrement> increments) {
+        List<WorkloadIncrement> pending = withoutConsumed(increments);
+        if (pending.isEmpty()) {
+            return pending;
+        }
+        // Ordered: create the bucket, then the month, each only when missing, then increment it. An
+        // increment with a position records it in the bucket with the same update.
+        BulkOperations buckets = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, WorkloadYearBucketDAO.class);
+        BulkOperations profiles = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TrainerProfileDAO.class);
+        Set<String> usernames = new HashSet<>();
+        for (WorkloadIncrement increment : pending) {
+            String username = increment.username();
+            int year = increment.year().getValue();
+            int month = increment.month().getValue();
+            buckets.upsert(
+                    query(where("username").is(username).and("year").is(year)),
+                    new Update().setOnInsert("yearTotal", 0L).setOnInsert("months", List.of()));
+            buckets.updateOne(
+                    query(where("username")
+                            .is(username)
+                            .and("year")
+                            .is(year)
+                            .and("months.month")
+                            .ne(month)),
+                    new Update()
+                            .push(
+                                    "months",
+                                    TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                                            .month(month)
+                                            .durationMin(0)
+                                            .build()));
+            ConsumedOffset consumed = ConsumedOffset.of(increment.position());
+            buckets.updateOne(
+                    query(pending(
+                            where("username")
+                                    .is(username)
+                                    .and("year")
+                                    .is(year)
+                                    .and("months.month")
+                                    .is(month),
+                            consumed)),
+                    mark(
+                            new Update()
+                                    .inc("months.$.durationMin", increment.minutes())
+                                    .inc("yearTotal", increment.minutes()),
+                            consumed));
+            if (usernames.add(username)) {
+                profiles.upsert(
+                        query(where("username").is(username)),
+                        new Update()
+                                .setOnInsert("firstName", increment.profile().getFirstName())
+                                .setOnInsert("lastName", increment.profile().getLastName())
+                                .setOnInsert(
+                                        "active",
+                                        Boolean.TRUE.equals(increment.profile().getActive())));
+            }
+        }
+        buckets.execute();
+        // After the buckets, like insertProfileIfAbsent after a single increment
+        profiles.execute();
+        return pending;
+    }
+
+    /** Drops the increments whose bucket has consumed their offset, read in one query. */
+    private List<WorkloadIncrement> withoutConsumed(List<WorkloadIncrement> increments) {
+        Set<String> usernames = new HashSet<>();
+        Set<Integer> years = new HashSet<>();
+        increments.stream().filter(increment -> increment.position() != null).forEach(increment -> {
+            usernames.add(increment.username());
+            years.add(increment.year().getValue());
+        });
+        if (usernames.isEmpty()) {
+            return increments;
+        }
+        // May read a few more buckets than needed; cheaper than one $or branch per bucket
+        Query marksQuery = query(where("username").in(usernames).and("year").in(years));
+        marksQuery.fields().include("username", "year", ConsumedOffset.FIELD);
+        Map<List<Object>, Document> marks = new HashMap<>();
+        mongoTemplate
+                .find(marksQuery, Document.class, mongoTemplate.getCollectionName(WorkloadYearBucketDAO.class))
+                .forEach(document ->
+                        marks.put(List.of(document.getString("username"), document.getInteger("year")), document));
+        return increments.stream()
+                .filter(increment -> increment.position() == null
+                        || !ConsumedOffset.of(increment.position())
+                                .consumedBy(marks.get(List.of(
+                                        increment.username(), increment.year().getValue()))))
+                .toList();
+    }
+
+    private void insertProfileIfAbsent(TrainerProfileDAO profile) {
+        try {
+            mongoTemplate.upsert(
+                    query(where("username").is(profile.getUsername())),
+                    new Update()
+                            .setOnInsert("firstName", profile.getFirstName())
+                            .setOnInsert("lastName", profile.getLastName())
+                            .setOnInsert("active", profile.isActive()),
+                    TrainerProfileDAO.class);
+        } catch (DuplicateKeyException e) {
+            // Created concurrently by another writer - first insert wins, as with the embedded layout
+        }
+    }
+
+    private static Criteria pending(Criteria criteria, ConsumedOffset consumed) {
+        return consumed == null ? criteria : consumed.pending(criteria);
+    }
+
+    private static Update mark(Update update, ConsumedOffset consumed) {
+        return consumed == null ? update : consumed.mark(update);
+    }
+}
@@ -0,0 +1,76 @@
+package com.epam.workload.infrastructure.persistence.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the active {@link TrainerWorkloadRepository} adapter in a
+ * {@link CircuitBreakingTrainerWorkloadRepository}, whichever layout and codec it was chosen for.
+ * Breaker state, calls and transitions are exported as {@code resilience4j.circuitbreaker.*} and
+ * {@code workload.repository.circuit.transitions}.
+ */
+@Slf4j
+public class CircuitBreakingRepositoryPostProcessor implements BeanPostProcessor {
+    static final String CIRCUIT_BREAKER_NAME = "trainerWorkloadRepository";
+
+    private final CircuitBreakerConfig breakerConfig;
+    private final long lastKnownGoodMaxWeight;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<Clock> clock;
+
+    public CircuitBreakingRepositoryPostProcessor(
+            CircuitBreakerConfig breakerConfig,
+            long lastKnownGoodMaxWeight,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<Clock> clock) {
+        this.breakerConfig = breakerConfig;
+        this.lastKnownGoodMaxWeight = lastKnownGoodMaxWeight;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof TrainerWorkloadRepository repository)
+                || bean instanceof CircuitBreakingTrainerWorkloadRepository) {
+            return bean;
+        }
+        // Looked up only now: a post-processor's own dependencies would miss post-processing themselves
+        MeterRegistry registry = meterRegistry.getObject();
+        CircuitBreakerRegistry breakers = CircuitBreakerRegistry.of(breakerConfig);
+        CircuitBreaker breaker = breakers.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        breaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            if (transition.getToState() == CircuitBreaker.State.OPEN) {
+                log.warn("Workload repository circuit breaker opened: {}", breaker.getMetrics());
+            } else {
+                log.info("Workload repository circuit breaker {}", transition);
+            }
+            Counter.builder("workload.repository.circuit.transitions")
+                    .description("State transitions of the workload repository circuit breaker")
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(registry)
+                    .increment();
+        });
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(breakers).bindTo(registry);
+
+        Duration retryAfter = Duration.ofMillis(
+                breakerConfig.getWaitIntervalFunctionInOpenState().apply(1));
+        LastKnownGoodWorkloads lastKnownGood =
+                new LastKnownGoodWorkloads(lastKnownGoodMaxWeight, clock.getIfAvailable(Clock::systemUTC), registry);
+        log.info("Workload repository {} runs behind a circuit breaker", beanName);
+        return new CircuitBreakingTrainerWorkloadRepository(repository, breaker, lastKnownGood, retryAfter, registry);
+    }
+}
@@ -0,0 +1,213 @@
+package com.epam.workload.infrastructure.persistence.resilience;
+
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.epam.workload.application.exception.StoreUnavailableException;
+import com.epam.workload.application.resilience.StaleRead;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs every call of the wrapped repository through a circuit breaker. While the breaker is open,
+ * summary and totals reads are answered from {@link LastKnownGoodWorkloads} - filled by every full
+ * read that got through - and recorded as {@link StaleRead}s; everything else fails at once with
+ * {@link StoreUnavailableException}.
+ */
+@Slf4j
+public class CircuitBreakingTrainerWorkloadRepository implements TrainerWorkloadRepository {
+    private final TrainerWorkloadRepository delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final LastKnownGoodWorkloads lastKnownGood;
+    private final Duration retryAfter;
+    private final Counter staleReads;
+
+    public CircuitBreakingTrainerWorkloadRepository(
+            TrainerWorkloadRepository delegate,
+            CircuitBreaker circuitBreaker,
+            LastKnownGoodWorkloads lastKnownGood,
+            Duration retryAfter,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.lastKnownGood = lastKnownGood;
+        this.retryAfter = retryAfter;
+        this.staleReads = Counter.builder("workload.repository.stale.reads")
+                .description("Reads answered from the last known good workloads while the circuit breaker was open")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username) {
+        return read(username, WorkloadPeriod.all(), () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsername(String username, WorkloadPeriod period) {
+        return read(username, period, () -> delegate.findByUsername(username, period));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findByUsernameIncludingArchive(String username, WorkloadPeriod period) {
+        // The archive is never kept, so there is nothing to fall back to
+        return call(() -> delegate.findByUsernameIncludingArchive(username, period));
+    }
+
+    @Override
+    public Optional<WorkloadTotals> findTotals(String username) {
+        try {
+            return circuitBreaker.executeSupplier(() -> delegate.findTotals(username));
+        } catch (CallNotPermittedException e) {
+            return Optional.of(WorkloadTotals.of(fallback(username, e).workload()));
+        }
+    }
+
+    @Override
+    public Optional<TrainerWorkload> findForUpdate(String username, Year year) {
+        return call(() -> delegate.findForUpdate(username, year));
+    }
+
+    @Override
+    public void save(TrainerWorkload workload) {
+        call(() -> {
+            delegate.save(workload);
+            return null;
+        });
+    }
+
+    @Override
+    public List<String> findUsernamesActiveSince(YearMonth since, int limit) {
+        return call(() -> delegate.findUsernamesActiveSince(since, limit));
+    }
+
+    @Override
+    public List<TrainerWorkload> findAllByUsernames(Collection<String> usernames) {
+        return call(() -> delegate.findAllByUsernames(usernames));
+    }
+
+    @Override
+    public List<TrainerWorkload> findProfilesByName(
+            String firstNamePrefix, String lastNamePrefix, TrainerNameKey after, int limit) {
+        return call(() -> delegate.findProfilesByName(firstNamePrefix, lastNamePrefix, after, limit));
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamAll(int batchSize) {
+        // Guards opening the cursor; the batches fetched while the stream is consumed are not recorded
+        return call(() -> delegate.streamAll(batchSize));
+    }
+
+    @Override
+    public List<String> findUsernameBoundaries(int every) {
+        return call(() -> delegate.findUsernameBoundaries(every));
+    }
+
+    @Override
+    public Stream<TrainerWorkload> streamMonth(YearMonth month, String fromUsername, String toUsername, int batchSize) {
+        // Guards opening the cursor, like streamAll
+        return call(() -> delegate.streamMonth(month, fromUsername, toUsername, batchSize));
+    }
+
+    @Override
+    public void saveProfiles(Collection<TrainerWorkload> profiles) {
+        call(() -> {
+            delegate.saveProfiles(profiles);
+            return null;
+        });
+    }
+
+    @Override
+    public List<WorkloadIncrement> incrementAll(Collection<WorkloadIncrement> increments) {
+        return call(() -> delegate.incrementAll(increments));
+    }
+
+    @Override
+    public TrainerWorkload incrementDuration(TrainerWorkload profile, Year year, Month month, int minutes) {
+        return call(() -> delegate.incrementDuration(profile, year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(String username, Year year, Month month, int minutes) {
+        return call(() -> delegate.decrementDuration(username, year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> incrementDuration(
+            TrainerWorkload profile, Year year, Month month, int minutes, SourcePosition position) {
+        return call(() -> delegate.incrementDuration(profile, year, month, minutes, position));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementDuration(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return call(() -> delegate.decrementDuration(username, year, month, minutes, position));
+    }
+
+    @Override
+    public boolean hasApplied(String username, Year year, SourcePosition position) {
+        return call(() -> delegate.hasApplied(username, year, position));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(String username, Year year, Month month, int minutes) {
+        return call(() -> delegate.decrementArchived(username, year, month, minutes));
+    }
+
+    @Override
+    public Optional<TrainerWorkload> decrementArchived(
+            String username, Year year, Month month, int minutes, SourcePosition position) {
+        return call(() -> delegate.decrementArchived(username, year, month, minutes, position));
+    }
+
+    private Optional<TrainerWorkload> read(
+            String username, WorkloadPeriod period, Supplier<Optional<TrainerWorkload>> query) {
+        Optional<TrainerWorkload> workload;
+        try {
+            workload = circuitBreaker.executeSupplier(query);
+        } catch (CallNotPermittedException e) {
+            TrainerWorkload kept = fallback(username, e).workload();
+            return Optional.of(kept.withDurations(kept.getDurations().within(period)));
+        }
+        if (period.isUnbounded()) {
+            workload.ifPresent(lastKnownGood::put);
+        }
+        return workload;
+    }
+
+    private LastKnownGoodWorkloads.Snapshot fallback(String username, CallNotPermittedException e) {
+        LastKnownGoodWorkloads.Snapshot snapshot = lastKnownGood.get(username).orElseThrow(() -> unavailable(e));
+        log.debug("Serving workload of {} read at {} - circuit breaker is open", username, snapshot.readAt());
+        staleReads.increment();
+        StaleRead.record(snapshot.readAt());
+        return snapshot;
+    }
+
+    private <T> T call(Supplier<T> operation) {
+        try {
+            return circuitBreaker.executeSupplier(operation);
+        } catch (CallNotPermittedException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private StoreUnavailableException unavailable(CallNotPermittedException e) {
+        return new StoreUnavailableException(e.getMessage(), retryAfter);
+    }
+}
@@ -0,0 +1,53 @@
+package com.epam.workload.infrastructure.persistence.resilience;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * The last full workload read per trainer and when it was read, kept to answer reads while the store
+ * is unavailable. Entries are weighed by their number of years, so {@code maxWeight} bounds memory
+ * rather than trainer count; the least recently used give way first.
+ */
+public class LastKnownGoodWorkloads {
+    static final String CACHE_NAME = "lastKnownGoodWorkloads";
+
+    private final Cache<String, Snapshot> snapshots;
+    private final Clock clock;
+
+    public LastKnownGoodWorkloads(long maxWeight, Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String username, Snapshot snapshot) -> weigh(snapshot.workload()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    public void put(TrainerWorkload workload) {
+        snapshots.put(workload.getUsername(), new Snapshot(workload, clock.instant()));
+    }
+
+    public Optional<Snapshot> get(String username) {
+        return Optional.ofNullable(snapshots.getIfPresent(username));
+    }
+
+    long estimatedSize() {
+        snapshots.cleanUp();
+        return snapshots.estimatedSize();
+    }
+
+    private static int weigh(TrainerWorkload workload) {
+        // A year holds up to twelve months; counting them would decode years the raw codec reads lazily
+        return 1 + 13 * workload.getDurations().years().size();
+    }
+
+    public record Snapshot(TrainerWorkload workload, Instant readAt) {}
+}
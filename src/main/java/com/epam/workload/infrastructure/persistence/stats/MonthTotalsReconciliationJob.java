@@ -0,0 +1,81 @@
+package com.epam.workload.infrastructure.persistence.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.epam.workload.infrastructure.persistence.dao.MonthTotalDAO;
+import com.epam.workload.infrastructure.persistence.repository.MonthTotalMongoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes {@code workload_month_totals} from the workloads with one aggregation pipeline and
+ * {@code $inc}s every month by its difference. Trainer writes and month totals are separate
+ * documents, so a crash between them leaves a month off until the next run; applying differences
+ * rather than overwriting keeps increments that land during the run.
+ *
+ * <p>Also fills the collection on the first startup after it was introduced, before the Kafka
+ * listeners start.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(
+        prefix = "app.stats.month-totals.reconcile",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class MonthTotalsReconciliationJob implements SmartInitializingSingleton {
+    private final MonthTotalMongoRepository monthTotalRepository;
+    private final boolean bucketed;
+    private final Counter corrections;
+
+    @Autowired
+    MonthTotalsReconciliationJob(
+            MonthTotalMongoRepository monthTotalRepository,
+            @Value("${app.persistence.layout:embedded}") String layout,
+            MeterRegistry meterRegistry) {
+        this.monthTotalRepository = monthTotalRepository;
+        this.bucketed = "bucketed".equals(layout);
+        this.corrections = Counter.builder("workload.month-totals.corrections")
+                .description("Months whose materialized total differed from the workloads")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (monthTotalRepository.count() == 0) {
+            log.info("Month totals are empty - building them from the workloads");
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.month-totals.reconcile.cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /** Returns the number of months corrected. */
+    public int reconcile() {
+        Map<String, Long> expected = monthTotalRepository.aggregateFromWorkloads(bucketed);
+
+        Map<String, Long> deltas = new HashMap<>(expected);
+        for (MonthTotalDAO stored : monthTotalRepository.findAll()) {
+            deltas.merge(stored.getId(), -stored.getTotalMinutes(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        monthTotalRepository.incrementAll(deltas);
+        corrections.increment(deltas.size());
+        if (!deltas.isEmpty()) {
+            log.warn("Corrected month totals for {} months: {}", deltas.size(), deltas.keySet());
+        }
+        return deltas.size();
+    }
+}
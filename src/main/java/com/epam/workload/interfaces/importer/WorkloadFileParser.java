@@ -0,0 +1,318 @@
+package com.epam.workload.interfaces.importer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Parses a file of trainings into one {@link TrainerWorkload} per trainer holding the net minutes
+ * of each month. Lines carry the fields of {@link TrainerWorkloadEvent}: either one JSON object per
+ * line ({@code .ndjson}, {@code .jsonl}) or comma-separated values under a header naming them
+ * ({@code .csv}, unquoted).
+ *
+ * <p>The file is cut into chunks of about {@code chunkSize} bytes at line breaks. Every chunk is
+ * memory-mapped and summed up on its own {@code executor} thread into sums nobody else touches;
+ * the partial sums are merged in file order once a chunk is done, so the profile fields of a
+ * trainer's last line win. Unparseable lines are counted and skipped.
+ */
+@Slf4j
+final class WorkloadFileParser {
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectReader eventReader;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    WorkloadFileParser(ObjectReader eventReader, int chunkSize, ExecutorService executor) {
+        this.eventReader = eventReader;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Trainers ascending by username. {@code rejectedMonths} counts the months left out because
+     * their DELETEs outweighed their ADDs or their sum does not fit a month.
+     */
+    record Result(List<TrainerWorkload> workloads, long lines, long rejectedLines, int rejectedMonths) {}
+
+    /** Parses {@code file}, calling {@code chunkDone} with the number of chunks finished so far. */
+    Result parse(Path file, IntConsumer chunkDone) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean csv = name.endsWith(".csv");
+        if (!csv && !name.endsWith(".ndjson") && !name.endsWith(".jsonl")) {
+            throw new IllegalArgumentException("Expected a .csv, .ndjson or .jsonl file: " + file);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            CsvColumns columns = null;
+            if (csv) {
+                start = Math.min(size, lineEnd(channel, 0) + 1);
+                columns = CsvColumns.of(read(channel, 0, start));
+            }
+
+            List<Future<Chunk>> chunks = new ArrayList<>();
+            while (start < size) {
+                long end =
+                        start + chunkSize >= size ? size : Math.min(size, lineEnd(channel, start + chunkSize - 1) + 1);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                long offset = start;
+                CsvColumns chunkColumns = columns;
+                chunks.add(executor.submit(() -> parseChunk(buffer, offset, chunkColumns)));
+                start = end;
+            }
+
+            Chunk merged = new Chunk();
+            for (int i = 0; i < chunks.size(); i++) {
+                merged.mergeLater(await(chunks.get(i)));
+                chunkDone.accept(i + 1);
+            }
+            return merged.toResult();
+        }
+    }
+
+    private Chunk parseChunk(ByteBuffer buffer, long offset, CsvColumns columns) {
+        Chunk chunk = new Chunk();
+        byte[] line = new byte[256];
+        int lineStart = 0;
+        int limit = buffer.limit();
+        for (int position = 0; position <= limit; position++) {
+            if (position < limit && buffer.get(position) != NEWLINE) {
+                continue;
+            }
+            int length = position - lineStart;
+            if (length > line.length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            buffer.get(lineStart, line, 0, length);
+            String text = new String(line, 0, length, StandardCharsets.UTF_8).strip();
+            if (!text.isEmpty()) {
+                try {
+                    TrainerWorkloadEvent event = columns == null ? eventReader.readValue(text) : columns.parse(text);
+                    chunk.add(event);
+                } catch (IOException | RuntimeException e) {
+                    chunk.rejectedLines++;
+                    // One line per chunk at warn, so a wrong file does not flood the log
+                    if (chunk.rejectedLines == 1) {
+                        log.warn("Skipping unparseable line at byte {}: {}", offset + lineStart, e.getMessage());
+                    } else {
+                        log.debug("Skipping unparseable line at byte {}: {}", offset + lineStart, e.getMessage());
+                    }
+                }
+                chunk.lines++;
+            }
+            lineStart = position + 1;
+        }
+        return chunk;
+    }
+
+    /** Position of the first line break at or after {@code from}, or the file size when there is none. */
+    private static long lineEnd(FileChannel channel, long from) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long position = from;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEWLINE) {
+                    return position + i;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static String read(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(to - from));
+        while (bytes.hasRemaining() && channel.read(bytes, from + bytes.position()) > 0) {
+            // keep reading
+        }
+        return new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8).strip();
+    }
+
+    private static Chunk await(Future<Chunk> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parsing a chunk failed", e.getCause());
+        }
+    }
+
+    /** Column positions taken from the header line. */
+    private record CsvColumns(
+            int username, int firstName, int lastName, int active, int date, int minutes, int actionType) {
+
+        static CsvColumns of(String header) {
+            Map<String, Integer> positions = new HashMap<>();
+            String[] names = header.split(",", -1);
+            for (int i = 0; i < names.length; i++) {
+                positions.put(names[i].strip().toLowerCase(Locale.ROOT), i);
+            }
+            return new CsvColumns(
+                    required(positions, "trainerUsername"),
+                    positions.getOrDefault("trainerfirstname", -1),
+                    positions.getOrDefault("trainerlastname", -1),
+                    positions.getOrDefault("isactive", -1),
+                    required(positions, "trainingDate"),
+                    required(positions, "trainingDurationMinutes"),
+                    positions.getOrDefault("actiontype", -1));
+        }
+
+        private static int required(Map<String, Integer> positions, String column) {
+            Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header lacks column " + column);
+            }
+            return position;
+        }
+
+        TrainerWorkloadEvent parse(String line) {
+            String[] values = line.split(",", -1);
+            String trainingDate = values[date].strip();
+            String activeValue = value(values, active);
+            String actionTypeValue = value(values, actionType);
+            return TrainerWorkloadEvent.builder()
+                    .trainerUsername(values[username].strip())
+                    .trainerFirstname(value(values, firstName))
+                    .trainerLastname(value(values, lastName))
+                    .isActive(activeValue == null ? null : Boolean.parseBoolean(activeValue))
+                    // A bare date counts as the start of the day
+                    .trainingDate(
+                            trainingDate.length() == 10
+                                    ? LocalDate.parse(trainingDate).atStartOfDay()
+                                    : LocalDateTime.parse(trainingDate))
+                    .trainingDurationMinutes(Integer.parseInt(values[minutes].strip()))
+                    .actionType(
+                            actionTypeValue == null
+                                    ? null
+                                    : TrainerWorkloadEvent.ActionType.valueOf(actionTypeValue.toUpperCase(Locale.ROOT)))
+                    .build();
+        }
+
+        private static String value(String[] values, int position) {
+            if (position < 0 || position >= values.length || values[position].isBlank()) {
+                return null;
+            }
+            return values[position].strip();
+        }
+    }
+
+    /** Sums of one trainer; each profile field is the one of the last line carrying it. */
+    private static final class TrainerSums {
+        private String firstName;
+        private String lastName;
+        private Boolean active;
+        // Keyed by year * 12 + month - 1
+        private final Map<Integer, Long> minutes = new HashMap<>();
+
+        void profile(String firstName, String lastName, Boolean active) {
+            if (firstName != null) {
+                this.firstName = firstName;
+            }
+            if (lastName != null) {
+                this.lastName = lastName;
+            }
+            if (active != null) {
+                this.active = active;
+            }
+        }
+    }
+
+    /** Sums of one chunk, and after merging of the chunks before it as well. */
+    private static final class Chunk {
+        private final Map<String, TrainerSums> trainers = new HashMap<>();
+        private long lines;
+        private long rejectedLines;
+
+        void add(TrainerWorkloadEvent event) {
+            if (event.getTrainerUsername() == null || event.getTrainerUsername().isBlank()) {
+                throw new IllegalArgumentException("Missing trainerUsername");
+            }
+            if (event.getTrainingDate() == null) {
+                throw new IllegalArgumentException("Missing trainingDate");
+            }
+            if (event.getTrainingDurationMinutes() == null || event.getTrainingDurationMinutes() < 0) {
+                throw new IllegalArgumentException("Missing or negative trainingDurationMinutes");
+            }
+            long minutes = event.getActionType() == TrainerWorkloadEvent.ActionType.DELETE
+                    ? -event.getTrainingDurationMinutes()
+                    : event.getTrainingDurationMinutes();
+            TrainerSums sums = trainers.computeIfAbsent(event.getTrainerUsername(), username -> new TrainerSums());
+            sums.profile(event.getTrainerFirstname(), event.getTrainerLastname(), event.getIsActive());
+            LocalDateTime date = event.getTrainingDate();
+            sums.minutes.merge(date.getYear() * 12 + date.getMonthValue() - 1, minutes, Long::sum);
+        }
+
+        void mergeLater(Chunk later) {
+            lines += later.lines;
+            rejectedLines += later.rejectedLines;
+            later.trainers.forEach((username, sums) -> {
+                TrainerSums merged = trainers.computeIfAbsent(username, key -> new TrainerSums());
+                merged.profile(sums.firstName, sums.lastName, sums.active);
+                sums.minutes.forEach((month, minutes) -> merged.minutes.merge(month, minutes, Long::sum));
+            });
+        }
+
+        Result toResult() {
+            List<TrainerWorkload> workloads = new ArrayList<>(trainers.size());
+            int rejectedMonths = 0;
+            for (Map.Entry<String, TrainerSums> trainer : new TreeMap<>(trainers).entrySet()) {
+                TrainerSums sums = trainer.getValue();
+                YearlyDurations.Builder durations = YearlyDurations.builder();
+                for (Map.Entry<Integer, Long> month : sums.minutes.entrySet()) {
+                    int year = Math.floorDiv(month.getKey(), 12);
+                    int monthOfYear = Math.floorMod(month.getKey(), 12) + 1;
+                    if (month.getValue() < 0 || month.getValue() > Integer.MAX_VALUE) {
+                        log.warn(
+                                "Leaving out {}-{} of trainer '{}': net {} minutes",
+                                year,
+                                monthOfYear,
+                                trainer.getKey(),
+                                month.getValue());
+                        rejectedMonths++;
+                        continue;
+                    }
+                    durations.put(year, monthOfYear, month.getValue().intValue());
+                }
+                workloads.add(TrainerWorkload.builder()
+                        .username(trainer.getKey())
+                        .firstName(sums.firstName)
+                        .lastName(sums.lastName)
+                        .active(sums.active == null || sums.active)
+                        .durations(durations.build())
+                        .build());
+            }
+            return new Result(workloads, lines, rejectedLines, rejectedMonths);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.epam.workload.interfaces.importer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Imports the historical trainings in {@code app.import.file} once the application has started.
+ * The file is parsed by {@link WorkloadFileParser} into per-month sums first; the trainers are then
+ * handed to {@link TrainerWorkloadService#importWorkloads} {@code batch-size} at a time, ascending by
+ * username, each batch being one bulk read and one unordered bulk write.
+ *
+ * <p>After every batch the number of trainers done is stored as the offset of source {@code
+ * import:<file name>:<file size>}, and a rerun with the same file starts after them. A crash
+ * between a batch and its checkpoint repeats that batch, which sets the same months again.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.import", name = "file")
+public class WorkloadImportRunner implements ApplicationRunner {
+    static final String SOURCE_PREFIX = "import:";
+
+    private final Path file;
+    private final TrainerWorkloadService workloadService;
+    private final SourceOffsetRepository offsets;
+    private final ObjectReader eventReader;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int batchSize;
+    private final Duration progressInterval;
+    private final Counter parsedLines;
+    private final Counter rejectedLines;
+    private final Counter importedTrainers;
+
+    @Autowired
+    WorkloadImportRunner(
+            @Value("${app.import.file}") Path file,
+            TrainerWorkloadService workloadService,
+            SourceOffsetRepository offsets,
+            ObjectMapper objectMapper,
+            @Value("${app.import.chunk-size:32MB}") DataSize chunkSize,
+            @Value("${app.import.parallelism:0}") int parallelism,
+            @Value("${app.import.batch-size:500}") int batchSize,
+            @Value("${app.import.progress-interval:10s}") Duration progressInterval,
+            MeterRegistry meterRegistry) {
+        this.file = file;
+        this.workloadService = workloadService;
+        this.offsets = offsets;
+        this.eventReader = objectMapper.readerFor(TrainerWorkloadEvent.class);
+        this.chunkSize = Math.toIntExact(chunkSize.toBytes());
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.progressInterval = progressInterval;
+        this.parsedLines = Counter.builder("workload.import.lines")
+                .description("Lines parsed from import files")
+                .tag("result", "parsed")
+                .register(meterRegistry);
+        this.rejectedLines = Counter.builder("workload.import.lines")
+                .description("Lines parsed from import files")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.importedTrainers = Counter.builder("workload.import.trainers")
+                .description("Trainers written by imports")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        importFile(file);
+    }
+
+    /** Returns the number of trainers written by this run. */
+    int importFile(Path file) throws IOException {
+        String source = SOURCE_PREFIX + file.getFileName() + ":" + Files.size(file);
+        log.info("Importing {} ({} bytes) with {} parser threads", file, Files.size(file), parallelism);
+
+        long started = System.nanoTime();
+        WorkloadFileParser.Result parsed;
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("workload-import-", 0).factory())) {
+            Progress progress = new Progress(started);
+            parsed = new WorkloadFileParser(eventReader, chunkSize, executor)
+                    .parse(file, chunks -> progress.report(() -> log.info("Parsed {} chunks of {}", chunks, file)));
+        }
+        long parseNanos = System.nanoTime() - started;
+        parsedLines.increment(parsed.lines() - parsed.rejectedLines());
+        rejectedLines.increment(parsed.rejectedLines());
+        log.info(
+                "Parsed {} lines into {} trainers in {} ms ({} lines/s); {} lines and {} months rejected",
+                parsed.lines(),
+                parsed.workloads().size(),
+                parseNanos / 1_000_000,
+                perSecond(parsed.lines(), parseNanos),
+                parsed.rejectedLines(),
+                parsed.rejectedMonths());
+
+        List<TrainerWorkload> workloads = parsed.workloads();
+        int done = offsets.findLastProcessed(source).map(Math::toIntExact).orElse(0);
+        if (done > 0) {
+            log.info("Resuming import of {} after {} of {} trainers", file, done, workloads.size());
+        }
+
+        long writeStarted = System.nanoTime();
+        Progress progress = new Progress(writeStarted);
+        int written = 0;
+        for (int from = done; from < workloads.size(); from += batchSize) {
+            int to = Math.min(workloads.size(), from + batchSize);
+            workloadService.importWorkloads(workloads.subList(from, to));
+            offsets.advanceAll(Map.of(source, (long) to));
+            importedTrainers.increment(to - from);
+            written += to - from;
+
+            int writtenSoFar = written;
+            progress.report(() -> log.info(
+                    "Imported {} of {} trainers from {} ({} trainers/s)",
+                    done + writtenSoFar,
+                    workloads.size(),
+                    file,
+                    perSecond(writtenSoFar, System.nanoTime() - writeStarted)));
+        }
+        log.info("Imported {} trainers from {} in {} ms", written, file, (System.nanoTime() - started) / 1_000_000);
+        return written;
+    }
+
+    private static long perSecond(long count, long nanos) {
+        return nanos == 0 ? count : count * 1_000_000_000L / nanos;
+    }
+
+    /** Lets a report through at most once per {@code progress-interval}. */
+    private final class Progress {
+        private long lastReport;
+
+        Progress(long started) {
+            this.lastReport = started;
+        }
+
+        void report(Runnable report) {
+            long now = System.nanoTime();
+            if (now - lastReport >= progressInterval.toNanos()) {
+                lastReport = now;
+                report.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.epam.workload.interfaces.messaging.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * {@code app.kafka.offsets.store=mongo}: the listener records applied offsets in MongoDB and seeks
+ * to them on assignment, so broker commits only need to be periodic - they keep lag monitoring
+ * meaningful and are the starting point for partitions MongoDB knows nothing about.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.kafka.offsets", name = "store", havingValue = "mongo")
+public class KafkaOffsetStoreConfig {
+
+    KafkaOffsetStoreConfig(
+            @Value("${app.kafka.batch.enabled:false}") boolean batchEnabled,
+            @Value("${app.workload.update-mode:atomic}") String updateMode) {
+        // Only the per-record listener feeds the offsets it applied to the seek on assignment, and
+        // read-modify-write saves keep existing marks but do not add their own
+        if (batchEnabled || !"atomic".equalsIgnoreCase(updateMode)) {
+            throw new IllegalStateException(
+                    "app.kafka.offsets.store=mongo needs app.kafka.batch.enabled=false and app.workload.update-mode=atomic");
+        }
+    }
+
+    @Bean
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>
+            periodicOffsetCommits(@Value("${app.kafka.offsets.broker-commit-interval:30s}") Duration interval) {
+        return container -> {
+            container.getContainerProperties().setAckMode(ContainerProperties.AckMode.TIME);
+            container.getContainerProperties().setAckTime(interval.toMillis());
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.workload.interfaces.messaging.config;
+
+import java.time.Duration;
+
+import com.epam.workload.application.exception.StoreUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * With the repository circuit breaker enabled, a record rejected by the open breaker is retried once
+ * per {@code wait-in-open} for as long as the breaker stays open. The default handling - nine
+ * immediate retries, then log and skip - would drop every record arriving during an outage.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence.circuit-breaker", name = "enabled", havingValue = "true")
+public class KafkaStoreOutageConfig {
+
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(
+            @Value("${app.persistence.circuit-breaker.wait-in-open:30s}") Duration waitInOpen) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler();
+        errorHandler.setBackOffFunction((record, e) -> isStoreUnavailable(e)
+                ? new FixedBackOff(waitInOpen.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)
+                : null);
+        return errorHandler;
+    }
+
+    static boolean isStoreUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StoreUnavailableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
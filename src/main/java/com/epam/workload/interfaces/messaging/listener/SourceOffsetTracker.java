@@ -0,0 +1,71 @@
+package com.epam.workload.interfaces.messaging.listener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the consumer's position in MongoDB instead of relying on broker commits. Processed offsets
+ * are buffered and written every {@code flush-every} records and on rebalance. Lagging behind is
+ * safe: each trainer document records the offsets applied to it, so records replayed from an older
+ * stored position are skipped by the update itself.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.kafka.offsets", name = "store", havingValue = "mongo")
+public class SourceOffsetTracker {
+    private final SourceOffsetRepository repository;
+    private final int flushEvery;
+    private final Map<String, Long> pending = new HashMap<>();
+    private int sinceFlush;
+
+    @Autowired
+    SourceOffsetTracker(
+            SourceOffsetRepository repository, @Value("${app.kafka.offsets.flush-every:100}") int flushEvery) {
+        this.repository = repository;
+        this.flushEvery = flushEvery;
+    }
+
+    /** Records that the listener is done with {@code position}, whether or not it changed anything. */
+    public synchronized void processed(SourcePosition position) {
+        pending.merge(position.source(), position.offset(), Math::max);
+        if (++sinceFlush >= flushEvery) {
+            flush();
+        }
+    }
+
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            repository.advanceAll(Map.copyOf(pending));
+            pending.clear();
+            sinceFlush = 0;
+        } catch (RuntimeException e) {
+            // Kept for the next flush; until then a restart merely replays a few more records
+            log.warn("Could not store consumer offsets {}: {}", pending, e.getMessage());
+        }
+    }
+
+    /** Offsets to resume the partitions from: one past the last processed record. Unknown partitions are left out. */
+    public Map<TopicPartition, Long> resumePositions(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, Long> positions = new LinkedHashMap<>();
+        for (TopicPartition partition : partitions) {
+            repository
+                    .findLastProcessed(partition.toString())
+                    .ifPresent(offset -> positions.put(partition, offset + 1));
+        }
+        return positions;
+    }
+}
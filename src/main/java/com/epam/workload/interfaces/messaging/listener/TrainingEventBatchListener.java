@@ -0,0 +1,92 @@
+package com.epam.workload.interfaces.messaging.listener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.interfaces.messaging.config.KafkaBatchListenerConfig;
+import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.kafka.batch", name = "enabled", havingValue = "true")
+public class TrainingEventBatchListener {
+    private final TrainerWorkloadService workloadService;
+    private final Duration eventBudget;
+
+    @Autowired
+    TrainingEventBatchListener(
+            TrainerWorkloadService workloadService,
+            @Value("${app.kafka.deadline.per-event:30s}") Duration eventBudget) {
+        this.workloadService = workloadService;
+        this.eventBudget = eventBudget;
+    }
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.training-created}",
+            groupId = "${spring.application.name}",
+            containerFactory = KafkaBatchListenerConfig.BATCH_CONTAINER_FACTORY)
+    public void onTrainingEvents(List<ConsumerRecord<String, TrainerWorkloadEvent>> records) {
+        log.info(
+                "Received batch of {} training events from partition(s) {}",
+                records.size(),
+                records.stream().map(ConsumerRecord::partition).distinct().toList());
+
+        List<UpdateTrainerWorkloadCommand> commands = new ArrayList<>(records.size());
+        List<SourcePosition> positions = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, TrainerWorkloadEvent> record : records) {
+            TrainerWorkloadEvent event = record.value();
+            if (event == null) {
+                // ErrorHandlingDeserializer hands over poison pills as null values
+                log.error(
+                        "Skipping undeserializable record at partition: {}, offset: {}",
+                        record.partition(),
+                        record.offset());
+                continue;
+            }
+            log.debug(
+                    "Batched training event for trainer: {} from partition: {}, offset: {} [TxnId: {}]",
+                    event.getTrainerUsername(),
+                    record.partition(),
+                    record.offset(),
+                    event.getTransactionId());
+            commands.add(mapToCommand(event));
+            positions.add(SourcePosition.of(record.topic(), record.partition(), record.offset()));
+        }
+
+        // One budget per record, spent on the bulk read and writes
+        try (RequestDeadline.Scope ignored = RequestDeadline.after(
+                        eventBudget.multipliedBy(Math.max(1, records.size())))
+                .bind()) {
+            workloadService.processBatch(commands, positions);
+            log.info("Successfully processed batch of {} training events", commands.size());
+        } catch (Exception e) {
+            log.error("Failed to process batch of {} training events", commands.size(), e);
+            // Every write records its offset, so the redelivered poll skips the records that landed
+            throw e;
+        }
+    }
+
+    private UpdateTrainerWorkloadCommand mapToCommand(TrainerWorkloadEvent event) {
+        return new UpdateTrainerWorkloadCommand(
+                event.getTrainerUsername(),
+                event.getTrainerFirstname(),
+                event.getTrainerLastname(),
+                event.getIsActive(),
+                event.getTrainingDate(),
+                event.getTrainingDurationMinutes(),
+                event.getActionType() == TrainerWorkloadEvent.ActionType.ADD ? ActionType.ADD : ActionType.DELETE);
+    }
+}
@@ -1,14 +1,25 @@
 package com.epam.workload.interfaces.messaging.listener;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+import com.epam.workload.application.deadline.RequestDeadline;
 import com.epam.workload.application.dto.request.ActionType;
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
 import com.epam.workload.application.exception.InsufficientDurationException;
 import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.SourcePosition;
 import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -16,12 +27,39 @@ import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class TrainingEventListener {
+@ConditionalOnProperty(prefix = "app.kafka.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class TrainingEventListener implements ConsumerSeekAware {
     private final TrainerWorkloadService workloadService;
+    private final SourceOffsetTracker offsetTracker;
+    private final Duration eventBudget;
 
+    /** {@code offsetTracker} is only available with {@code app.kafka.offsets.store=mongo}. */
     @Autowired
-    TrainingEventListener(TrainerWorkloadService workloadService) {
+    TrainingEventListener(
+            TrainerWorkloadService workloadService,
+            ObjectProvider<SourceOffsetTracker> offsetTracker,
+            @Value("${app.kafka.deadline.per-event:30s}") Duration eventBudget) {
         this.workloadService = workloadService;
+        this.offsetTracker = offsetTracker.getIfAvailable();
+        this.eventBudget = eventBudget;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (offsetTracker == null) {
+            return;
+        }
+        offsetTracker.resumePositions(assignments.keySet()).forEach((partition, offset) -> {
+            log.info("Resuming {} at offset {} stored in MongoDB", partition, offset);
+            callback.seek(partition.topic(), partition.partition(), offset);
+        });
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (offsetTracker != null) {
+            offsetTracker.flush();
+        }
     }
 
     @KafkaListener(
@@ -30,6 +68,7 @@ public class TrainingEventListener {
             containerFactory = "kafkaListenerContainerFactory")
     public void onTrainingEvent(
             @Payload TrainerWorkloadEvent event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset) {
         if (event.getTransactionId() != null) {
@@ -43,9 +82,15 @@ public class TrainingEventListener {
                 offset,
                 event.getTransactionId());
 
-        try {
+        SourcePosition position = SourcePosition.of(topic, partition, offset);
+        // Past the budget the record fails and goes through the error handler's retries, freeing the partition
+        try (RequestDeadline.Scope ignored = RequestDeadline.after(eventBudget).bind()) {
             UpdateTrainerWorkloadCommand command = mapToCommand(event);
-            workloadService.processRequest(command);
+            if (offsetTracker == null) {
+                workloadService.processRequest(command);
+            } else if (workloadService.processRequest(command, position).isEmpty()) {
+                log.info("Training event at {} offset {} was applied before", position.source(), offset);
+            }
 
             log.info("Successfully processed training event for trainer: {}", event.getTrainerUsername());
 
@@ -59,6 +104,9 @@ public class TrainingEventListener {
         } finally {
             MDC.remove("transactionId");
         }
+        if (offsetTracker != null) {
+            offsetTracker.processed(position);
+        }
     }
 
     private UpdateTrainerWorkloadCommand mapToCommand(TrainerWorkloadEvent event) {
@@ -4,18 +4,25 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.epam.workload.application.exception.DeadlineExceededException;
 import com.epam.workload.application.exception.EntityNotFoundException;
 import com.epam.workload.application.exception.InsufficientDurationException;
+import com.epam.workload.application.exception.ReportNotReadyException;
+import com.epam.workload.application.exception.StoreUnavailableException;
 import com.epam.workload.interfaces.web.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @RestControllerAdvice
@@ -62,6 +69,68 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Update conflict: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "CONCURRENT_MODIFICATION",
+                "The trainer was modified concurrently, please retry",
+                request.getRequestURI(),
+                Instant.now(),
+                MDC.get("transactionId"));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(ReportNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleReportNotReady(ReportNotReadyException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                "REPORT_NOT_READY", ex.getMessage(), request.getRequestURI(), Instant.now(), MDC.get("transactionId"));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler({DeadlineExceededException.class, QueryTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(RuntimeException ex, HttpServletRequest request) {
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "DEADLINE_EXCEEDED",
+                "The request could not be completed within its deadline",
+                request.getRequestURI(),
+                Instant.now(),
+                MDC.get("transactionId"));
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
+    @ExceptionHandler(StoreUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleStoreUnavailable(
+            StoreUnavailableException ex, HttpServletRequest request) {
+        log.warn("Workload store unavailable: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "STORE_UNAVAILABLE",
+                "Workload data is temporarily unavailable, please retry later",
+                request.getRequestURI(),
+                Instant.now(),
+                MDC.get("transactionId"));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(
+                        HttpHeaders.RETRY_AFTER,
+                        Long.toString(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleBadRequestParameter(RuntimeException ex, HttpServletRequest request) {
+        log.warn("Rejected request parameters: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+                "INVALID_PARAMETER", ex.getMessage(), request.getRequestURI(), Instant.now(), MDC.get("transactionId"));
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         log.error("Unexpected error occurred", ex);
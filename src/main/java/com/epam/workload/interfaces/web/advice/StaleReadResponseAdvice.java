@@ -0,0 +1,58 @@
+package com.epam.workload.interfaces.web.advice;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.epam.workload.application.resilience.StaleRead;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses built from data the store could not confirm (see {@link StaleRead}) with
+ * {@value #STALE_WARNING} and an {@code Age} of the oldest such data, in seconds.
+ */
+@RestControllerAdvice
+public class StaleReadResponseAdvice implements ResponseBodyAdvice<Object> {
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final Clock clock;
+
+    @Autowired
+    StaleReadResponseAdvice(ObjectProvider<Clock> clock) {
+        this.clock = clock.getIfAvailable(Clock::systemUTC);
+    }
+
+    @Override
+    public boolean supports(
+            @NonNull MethodParameter returnType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            @NonNull MethodParameter returnType,
+            @NonNull MediaType selectedContentType,
+            @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response) {
+        StaleRead.oldest().ifPresent(readAt -> {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+            headers.set(
+                    HttpHeaders.AGE,
+                    Long.toString(Math.max(
+                            0, Duration.between(readAt, clock.instant()).toSeconds())));
+        });
+        return body;
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.YearMonth;
+
+import com.epam.workload.application.service.MonthReportService;
+import com.epam.workload.interfaces.web.dto.response.ReportJobResponse;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/workload/reports")
+class MonthReportController implements MonthReportControllerApi {
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final MonthReportService reportService;
+    private final WorkloadRequestMapper mapper;
+
+    @Autowired
+    MonthReportController(MonthReportService reportService, WorkloadRequestMapper mapper) {
+        this.reportService = reportService;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submit(@RequestParam YearMonth month) {
+        ReportJobResponse job = mapper.toReportJobResponse(reportService.submit(month));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/workload/reports/" + job.id()))
+                .body(job);
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public ResponseEntity<ReportJobResponse> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(mapper.toReportJobResponse(reportService.getJob(id)));
+    }
+
+    @Override
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> download(@PathVariable String id) {
+        Path result = reportService.getResult(id);
+        return ResponseEntity.ok()
+                .contentType(GZIP)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("workload-report-" + id + ".csv.gz")
+                                .build()
+                                .toString())
+                .body(new FileSystemResource(result));
+    }
+}
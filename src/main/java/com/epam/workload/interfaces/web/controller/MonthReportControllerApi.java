@@ -0,0 +1,45 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.time.YearMonth;
+
+import com.epam.workload.interfaces.web.dto.response.ReportJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Month Reports", description = "Month-end reports of every trainer's hours, computed in the background")
+interface MonthReportControllerApi {
+    @Operation(
+            summary = "Submit a month-end report",
+            description = "Queues a job computing the minutes of every trainer with workload in the month. "
+                    + "Poll the job under the Location returned")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "202", description = "Job is queued"),
+                @ApiResponse(responseCode = "400", description = "Invalid month")
+            })
+    ResponseEntity<ReportJobResponse> submit(@Parameter(description = "Month to report, e.g. 2025-03") YearMonth month);
+
+    @Operation(summary = "Get the status of a report job")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Status is retrieved successfully"),
+                @ApiResponse(responseCode = "404", description = "Job not found")
+            })
+    ResponseEntity<ReportJobResponse> getJob(@Parameter(description = "Job id") String id);
+
+    @Operation(
+            summary = "Download the result of a report job",
+            description = "Gzip-compressed CSV: username, firstName, lastName, minutes, hours")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Report is downloaded"),
+                @ApiResponse(responseCode = "404", description = "Job or its result not found"),
+                @ApiResponse(responseCode = "409", description = "Job has not completed, or failed")
+            })
+    ResponseEntity<Resource> download(@Parameter(description = "Job id") String id);
+}
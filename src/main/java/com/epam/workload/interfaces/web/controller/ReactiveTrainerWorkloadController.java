@@ -0,0 +1,44 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.time.Month;
+
+import com.epam.workload.application.service.ReactiveTrainerSummaryService;
+import com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Returns a {@link Mono}, so Spring MVC completes the request asynchronously: the servlet thread
+ * goes back to the pool as soon as the read is issued and the response is written when it lands.
+ */
+@RestController
+@RequestMapping("/api/workload/reactive")
+class ReactiveTrainerWorkloadController implements ReactiveTrainerWorkloadControllerApi {
+    private final ReactiveTrainerSummaryService summaryService;
+    private final WorkloadRequestMapper mapper;
+
+    @Autowired
+    ReactiveTrainerWorkloadController(ReactiveTrainerSummaryService summaryService, WorkloadRequestMapper mapper) {
+        this.summaryService = summaryService;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @GetMapping("/{username}")
+    public Mono<TrainerSummaryResponse> getTrainerSummary(
+            @PathVariable String username,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Month month) {
+        return summaryService
+                .getTrainerSummary(username, TrainerWorkloadController.toPeriod(year, fromYear, toYear, month))
+                .map(mapper::toTrainerSummaryResponse);
+    }
+}
@@ -0,0 +1,31 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.time.Month;
+
+import com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Trainer Workload (non-blocking)", description = "Summary reads served without holding a request thread")
+interface ReactiveTrainerWorkloadControllerApi {
+    @Operation(
+            summary = "Get trainer workload summary without blocking",
+            description = "Same response as GET /api/workload/{username}, always read from the primary store "
+                    + "(no cache, no consistency token)")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Workload is retrieved successfully"),
+                @ApiResponse(responseCode = "400", description = "Invalid period"),
+                @ApiResponse(responseCode = "404", description = "Trainer is not found")
+            })
+    Mono<TrainerSummaryResponse> getTrainerSummary(
+            String username,
+            @Parameter(description = "Single year, exclusive with fromYear/toYear") Integer year,
+            @Parameter(description = "First year of the range, inclusive") Integer fromYear,
+            @Parameter(description = "Last year of the range, inclusive") Integer toYear,
+            @Parameter(description = "Month name, e.g. MARCH") Month month);
+}
@@ -1,10 +1,19 @@
 package com.epam.workload.interfaces.web.controller;
 
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
 import com.epam.workload.application.service.TrainerWorkloadService;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.interfaces.web.dto.request.TrainerSummariesWebRequest;
 import com.epam.workload.interfaces.web.dto.request.TrainerWorkloadWebRequest;
+import com.epam.workload.interfaces.web.dto.response.TrainerSearchResponse;
+import com.epam.workload.interfaces.web.dto.response.TrainerSummariesResponse;
 import com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse;
+import com.epam.workload.interfaces.web.dto.response.TrainerTotalsResponse;
 import com.epam.workload.interfaces.web.dto.response.TrainerWorkloadResponse;
 import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
 import jakarta.validation.Valid;
@@ -14,12 +23,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Workload API. The literal routes next to {@code /{username}} ({@code search}, {@code export}, ...)
+ * win over a trainer of that name, so every trainer route is also mapped under {@code
+ * /trainers/{username}}, which no literal route shadows.
+ */
 @RestController
 @RequestMapping("/api/workload")
 class TrainerWorkloadController implements TrainerWorkloadControllerApi {
+    static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
     private final TrainerWorkloadService workloadService;
     private final WorkloadRequestMapper mapper;
 
@@ -35,13 +53,89 @@ class TrainerWorkloadController implements TrainerWorkloadControllerApi {
             @Valid @RequestBody TrainerWorkloadWebRequest request) {
         UpdateTrainerWorkloadCommand serviceRequest = mapper.toUpdateWorkloadCommand(request);
         TrainerWorkload workloadResponse = workloadService.processRequest(serviceRequest);
-        return ResponseEntity.ok(toResponse(workloadResponse));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        workloadService.lastWriteToken().ifPresent(token -> response.header(CONSISTENCY_TOKEN_HEADER, token));
+        return response.body(toResponse(workloadResponse));
     }
 
     @Override
-    @GetMapping("/{username}")
-    public ResponseEntity<TrainerSummaryResponse> getTrainerSummary(@PathVariable String username) {
-        return ResponseEntity.ok(mapper.toTrainerSummaryResponse(workloadService.getTrainerSummary(username)));
+    @GetMapping("/search")
+    public ResponseEntity<TrainerSearchResponse> searchTrainers(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        var page = workloadService.searchTrainers(firstName, lastName, cursor, limit);
+        return ResponseEntity.ok(mapper.toTrainerSearchResponse(page));
+    }
+
+    @Override
+    @PostMapping("/summaries")
+    public ResponseEntity<TrainerSummariesResponse> getTrainerSummaries(
+            @Valid @RequestBody TrainerSummariesWebRequest request, @RequestParam(required = false) Integer year) {
+        WorkloadPeriod period = toPeriod(year, null, null, null);
+        var summaries = workloadService.getTrainerSummaries(request.usernames(), period);
+        return ResponseEntity.ok(mapper.toTrainerSummariesResponse(summaries));
+    }
+
+    @Override
+    @GetMapping({"/{username}", "/trainers/{username}"})
+    public ResponseEntity<TrainerSummaryResponse> getTrainerSummary(
+            @PathVariable String username,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false) Month month,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) Instant asOf,
+            @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) String consistencyToken) {
+        WorkloadPeriod period = toPeriod(year, fromYear, toYear, month);
+        TrainerSummaryResponse summary;
+        if (asOf != null) {
+            // Rebuilt from the journal, whose baselines already hold the archived years
+            if (includeArchived || consistencyToken != null) {
+                throw new IllegalArgumentException(
+                        "'asOf' cannot be combined with 'includeArchived' or " + CONSISTENCY_TOKEN_HEADER);
+            }
+            summary = mapper.toTrainerSummaryResponse(workloadService.getTrainerSummaryAsOf(username, period, asOf));
+        } else if (includeArchived) {
+            if (consistencyToken != null) {
+                throw new IllegalArgumentException(
+                        "'includeArchived' cannot be combined with " + CONSISTENCY_TOKEN_HEADER);
+            }
+            summary = mapper.toTrainerSummaryResponse(
+                    workloadService.getTrainerSummaryIncludingArchive(username, period));
+        } else if (consistencyToken != null) {
+            summary = mapper.toTrainerSummaryResponse(
+                    workloadService.getTrainerSummary(username, period, consistencyToken));
+        } else if (period.isUnbounded()) {
+            summary = mapper.toTrainerSummaryResponse(workloadService.getTrainerSummary(username));
+        } else {
+            summary = mapper.toTrainerSummaryResponse(workloadService.getTrainerSummary(username, period));
+        }
+        return ResponseEntity.ok(summary);
+    }
+
+    @Override
+    @GetMapping({"/{username}/totals", "/trainers/{username}/totals"})
+    public ResponseEntity<TrainerTotalsResponse> getTrainerTotals(
+            @PathVariable String username, @RequestParam(defaultValue = "false") boolean includeArchived) {
+        var totals = includeArchived
+                ? workloadService.getTrainerTotalsIncludingArchive(username)
+                : workloadService.getTrainerTotals(username);
+        return ResponseEntity.ok(mapper.toTrainerTotalsResponse(totals));
+    }
+
+    static WorkloadPeriod toPeriod(Integer year, Integer fromYear, Integer toYear, Month month) {
+        if (year != null) {
+            if (fromYear != null || toYear != null) {
+                throw new IllegalArgumentException("'year' cannot be combined with 'fromYear'/'toYear'");
+            }
+            fromYear = year;
+            toYear = year;
+        }
+        return new WorkloadPeriod(
+                fromYear == null ? null : Year.of(fromYear), toYear == null ? null : Year.of(toYear), month);
     }
 
     private TrainerWorkloadResponse toResponse(TrainerWorkload workload) {
@@ -1,9 +1,17 @@
 package com.epam.workload.interfaces.web.controller;
 
+import java.time.Instant;
+import java.time.Month;
+
+import com.epam.workload.interfaces.web.dto.request.TrainerSummariesWebRequest;
 import com.epam.workload.interfaces.web.dto.request.TrainerWorkloadWebRequest;
+import com.epam.workload.interfaces.web.dto.response.TrainerSearchResponse;
+import com.epam.workload.interfaces.web.dto.response.TrainerSummariesResponse;
 import com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse;
+import com.epam.workload.interfaces.web.dto.response.TrainerTotalsResponse;
 import com.epam.workload.interfaces.web.dto.response.TrainerWorkloadResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,7 +19,10 @@ import org.springframework.http.ResponseEntity;
 
 @Tag(name = "Trainer Workload", description = "Trainer workload management API")
 interface TrainerWorkloadControllerApi {
-    @Operation(summary = "Update trainer workload", description = "Add or delete training hours for a trainer")
+    @Operation(
+            summary = "Update trainer workload",
+            description = "Add or delete training hours for a trainer. On a replica set the response carries an "
+                    + "X-Consistency-Token header; passing it to the summary GET guarantees the read sees this write")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "Workload updated successfully"),
@@ -20,11 +31,72 @@ interface TrainerWorkloadControllerApi {
             })
     ResponseEntity<TrainerWorkloadResponse> processTrainerRequest(TrainerWorkloadWebRequest request);
 
-    @Operation(summary = "Get trainer workload summary")
+    @Operation(
+            summary = "Search trainers by name",
+            description = "Trainers whose first and last names start with the given prefixes (case-sensitive), "
+                    + "ordered by first name, last name and username, one page at a time")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Page is retrieved successfully"),
+                @ApiResponse(responseCode = "400", description = "Malformed cursor or limit outside 1-100")
+            })
+    ResponseEntity<TrainerSearchResponse> searchTrainers(
+            @Parameter(description = "First name prefix, e.g. Jo") String firstName,
+            @Parameter(description = "Last name prefix, e.g. Sm") String lastName,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page") String cursor,
+            @Parameter(description = "Page size, 1-100") int limit);
+
+    @Operation(
+            summary = "Get workload summaries of several trainers",
+            description = "One store query for all usernames; summaries come in request order, unknown "
+                    + "usernames are listed in notFound")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Summaries are retrieved successfully"),
+                @ApiResponse(responseCode = "400", description = "No, blank or more than 100 usernames")
+            })
+    ResponseEntity<TrainerSummariesResponse> getTrainerSummaries(
+            TrainerSummariesWebRequest request, @Parameter(description = "Single year") Integer year);
+
+    @Operation(
+            summary = "Get trainer workload summary",
+            description = "Optionally restricted to a single year, a year range and/or a month, and optionally "
+                    + "as it stood at a past instant. Also served under /trainers/{username}; use that form for "
+                    + "trainers named like a fixed route, e.g. search or export, which /{username} cannot reach")
     @ApiResponses(
             value = {
                 @ApiResponse(responseCode = "200", description = "Workload is retrieved successfully"),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Invalid period, conflicting parameters or malformed consistency token"),
+                @ApiResponse(responseCode = "404", description = "Trainer is not found, or had no history yet at asOf")
+            })
+    ResponseEntity<TrainerSummaryResponse> getTrainerSummary(
+            String username,
+            @Parameter(description = "Single year, exclusive with fromYear/toYear") Integer year,
+            @Parameter(description = "First year of the range, inclusive") Integer fromYear,
+            @Parameter(description = "Last year of the range, inclusive") Integer toYear,
+            @Parameter(description = "Month name, e.g. MARCH") Month month,
+            @Parameter(description = "Also read years moved to the archive; exclusive with the consistency token")
+                    boolean includeArchived,
+            @Parameter(
+                            description =
+                                    "ISO-8601 instant, e.g. 2025-03-31T23:59:59Z; the summary as it stood then, "
+                                            + "rebuilt from the event journal, archived years included; needs "
+                                            + "app.journal.enabled=true. Exclusive with includeArchived and the consistency token")
+                    Instant asOf,
+            @Parameter(description = "X-Consistency-Token from an earlier update; the summary will include that update")
+                    String consistencyToken);
+
+    @Operation(
+            summary = "Get trainer workload totals",
+            description = "Per-year and lifetime training minutes, without the monthly breakdown. Also served "
+                    + "under /trainers/{username}/totals; use that form for trainers named reports or reactive")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Totals are retrieved successfully"),
                 @ApiResponse(responseCode = "404", description = "Trainer is not found")
             })
-    ResponseEntity<TrainerSummaryResponse> getTrainerSummary(String username);
+    ResponseEntity<TrainerTotalsResponse> getTrainerTotals(
+            String username, @Parameter(description = "Also count years moved to the archive") boolean includeArchived);
 }
@@ -0,0 +1,111 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.service.WorkloadExportService;
+import com.epam.workload.interfaces.web.export.ExportFormat;
+import com.epam.workload.interfaces.web.export.SummaryExportWriter;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams the export on an MVC async thread, one summary at a time from the repository cursor.
+ * Writes block while the client is not reading, and the cursor only fetches its next batch once the
+ * current one is written, so a slow client slows the read down instead of filling the heap.
+ */
+@RestController
+@RequestMapping("/api/workload/export")
+@Slf4j
+class WorkloadExportController implements WorkloadExportControllerApi {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WorkloadExportService exportService;
+    private final WorkloadRequestMapper mapper;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    WorkloadExportController(
+            WorkloadExportService exportService, WorkloadRequestMapper mapper, ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename("workload-export." + exportFormat.extension())
+                                .build()
+                                .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> write(exportFormat, gzip, out));
+    }
+
+    private void write(ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long trainers = 0;
+        // The cursor is opened first, so an unavailable store still gets an error response
+        try (Stream<TrainerSummaryResponse> summaries = exportService.streamSummaries();
+                SummaryExportWriter writer = SummaryExportWriter.open(format, target(out, gzip), objectMapper)) {
+            for (Iterator<TrainerSummaryResponse> iterator = summaries.iterator(); iterator.hasNext(); ) {
+                writer.write(mapper.toTrainerSummaryResponse(iterator.next()));
+                trainers++;
+            }
+        }
+        log.info(
+                "Exported {} trainers as {}{} in {} ms",
+                trainers,
+                format.extension(),
+                gzip ? " (gzip)" : "",
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static OutputStream target(OutputStream out, boolean gzip) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        return gzip ? new GZIPOutputStream(buffered, BUFFER_SIZE) : buffered;
+    }
+
+    /** Whether {@code Accept-Encoding} lists gzip without {@code q=0}. */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].strip().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+}
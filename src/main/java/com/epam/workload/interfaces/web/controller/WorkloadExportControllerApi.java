@@ -0,0 +1,26 @@
+package com.epam.workload.interfaces.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Workload Export", description = "Bulk export of all trainer summaries")
+interface WorkloadExportControllerApi {
+    @Operation(
+            summary = "Export all trainer summaries",
+            description = "Streams every trainer ascending by username straight from a database cursor. "
+                    + "Compressed with gzip when the request accepts it")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Export is streamed"),
+                @ApiResponse(responseCode = "400", description = "Unsupported format"),
+                @ApiResponse(responseCode = "503", description = "Store is unavailable")
+            })
+    ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "ndjson (default) or csv") String format,
+            @Parameter(description = "gzip to receive the export compressed") String acceptEncoding);
+}
@@ -0,0 +1,33 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.time.YearMonth;
+
+import com.epam.workload.application.service.WorkloadStatsService;
+import com.epam.workload.interfaces.web.dto.response.MonthTotalsResponse;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/workload/stats")
+class WorkloadStatsController implements WorkloadStatsControllerApi {
+    private final WorkloadStatsService statsService;
+    private final WorkloadRequestMapper mapper;
+
+    @Autowired
+    WorkloadStatsController(WorkloadStatsService statsService, WorkloadRequestMapper mapper) {
+        this.statsService = statsService;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @GetMapping("/months")
+    public ResponseEntity<MonthTotalsResponse> getMonthTotals(
+            @RequestParam(required = false) YearMonth from, @RequestParam(required = false) YearMonth to) {
+        return ResponseEntity.ok(mapper.toMonthTotalsResponse(statsService.getMonthTotals(from, to)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.workload.interfaces.web.controller;
+
+import java.time.YearMonth;
+
+import com.epam.workload.interfaces.web.dto.response.MonthTotalsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Workload Statistics", description = "Workload aggregated across all trainers")
+interface WorkloadStatsControllerApi {
+    @Operation(
+            summary = "Get monthly totals across all trainers",
+            description = "One entry per month of the range, read from the materialized month totals")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Totals are retrieved successfully"),
+                @ApiResponse(responseCode = "400", description = "Invalid range")
+            })
+    ResponseEntity<MonthTotalsResponse> getMonthTotals(
+            @Parameter(description = "First month, inclusive, e.g. 2025-01; defaults to 11 months before 'to'")
+                    YearMonth from,
+            @Parameter(description = "Last month, inclusive, e.g. 2025-12; defaults to the current month")
+                    YearMonth to);
+}
@@ -0,0 +1,12 @@
+package com.epam.workload.interfaces.web.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TrainerSummariesWebRequest(
+        @NotEmpty(message = "At least one username is required")
+                @Size(max = 100, message = "At most 100 usernames per request")
+                List<@NotBlank(message = "Usernames must not be blank") String> usernames) {}
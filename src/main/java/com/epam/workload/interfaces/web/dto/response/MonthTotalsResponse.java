@@ -0,0 +1,6 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record MonthTotalsResponse(YearMonth from, YearMonth to, long totalMinutes, List<MonthTotalDTO> months) {}
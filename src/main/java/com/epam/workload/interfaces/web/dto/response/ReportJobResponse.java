@@ -0,0 +1,16 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+public record ReportJobResponse(
+        String id,
+        YearMonth month,
+        String status,
+        int chunks,
+        long chunksDone,
+        long trainers,
+        long minutes,
+        Instant createdAt,
+        Instant updatedAt,
+        String error) {}
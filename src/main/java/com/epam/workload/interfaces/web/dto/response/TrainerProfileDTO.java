@@ -0,0 +1,3 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+public record TrainerProfileDTO(String username, String firstName, String lastName, boolean status) {}
@@ -0,0 +1,5 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+import java.util.List;
+
+public record TrainerSearchResponse(List<TrainerProfileDTO> trainers, String nextCursor) {}
@@ -0,0 +1,5 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+import java.util.List;
+
+public record TrainerSummariesResponse(List<TrainerSummaryResponse> summaries, List<String> notFound) {}
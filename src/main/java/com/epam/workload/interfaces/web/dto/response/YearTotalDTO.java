@@ -0,0 +1,5 @@
+package com.epam.workload.interfaces.web.dto.response;
+
+import java.time.Year;
+
+public record YearTotalDTO(Year year, long yearTotal) {}
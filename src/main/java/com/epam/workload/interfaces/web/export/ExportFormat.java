@@ -0,0 +1,38 @@
+package com.epam.workload.interfaces.web.export;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    /** One JSON summary per line, as returned by {@code GET /api/workload/{username}}. */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    /** One row per trainer and month; a trainer without any months gets one row with empty month columns. */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /** @throws IllegalArgumentException for anything but {@code ndjson} or {@code csv}, in any case */
+    public static ExportFormat of(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(name.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format '" + name + "', expected ndjson or csv");
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,107 @@
+package com.epam.workload.interfaces.web.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.epam.workload.interfaces.web.dto.response.MonthSummaryDTO;
+import com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse;
+import com.epam.workload.interfaces.web.dto.response.YearSummaryDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes summaries one at a time in an {@link ExportFormat}. Nothing is flushed per summary; the
+ * output is handed on as the buffers below fill up. Closing flushes and closes the target.
+ */
+public abstract class SummaryExportWriter implements Closeable {
+
+    public static SummaryExportWriter open(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, objectMapper);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    public abstract void write(TrainerSummaryResponse summary) throws IOException;
+
+    private static final class Ndjson extends SummaryExportWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter summaryWriter;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            // Lines are separated by hand below instead of Jackson's root value separator
+            this.generator.setRootValueSeparator(null);
+            this.summaryWriter = objectMapper
+                    .writerFor(TrainerSummaryResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(TrainerSummaryResponse summary) throws IOException {
+            summaryWriter.writeValue(generator, summary);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class Csv extends SummaryExportWriter {
+        private static final String HEADER = "username,firstName,lastName,status,year,month,trainingSummaryDuration\n";
+
+        private final Writer out;
+
+        Csv(OutputStream out) throws IOException {
+            this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            this.out.write(HEADER);
+        }
+
+        @Override
+        public void write(TrainerSummaryResponse summary) throws IOException {
+            String trainer = field(summary.username())
+                    + ','
+                    + field(summary.firstName())
+                    + ','
+                    + field(summary.lastName())
+                    + ','
+                    + summary.status()
+                    + ',';
+            if (summary.years().isEmpty()) {
+                out.write(trainer + ",,\n");
+                return;
+            }
+            for (YearSummaryDTO year : summary.years()) {
+                for (MonthSummaryDTO month : year.months()) {
+                    out.write(
+                            trainer + year.year() + ',' + month.month() + ',' + month.trainingSummaryDuration() + '\n');
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        /** Quoted (RFC 4180) only when it holds a separator, quote or line break; {@code null} stays empty. */
+        private static String field(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
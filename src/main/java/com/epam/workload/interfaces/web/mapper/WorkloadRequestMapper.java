@@ -1,7 +1,12 @@
 package com.epam.workload.interfaces.web.mapper;
 
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.MonthTotalsResponse;
+import com.epam.workload.application.dto.response.ReportJobResponse;
+import com.epam.workload.application.dto.response.TrainerSearchResponse;
+import com.epam.workload.application.dto.response.TrainerSummariesResponse;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
 import com.epam.workload.interfaces.web.dto.request.TrainerWorkloadWebRequest;
 import org.mapstruct.Mapper;
 
@@ -12,4 +17,19 @@ public interface WorkloadRequestMapper {
 
     com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse toTrainerSummaryResponse(
             TrainerSummaryResponse serviceResponse);
+
+    com.epam.workload.interfaces.web.dto.response.TrainerSummariesResponse toTrainerSummariesResponse(
+            TrainerSummariesResponse serviceResponse);
+
+    com.epam.workload.interfaces.web.dto.response.TrainerTotalsResponse toTrainerTotalsResponse(
+            TrainerTotalsResponse serviceResponse);
+
+    com.epam.workload.interfaces.web.dto.response.MonthTotalsResponse toMonthTotalsResponse(
+            MonthTotalsResponse serviceResponse);
+
+    com.epam.workload.interfaces.web.dto.response.TrainerSearchResponse toTrainerSearchResponse(
+            TrainerSearchResponse serviceResponse);
+
+    com.epam.workload.interfaces.web.dto.response.ReportJobResponse toReportJobResponse(
+            ReportJobResponse serviceResponse);
 }
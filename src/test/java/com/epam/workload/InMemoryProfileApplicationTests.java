@@ -0,0 +1,68 @@
+package com.epam.workload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.application.service.WorkloadStatsService;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.memory.InMemoryTrainerWorkloadRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/** The whole service on the in-memory profile: no MongoDB, no Testcontainers. */
+@SpringBootTest
+@ActiveProfiles("in-memory")
+@TestPropertySource(
+        properties = {
+            "spring.main.banner-mode=off",
+            "spring.kafka.listener.auto-startup=false",
+            "eureka.client.enabled=false"
+        })
+class InMemoryProfileApplicationTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private TrainerWorkloadRepository repository;
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private WorkloadStatsService statsService;
+
+    @Test
+    void runsWithoutMongo() {
+        assertThat(repository).isInstanceOf(InMemoryTrainerWorkloadRepository.class);
+        assertThat(context.getBeanNamesForType(MongoTemplate.class)).isEmpty();
+    }
+
+    @Test
+    void processesAndReadsWorkload() {
+        workloadService.processRequest(new UpdateTrainerWorkloadCommand(
+                "in.memory", "In", "Memory", true, LocalDateTime.of(2025, 3, 10, 9, 0), 45, ActionType.ADD));
+
+        assertThat(workloadService.getTrainerSummary("in.memory").lifetimeTotal())
+                .isEqualTo(45);
+        assertThat(workloadService.getTrainerTotals("in.memory").years())
+                .singleElement()
+                .satisfies(year -> assertThat(year.year()).isEqualTo(Year.of(2025)));
+        assertThat(statsService
+                        .getMonthTotals(YearMonth.of(2025, Month.MARCH), YearMonth.of(2025, Month.MARCH))
+                        .totalMinutes())
+                .isEqualTo(45);
+    }
+}
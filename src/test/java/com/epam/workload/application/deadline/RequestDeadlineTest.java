@@ -0,0 +1,67 @@
+package com.epam.workload.application.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import com.epam.workload.application.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RequestDeadline Tests")
+class RequestDeadlineTest {
+
+    @Test
+    @DisplayName("Should be bound only inside its scope")
+    void shouldBindForScope() {
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(5));
+
+        try (RequestDeadline.Scope ignored = deadline.bind()) {
+            assertThat(RequestDeadline.current()).containsSame(deadline);
+            assertThat(deadline.remaining()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5));
+        }
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep an earlier outer deadline when a later one is nested")
+    void shouldKeepEarlierDeadline() {
+        RequestDeadline outer = RequestDeadline.after(Duration.ofSeconds(1));
+
+        try (RequestDeadline.Scope ignored = outer.bind()) {
+            try (RequestDeadline.Scope nested =
+                    RequestDeadline.after(Duration.ofMinutes(1)).bind()) {
+                assertThat(RequestDeadline.current()).containsSame(outer);
+            }
+            RequestDeadline tighter = RequestDeadline.after(Duration.ofMillis(100));
+            try (RequestDeadline.Scope nested = tighter.bind()) {
+                assertThat(RequestDeadline.current()).containsSame(tighter);
+            }
+            assertThat(RequestDeadline.current()).containsSame(outer);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the check once expired and pass it while suspended")
+    void shouldCheckExpiry() {
+        try (RequestDeadline.Scope ignored =
+                RequestDeadline.after(Duration.ZERO).bind()) {
+            assertThatThrownBy(() -> RequestDeadline.check("reading"))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessageContaining("reading");
+
+            try (RequestDeadline.Scope suspended = RequestDeadline.suspend()) {
+                assertThatCode(() -> RequestDeadline.check("bookkeeping")).doesNotThrowAnyException();
+            }
+            assertThat(RequestDeadline.current()).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass the check without a deadline")
+    void shouldPassWithoutDeadline() {
+        assertThatCode(() -> RequestDeadline.check("anything")).doesNotThrowAnyException();
+    }
+}
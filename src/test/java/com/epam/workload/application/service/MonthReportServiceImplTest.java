@@ -0,0 +1,166 @@
+package com.epam.workload.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.epam.workload.application.dto.response.ReportJobResponse;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.exception.ReportNotReadyException;
+import com.epam.workload.domain.model.ReportChunk;
+import com.epam.workload.domain.model.ReportJob;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.infrastructure.persistence.memory.InMemoryReportJobRepository;
+import com.epam.workload.infrastructure.persistence.memory.InMemoryTrainerWorkloadRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MonthReportServiceImpl Tests")
+class MonthReportServiceImplTest {
+    private static final Instant NOW = Instant.parse("2025-04-01T00:00:00Z");
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    @TempDir
+    private Path directory;
+
+    private final InMemoryTrainerWorkloadRepository repository = new InMemoryTrainerWorkloadRepository();
+    private final InMemoryReportJobRepository jobs = new InMemoryReportJobRepository();
+
+    private MonthReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MonthReportServiceImpl(
+                jobs, repository, Clock.fixed(NOW, ZoneOffset.UTC), directory, 2, 10, 2, Duration.ofMinutes(10));
+        record("a.smith", "A", Month.MARCH, 90);
+        record("b.smith", "B, Jr.", Month.MARCH, 45);
+        record("b.smith", "B, Jr.", Month.APRIL, 600);
+        record("c.smith", "C", Month.APRIL, 30);
+        record("d.smith", "D", Month.MARCH, 60);
+        record("e.smith", "E", Month.MARCH, 61);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private void record(String username, String firstName, Month month, int minutes) {
+        TrainerWorkload profile = TrainerWorkload.builder()
+                .username(username)
+                .firstName(firstName)
+                .lastName("Smith")
+                .active(true)
+                .build();
+        repository.incrementDuration(profile, Year.of(2025), month, minutes);
+    }
+
+    private ReportJobResponse awaitStatus(String id, String status) {
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(service.getJob(id).status()).isEqualTo(status));
+        return service.getJob(id);
+    }
+
+    private static List<String> gunzipLines(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute the month chunk by chunk into one gzip file")
+    void shouldComputeReport() throws IOException {
+        ReportJobResponse submitted = service.submit(MARCH);
+
+        ReportJobResponse completed = awaitStatus(submitted.id(), "COMPLETED");
+
+        assertThat(completed.chunks()).isEqualTo(3);
+        assertThat(completed.chunksDone()).isEqualTo(3);
+        assertThat(completed.trainers()).isEqualTo(4);
+        assertThat(completed.minutes()).isEqualTo(256);
+        assertThat(gunzipLines(service.getResult(submitted.id())))
+                .containsExactly(
+                        "username,firstName,lastName,minutes,hours",
+                        "a.smith,A,Smith,90,1.50",
+                        "b.smith,\"B, Jr.\",Smith,45,0.75",
+                        "d.smith,D,Smith,60,1.00",
+                        "e.smith,E,Smith,61,1.02");
+        // Only the result is left behind
+        assertThat(Files.exists(directory.resolve(submitted.id()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resume a job whose worker went away after its last checkpoint")
+    void shouldResumeAfterCheckpoint() throws IOException {
+        // Chunk 0 was checkpointed before the restart; its part file is reused as it is
+        Path parts = Files.createDirectories(directory.resolve("job-1"));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(parts.resolve("chunk-000000.csv.gz")))) {
+            out.write("checkpointed,,,999,16.65\n".getBytes(StandardCharsets.UTF_8));
+        }
+        jobs.insert(new ReportJob(
+                "job-1",
+                MARCH,
+                ReportJob.Status.RUNNING,
+                List.of(
+                        ReportChunk.pending(0, null, "c.smith").completed(1, 999),
+                        ReportChunk.pending(1, "c.smith", null)),
+                NOW.minusSeconds(3_600),
+                NOW.minusSeconds(3_600),
+                null));
+
+        service.resumeUnfinished();
+
+        ReportJobResponse completed = awaitStatus("job-1", "COMPLETED");
+        assertThat(completed.trainers()).isEqualTo(3);
+        assertThat(gunzipLines(service.getResult("job-1")))
+                .containsExactly(
+                        "username,firstName,lastName,minutes,hours",
+                        "checkpointed,,,999,16.65",
+                        "d.smith,D,Smith,60,1.00",
+                        "e.smith,E,Smith,61,1.02");
+    }
+
+    @Test
+    @DisplayName("Should leave a job that is still running elsewhere alone")
+    void shouldNotTakeOverLiveJob() {
+        jobs.insert(
+                new ReportJob("job-1", MARCH, ReportJob.Status.RUNNING, List.of(), NOW, NOW.minusSeconds(60), null));
+
+        service.resumeUnfinished();
+
+        await().during(200, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(
+                        service.getJob("job-1").chunks())
+                .isZero());
+        assertThatThrownBy(() -> service.getResult("job-1"))
+                .isInstanceOf(ReportNotReadyException.class)
+                .hasMessageContaining("RUNNING");
+    }
+
+    @Test
+    @DisplayName("Should throw for an unknown job")
+    void shouldRejectUnknownJob() {
+        assertThatThrownBy(() -> service.getJob("missing")).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> service.getResult("missing")).isInstanceOf(EntityNotFoundException.class);
+    }
+}
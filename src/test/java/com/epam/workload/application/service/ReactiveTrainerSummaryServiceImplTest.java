@@ -0,0 +1,72 @@
+package com.epam.workload.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.Map;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.ReactiveTrainerWorkloadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveTrainerSummaryServiceImpl Tests")
+class ReactiveTrainerSummaryServiceImplTest {
+
+    @Mock
+    private ReactiveTrainerWorkloadRepository repository;
+
+    private ReactiveTrainerSummaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveTrainerSummaryServiceImpl(repository);
+    }
+
+    @Test
+    @DisplayName("Should map the stored workload to a summary")
+    void shouldMapWorkload() {
+        WorkloadPeriod period = new WorkloadPeriod(Year.of(2025), Year.of(2025), null);
+        when(repository.findByUsername("john.smith", period))
+                .thenReturn(Mono.just(TrainerWorkload.builder()
+                        .username("john.smith")
+                        .firstName("John")
+                        .lastName("Smith")
+                        .active(true)
+                        .durations(YearlyDurations.of(Map.of(Year.of(2025), Map.of(Month.MARCH, 90))))
+                        .build()));
+
+        TrainerSummaryResponse summary =
+                service.getTrainerSummary("john.smith", period).block();
+
+        assertThat(summary).isNotNull();
+        assertThat(summary.lifetimeTotal()).isEqualTo(90);
+        assertThat(summary.years()).singleElement().satisfies(year -> assertThat(year.year())
+                .isEqualTo(Year.of(2025)));
+    }
+
+    @Test
+    @DisplayName("Should fail with EntityNotFoundException for an unknown trainer")
+    void shouldFailForUnknownTrainer() {
+        when(repository.findByUsername("ghost", WorkloadPeriod.all())).thenReturn(Mono.empty());
+
+        Mono<TrainerSummaryResponse> summary = service.getTrainerSummary("ghost", WorkloadPeriod.all());
+
+        assertThatThrownBy(summary::block)
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("ghost");
+    }
+}
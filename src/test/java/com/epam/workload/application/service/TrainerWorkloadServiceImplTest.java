@@ -2,49 +2,174 @@ package com.epam.workload.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import com.epam.workload.application.cache.PassThroughTrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.consistency.ReadConsistency;
+import com.epam.workload.application.deadline.RequestDeadline;
 import com.epam.workload.application.dto.request.ActionType;
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.TrainerProfileDTO;
+import com.epam.workload.application.dto.response.TrainerSearchResponse;
+import com.epam.workload.application.dto.response.TrainerSummariesResponse;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
+import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.dto.response.YearTotalDTO;
+import com.epam.workload.application.exception.DeadlineExceededException;
 import com.epam.workload.application.exception.EntityNotFoundException;
 import com.epam.workload.application.exception.InsufficientDurationException;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadEvent;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadSnapshot;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.MonthTotalsRepository;
 import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.domain.port.WorkloadJournal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TrainerWorkloadServiceImpl Tests")
 class TrainerWorkloadServiceImplTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
 
     @Mock
     private TrainerWorkloadRepository repository;
 
-    @InjectMocks
+    @Mock
+    private MonthTotalsRepository monthTotals;
+
+    @Mock
+    private WorkloadJournal journal;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RecordingReadConsistency readConsistency;
+
     private TrainerWorkloadServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readConsistency = new RecordingReadConsistency();
+        service = serviceIn(WorkloadUpdateMode.READ_MODIFY_WRITE);
+    }
+
+    private TrainerWorkloadServiceImpl serviceIn(WorkloadUpdateMode mode) {
+        return serviceIn(mode, new PassThroughTrainerSummaryCache(new TrainerSummaryLoader(repository)));
+    }
+
+    private TrainerWorkloadServiceImpl serviceIn(WorkloadUpdateMode mode, TrainerSummaryCache cache) {
+        return new TrainerWorkloadServiceImpl(
+                repository,
+                mode,
+                new OptimisticRetryExecutor(3, Duration.ZERO, Duration.ZERO, meterRegistry),
+                cache,
+                monthTotals,
+                readConsistency,
+                journal,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    /** Runs reads directly and remembers the token each one was bounded by. */
+    private static class RecordingReadConsistency implements ReadConsistency {
+        private final List<String> tokens = new ArrayList<>();
+
+        @Override
+        public Optional<String> lastWriteToken() {
+            return Optional.of("token-1");
+        }
+
+        @Override
+        public <T> T read(String afterToken, Supplier<T> read) {
+            tokens.add(afterToken);
+            return read.get();
+        }
+
+        @Override
+        public <T> T readAfterLocalWrites(Supplier<T> read) {
+            tokens.add("local");
+            return read.get();
+        }
+    }
+
     private static UpdateTrainerWorkloadCommand command(ActionType actionType, int duration, int year, int month) {
         return new UpdateTrainerWorkloadCommand(
                 "john.smith", "John", "Smith", true, LocalDateTime.of(year, month, 15, 10, 0), duration, actionType);
     }
 
+    private static SourcePosition position(long offset) {
+        return SourcePosition.of("training-events", 0, offset);
+    }
+
+    /** Runs the commands as one batch at offsets 0, 1, ... with every increment landing. */
+    @SuppressWarnings("unchecked")
+    private List<TrainerWorkload> processBatch(UpdateTrainerWorkloadCommand... commands) {
+        lenient()
+                .when(repository.incrementAll(any()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<WorkloadIncrement>>getArgument(0)));
+        return service.processBatch(
+                List.of(commands),
+                LongStream.range(0, commands.length)
+                        .mapToObj(TrainerWorkloadServiceImplTest::position)
+                        .toList());
+    }
+
     private static TrainerWorkload workloadWith(Year year, Month month, int duration) {
         Map<Month, Integer> months = new EnumMap<>(Month.class);
         months.put(month, duration);
@@ -56,12 +181,12 @@ class TrainerWorkloadServiceImplTest {
                 .firstName("John")
                 .lastName("Smith")
                 .active(true)
-                .yearMonthDuration(yearMap)
+                .durations(YearlyDurations.of(yearMap))
                 .build();
     }
 
     private int getDuration(TrainerWorkload workload, Year year, Month month) {
-        return workload.getYearMonthDuration().get(year).get(month);
+        return workload.getDurations().toMap().get(year).get(month);
     }
 
     @Nested
@@ -71,7 +196,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should add duration to existing year and month entry")
         void shouldAddToExistingEntry() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
@@ -83,7 +208,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should create new month entry under existing year")
         void shouldCreateNewMonthUnderExistingYear() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.ADD, 50, 2025, 2));
@@ -96,7 +221,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should create new year and month entry when year does not exist")
         void shouldCreateNewYearEntry() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2024), Month.DECEMBER, 100)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.ADD, 75, 2025, 1));
@@ -109,7 +234,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should create brand new trainer document when none exists")
         void shouldCreateNewDocumentWhenNoneExists() {
-            when(repository.findByUsername("john.smith")).thenReturn(Optional.empty());
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
 
             TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
 
@@ -124,7 +249,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should add to zero duration")
         void shouldAddToZeroDuration() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 0)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.ADD, 30, 2025, 1));
@@ -135,7 +260,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should accumulate multiple ADD calls on same month")
         void shouldAccumulateMultipleAdds() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 0)))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 60)));
 
@@ -153,7 +278,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should subtract duration from existing entry")
         void shouldSubtractFromExistingEntry() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.DELETE, 40, 2025, 1));
@@ -165,7 +290,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should allow deleting exact available duration leaving zero")
         void shouldAllowDeletingExactDuration() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
 
             TrainerWorkload result = service.processRequest(command(ActionType.DELETE, 100, 2025, 1));
@@ -177,7 +302,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should throw InsufficientDurationException when subtracting more than available")
         void shouldThrowWhenSubtractingMoreThanAvailable() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
 
             assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 150, 2025, 1)))
@@ -190,7 +315,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should throw InsufficientDurationException when subtracting from zero")
         void shouldThrowWhenSubtractingFromZero() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 0)));
 
             assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 10, 2025, 1)))
@@ -202,7 +327,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should throw EntityNotFoundException when year entry does not exist")
         void shouldThrowWhenYearNotFound() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2024), Month.JANUARY, 100)));
 
             assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 50, 2025, 1)))
@@ -215,7 +340,7 @@ class TrainerWorkloadServiceImplTest {
         @Test
         @DisplayName("Should throw EntityNotFoundException when month entry does not exist")
         void shouldThrowWhenMonthNotFound() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.FEBRUARY, 100)));
 
             assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 50, 2025, 1)))
@@ -225,10 +350,24 @@ class TrainerWorkloadServiceImplTest {
             verify(repository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("Should subtract from the archive when the month is not stored")
+        void shouldSubtractFromArchive() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementArchived("john.smith", Year.of(2019), Month.MAY, 50))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2019), Month.MAY, 10)));
+
+            TrainerWorkload result = service.processRequest(command(ActionType.DELETE, 50, 2019, 5));
+
+            assertThat(getDuration(result, Year.of(2019), Month.MAY)).isEqualTo(10);
+            verify(repository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should throw EntityNotFoundException when no trainer document exists")
         void shouldThrowWhenNoDocumentExists() {
-            when(repository.findByUsername("john.smith")).thenReturn(Optional.empty());
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 50, 2025, 1)))
                     .isInstanceOf(EntityNotFoundException.class);
@@ -237,6 +376,569 @@ class TrainerWorkloadServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Summary cache")
+    class SummaryCacheTests {
+
+        @Mock
+        private TrainerSummaryCache cache;
+
+        @BeforeEach
+        void useMockCache() {
+            service = serviceIn(WorkloadUpdateMode.READ_MODIFY_WRITE, cache);
+        }
+
+        @Test
+        @DisplayName("Should serve full summaries from the cache")
+        void shouldReadThroughCache() {
+            TrainerSummaryResponse cached =
+                    new TrainerSummaryResponse("john.smith", "John", "Smith", true, 0, List.of());
+            when(cache.get("john.smith")).thenReturn(Optional.of(cached));
+
+            assertThat(service.getTrainerSummary("john.smith")).isSameAs(cached);
+            verify(repository, never()).findByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("Should invalidate the trainer after an update")
+        void shouldInvalidateAfterUpdate() {
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
+
+            service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            verify(cache).invalidate("john.smith");
+        }
+
+        @Test
+        @DisplayName("Should not invalidate when the update is rejected")
+        void shouldNotInvalidateRejectedUpdate() {
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 60, 2025, 1)))
+                    .isInstanceOf(EntityNotFoundException.class);
+
+            verify(cache, never()).invalidate(anyString());
+        }
+
+        @Test
+        @DisplayName("Should invalidate every trainer changed by a batch")
+        void shouldInvalidateBatch() {
+            when(repository.findAllByUsernames(any())).thenReturn(List.of());
+
+            processBatch(command(ActionType.ADD, 60, 2025, 1));
+
+            verify(cache).invalidateAll(Set.of("john.smith"));
+        }
+    }
+
+    @Nested
+    @DisplayName("OPTIMISTIC update mode")
+    class OptimisticModeTests {
+
+        @BeforeEach
+        void useOptimisticMode() {
+            service = serviceIn(WorkloadUpdateMode.OPTIMISTIC);
+        }
+
+        @Test
+        @DisplayName("Should re-read and retry when the save hits a version conflict")
+        void shouldRetryOnConflict() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 130)));
+            doThrow(new OptimisticLockingFailureException("conflict"))
+                    .doNothing()
+                    .when(repository)
+                    .save(any());
+
+            TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            assertThat(getDuration(result, Year.of(2025), Month.JANUARY)).isEqualTo(190);
+            verify(repository, times(2)).save(any());
+            assertThat(meterRegistry.counter("workload.update.conflicts").count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.counter("workload.update.retries").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should give up after the configured number of attempts")
+        void shouldGiveUpAfterMaxAttempts() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            doThrow(new OptimisticLockingFailureException("conflict"))
+                    .when(repository)
+                    .save(any());
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.ADD, 60, 2025, 1)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+
+            verify(repository, times(3)).save(any());
+            assertThat(meterRegistry.counter("workload.update.conflicts").count())
+                    .isEqualTo(3);
+            assertThat(meterRegistry.counter("workload.update.retries").count()).isEqualTo(2);
+            assertThat(meterRegistry
+                            .counter("workload.update.retries.exhausted")
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not retry business rule violations")
+        void shouldNotRetryBusinessErrors() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 10)));
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 60, 2025, 1)))
+                    .isInstanceOf(InsufficientDurationException.class);
+
+            verify(repository, times(1)).findForUpdate(eq("john.smith"), any());
+            assertThat(meterRegistry.counter("workload.update.conflicts").count())
+                    .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("READ_MODIFY_WRITE version conflicts")
+    class ReadModifyWriteConflictTests {
+
+        @Test
+        @DisplayName("Should surface a version conflict without retrying")
+        void shouldSurfaceConflict() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            doThrow(new OptimisticLockingFailureException("conflict"))
+                    .when(repository)
+                    .save(any());
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.ADD, 60, 2025, 1)))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+
+            verify(repository, times(1)).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("ATOMIC update mode")
+    class AtomicModeTests {
+
+        @BeforeEach
+        void useAtomicMode() {
+            service = serviceIn(WorkloadUpdateMode.ATOMIC);
+        }
+
+        @Test
+        @DisplayName("Should delegate ADD to a single atomic increment without reading or saving")
+        void shouldIncrementAtomically() {
+            when(repository.incrementDuration(any(), eq(Year.of(2025)), eq(Month.JANUARY), eq(60)))
+                    .thenReturn(workloadWith(Year.of(2025), Month.JANUARY, 160));
+
+            TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            assertThat(getDuration(result, Year.of(2025), Month.JANUARY)).isEqualTo(160);
+            verify(repository, never()).findForUpdate(anyString(), any());
+            verify(repository, never()).save(any());
+            verify(monthTotals).add(YearMonth.of(2025, 1), 60);
+        }
+
+        @Test
+        @DisplayName("Should pass the trainer profile for upsert on ADD")
+        void shouldPassProfileOnAdd() {
+            when(repository.incrementDuration(any(), any(), any(), anyInt()))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            assertThat(result.getUsername()).isEqualTo("john.smith");
+            assertThat(result.getFirstName()).isEqualTo("John");
+            assertThat(result.getLastName()).isEqualTo("Smith");
+            assertThat(result.getActive()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should delegate DELETE to a single guarded decrement")
+        void shouldDecrementAtomically() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 40))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 60)));
+
+            TrainerWorkload result = service.processRequest(command(ActionType.DELETE, 40, 2025, 1));
+
+            assertThat(getDuration(result, Year.of(2025), Month.JANUARY)).isEqualTo(60);
+            verify(repository, never()).findForUpdate(anyString(), any());
+            verify(repository, never()).save(any());
+            verify(monthTotals).add(YearMonth.of(2025, 1), -40);
+        }
+
+        @Test
+        @DisplayName("Should subtract from the archive when the stored months cannot cover a DELETE")
+        void shouldDecrementArchive() {
+            when(repository.decrementDuration("john.smith", Year.of(2019), Month.MAY, 40))
+                    .thenReturn(Optional.empty());
+            when(repository.decrementArchived("john.smith", Year.of(2019), Month.MAY, 40))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2019), Month.MAY, 20)));
+
+            TrainerWorkload result = service.processRequest(command(ActionType.DELETE, 40, 2019, 5));
+
+            assertThat(getDuration(result, Year.of(2019), Month.MAY)).isEqualTo(20);
+            verify(monthTotals).add(YearMonth.of(2019, 5), -40);
+        }
+
+        @Test
+        @DisplayName("Should report InsufficientDurationException when the decrement guard rejects")
+        void shouldReportInsufficientDurationWhenGuardRejects() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 150))
+                    .thenReturn(Optional.empty());
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 150, 2025, 1)))
+                    .isInstanceOf(InsufficientDurationException.class)
+                    .hasMessageContaining("current is 100 min");
+
+            verify(repository, never()).save(any());
+            verifyNoInteractions(monthTotals);
+        }
+
+        @Test
+        @DisplayName("Should report EntityNotFoundException when the month entry is missing")
+        void shouldReportEntityNotFoundWhenMonthMissing() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 50))
+                    .thenReturn(Optional.empty());
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 50, 2025, 1)))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("JANUARY");
+        }
+
+        @Test
+        @DisplayName("Should report InsufficientDurationException when the entry changed concurrently")
+        void shouldReportConcurrentChange() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 50))
+                    .thenReturn(Optional.empty());
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 80)));
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 50, 2025, 1)))
+                    .isInstanceOf(InsufficientDurationException.class)
+                    .hasMessageContaining("concurrently");
+        }
+    }
+
+    @Nested
+    @DisplayName("processRequest with a source position")
+    class SourcePositionTests {
+        private final SourcePosition position = SourcePosition.of("training-events", 0, 42);
+
+        @BeforeEach
+        void useAtomicMode() {
+            service = serviceIn(WorkloadUpdateMode.ATOMIC);
+        }
+
+        @Test
+        @DisplayName("Should apply an unseen position and record month totals")
+        void shouldApplyUnseenPosition() {
+            when(repository.incrementDuration(any(), eq(Year.of(2025)), eq(Month.JANUARY), eq(60), eq(position)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 160)));
+
+            Optional<TrainerWorkload> result = service.processRequest(command(ActionType.ADD, 60, 2025, 1), position);
+
+            assertThat(result).isPresent();
+            verify(monthTotals).add(YearMonth.of(2025, 1), 60);
+        }
+
+        @Test
+        @DisplayName("Should skip a replayed ADD without touching month totals")
+        void shouldSkipReplayedAdd() {
+            when(repository.incrementDuration(any(), any(), any(), anyInt(), eq(position)))
+                    .thenReturn(Optional.empty());
+
+            Optional<TrainerWorkload> result = service.processRequest(command(ActionType.ADD, 60, 2025, 1), position);
+
+            assertThat(result).isEmpty();
+            verifyNoInteractions(monthTotals);
+        }
+
+        @Test
+        @DisplayName("Should skip a replayed DELETE instead of rejecting it")
+        void shouldSkipReplayedDelete() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 40, position))
+                    .thenReturn(Optional.empty());
+            when(repository.hasApplied("john.smith", Year.of(2025), position)).thenReturn(true);
+
+            Optional<TrainerWorkload> result =
+                    service.processRequest(command(ActionType.DELETE, 40, 2025, 1), position);
+
+            assertThat(result).isEmpty();
+            verify(repository, never()).findForUpdate(anyString(), any());
+            verifyNoInteractions(monthTotals);
+        }
+
+        @Test
+        @DisplayName("Should reject a DELETE the guard refused at an unseen position")
+        void shouldRejectUnseenDelete() {
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 150, position))
+                    .thenReturn(Optional.empty());
+            when(repository.hasApplied("john.smith", Year.of(2025), position)).thenReturn(false);
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.DELETE, 150, 2025, 1), position))
+                    .isInstanceOf(InsufficientDurationException.class);
+        }
+
+        @Test
+        @DisplayName("Should refuse modes that cannot record the position with the update")
+        void shouldRequireAtomicMode() {
+            service = serviceIn(WorkloadUpdateMode.READ_MODIFY_WRITE);
+
+            assertThatThrownBy(() -> service.processRequest(command(ActionType.ADD, 60, 2025, 1), position))
+                    .isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Request deadlines")
+    class DeadlineTests {
+
+        @BeforeEach
+        void useAtomicMode() {
+            service = serviceIn(WorkloadUpdateMode.ATOMIC);
+        }
+
+        @Test
+        @DisplayName("Should fail fast without touching the store once the deadline has passed")
+        void shouldFailFastWhenExpired() {
+            try (RequestDeadline.Scope ignored =
+                    RequestDeadline.after(Duration.ZERO).bind()) {
+                assertThatThrownBy(() -> service.processRequest(command(ActionType.ADD, 60, 2025, 1)))
+                        .isInstanceOf(DeadlineExceededException.class);
+            }
+            verifyNoInteractions(repository, monthTotals);
+        }
+
+        @Test
+        @DisplayName("Should update month totals without a deadline once the trainer write succeeded")
+        void shouldSuspendDeadlineForMonthTotals() {
+            List<Optional<RequestDeadline>> deadlinesSeen = new ArrayList<>();
+            when(repository.incrementDuration(any(), any(), any(), anyInt()))
+                    .thenReturn(workloadWith(Year.of(2025), Month.JANUARY, 60));
+            doAnswer(invocation -> deadlinesSeen.add(RequestDeadline.current()))
+                    .when(monthTotals)
+                    .add(YearMonth.of(2025, 1), 60);
+
+            try (RequestDeadline.Scope ignored =
+                    RequestDeadline.after(Duration.ofSeconds(5)).bind()) {
+                service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+                assertThat(RequestDeadline.current()).isPresent();
+            }
+            assertThat(deadlinesSeen).containsExactly(Optional.empty());
+        }
+    }
+
+    @Nested
+    @DisplayName("processBatch")
+    class ProcessBatchTests {
+
+        @Test
+        @DisplayName("Should load all trainers once and add the minutes of a run of ADDs in one bulk write")
+        @SuppressWarnings("unchecked")
+        void shouldUseOneBulkReadAndWrite() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            List<TrainerWorkload> result =
+                    processBatch(command(ActionType.ADD, 60, 2025, 1), command(ActionType.ADD, 30, 2025, 2));
+
+            assertThat(result).hasSize(1);
+            assertThat(getDuration(result.getFirst(), Year.of(2025), Month.JANUARY))
+                    .isEqualTo(160);
+            assertThat(getDuration(result.getFirst(), Year.of(2025), Month.FEBRUARY))
+                    .isEqualTo(30);
+            ArgumentCaptor<Collection<WorkloadIncrement>> increments = ArgumentCaptor.forClass(Collection.class);
+            verify(repository).incrementAll(increments.capture());
+            assertThat(increments.getValue())
+                    .extracting(WorkloadIncrement::month, WorkloadIncrement::minutes, WorkloadIncrement::position)
+                    .containsExactly(tuple(Month.JANUARY, 60, position(0)), tuple(Month.FEBRUARY, 30, position(1)));
+            verify(repository, never()).findForUpdate(anyString(), any());
+            verify(repository, never()).save(any());
+            verify(repository, never()).saveProfiles(any());
+        }
+
+        @Test
+        @DisplayName("Should write every request in source order with its position")
+        void shouldWriteInSourceOrder() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 40, position(1)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 70)));
+
+            processBatch(
+                    command(ActionType.ADD, 10, 2025, 1),
+                    command(ActionType.DELETE, 40, 2025, 1),
+                    command(ActionType.ADD, 15, 2025, 2));
+
+            InOrder inOrder = inOrder(repository);
+            inOrder.verify(repository)
+                    .incrementAll(List.of(new WorkloadIncrement(
+                            workloadWith(Year.of(2025), Month.JANUARY, 100),
+                            Year.of(2025),
+                            Month.JANUARY,
+                            10,
+                            position(0))));
+            inOrder.verify(repository).decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 40, position(1));
+            inOrder.verify(repository)
+                    .incrementAll(argThat(increments -> increments.size() == 1
+                            && increments.iterator().next().position().equals(position(2))));
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 1), -30L, YearMonth.of(2025, 2), 15L));
+        }
+
+        @Test
+        @DisplayName("Should skip the increments the store had applied before")
+        @SuppressWarnings("unchecked")
+        void shouldSkipReplayedIncrements() {
+            when(repository.findAllByUsernames(any())).thenReturn(List.of());
+            when(repository.incrementAll(any()))
+                    .thenAnswer(invocation -> List.copyOf(invocation.<Collection<WorkloadIncrement>>getArgument(0))
+                            .subList(1, 2));
+
+            service.processBatch(
+                    List.of(command(ActionType.ADD, 60, 2025, 1), command(ActionType.ADD, 30, 2025, 2)),
+                    List.of(position(0), position(1)));
+
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 2), 30L));
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .extracting(WorkloadEvent::month, WorkloadEvent::minutesAfter)
+                    .containsExactly(tuple(Month.FEBRUARY, 30));
+        }
+
+        @Test
+        @DisplayName("Should skip a DELETE the store had applied before without trying the archive")
+        void shouldSkipReplayedDelete() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.hasApplied("john.smith", Year.of(2025), position(0)))
+                    .thenReturn(true);
+
+            assertThat(processBatch(command(ActionType.DELETE, 40, 2025, 1))).isEmpty();
+
+            verify(repository, never()).decrementArchived(anyString(), any(), any(), anyInt(), any());
+            verify(monthTotals, never()).addAll(any());
+        }
+
+        @Test
+        @DisplayName("Should rethrow a failed write after accounting for the writes before it")
+        void shouldRethrowAfterRecordingWrittenPart() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 40, position(1)))
+                    .thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+            assertThatThrownBy(() ->
+                            processBatch(command(ActionType.ADD, 15, 2025, 2), command(ActionType.DELETE, 40, 2025, 1)))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 2), 15L));
+            verify(journal).append(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a batch whose positions do not match its requests")
+        void shouldRejectMismatchedPositions() {
+            assertThatThrownBy(() -> service.processBatch(List.of(command(ActionType.ADD, 60, 2025, 1)), List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            verifyNoInteractions(repository);
+        }
+
+        @Test
+        @DisplayName("Should create trainers that are not stored yet")
+        void shouldCreateMissingTrainers() {
+            when(repository.findAllByUsernames(any())).thenReturn(List.of());
+
+            List<TrainerWorkload> result = processBatch(command(ActionType.ADD, 60, 2025, 1));
+
+            assertThat(result).singleElement().satisfies(workload -> {
+                assertThat(workload.getUsername()).isEqualTo("john.smith");
+                assertThat(getDuration(workload, Year.of(2025), Month.JANUARY)).isEqualTo(60);
+            });
+        }
+
+        @Test
+        @DisplayName("Should skip DELETEs nothing can cover and still apply the rest of the batch")
+        void shouldSkipRejectedDeletes() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            List<TrainerWorkload> result = processBatch(
+                    command(ActionType.DELETE, 500, 2025, 1),
+                    command(ActionType.DELETE, 10, 2024, 1),
+                    command(ActionType.ADD, 20, 2025, 1));
+
+            assertThat(getDuration(result.getFirst(), Year.of(2025), Month.JANUARY))
+                    .isEqualTo(120);
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 1), 20L));
+        }
+
+        @Test
+        @DisplayName("Should apply DELETEs the stored months cannot cover against the archive")
+        @SuppressWarnings("unchecked")
+        void shouldDeleteFromArchive() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementArchived("john.smith", Year.of(2019), Month.MAY, 30, position(0)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2019), Month.MAY, 30)));
+
+            processBatch(command(ActionType.DELETE, 30, 2019, 5), command(ActionType.ADD, 15, 2025, 1));
+
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2019, 5), -30L, YearMonth.of(2025, 1), 15L));
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .extracting(WorkloadEvent::month, WorkloadEvent::minutesAfter)
+                    .containsExactly(tuple(Month.MAY, 30), tuple(Month.JANUARY, 115));
+        }
+
+        @Test
+        @DisplayName("Should add the minutes per month to the month totals in one call")
+        void shouldAggregateMonthTotals() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 50, position(1)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 80)));
+
+            processBatch(
+                    command(ActionType.ADD, 30, 2025, 1),
+                    command(ActionType.DELETE, 50, 2025, 1),
+                    command(ActionType.ADD, 15, 2025, 2));
+
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 1), -20L, YearMonth.of(2025, 2), 15L));
+        }
+
+        @Test
+        @DisplayName("Should not write anything when every command is rejected")
+        void shouldWriteNothingWhenAllRejected() {
+            when(repository.findAllByUsernames(any())).thenReturn(List.of());
+
+            List<TrainerWorkload> result = processBatch(command(ActionType.DELETE, 10, 2025, 1));
+
+            assertThat(result).isEmpty();
+            verify(repository, never()).incrementAll(any());
+            verify(monthTotals, never()).addAll(any());
+        }
+
+        @Test
+        @DisplayName("Should not touch the repository for an empty batch")
+        void shouldIgnoreEmptyBatch() {
+            assertThat(service.processBatch(List.of(), List.of())).isEmpty();
+
+            verify(repository, never()).findAllByUsernames(any());
+            verify(repository, never()).incrementAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("getTrainerSummary")
     class GetTrainerSummaryTests {
@@ -277,7 +979,7 @@ class TrainerWorkloadServiceImplTest {
                             .firstName("John")
                             .lastName("Smith")
                             .active(true)
-                            .yearMonthDuration(yearMap)
+                            .durations(YearlyDurations.of(yearMap))
                             .build()));
 
             TrainerSummaryResponse response = service.getTrainerSummary("john.smith");
@@ -303,12 +1005,14 @@ class TrainerWorkloadServiceImplTest {
                             .firstName("John")
                             .lastName("Smith")
                             .active(true)
-                            .yearMonthDuration(yearMap)
+                            .durations(YearlyDurations.of(yearMap))
                             .build()));
 
             TrainerSummaryResponse response = service.getTrainerSummary("john.smith");
 
             assertThat(response.years()).hasSize(2);
+            assertThat(response.years()).extracting(YearSummaryDTO::yearTotal).containsExactly(100L, 120L);
+            assertThat(response.lifetimeTotal()).isEqualTo(220);
         }
 
         @Test
@@ -320,6 +1024,203 @@ class TrainerWorkloadServiceImplTest {
                     .isInstanceOf(EntityNotFoundException.class)
                     .hasMessageContaining("ghost");
         }
+
+        @Test
+        @DisplayName("Should read only the requested period from the repository")
+        void shouldReadRequestedPeriod() {
+            WorkloadPeriod period = new WorkloadPeriod(Year.of(2025), Year.of(2025), Month.JANUARY);
+            when(repository.findByUsername("john.smith", period))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 120)));
+
+            TrainerSummaryResponse response = service.getTrainerSummary("john.smith", period);
+
+            assertThat(response.years()).hasSize(1);
+            assertThat(response.years().getFirst().months().getFirst().trainingSummaryDuration())
+                    .isEqualTo(120);
+            verify(repository, never()).findByUsername("john.smith");
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache and read the archive when asked to")
+        void shouldReadArchiveWhenAsked() {
+            when(repository.findByUsernameIncludingArchive("john.smith", WorkloadPeriod.all()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2019), Month.MAY, 45)));
+
+            TrainerSummaryResponse response =
+                    service.getTrainerSummaryIncludingArchive("john.smith", WorkloadPeriod.all());
+
+            assertThat(response.years()).extracting(YearSummaryDTO::year).containsExactly(Year.of(2019));
+            verify(repository, never()).findByUsername("john.smith");
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache and read after the token's write when given a consistency token")
+        void shouldReadAfterTokenBypassingCache() {
+            TrainerSummaryCache cache = mock(TrainerSummaryCache.class);
+            service = serviceIn(WorkloadUpdateMode.ATOMIC, cache);
+            when(repository.findByUsername("john.smith", WorkloadPeriod.all()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 120)));
+
+            TrainerSummaryResponse response = service.getTrainerSummary("john.smith", WorkloadPeriod.all(), "token-1");
+
+            assertThat(response.lifetimeTotal()).isEqualTo(120);
+            assertThat(readConsistency.tokens).containsExactly("token-1");
+            verifyNoInteractions(cache);
+        }
+
+        @Test
+        @DisplayName("Should load cache misses after this instance's own writes")
+        void shouldLoadCacheMissesAfterLocalWrites() {
+            when(repository.findByUsername("john.smith"))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 120)));
+
+            service.getTrainerSummary("john.smith", WorkloadPeriod.all(), null);
+
+            assertThat(readConsistency.tokens).containsExactly("local");
+        }
+
+        @Test
+        @DisplayName("Should throw EntityNotFoundException for period read of unknown trainer")
+        void shouldThrowForPeriodReadOfUnknownTrainer() {
+            WorkloadPeriod period = WorkloadPeriod.ofYear(Year.of(2025));
+            when(repository.findByUsername("ghost", period)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getTrainerSummary("ghost", period))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("ghost");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTrainerTotals")
+    class GetTrainerTotalsTests {
+
+        @Test
+        @DisplayName("Should return stored totals without loading months")
+        void shouldReturnStoredTotals() {
+            SortedMap<Year, Long> yearTotals = new TreeMap<>(Map.of(Year.of(2024), 100L, Year.of(2025), 120L));
+            when(repository.findTotals("john.smith"))
+                    .thenReturn(Optional.of(new WorkloadTotals("john.smith", 220, yearTotals)));
+
+            TrainerTotalsResponse response = service.getTrainerTotals("john.smith");
+
+            assertThat(response.lifetimeTotal()).isEqualTo(220);
+            assertThat(response.years())
+                    .containsExactly(new YearTotalDTO(Year.of(2024), 100), new YearTotalDTO(Year.of(2025), 120));
+            verify(repository, never()).findByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("Should throw EntityNotFoundException when trainer has no document")
+        void shouldThrowWhenTrainerNotFound() {
+            when(repository.findTotals("ghost")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getTrainerTotals("ghost"))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("ghost");
+        }
+
+        @Test
+        @DisplayName("Should sum archived years from the months when asked to include them")
+        void shouldSumArchivedYears() {
+            when(repository.findByUsernameIncludingArchive("john.smith", WorkloadPeriod.all()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2019), Month.MAY, 45)
+                            .withDurations(YearlyDurations.builder()
+                                    .put(2019, 5, 45)
+                                    .put(2025, 1, 30)
+                                    .build())));
+
+            TrainerTotalsResponse response = service.getTrainerTotalsIncludingArchive("john.smith");
+
+            assertThat(response.lifetimeTotal()).isEqualTo(75);
+            assertThat(response.years())
+                    .containsExactly(new YearTotalDTO(Year.of(2019), 45), new YearTotalDTO(Year.of(2025), 30));
+            verify(repository, never()).findTotals(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("getTrainerSummaries")
+    class GetTrainerSummariesTests {
+
+        @Test
+        @DisplayName("Should load all trainers in one query and answer in request order")
+        void shouldAnswerInRequestOrder() {
+            TrainerWorkload john = workloadWith(Year.of(2024), Month.MAY, 45)
+                    .withDurations(YearlyDurations.builder()
+                            .put(2024, 5, 45)
+                            .put(2025, 1, 30)
+                            .build());
+            TrainerWorkload jane = john.withUsername("jane.doe").withFirstName("Jane");
+            when(repository.findAllByUsernames(Set.of("john.smith", "ghost", "jane.doe")))
+                    .thenReturn(List.of(jane, john));
+
+            TrainerSummariesResponse response = service.getTrainerSummaries(
+                    List.of("john.smith", "ghost", "jane.doe", "john.smith"), WorkloadPeriod.ofYear(Year.of(2025)));
+
+            assertThat(response.summaries())
+                    .extracting(TrainerSummaryResponse::username, TrainerSummaryResponse::lifetimeTotal)
+                    .containsExactly(tuple("john.smith", 30L), tuple("jane.doe", 30L));
+            assertThat(response.summaries().get(0).years())
+                    .extracting(YearSummaryDTO::year)
+                    .containsExactly(Year.of(2025));
+            assertThat(response.notFound()).containsExactly("ghost");
+            verify(repository, times(1)).findAllByUsernames(any());
+            verify(repository, never()).findByUsername(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("searchTrainers")
+    class SearchTests {
+
+        private TrainerWorkload trainer(String username, String firstName, String lastName) {
+            return TrainerWorkload.builder()
+                    .username(username)
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .active(true)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should fetch one trainer more than the page and hand out a cursor past the last one")
+        void shouldPageWithCursor() {
+            when(repository.findProfilesByName("Ja", null, null, 3))
+                    .thenReturn(List.of(
+                            trainer("jane.doe", "Jane", "Doe"),
+                            trainer("jane.smith", null, "Smith"),
+                            trainer("jane.smith2", "Jane", "Smith")));
+
+            TrainerSearchResponse first = service.searchTrainers("Ja", " ", null, 2);
+
+            assertThat(first.trainers())
+                    .extracting(TrainerProfileDTO::username)
+                    .containsExactly("jane.doe", "jane.smith");
+            assertThat(first.nextCursor()).isNotNull();
+
+            TrainerNameKey after = new TrainerNameKey(null, "Smith", "jane.smith");
+            when(repository.findProfilesByName("Ja", null, after, 3))
+                    .thenReturn(List.of(trainer("jane.smith2", "Jane", "Smith")));
+
+            TrainerSearchResponse second = service.searchTrainers("Ja", null, first.nextCursor(), 2);
+
+            assertThat(second.trainers()).containsExactly(new TrainerProfileDTO("jane.smith2", "Jane", "Smith", true));
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor and a limit out of range")
+        void shouldRejectInvalidInput() {
+            assertThatThrownBy(() -> service.searchTrainers("Ja", null, "not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cursor");
+            assertThatThrownBy(() -> service.searchTrainers("Ja", null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.searchTrainers("Ja", null, null, 101))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(repository, never()).findProfilesByName(any(), any(), any(), anyInt());
+        }
     }
 
     @Nested
@@ -330,12 +1231,12 @@ class TrainerWorkloadServiceImplTest {
         @DisplayName("Should not mutate the original workload map on ADD")
         void shouldNotMutateOriginalOnAdd() {
             TrainerWorkload original = workloadWith(Year.of(2025), Month.JANUARY, 100);
-            when(repository.findByUsername("john.smith")).thenReturn(Optional.of(original));
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.of(original));
 
             service.processRequest(command(ActionType.ADD, 50, 2025, 1));
 
             // original map should be untouched
-            assertThat(original.getYearMonthDuration().get(Year.of(2025)).get(Month.JANUARY))
+            assertThat(original.getDurations().toMap().get(Year.of(2025)).get(Month.JANUARY))
                     .isEqualTo(100);
         }
 
@@ -343,18 +1244,18 @@ class TrainerWorkloadServiceImplTest {
         @DisplayName("Should not mutate the original workload map on DELETE")
         void shouldNotMutateOriginalOnDelete() {
             TrainerWorkload original = workloadWith(Year.of(2025), Month.JANUARY, 100);
-            when(repository.findByUsername("john.smith")).thenReturn(Optional.of(original));
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.of(original));
 
             service.processRequest(command(ActionType.DELETE, 40, 2025, 1));
 
-            assertThat(original.getYearMonthDuration().get(Year.of(2025)).get(Month.JANUARY))
+            assertThat(original.getDurations().toMap().get(Year.of(2025)).get(Month.JANUARY))
                     .isEqualTo(100);
         }
 
         @Test
         @DisplayName("Should handle large duration values without overflow")
         void shouldHandleLargeDurationValues() {
-            when(repository.findByUsername("john.smith"))
+            when(repository.findForUpdate(eq("john.smith"), any()))
                     .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 50)));
 
             UpdateTrainerWorkloadCommand cmd = new UpdateTrainerWorkloadCommand(
@@ -371,4 +1272,219 @@ class TrainerWorkloadServiceImplTest {
             assertThat(getDuration(result, Year.of(2025), Month.JANUARY)).isEqualTo(Integer.MAX_VALUE - 50);
         }
     }
+
+    @Nested
+    @DisplayName("Import")
+    class ImportTests {
+
+        @Test
+        @DisplayName("Should set the imported months, keep the others and add only the difference to month totals")
+        @SuppressWarnings("unchecked")
+        void shouldSetImportedMonths() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            TrainerWorkload john = TrainerWorkload.builder()
+                    .username("john.smith")
+                    .firstName("Johnny")
+                    .lastName("Smith")
+                    .active(false)
+                    .durations(YearlyDurations.builder()
+                            .put(2025, 1, 150)
+                            .put(2019, 3, 60)
+                            .build())
+                    .build();
+            TrainerWorkload jane = TrainerWorkload.builder()
+                    .username("jane.doe")
+                    .active(true)
+                    .durations(YearlyDurations.builder().put(2019, 3, 30).build())
+                    .build();
+
+            List<TrainerWorkload> result = service.importWorkloads(List.of(john, jane));
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getId()).isEqualTo("1");
+            assertThat(result.get(0).getFirstName()).isEqualTo("Johnny");
+            assertThat(result.get(0).getDurations())
+                    .isEqualTo(YearlyDurations.builder()
+                            .put(2025, 1, 150)
+                            .put(2019, 3, 60)
+                            .build());
+            assertThat(getDuration(result.get(1), Year.of(2019), Month.MARCH)).isEqualTo(30);
+            ArgumentCaptor<Collection<WorkloadIncrement>> increments = ArgumentCaptor.forClass(Collection.class);
+            verify(repository).incrementAll(increments.capture());
+            assertThat(increments.getValue())
+                    .extracting(WorkloadIncrement::username, WorkloadIncrement::month, WorkloadIncrement::minutes)
+                    .containsExactlyInAnyOrder(
+                            tuple("john.smith", Month.JANUARY, 50),
+                            tuple("john.smith", Month.MARCH, 60),
+                            tuple("jane.doe", Month.MARCH, 30));
+            verify(repository).saveProfiles(List.of(john, jane));
+            verify(repository, never()).save(any());
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 1), 50L, YearMonth.of(2019, 3), 90L));
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .extracting(WorkloadEvent::minutes, WorkloadEvent::minutesAfter)
+                    .containsExactlyInAnyOrder(tuple(50, 150), tuple(60, 60), tuple(30, 30));
+        }
+
+        @Test
+        @DisplayName("Should change nothing in month totals when the same data is imported again")
+        void shouldBeIdempotent() {
+            TrainerWorkload stored = workloadWith(Year.of(2025), Month.JANUARY, 100);
+            when(repository.findAllByUsernames(any())).thenReturn(List.of(stored));
+
+            service.importWorkloads(List.of(stored.withId(null)));
+
+            verify(monthTotals).addAll(Map.of());
+            verify(journal, never()).append(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should lower a month by the difference to a fresh read when a live write took minutes meanwhile")
+        @SuppressWarnings("unchecked")
+        void shouldRetryLoweringOnFreshRead() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 60))
+                    .thenReturn(Optional.empty());
+            when(repository.findForUpdate("john.smith", Year.of(2025)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 50)));
+            when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 10))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 40)));
+
+            service.importWorkloads(List.of(workloadWith(Year.of(2025), Month.JANUARY, 40)));
+
+            verify(monthTotals).addAll(Map.of(YearMonth.of(2025, 1), -10L));
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .extracting(WorkloadEvent::minutes, WorkloadEvent::minutesAfter)
+                    .containsExactly(tuple(-10, 40));
+        }
+    }
+
+    @Nested
+    @DisplayName("Event journal")
+    class JournalTests {
+
+        @Test
+        @DisplayName("Should journal each change with the month total right after it")
+        @SuppressWarnings("unchecked")
+        void shouldJournalChanges() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            service.processRequest(command(ActionType.DELETE, 40, 2025, 1));
+
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .containsExactly(new WorkloadEvent(
+                            "john.smith", "John", "Smith", true, Year.of(2025), Month.JANUARY, -40, 60, NOW));
+        }
+
+        @Test
+        @DisplayName("Should take a baseline snapshot of the whole trainer the first time the journal sees it")
+        @SuppressWarnings("unchecked")
+        void shouldTakeBaselineOnFirstSight() {
+            TrainerWorkload stored = workloadWith(Year.of(2019), Month.MAY, 45);
+            when(repository.findForUpdate(eq("john.smith"), any())).thenReturn(Optional.empty());
+            when(repository.findByUsernameIncludingArchive("john.smith", WorkloadPeriod.all()))
+                    .thenReturn(Optional.of(stored));
+
+            service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            ArgumentCaptor<Function<String, WorkloadSnapshot>> baselines = ArgumentCaptor.forClass(Function.class);
+            verify(journal).append(any(), baselines.capture());
+            assertThat(baselines.getValue().apply("john.smith")).isEqualTo(new WorkloadSnapshot(stored, NOW));
+        }
+
+        @Test
+        @DisplayName("Should journal each applied batch request in order and skip the rejected ones")
+        @SuppressWarnings("unchecked")
+        void shouldJournalBatch() {
+            when(repository.findAllByUsernames(any()))
+                    .thenReturn(List.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+
+            // The DELETE of 500 minutes before it finds no match
+            lenient()
+                    .when(repository.decrementDuration("john.smith", Year.of(2025), Month.JANUARY, 50, position(2)))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 70)));
+
+            processBatch(
+                    command(ActionType.ADD, 20, 2025, 1),
+                    command(ActionType.DELETE, 500, 2025, 1),
+                    command(ActionType.DELETE, 50, 2025, 1));
+
+            ArgumentCaptor<List<WorkloadEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(journal).append(events.capture(), any());
+            assertThat(events.getValue())
+                    .extracting(WorkloadEvent::minutes, WorkloadEvent::minutesAfter)
+                    .containsExactly(tuple(20, 120), tuple(-50, 70));
+        }
+
+        @Test
+        @DisplayName("Should keep the write when journaling fails")
+        void shouldKeepWriteWhenJournalFails() {
+            when(repository.findForUpdate(eq("john.smith"), any()))
+                    .thenReturn(Optional.of(workloadWith(Year.of(2025), Month.JANUARY, 100)));
+            doThrow(new IllegalStateException("journal down")).when(journal).append(any(), any());
+
+            TrainerWorkload result = service.processRequest(command(ActionType.ADD, 60, 2025, 1));
+
+            assertThat(getDuration(result, Year.of(2025), Month.JANUARY)).isEqualTo(160);
+            verify(repository).save(any());
+        }
+
+        @Test
+        @DisplayName("Should rebuild a past summary from the latest snapshot and the events after it")
+        void shouldReadAsOf() {
+            Instant takenAt = Instant.parse("2025-03-01T00:00:00Z");
+            Instant asOf = Instant.parse("2025-03-15T00:00:00Z");
+            when(journal.findLatestSnapshot("john.smith", asOf))
+                    .thenReturn(Optional.of(
+                            new WorkloadSnapshot(workloadWith(Year.of(2025), Month.JANUARY, 100), takenAt)));
+            when(journal.findEvents("john.smith", takenAt, asOf))
+                    .thenReturn(List.of(
+                            new WorkloadEvent(
+                                    "john.smith",
+                                    "John",
+                                    "Smith",
+                                    true,
+                                    Year.of(2025),
+                                    Month.MARCH,
+                                    30,
+                                    30,
+                                    takenAt.plusSeconds(60)),
+                            new WorkloadEvent(
+                                    "john.smith",
+                                    "John",
+                                    "Smith",
+                                    false,
+                                    Year.of(2025),
+                                    Month.JANUARY,
+                                    -40,
+                                    60,
+                                    takenAt.plusSeconds(120))));
+
+            TrainerSummaryResponse response = service.getTrainerSummaryAsOf("john.smith", WorkloadPeriod.all(), asOf);
+
+            assertThat(response.status()).isFalse();
+            assertThat(response.years()).singleElement().satisfies(year -> assertThat(year.yearTotal())
+                    .isEqualTo(90));
+            verify(repository, never()).findByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("Should throw when the journal holds nothing for the trainer up to the instant")
+        void shouldThrowBeforeFirstSnapshot() {
+            Instant asOf = Instant.parse("2020-01-01T00:00:00Z");
+            when(journal.findLatestSnapshot("john.smith", asOf)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getTrainerSummaryAsOf("john.smith", WorkloadPeriod.all(), asOf))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("john.smith");
+        }
+    }
 }
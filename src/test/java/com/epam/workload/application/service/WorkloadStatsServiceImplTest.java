@@ -0,0 +1,79 @@
+package com.epam.workload.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.epam.workload.application.dto.response.MonthTotalDTO;
+import com.epam.workload.application.dto.response.MonthTotalsResponse;
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.port.MonthTotalsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadStatsServiceImpl Tests")
+class WorkloadStatsServiceImplTest {
+
+    @Mock
+    private MonthTotalsRepository monthTotals;
+
+    private WorkloadStatsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        service = new WorkloadStatsServiceImpl(monthTotals, clock);
+    }
+
+    @Test
+    @DisplayName("Should return one entry per month, filling months without totals with zero")
+    void shouldFillEmptyMonths() {
+        when(monthTotals.findBetween(YearMonth.of(2025, 1), YearMonth.of(2025, 3)))
+                .thenReturn(
+                        List.of(new MonthTotal(YearMonth.of(2025, 1), 120), new MonthTotal(YearMonth.of(2025, 3), 30)));
+
+        MonthTotalsResponse response = service.getMonthTotals(YearMonth.of(2025, 1), YearMonth.of(2025, 3));
+
+        assertThat(response.totalMinutes()).isEqualTo(150);
+        assertThat(response.months())
+                .containsExactly(
+                        new MonthTotalDTO(YearMonth.of(2025, 1), 120),
+                        new MonthTotalDTO(YearMonth.of(2025, 2), 0),
+                        new MonthTotalDTO(YearMonth.of(2025, 3), 30));
+    }
+
+    @Test
+    @DisplayName("Should default to the twelve months up to the current one")
+    void shouldDefaultToLastTwelveMonths() {
+        when(monthTotals.findBetween(YearMonth.of(2024, 7), YearMonth.of(2025, 6)))
+                .thenReturn(List.of());
+
+        MonthTotalsResponse response = service.getMonthTotals(null, null);
+
+        assertThat(response.from()).isEqualTo(YearMonth.of(2024, 7));
+        assertThat(response.to()).isEqualTo(YearMonth.of(2025, 6));
+        assertThat(response.months()).hasSize(12);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted and oversized ranges")
+    void shouldRejectInvalidRanges() {
+        assertThatThrownBy(() -> service.getMonthTotals(YearMonth.of(2025, 2), YearMonth.of(2025, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getMonthTotals(YearMonth.of(1900, 1), YearMonth.of(2025, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(monthTotals);
+    }
+}
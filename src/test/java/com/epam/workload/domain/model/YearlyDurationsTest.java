@@ -0,0 +1,147 @@
+package com.epam.workload.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("YearlyDurations Tests")
+class YearlyDurationsTest {
+
+    @Test
+    @DisplayName("Should distinguish a missing month from a month holding zero minutes")
+    void shouldDistinguishMissingFromZero() {
+        YearlyDurations durations = YearlyDurations.empty().with(Year.of(2025), Month.MARCH, 0);
+
+        assertThat(durations.contains(Year.of(2025), Month.MARCH)).isTrue();
+        assertThat(durations.get(Year.of(2025), Month.MARCH)).hasValue(0);
+        assertThat(durations.contains(Year.of(2025), Month.APRIL)).isFalse();
+        assertThat(durations.get(Year.of(2024), Month.MARCH)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep years in ascending order regardless of insertion order")
+    void shouldKeepYearsSorted() {
+        YearlyDurations durations = YearlyDurations.empty()
+                .with(Year.of(2025), Month.JANUARY, 10)
+                .with(Year.of(2023), Month.JANUARY, 20)
+                .with(Year.of(2024), Month.JANUARY, 30);
+
+        assertThat(durations.years()).containsExactly(Year.of(2023), Year.of(2024), Year.of(2025));
+    }
+
+    @Test
+    @DisplayName("Should leave the original untouched on update")
+    void shouldBeImmutable() {
+        YearlyDurations original = YearlyDurations.of(Map.of(Year.of(2025), Map.of(Month.JANUARY, 100)));
+
+        YearlyDurations updated = original.with(Year.of(2025), Month.JANUARY, 150);
+        YearlyDurations withNewYear = original.with(Year.of(2026), Month.JANUARY, 10);
+
+        assertThat(original.get(Year.of(2025), Month.JANUARY)).hasValue(100);
+        assertThat(updated.get(Year.of(2025), Month.JANUARY)).hasValue(150);
+        assertThat(withNewYear.get(Year.of(2025), Month.JANUARY)).hasValue(100);
+        assertThat(original.years()).containsExactly(Year.of(2025));
+    }
+
+    @Test
+    @DisplayName("Should visit months in calendar order")
+    void shouldVisitMonthsInOrder() {
+        YearlyDurations durations = YearlyDurations.builder()
+                .put(2025, 12, 5)
+                .put(2025, 2, 7)
+                .put(2024, 6, 1)
+                .build();
+
+        StringBuilder visited = new StringBuilder();
+        durations.forEachMonth(
+                Year.of(2025),
+                (month, minutes) ->
+                        visited.append(month).append('=').append(minutes).append(' '));
+
+        assertThat(visited.toString()).isEqualTo("FEBRUARY=7 DECEMBER=5 ");
+    }
+
+    @Test
+    @DisplayName("Should compare by content")
+    void shouldCompareByContent() {
+        YearlyDurations built = YearlyDurations.builder().put(2025, 1, 10).build();
+        YearlyDurations updated = YearlyDurations.empty().with(Year.of(2025), Month.JANUARY, 10);
+
+        assertThat(built).isEqualTo(updated).hasSameHashCodeAs(updated);
+        assertThat(built.toMap()).isEqualTo(Map.of(Year.of(2025), Map.of(Month.JANUARY, 10)));
+    }
+
+    @Test
+    @DisplayName("Should read a lazy year's months only when that year is accessed")
+    void shouldLoadLazyYearsOnDemand() {
+        List<Integer> loaded = new ArrayList<>();
+        YearlyDurations durations = YearlyDurations.lazy(new int[] {2023, 2024, 2025}, (year, into) -> {
+            loaded.add(year);
+            into.accept(Month.MAY, year - 2000);
+        });
+
+        assertThat(durations.years()).hasSize(3);
+        assertThat(loaded).isEmpty();
+
+        assertThat(durations.get(Year.of(2024), Month.MAY)).hasValue(24);
+        assertThat(durations.get(Year.of(2024), Month.JUNE)).isEmpty();
+        assertThat(loaded).containsExactly(2024);
+
+        YearlyDurations updated = durations.with(Year.of(2022), Month.JANUARY, 5);
+        assertThat(updated.get(Year.of(2025), Month.MAY)).hasValue(25);
+        assertThat(loaded).containsExactly(2024, 2025);
+    }
+
+    @Test
+    @DisplayName("Should sum months per year and over all years")
+    void shouldSumTotals() {
+        YearlyDurations durations = YearlyDurations.builder()
+                .put(2024, 12, 100)
+                .put(2025, 1, 120)
+                .put(2025, 2, 0)
+                .put(2025, 3, 30)
+                .build();
+
+        assertThat(durations.total(Year.of(2024))).isEqualTo(100);
+        assertThat(durations.total(Year.of(2025))).isEqualTo(150);
+        assertThat(durations.total(Year.of(2023))).isZero();
+        assertThat(durations.total()).isEqualTo(250);
+        assertThat(YearlyDurations.empty().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep only the years and months within a period")
+    void shouldSelectPeriod() {
+        YearlyDurations durations = YearlyDurations.builder()
+                .put(2023, 3, 10)
+                .put(2024, 3, 20)
+                .put(2024, 4, 30)
+                .put(2025, 4, 40)
+                .build();
+
+        assertThat(durations
+                        .within(new WorkloadPeriod(Year.of(2024), null, Month.APRIL))
+                        .toMap())
+                .isEqualTo(Map.of(Year.of(2024), Map.of(Month.APRIL, 30), Year.of(2025), Map.of(Month.APRIL, 40)));
+        assertThat(durations.within(WorkloadPeriod.ofYear(Year.of(2022))).isEmpty())
+                .isTrue();
+        assertThat(durations.within(WorkloadPeriod.all())).isSameAs(durations);
+    }
+
+    @Test
+    @DisplayName("Should reject negative durations and invalid months")
+    void shouldRejectInvalidEntries() {
+        assertThatThrownBy(() -> YearlyDurations.empty().with(Year.of(2025), Month.JANUARY, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> YearlyDurations.builder().put(2025, 13, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,163 @@
+package com.epam.workload.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import com.epam.workload.application.cache.TrainerSummaryLoader;
+import com.epam.workload.application.dto.response.MonthSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.resilience.StaleRead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CaffeineTrainerSummaryCacheTest {
+
+    @Mock
+    private TrainerSummaryLoader loader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CaffeineTrainerSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = cacheWithWeight(1_000);
+    }
+
+    private CaffeineTrainerSummaryCache cacheWithWeight(long maxWeight) {
+        return new CaffeineTrainerSummaryCache(
+                loader, maxWeight, Duration.ofMinutes(5), Duration.ofMinutes(30), meterRegistry);
+    }
+
+    private static TrainerSummaryResponse summary(String username, int months) {
+        List<MonthSummaryDTO> monthList = IntStream.rangeClosed(1, months)
+                .mapToObj(m -> new MonthSummaryDTO(Month.of(m), 60))
+                .toList();
+        return new TrainerSummaryResponse(
+                username,
+                "John",
+                "Smith",
+                true,
+                60L * months,
+                List.of(new YearSummaryDTO(Year.of(2025), 60L * months, monthList)));
+    }
+
+    @Test
+    void get_loadsOnceAndServesFromCache() {
+        when(loader.load("john.smith")).thenReturn(Optional.of(summary("john.smith", 2)));
+
+        assertThat(cache.get("john.smith")).isPresent();
+        assertThat(cache.get("john.smith")).isPresent();
+
+        verify(loader, times(1)).load("john.smith");
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void get_doesNotCacheUnknownTrainer() {
+        when(loader.load("ghost")).thenReturn(Optional.empty());
+
+        assertThat(cache.get("ghost")).isEmpty();
+        assertThat(cache.get("ghost")).isEmpty();
+
+        verify(loader, times(2)).load("ghost");
+    }
+
+    @Test
+    void get_servesButDoesNotCacheStaleFallbackRead() {
+        Instant readAt = Instant.parse("2025-03-10T00:00:00Z");
+        when(loader.load("john.smith")).thenAnswer(invocation -> {
+            StaleRead.record(readAt);
+            return Optional.of(summary("john.smith", 1));
+        });
+
+        try (StaleRead.Scope scope = StaleRead.track()) {
+            assertThat(cache.get("john.smith")).isPresent();
+            assertThat(cache.get("john.smith")).isPresent();
+
+            assertThat(StaleRead.oldest()).contains(readAt);
+        }
+        verify(loader, times(2)).load("john.smith");
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        when(loader.load("john.smith")).thenReturn(Optional.of(summary("john.smith", 1)));
+
+        cache.get("john.smith");
+        cache.invalidate("john.smith");
+        cache.get("john.smith");
+
+        verify(loader, times(2)).load("john.smith");
+    }
+
+    @Test
+    void eviction_isBoundedByYearAndMonthEntries() {
+        // Each summary weighs 1 (trainer) + 1 (year) + 12 (months) = 14
+        cache = cacheWithWeight(30);
+        when(loader.load(any())).thenAnswer(invocation -> Optional.of(summary(invocation.getArgument(0), 12)));
+
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    void preload_bulkLoadsRecentlyActiveTrainers() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-10T00:00:00Z"), ZoneOffset.UTC);
+        when(loader.findRecentlyActive(YearMonth.of(2025, 2), 100)).thenReturn(List.of("john.smith"));
+        when(loader.loadAll(List.of("john.smith"))).thenReturn(Map.of("john.smith", summary("john.smith", 1)));
+
+        cache.preload(2, 100, clock);
+
+        assertThat(cache.get("john.smith")).isPresent();
+        verify(loader, never()).load("john.smith");
+    }
+
+    @Test
+    void preload_failureIsNotFatal() {
+        when(loader.findRecentlyActive(any(), anyInt())).thenThrow(new IllegalStateException("mongo down"));
+
+        cache.preload(2, 100, Clock.systemUTC());
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.workload.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.epam.workload.application.deadline.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("TransactionIdFilter Tests")
+class TransactionIdFilterTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T10:00:00Z");
+
+    private TransactionIdFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private AtomicReference<RequestDeadline> seen;
+    private FilterChain chain;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<Clock> clock = mock(ObjectProvider.class);
+        when(clock.getIfAvailable(org.mockito.ArgumentMatchers.any())).thenReturn(Clock.fixed(NOW, ZoneOffset.UTC));
+        filter = new TransactionIdFilter(clock, Duration.ofSeconds(10), Duration.ofSeconds(60));
+        request = new MockHttpServletRequest("GET", "/api/workload/john.smith");
+        response = new MockHttpServletResponse();
+        seen = new AtomicReference<>();
+        chain = (req, res) -> seen.set(RequestDeadline.current().orElse(null));
+    }
+
+    @Test
+    @DisplayName("Should bind the default budget when no header is sent")
+    void shouldBindDefaultBudget() throws Exception {
+        filter.doFilter(request, response, chain);
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().remaining()).isLessThanOrEqualTo(Duration.ofSeconds(10));
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should take the earlier of timeout and deadline headers")
+    void shouldTakeEarlierHeader() {
+        request.addHeader(TransactionIdFilter.REQUEST_TIMEOUT_HEADER, "PT2S");
+        request.addHeader(
+                TransactionIdFilter.REQUEST_DEADLINE_HEADER, NOW.plusMillis(500).toString());
+
+        assertThat(filter.budgetOf(request)).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("Should cap client budgets and accept plain milliseconds")
+    void shouldCapBudget() {
+        request.addHeader(TransactionIdFilter.REQUEST_TIMEOUT_HEADER, "600000");
+
+        assertThat(filter.budgetOf(request)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should answer 504 without calling the chain when the deadline has passed")
+    void shouldRejectPastDeadline() throws Exception {
+        request.addHeader(
+                TransactionIdFilter.REQUEST_DEADLINE_HEADER,
+                String.valueOf(NOW.minusSeconds(1).toEpochMilli()));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(504);
+        assertThat(response.getContentAsString()).contains("DEADLINE_EXCEEDED");
+        assertThat(seen.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a malformed header")
+    void shouldRejectMalformedHeader() throws Exception {
+        request.addHeader(TransactionIdFilter.REQUEST_TIMEOUT_HEADER, "soon");
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("INVALID_DEADLINE");
+    }
+}
@@ -0,0 +1,192 @@
+package com.epam.workload.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SlowQueryListenerTest {
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SlowQueryLog slowQueryLog;
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryLog = new SlowQueryLog(2);
+        listener = new SlowQueryListener(slowQueryLog, Duration.ofMillis(100), null, null);
+    }
+
+    @Nested
+    @DisplayName("SlowQueryListener")
+    class Listener {
+
+        @Test
+        void recordsSlowQueryWithShapeInsteadOfValues() {
+            run(1, "find", "{find: 'trainer_workloads', filter: {username: 'john', 'years.year': {$gte: 2024}}}", 150);
+
+            assertThat(slowQueryLog.snapshot()).singleElement().satisfies(entry -> {
+                assertThat(entry.collection()).isEqualTo("trainer_workloads");
+                assertThat(entry.command()).isEqualTo("find");
+                assertThat(entry.durationMillis()).isEqualTo(150);
+                assertThat(entry.shape())
+                        .isEqualTo(BsonDocument.parse("{username: '?', 'years.year': {$gte: '?'}}")
+                                .toJson());
+                assertThat(entry.shape()).doesNotContain("john");
+            });
+        }
+
+        @Test
+        void ignoresFastQueries() {
+            run(1, "find", "{find: 'trainer_workloads', filter: {username: 'john'}}", 20);
+
+            assertThat(slowQueryLog.snapshot()).isEmpty();
+        }
+
+        @Test
+        void ignoresNonQueryCommands() {
+            run(1, "insert", "{insert: 'trainer_workloads', documents: [{username: 'john'}]}", 500);
+
+            assertThat(slowQueryLog.snapshot()).isEmpty();
+        }
+
+        @Test
+        void takesShapeOfFirstUpdateStatement() {
+            run(
+                    1,
+                    "update",
+                    "{update: 'trainer_workloads', updates: [{q: {username: 'john'}, u: {$inc: {lifetimeTotal: 5}}}]}",
+                    200);
+
+            assertThat(slowQueryLog.snapshot().getFirst().shape())
+                    .isEqualTo(BsonDocument.parse("{username: '?'}").toJson());
+        }
+
+        @Test
+        void takesShapeFromRawCommandWhenSlow() {
+            listener.commandStarted(new CommandStartedEvent(
+                    null,
+                    3,
+                    3,
+                    CONNECTION,
+                    "test",
+                    "find",
+                    RawBsonDocument.parse("{find: 'trainer_workloads', filter: {username: 'john'}}")));
+            listener.commandSucceeded(new CommandSucceededEvent(
+                    null, 3, 3, CONNECTION, "test", "find", new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(150)));
+
+            assertThat(slowQueryLog.snapshot()).singleElement().satisfies(entry -> {
+                assertThat(entry.collection()).isEqualTo("trainer_workloads");
+                assertThat(entry.shape())
+                        .isEqualTo(BsonDocument.parse("{username: '?'}").toJson());
+            });
+        }
+
+        @Test
+        void recordsFailedCommands() {
+            listener.commandStarted(started(
+                    7, "aggregate", "{aggregate: 'workload_month_totals', pipeline: [{$match: {year: 2025}}]}"));
+            listener.commandFailed(new CommandFailedEvent(
+                    null,
+                    7,
+                    7,
+                    CONNECTION,
+                    "test",
+                    "aggregate",
+                    TimeUnit.MILLISECONDS.toNanos(300),
+                    new RuntimeException()));
+
+            assertThat(slowQueryLog.snapshot()).singleElement().satisfies(entry -> {
+                assertThat(entry.command()).isEqualTo("aggregate");
+                assertThat(entry.shape()).isEqualTo("[{\"$match\": {\"year\": \"?\"}}]");
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowQueryLog")
+    class Log {
+
+        @Test
+        void keepsNewestEntriesUpToCapacity() {
+            run(1, "find", "{find: 'a', filter: {}}", 100);
+            run(2, "find", "{find: 'b', filter: {}}", 100);
+            run(3, "find", "{find: 'c', filter: {}}", 100);
+
+            assertThat(slowQueryLog.snapshot())
+                    .extracting(SlowQuery::collection)
+                    .containsExactly("c", "b");
+        }
+
+        @Test
+        void attachesPlanToEntry() {
+            run(1, "find", "{find: 'a', filter: {}}", 100);
+            long id = slowQueryLog.snapshot().getFirst().id();
+
+            slowQueryLog.attachPlan(id, "COLLSCAN");
+
+            assertThat(slowQueryLog.snapshot().getFirst().plan()).isEqualTo("COLLSCAN");
+        }
+
+        @Test
+        void rejectsNonPositiveCapacity() {
+            assertThatThrownBy(() -> new SlowQueryLog(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("PlanSummary")
+    class Plan {
+
+        @Test
+        void listsStagesLeafFirstWithIndexNames() {
+            Document explain = Document.parse(
+                    "{queryPlanner: {winningPlan: {stage: 'FETCH', inputStage: {stage: 'IXSCAN', indexName: 'username_1'}}}}");
+
+            assertThat(PlanSummary.of(explain)).isEqualTo("IXSCAN(username_1) > FETCH");
+        }
+
+        @Test
+        void unwrapsSlotBasedPlansAndAggregateCursors() {
+            Document explain = Document.parse(
+                    "{stages: [{$cursor: {queryPlanner: {winningPlan: {queryPlan: {stage: 'COLLSCAN'}}}}}]}");
+
+            assertThat(PlanSummary.of(explain)).isEqualTo("COLLSCAN");
+        }
+    }
+
+    private void run(int requestId, String commandName, String command, long elapsedMillis) {
+        listener.commandStarted(started(requestId, commandName, command));
+        listener.commandSucceeded(new CommandSucceededEvent(
+                null,
+                requestId,
+                requestId,
+                CONNECTION,
+                "test",
+                commandName,
+                new BsonDocument(),
+                TimeUnit.MILLISECONDS.toNanos(elapsedMillis)));
+    }
+
+    private static CommandStartedEvent started(int requestId, String commandName, String command) {
+        return new CommandStartedEvent(
+                null, requestId, requestId, CONNECTION, "test", commandName, BsonDocument.parse(command));
+    }
+}
@@ -0,0 +1,125 @@
+package com.epam.workload.infrastructure.persistence.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class TrainerWorkloadCodecTest {
+
+    private final TrainerWorkloadCodec codec = new TrainerWorkloadCodec();
+
+    @Test
+    void roundTrip_preservesAllFields() {
+        String id = new ObjectId().toHexString();
+        TrainerWorkload workload = TrainerWorkload.builder()
+                .id(id)
+                .username("john.smith")
+                .firstName("John")
+                .lastName("Smith")
+                .active(true)
+                .version(3L)
+                .durations(YearlyDurations.of(Map.of(
+                        Year.of(2024), Map.of(Month.DECEMBER, 45),
+                        Year.of(2025), Map.of(Month.JANUARY, 120, Month.MARCH, 0))))
+                .build();
+
+        TrainerWorkload decoded = new RawBsonDocument(workload, codec).decode(codec);
+
+        assertThat(decoded.getId()).isEqualTo(id);
+        assertThat(decoded.getUsername()).isEqualTo("john.smith");
+        assertThat(decoded.getFirstName()).isEqualTo("John");
+        assertThat(decoded.getLastName()).isEqualTo("Smith");
+        assertThat(decoded.getActive()).isTrue();
+        assertThat(decoded.getVersion()).isEqualTo(3L);
+        assertThat(decoded.getDurations()).isEqualTo(workload.getDurations());
+    }
+
+    @Test
+    void encode_writesTheMappingConverterShape() {
+        TrainerWorkload workload = TrainerWorkload.builder()
+                .username("john.smith")
+                .firstName("John")
+                .lastName("Smith")
+                .active(false)
+                .durations(YearlyDurations.empty().with(Year.of(2025), Month.JUNE, 60))
+                .build();
+
+        RawBsonDocument document = new RawBsonDocument(workload, codec);
+
+        assertThat(document.containsKey("_id")).isFalse();
+        assertThat(document.containsKey("version")).isFalse();
+        assertThat(document.getBoolean("active").getValue()).isFalse();
+        assertThat(document.getArray("years")
+                        .get(0)
+                        .asDocument()
+                        .getInt32("year")
+                        .getValue())
+                .isEqualTo(2025);
+        assertThat(document.getArray("years")
+                        .get(0)
+                        .asDocument()
+                        .getArray("months")
+                        .get(0)
+                        .asDocument()
+                        .getInt32("durationMin")
+                        .getValue())
+                .isEqualTo(60);
+    }
+
+    @Test
+    void decode_readsDocumentsWrittenBySpringData() {
+        // Unsorted years, int32 version-less legacy document with the _class hint
+        Document stored = new Document("_id", new ObjectId())
+                .append("username", "jane.smith")
+                .append("firstName", "Jane")
+                .append("lastName", "Smith")
+                .append("active", true)
+                .append(
+                        "years",
+                        List.of(
+                                new Document("year", 2025)
+                                        .append("months", List.of(new Document("month", 2).append("durationMin", 30))),
+                                new Document("year", 2023)
+                                        .append(
+                                                "months",
+                                                List.of(new Document("month", 11).append("durationMin", 90)))))
+                .append("_class", "com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO");
+
+        TrainerWorkload decoded = RawBsonDocument.parse(stored.toJson()).decode(codec);
+
+        assertThat(decoded.getVersion()).isNull();
+        assertThat(decoded.getDurations().years()).containsExactly(Year.of(2023), Year.of(2025));
+        assertThat(decoded.getDurations().get(Year.of(2023), Month.NOVEMBER)).hasValue(90);
+        assertThat(decoded.getDurations().get(Year.of(2025), Month.FEBRUARY)).hasValue(30);
+    }
+
+    @Test
+    void decode_mergesRepeatedYears() {
+        Document stored = new Document("username", "jane.smith")
+                .append(
+                        "years",
+                        List.of(
+                                new Document("year", 2025)
+                                        .append("months", List.of(new Document("month", 2).append("durationMin", 30))),
+                                new Document("year", 2025)
+                                        .append(
+                                                "months",
+                                                List.of(new Document("month", 3).append("durationMin", 40)))));
+
+        TrainerWorkload decoded = RawBsonDocument.parse(stored.toJson()).decode(codec);
+
+        assertThat(decoded.getDurations().years()).containsExactly(Year.of(2025));
+        assertThat(decoded.getDurations().get(Year.of(2025), Month.FEBRUARY)).hasValue(30);
+        assertThat(decoded.getDurations().get(Year.of(2025), Month.MARCH)).hasValue(40);
+    }
+}
@@ -0,0 +1,89 @@
+package com.epam.workload.infrastructure.persistence.consistency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OperationTimeTracker")
+class OperationTimeTrackerTest {
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private OperationTimeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OperationTimeTracker();
+    }
+
+    @Test
+    void remembersOperationTimeOfWritesPerThread() {
+        succeeded("update", 100);
+
+        assertThat(tracker.lastOnCurrentThread())
+                .map(CausalPoint::operationTime)
+                .contains(new BsonTimestamp(100, 1));
+        assertThat(CompletableFuture.supplyAsync(tracker::lastOnCurrentThread).join())
+                .isEmpty();
+    }
+
+    @Test
+    void ignoresReads() {
+        succeeded("find", 100);
+
+        assertThat(tracker.lastOnCurrentThread()).isEmpty();
+        assertThat(tracker.latest()).isEmpty();
+    }
+
+    @Test
+    void keepsNewestWriteAcrossThreads() {
+        succeeded("insert", 200);
+        CompletableFuture.runAsync(() -> succeeded("update", 150)).join();
+
+        assertThat(tracker.latest()).map(CausalPoint::operationTime).contains(new BsonTimestamp(200, 1));
+    }
+
+    @Test
+    void ignoresServersWithoutOperationTime() {
+        tracker.commandSucceeded(new CommandSucceededEvent(
+                null, 1, 1, CONNECTION, "test", "update", BsonDocument.parse("{ok: 1}"), 1000));
+
+        assertThat(tracker.latest()).isEmpty();
+    }
+
+    @Test
+    void tokenRoundTripsOperationAndClusterTime() {
+        succeeded("findAndModify", 300);
+        CausalPoint point = tracker.lastOnCurrentThread().orElseThrow();
+
+        assertThat(CausalPoint.decode(point.encode())).isEqualTo(point);
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> CausalPoint.decode("not a token"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("consistency token");
+    }
+
+    private void succeeded(String commandName, int seconds) {
+        BsonDocument response = BsonDocument.parse(String.format(
+                "{ok: 1, operationTime: {$timestamp: {t: %d, i: 1}},"
+                        + " $clusterTime: {clusterTime: {$timestamp: {t: %d, i: 1}}, signature: {keyId: 0}}}",
+                seconds, seconds));
+        tracker.commandSucceeded(
+                new CommandSucceededEvent(null, 1, 1, CONNECTION, "test", commandName, response, 1000));
+    }
+}
@@ -0,0 +1,76 @@
+package com.epam.workload.infrastructure.persistence.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.application.deadline.RequestDeadline;
+import com.epam.workload.application.exception.DeadlineExceededException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.client.MongoDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+@DisplayName("DeadlineMongoDatabaseFactory")
+class DeadlineMongoDatabaseFactoryTest {
+    private final MongoDatabaseFactory delegate = mock(MongoDatabaseFactory.class);
+    private final MongoDatabase database = mock(MongoDatabase.class);
+    private final MongoDatabase bounded = mock(MongoDatabase.class);
+
+    private DeadlineMongoDatabaseFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getMongoDatabase()).thenReturn(database);
+        when(delegate.getExceptionTranslator()).thenReturn(ex -> new DuplicateKeyException(ex.getMessage(), ex));
+        factory = new DeadlineMongoDatabaseFactory(delegate);
+    }
+
+    @Test
+    void passesDatabaseThroughWithoutDeadline() {
+        assertThat(factory.getMongoDatabase()).isSameAs(database);
+        verify(database, never()).withTimeout(anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void limitsDatabaseToRemainingBudget() {
+        when(database.withTimeout(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(bounded);
+
+        try (RequestDeadline.Scope ignored =
+                RequestDeadline.after(Duration.ofSeconds(2)).bind()) {
+            assertThat(factory.getMongoDatabase()).isSameAs(bounded);
+        }
+        verify(database)
+                .withTimeout(
+                        org.mockito.ArgumentMatchers.longThat(ms -> ms > 0 && ms <= 2000), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void refusesDatabaseOnceExpired() {
+        try (RequestDeadline.Scope ignored =
+                RequestDeadline.after(Duration.ZERO).bind()) {
+            assertThatThrownBy(factory::getMongoDatabase).isInstanceOf(DeadlineExceededException.class);
+        }
+    }
+
+    @Test
+    void translatesDriverTimeouts() {
+        assertThat(factory.getExceptionTranslator()
+                        .translateExceptionIfPossible(new MongoOperationTimeoutException("timed out")))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(factory.getExceptionTranslator().translateExceptionIfPossible(new IllegalStateException("other")))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+}
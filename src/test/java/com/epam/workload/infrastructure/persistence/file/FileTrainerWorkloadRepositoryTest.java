@@ -0,0 +1,160 @@
+package com.epam.workload.infrastructure.persistence.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.infrastructure.persistence.memory.InMemoryMonthTotalsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("FileTrainerWorkloadRepository Tests")
+class FileTrainerWorkloadRepositoryTest {
+    private static final Year YEAR = Year.of(2025);
+    private static final DataSize SEGMENT_SIZE = DataSize.ofKilobytes(64);
+
+    @TempDir
+    private Path directory;
+
+    private FileTrainerWorkloadRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = open(new InMemoryMonthTotalsRepository());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private FileTrainerWorkloadRepository open(InMemoryMonthTotalsRepository monthTotals) throws IOException {
+        return new FileTrainerWorkloadRepository(directory, SEGMENT_SIZE, false, monthTotals);
+    }
+
+    private FileTrainerWorkloadRepository reopen(InMemoryMonthTotalsRepository monthTotals) throws IOException {
+        repository.close();
+        repository = open(monthTotals);
+        return repository;
+    }
+
+    private static TrainerWorkload profile(String username) {
+        return TrainerWorkload.builder()
+                .username(username)
+                .firstName("John")
+                .lastName("Smith")
+                .active(true)
+                .build();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay trainers, applied positions and month totals on reopen")
+    void shouldRecoverByReplay() throws IOException {
+        repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60, new SourcePosition("topic-0", 5));
+        repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 30);
+        repository.incrementDuration(profile("jane.doe").withLastName(null), Year.of(2024), Month.MARCH, 40);
+        TrainerWorkload before = repository.findByUsername("john.smith").orElseThrow();
+
+        InMemoryMonthTotalsRepository monthTotals = new InMemoryMonthTotalsRepository();
+        FileTrainerWorkloadRepository reopened = reopen(monthTotals);
+
+        assertThat(reopened.findByUsername("john.smith")).contains(before);
+        assertThat(reopened.findByUsername("john.smith").orElseThrow().getDurations())
+                .isEqualTo(before.getDurations());
+        assertThat(reopened.findByUsername("jane.doe").orElseThrow().getLastName())
+                .isNull();
+        assertThat(reopened.hasApplied("john.smith", YEAR, new SourcePosition("topic-0", 5)))
+                .isTrue();
+        assertThat(monthTotals.findBetween(YearMonth.of(2024, 1), YearMonth.of(2025, 12)))
+                .isEqualTo(
+                        List.of(new MonthTotal(YearMonth.of(2024, 3), 40), new MonthTotal(YearMonth.of(2025, 3), 90)));
+    }
+
+    @Test
+    @DisplayName("Should drop a record torn by a crash and keep the ones before it")
+    void shouldDropTornTail() throws IOException {
+        repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+        repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 30);
+        repository.close();
+
+        // Corrupt the payload of the second record, as if the process died while writing it
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, 0);
+            int second = 8 + length.flip().getInt();
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), second + 8);
+        }
+
+        repository = open(new InMemoryMonthTotalsRepository());
+
+        assertThat(repository
+                        .findByUsername("john.smith")
+                        .orElseThrow()
+                        .getDurations()
+                        .get(YEAR, Month.MARCH))
+                .hasValue(60);
+    }
+
+    @Test
+    @DisplayName("Should compact superseded records away and keep serving the latest ones")
+    void shouldCompact() throws IOException {
+        for (int i = 0; i < 2_000; i++) {
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 1);
+            repository.incrementDuration(profile("jane.doe"), YEAR, Month.APRIL, 2);
+        }
+        assertThat(repository.garbageRatio()).isGreaterThan(0.9);
+        long segmentsBefore = segmentCount();
+
+        repository.compact();
+
+        assertThat(repository.garbageRatio()).isLessThan(0.1);
+        assertThat(segmentCount()).isLessThan(segmentsBefore);
+        assertThat(repository
+                        .findByUsername("jane.doe")
+                        .orElseThrow()
+                        .getDurations()
+                        .get(YEAR, Month.APRIL))
+                .hasValue(4_000);
+
+        repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 1);
+        FileTrainerWorkloadRepository reopened = reopen(new InMemoryMonthTotalsRepository());
+
+        assertThat(reopened.findByUsername("john.smith")
+                        .orElseThrow()
+                        .getDurations()
+                        .get(YEAR, Month.MARCH))
+                .hasValue(2_001);
+        assertThat(reopened.findByUsername("jane.doe")
+                        .orElseThrow()
+                        .getDurations()
+                        .get(YEAR, Month.APRIL))
+                .hasValue(4_000);
+    }
+}
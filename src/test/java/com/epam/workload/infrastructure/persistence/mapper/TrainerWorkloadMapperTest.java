@@ -9,7 +9,11 @@ import java.util.List;
 import java.util.Map;
 
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.infrastructure.persistence.dao.TrainerProfileDAO;
 import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.dao.WorkloadYearBucketDAO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -57,7 +61,7 @@ class TrainerWorkloadMapperTest {
         assertEquals("Doe", result.getLastName());
         assertTrue(result.getActive());
 
-        Map<Month, Integer> months = result.getYearMonthDuration().get(Year.of(2024));
+        Map<Month, Integer> months = result.getDurations().toMap().get(Year.of(2024));
 
         assertEquals(120, months.get(Month.JANUARY));
         assertEquals(200, months.get(Month.FEBRUARY));
@@ -78,7 +82,7 @@ class TrainerWorkloadMapperTest {
                 .firstName("Jane")
                 .lastName("Smith")
                 .active(true)
-                .yearMonthDuration(map)
+                .durations(YearlyDurations.of(map))
                 .build();
 
         TrainerWorkloadDAO dao = mapper.toEntity(domain);
@@ -99,10 +103,45 @@ class TrainerWorkloadMapperTest {
 
         assertEquals(100, monthMap.get(1));
         assertEquals(300, monthMap.get(3));
+        assertEquals(400L, year.getYearTotal());
+        assertEquals(400L, dao.getLifetimeTotal());
     }
 
     @Test
-    void toEntity_whenYearMonthDurationNull_returnsEmptyYears() {
+    void toTotals_usesStoredRunningSums() {
+        TrainerWorkloadDAO dao = TrainerWorkloadDAO.builder()
+                .username("trainer1")
+                .lifetimeTotal(500L)
+                .years(List.of(
+                        TrainerWorkloadDAO.YearSummaryDAO.builder()
+                                .year(2024)
+                                .yearTotal(200L)
+                                .build(),
+                        TrainerWorkloadDAO.YearSummaryDAO.builder()
+                                .year(2025)
+                                .yearTotal(300L)
+                                .build()))
+                .build();
+
+        WorkloadTotals totals = mapper.toTotals(dao).orElseThrow();
+
+        assertEquals(500L, totals.lifetimeTotal());
+        assertEquals(Map.of(Year.of(2024), 200L, Year.of(2025), 300L), totals.yearTotals());
+    }
+
+    @Test
+    void toTotals_whenSumsMissing_returnsEmpty() {
+        TrainerWorkloadDAO legacy = TrainerWorkloadDAO.builder()
+                .username("trainer1")
+                .years(List.of(
+                        TrainerWorkloadDAO.YearSummaryDAO.builder().year(2024).build()))
+                .build();
+
+        assertTrue(mapper.toTotals(legacy).isEmpty());
+    }
+
+    @Test
+    void toEntity_whenDurationsNull_returnsEmptyYears() {
 
         TrainerWorkload domain = TrainerWorkload.builder()
                 .id("5")
@@ -110,7 +149,7 @@ class TrainerWorkloadMapperTest {
                 .firstName("A")
                 .lastName("B")
                 .active(false)
-                .yearMonthDuration(null)
+                .durations(null)
                 .build();
 
         TrainerWorkloadDAO dao = mapper.toEntity(domain);
@@ -132,13 +171,81 @@ class TrainerWorkloadMapperTest {
                 .firstName("A")
                 .lastName("B")
                 .active(true)
-                .yearMonthDuration(Map.of(Year.of(2024), months))
+                .version(7L)
+                .durations(YearlyDurations.of(Map.of(Year.of(2024), months)))
                 .build();
 
         TrainerWorkloadDAO entity = mapper.toEntity(domain);
         TrainerWorkload result = mapper.toDomain(entity);
 
         assertEquals(domain.getUsername(), result.getUsername());
-        assertEquals(50, result.getYearMonthDuration().get(Year.of(2024)).get(Month.JANUARY));
+        assertEquals(7L, result.getVersion());
+        assertEquals(50, result.getDurations().toMap().get(Year.of(2024)).get(Month.JANUARY));
+    }
+
+    @Test
+    void toDomain_fromProfileAndBuckets_mapsCorrectly() {
+        TrainerProfileDAO profile = TrainerProfileDAO.builder()
+                .id("7")
+                .username("trainer1")
+                .firstName("John")
+                .lastName("Doe")
+                .active(true)
+                .build();
+
+        WorkloadYearBucketDAO bucket2023 = WorkloadYearBucketDAO.builder()
+                .username("trainer1")
+                .year(2023)
+                .months(List.of(TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                        .month(12)
+                        .durationMin(30)
+                        .build()))
+                .build();
+
+        WorkloadYearBucketDAO bucket2024 = WorkloadYearBucketDAO.builder()
+                .username("trainer1")
+                .year(2024)
+                .months(List.of(TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                        .month(1)
+                        .durationMin(90)
+                        .build()))
+                .build();
+
+        TrainerWorkload result = mapper.toDomain(profile, List.of(bucket2023, bucket2024));
+
+        assertEquals("7", result.getId());
+        assertEquals("trainer1", result.getUsername());
+        assertEquals("John", result.getFirstName());
+        assertTrue(result.getActive());
+        assertEquals(30, result.getDurations().toMap().get(Year.of(2023)).get(Month.DECEMBER));
+        assertEquals(90, result.getDurations().toMap().get(Year.of(2024)).get(Month.JANUARY));
+    }
+
+    @Test
+    void toProfileAndBuckets_splitByYear() {
+        TrainerWorkload domain = TrainerWorkload.builder()
+                .id("3")
+                .username("trainerX")
+                .firstName("Jane")
+                .lastName("Smith")
+                .active(false)
+                .durations(YearlyDurations.of(Map.of(
+                        Year.of(2023), Map.of(Month.MARCH, 10),
+                        Year.of(2024), Map.of(Month.APRIL, 20))))
+                .build();
+
+        TrainerProfileDAO profile = mapper.toProfile(domain);
+        List<WorkloadYearBucketDAO> buckets = mapper.toBuckets(domain);
+
+        assertEquals("3", profile.getId());
+        assertEquals("trainerX", profile.getUsername());
+        assertFalse(profile.isActive());
+        assertEquals(2, buckets.size());
+        assertTrue(buckets.stream().allMatch(b -> b.getUsername().equals("trainerX")));
+
+        WorkloadYearBucketDAO bucket2024 =
+                buckets.stream().filter(b -> b.getYear() == 2024).findFirst().orElseThrow();
+        assertEquals(4, bucket2024.getMonths().getFirst().getMonth());
+        assertEquals(20, bucket2024.getMonths().getFirst().getDurationMin());
     }
 }
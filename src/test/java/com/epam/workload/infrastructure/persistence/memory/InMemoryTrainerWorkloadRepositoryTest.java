@@ -0,0 +1,287 @@
+package com.epam.workload.infrastructure.persistence.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.domain.model.MonthTotal;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerNameKey;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadIncrement;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@DisplayName("InMemoryTrainerWorkloadRepository Tests")
+class InMemoryTrainerWorkloadRepositoryTest {
+    private static final Year YEAR = Year.of(2025);
+
+    private InMemoryTrainerWorkloadRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryTrainerWorkloadRepository();
+    }
+
+    private static TrainerWorkload profile(String username) {
+        return TrainerWorkload.builder()
+                .username(username)
+                .firstName("John")
+                .lastName("Smith")
+                .active(true)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Atomic updates")
+    class AtomicUpdateTests {
+
+        @Test
+        @DisplayName("Should create the trainer on the first increment and add up later ones")
+        void shouldCreateAndIncrement() {
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+            TrainerWorkload updated = repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 30);
+
+            assertThat(updated.getDurations().get(YEAR, Month.MARCH)).hasValue(90);
+            assertThat(updated.getId()).isNotNull();
+            assertThat(updated.getFirstName()).isEqualTo("John");
+            assertThat(repository.findByUsername("john.smith")).contains(updated);
+        }
+
+        @Test
+        @DisplayName("Should refuse to subtract more than the month holds")
+        void shouldGuardDecrement() {
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+
+            assertThat(repository.decrementDuration("john.smith", YEAR, Month.MARCH, 61))
+                    .isEmpty();
+            assertThat(repository.decrementDuration("john.smith", YEAR, Month.APRIL, 1))
+                    .isEmpty();
+            assertThat(repository.decrementDuration("ghost", YEAR, Month.MARCH, 1))
+                    .isEmpty();
+            assertThat(repository.decrementDuration("john.smith", YEAR, Month.MARCH, 60))
+                    .hasValueSatisfying(w ->
+                            assertThat(w.getDurations().get(YEAR, Month.MARCH)).hasValue(0));
+        }
+
+        @Test
+        @DisplayName("Should apply each source position at most once")
+        void shouldSkipReplayedPositions() {
+            SourcePosition first = new SourcePosition("topic-0", 10);
+
+            assertThat(repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60, first))
+                    .isPresent();
+            assertThat(repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60, first))
+                    .isEmpty();
+            assertThat(repository.decrementDuration("john.smith", YEAR, Month.MARCH, 60, first))
+                    .isEmpty();
+
+            assertThat(repository.hasApplied("john.smith", YEAR, first)).isTrue();
+            assertThat(repository.hasApplied("john.smith", YEAR, new SourcePosition("topic-0", 11)))
+                    .isFalse();
+            assertThat(repository
+                            .findByUsername("john.smith")
+                            .orElseThrow()
+                            .getDurations()
+                            .get(YEAR, Month.MARCH))
+                    .hasValue(60);
+        }
+
+        @Test
+        @DisplayName("Should apply several increments at once, creating missing trainers")
+        void shouldIncrementAll() {
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+
+            repository.incrementAll(List.of(
+                    new WorkloadIncrement(profile("john.smith"), YEAR, Month.MARCH, 30),
+                    new WorkloadIncrement(profile("john.smith"), YEAR, Month.APRIL, 15),
+                    new WorkloadIncrement(profile("jane.doe"), YEAR, Month.MARCH, 45)));
+
+            TrainerWorkload john = repository.findByUsername("john.smith").orElseThrow();
+            assertThat(john.getDurations().get(YEAR, Month.MARCH)).hasValue(90);
+            assertThat(john.getDurations().get(YEAR, Month.APRIL)).hasValue(15);
+            assertThat(repository
+                            .findByUsername("jane.doe")
+                            .orElseThrow()
+                            .getDurations()
+                            .get(YEAR, Month.MARCH))
+                    .hasValue(45);
+        }
+
+        @Test
+        @DisplayName("Should skip increments whose position the trainer has applied")
+        void shouldSkipAppliedIncrements() {
+            repository.incrementDuration(
+                    profile("john.smith"), YEAR, Month.MARCH, 60, new SourcePosition("topic-0", 10));
+
+            List<WorkloadIncrement> applied = repository.incrementAll(List.of(
+                    new WorkloadIncrement(
+                            profile("john.smith"), YEAR, Month.MARCH, 30, new SourcePosition("topic-0", 10)),
+                    new WorkloadIncrement(
+                            profile("john.smith"), YEAR, Month.MARCH, 15, new SourcePosition("topic-0", 11))));
+
+            assertThat(applied).extracting(WorkloadIncrement::minutes).containsExactly(15);
+            assertThat(repository
+                            .findByUsername("john.smith")
+                            .orElseThrow()
+                            .getDurations()
+                            .get(YEAR, Month.MARCH))
+                    .hasValue(75);
+        }
+
+        @Test
+        @DisplayName("Should not lose concurrent increments")
+        void shouldSerializeConcurrentIncrements() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 1));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(repository
+                            .findByUsername("john.smith")
+                            .orElseThrow()
+                            .getDurations()
+                            .get(YEAR, Month.MARCH))
+                    .hasValue(1_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reads and version-checked saves")
+    class ReadAndSaveTests {
+
+        @Test
+        @DisplayName("Should cut period reads and derive totals")
+        void shouldReadPeriodAndTotals() {
+            repository.incrementDuration(profile("john.smith"), Year.of(2024), Month.DECEMBER, 30);
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.JANUARY, 120);
+
+            assertThat(repository.findByUsername("john.smith", WorkloadPeriod.ofYear(YEAR)))
+                    .hasValueSatisfying(
+                            w -> assertThat(w.getDurations().years()).containsExactly(YEAR));
+            assertThat(repository.findTotals("john.smith"))
+                    .hasValueSatisfying(
+                            totals -> assertThat(totals.lifetimeTotal()).isEqualTo(150));
+            assertThat(repository.findUsernamesActiveSince(YearMonth.of(2025, 1), 10))
+                    .containsExactly("john.smith");
+            assertThat(repository.findUsernamesActiveSince(YearMonth.of(2025, 2), 10))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should search names by prefix in name order, continuing after the given key")
+        void shouldSearchByName() {
+            repository.incrementDuration(profile("john.smith2"), YEAR, Month.MARCH, 60);
+            repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+            repository.incrementDuration(
+                    profile("joe.doe").withFirstName("Joe").withLastName("Doe"), YEAR, Month.MARCH, 60);
+            repository.incrementDuration(profile("jane.roe").withFirstName("Jane"), YEAR, Month.MARCH, 60);
+
+            assertThat(repository.findProfilesByName("Jo", null, null, 10))
+                    .extracting(TrainerWorkload::getUsername)
+                    .containsExactly("joe.doe", "john.smith", "john.smith2");
+            assertThat(repository.findProfilesByName("Jo", "Sm", new TrainerNameKey("John", "Smith", "john.smith"), 10))
+                    .extracting(TrainerWorkload::getUsername)
+                    .containsExactly("john.smith2");
+            assertThat(repository.findProfilesByName(null, null, null, 2))
+                    .extracting(TrainerWorkload::getUsername)
+                    .containsExactly("jane.roe", "joe.doe");
+        }
+
+        @Test
+        @DisplayName("Should cut usernames into ranges and stream the trainers of a month within one")
+        void shouldStreamMonthByRange() {
+            for (String username : List.of("d", "a", "e", "c", "b")) {
+                repository.incrementDuration(profile(username), YEAR, Month.MARCH, 60);
+            }
+            repository.incrementDuration(profile("b"), YEAR, Month.APRIL, 30);
+            repository.incrementDuration(profile("f"), YEAR, Month.APRIL, 30);
+
+            assertThat(repository.findUsernameBoundaries(2)).containsExactly("a", "c", "e");
+            assertThat(repository.streamMonth(YearMonth.of(2025, 3), "b", "e", 10))
+                    .extracting(TrainerWorkload::getUsername)
+                    .containsExactly("b", "c", "d");
+            TrainerWorkload b = repository
+                    .streamMonth(YearMonth.of(2025, 3), null, "c", 10)
+                    .filter(workload -> workload.getUsername().equals("b"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(b.getDurations().get(YEAR, Month.MARCH)).hasValue(60);
+            assertThat(b.getDurations().contains(YEAR, Month.APRIL)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject a save based on an outdated version")
+        void shouldRejectStaleSave() {
+            TrainerWorkload stored = repository.incrementDuration(profile("john.smith"), YEAR, Month.MARCH, 60);
+            repository.save(stored.withDurations(stored.getDurations().with(YEAR, Month.MARCH, 90)));
+
+            assertThatThrownBy(() -> repository.save(stored)).isInstanceOf(OptimisticLockingFailureException.class);
+            assertThat(repository
+                            .findByUsername("john.smith")
+                            .orElseThrow()
+                            .getDurations()
+                            .get(YEAR, Month.MARCH))
+                    .hasValue(90);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class SnapshotTests {
+
+        @TempDir
+        private Path directory;
+
+        @Test
+        @DisplayName("Should restore trainers, applied positions and month totals from a snapshot")
+        void shouldRoundTrip() {
+            Path path = directory.resolve("workloads.snapshot");
+            repository.incrementDuration(
+                    profile("john.smith"), YEAR, Month.MARCH, 60, new SourcePosition("topic-0", 5));
+            repository.incrementDuration(profile("jane.doe").withLastName(null), Year.of(2024), Month.MARCH, 40);
+            new InMemorySnapshotJob(repository, new InMemoryMonthTotalsRepository(), path).snapshot();
+
+            InMemoryTrainerWorkloadRepository restored = new InMemoryTrainerWorkloadRepository();
+            InMemoryMonthTotalsRepository monthTotals = new InMemoryMonthTotalsRepository();
+            new InMemorySnapshotJob(restored, monthTotals, path);
+
+            assertThat(restored.findByUsername("john.smith")).isEqualTo(repository.findByUsername("john.smith"));
+            assertThat(restored.findByUsername("john.smith").orElseThrow().getDurations())
+                    .isEqualTo(repository
+                            .findByUsername("john.smith")
+                            .orElseThrow()
+                            .getDurations());
+            assertThat(restored.findByUsername("jane.doe").orElseThrow().getLastName())
+                    .isNull();
+            assertThat(restored.hasApplied("john.smith", YEAR, new SourcePosition("topic-0", 5)))
+                    .isTrue();
+            assertThat(monthTotals.findBetween(YearMonth.of(2024, 1), YearMonth.of(2025, 12)))
+                    .isEqualTo(List.of(
+                            new MonthTotal(YearMonth.of(2024, 3), 40), new MonthTotal(YearMonth.of(2025, 3), 60)));
+        }
+
+        @Test
+        @DisplayName("Should start empty without a snapshot file")
+        void shouldStartEmpty() {
+            new InMemorySnapshotJob(repository, new InMemoryMonthTotalsRepository(), directory.resolve("missing"));
+
+            assertThat(repository.entries()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.epam.workload.infrastructure.persistence.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.workload.application.exception.StoreUnavailableException;
+import com.epam.workload.application.resilience.StaleRead;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.model.WorkloadTotals;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingTrainerWorkloadRepositoryTest {
+    private static final Instant READ_AT = Instant.parse("2025-06-01T10:00:00Z");
+
+    @Mock
+    private TrainerWorkloadRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private LastKnownGoodWorkloads lastKnownGood;
+    private CircuitBreakingTrainerWorkloadRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.of(
+                "test",
+                CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .failureRateThreshold(50)
+                        .build());
+        lastKnownGood = new LastKnownGoodWorkloads(1_000, Clock.fixed(READ_AT, ZoneOffset.UTC), meterRegistry);
+        repository = new CircuitBreakingTrainerWorkloadRepository(
+                delegate, circuitBreaker, lastKnownGood, Duration.ofSeconds(30), meterRegistry);
+    }
+
+    private static TrainerWorkload workload() {
+        return TrainerWorkload.builder()
+                .username("john.smith")
+                .firstName("John")
+                .lastName("Smith")
+                .active(true)
+                .durations(YearlyDurations.of(Map.of(
+                        Year.of(2024), Map.of(Month.DECEMBER, 30),
+                        Year.of(2025), Map.of(Month.JANUARY, 120, Month.FEBRUARY, 90))))
+                .build();
+    }
+
+    @Test
+    void read_passesThroughAndKeepsFullWorkloads() {
+        when(delegate.findByUsername("john.smith")).thenReturn(Optional.of(workload()));
+
+        assertThat(repository.findByUsername("john.smith")).contains(workload());
+
+        assertThat(lastKnownGood.get("john.smith"))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.readAt()).isEqualTo(READ_AT));
+    }
+
+    @Test
+    void read_doesNotKeepPeriodSlices() {
+        WorkloadPeriod period = WorkloadPeriod.ofYear(Year.of(2025));
+        when(delegate.findByUsername("john.smith", period)).thenReturn(Optional.of(workload()));
+
+        repository.findByUsername("john.smith", period);
+
+        assertThat(lastKnownGood.estimatedSize()).isZero();
+    }
+
+    @Test
+    void storeFailures_openTheBreaker() {
+        when(delegate.findByUsername("john.smith"))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> repository.findByUsername("john.smith"))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void open_servesLastKnownGoodAsStale() {
+        lastKnownGood.put(workload());
+        circuitBreaker.transitionToOpenState();
+
+        Optional<TrainerWorkload> workload;
+        Optional<Instant> staleSince;
+        try (StaleRead.Scope ignored = StaleRead.track()) {
+            workload = repository.findByUsername("john.smith");
+            staleSince = StaleRead.oldest();
+        }
+
+        assertThat(workload).contains(workload());
+        assertThat(staleSince).contains(READ_AT);
+        assertThat(meterRegistry
+                        .get("workload.repository.stale.reads")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        verify(delegate, never()).findByUsername(any());
+    }
+
+    @Test
+    void open_narrowsLastKnownGoodToThePeriod() {
+        lastKnownGood.put(workload());
+        circuitBreaker.transitionToOpenState();
+
+        Optional<TrainerWorkload> workload =
+                repository.findByUsername("john.smith", new WorkloadPeriod(Year.of(2025), null, Month.FEBRUARY));
+
+        assertThat(workload).hasValueSatisfying(w -> assertThat(w.getDurations().toMap())
+                .isEqualTo(Map.of(Year.of(2025), Map.of(Month.FEBRUARY, 90))));
+    }
+
+    @Test
+    void open_derivesTotalsFromLastKnownGood() {
+        lastKnownGood.put(workload());
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(repository.findTotals("john.smith"))
+                .map(WorkloadTotals::lifetimeTotal)
+                .contains(240L);
+    }
+
+    @Test
+    void open_failsReadsWithoutLastKnownGood() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> repository.findByUsername("jane.doe"))
+                .isInstanceOf(StoreUnavailableException.class)
+                .extracting(e -> ((StoreUnavailableException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void open_failsWritesFast() {
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> repository.incrementDuration(workload(), Year.of(2025), Month.MARCH, 60))
+                .isInstanceOf(StoreUnavailableException.class);
+
+        verify(delegate, never()).incrementDuration(any(), any(), any(), any(Integer.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.repository.BsonCodecTrainerWorkloadRepositoryImpl;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(
+        properties = {
+            "app.persistence.codec=raw",
+            "app.workload.update-mode=optimistic",
+            "app.persistence.circuit-breaker.enabled=false"
+        })
+class BsonCodecIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadRepository repository;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+    }
+
+    @Test
+    void codecRepositoryIsWired() {
+        assertThat(repository).isInstanceOf(BsonCodecTrainerWorkloadRepositoryImpl.class);
+    }
+
+    @Test
+    void documentsWrittenByTheCodec_areReadableByTheMappingConverter() {
+        workloadService.processRequest(command(ActionType.ADD, 60, LocalDateTime.of(2025, 6, 1, 9, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2024, 2, 1, 9, 0)));
+        workloadService.processRequest(command(ActionType.DELETE, 20, LocalDateTime.of(2025, 6, 1, 9, 0)));
+
+        assertThat(mongoRepository.findByUsername("codec.user")).hasValueSatisfying(dao -> {
+            assertThat(dao.getVersion()).isEqualTo(2L);
+            assertThat(dao.getYears()).hasSize(2);
+        });
+
+        TrainerWorkload stored = repository.findByUsername("codec.user").orElseThrow();
+        assertThat(stored.getDurations().get(Year.of(2025), Month.JUNE)).hasValue(40);
+        assertThat(stored.getDurations().get(Year.of(2024), Month.FEBRUARY)).hasValue(30);
+    }
+
+    @Test
+    void concurrentCreation_isTranslatedToAnOptimisticLockingFailure() {
+        workloadService.processRequest(command(ActionType.ADD, 60, LocalDateTime.of(2025, 6, 1, 9, 0)));
+        TrainerWorkload unsaved = TrainerWorkload.builder()
+                .username("codec.user")
+                .firstName("Codec")
+                .lastName("User")
+                .active(true)
+                .build();
+
+        assertThatThrownBy(() -> repository.save(unsaved))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    private UpdateTrainerWorkloadCommand command(ActionType actionType, int minutes, LocalDateTime date) {
+        return new UpdateTrainerWorkloadCommand("codec.user", "Codec", "User", true, date, minutes, actionType);
+    }
+}
@@ -0,0 +1,133 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.exception.InsufficientDurationException;
+import com.epam.workload.application.service.ReactiveTrainerSummaryService;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.infrastructure.persistence.repository.TrainerProfileMongoRepository;
+import com.epam.workload.infrastructure.persistence.repository.WorkloadYearBucketMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.persistence.layout=bucketed")
+class BucketedLayoutIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private ReactiveTrainerSummaryService reactiveSummaryService;
+
+    @Autowired
+    private TrainerProfileMongoRepository profileRepository;
+
+    @Autowired
+    private WorkloadYearBucketMongoRepository bucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        profileRepository.deleteAll();
+        bucketRepository.deleteAll();
+    }
+
+    @Test
+    void reactiveRead_assemblesTheSameSummaryFromBuckets() {
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2023, 11, 5, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 90, LocalDateTime.of(2024, 3, 20, 8, 0)));
+
+        WorkloadPeriod period = new WorkloadPeriod(Year.of(2024), null, Month.MARCH);
+        assertThat(reactiveSummaryService
+                        .getTrainerSummary("jane.smith", WorkloadPeriod.all())
+                        .block())
+                .isEqualTo(workloadService.getTrainerSummary("jane.smith"));
+        assertThat(reactiveSummaryService
+                        .getTrainerSummary("jane.smith", period)
+                        .block())
+                .isEqualTo(workloadService.getTrainerSummary("jane.smith", period));
+    }
+
+    @Test
+    void add_createsProfileAndOneBucketPerYear() {
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2023, 11, 5, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 90, LocalDateTime.of(2024, 3, 20, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 15, LocalDateTime.of(2024, 3, 21, 8, 0)));
+
+        assertThat(profileRepository.findByUsername("jane.smith")).isPresent();
+        assertThat(bucketRepository.findByUsername("jane.smith")).hasSize(2);
+        assertThat(bucketRepository.findByUsernameAndYear("jane.smith", 2024))
+                .hasValueSatisfying(bucket -> assertThat(bucket.getMonths())
+                        .singleElement()
+                        .satisfies(month -> assertThat(month.getDurationMin()).isEqualTo(105)));
+
+        TrainerSummaryResponse summary = workloadService.getTrainerSummary("jane.smith");
+        assertThat(summary.firstName()).isEqualTo("Jane");
+        assertThat(durationFor(summary, 2023, Month.NOVEMBER)).isEqualTo(30);
+        assertThat(durationFor(summary, 2024, Month.MARCH)).isEqualTo(105);
+    }
+
+    @Test
+    void delete_isGuardedAgainstNegativeTotals() {
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2024, 6, 1, 9, 0)));
+        workloadService.processRequest(command(ActionType.DELETE, 10, LocalDateTime.of(2024, 6, 1, 9, 0)));
+
+        assertThatThrownBy(() -> workloadService.processRequest(
+                        command(ActionType.DELETE, 60, LocalDateTime.of(2024, 6, 1, 9, 0))))
+                .isInstanceOf(InsufficientDurationException.class);
+
+        assertThat(durationFor(workloadService.getTrainerSummary("jane.smith"), 2024, Month.JUNE))
+                .isEqualTo(20);
+    }
+
+    @Test
+    void getTrainerSummary_withPeriod_projectsBuckets() {
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2023, 11, 5, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 90, LocalDateTime.of(2024, 3, 20, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 45, LocalDateTime.of(2024, 4, 2, 8, 0)));
+
+        TrainerSummaryResponse march =
+                workloadService.getTrainerSummary("jane.smith", new WorkloadPeriod(Year.of(2023), null, Month.MARCH));
+
+        assertThat(march.years()).singleElement().satisfies(y -> assertThat(y.months())
+                .singleElement()
+                .satisfies(m -> assertThat(m.trainingSummaryDuration()).isEqualTo(90)));
+    }
+
+    @Test
+    void findUsernamesActiveSince_groupsBucketsAndLimitsOnTheServer() {
+        workloadService.processRequest(command(ActionType.ADD, 30, LocalDateTime.of(2023, 11, 5, 8, 0)));
+        workloadService.processRequest(command(ActionType.ADD, 90, LocalDateTime.of(2024, 3, 20, 8, 0)));
+        workloadService.processRequest(new UpdateTrainerWorkloadCommand(
+                "john.doe", "John", "Doe", true, LocalDateTime.of(2024, 1, 10, 8, 0), 60, ActionType.ADD));
+
+        assertThat(bucketRepository.findUsernamesActiveSince(2023, 11, 10))
+                .containsExactlyInAnyOrder("jane.smith", "john.doe");
+        assertThat(bucketRepository.findUsernamesActiveSince(2024, 2, 10)).containsExactly("jane.smith");
+        assertThat(bucketRepository.findUsernamesActiveSince(2023, 1, 1)).hasSize(1);
+    }
+
+    private UpdateTrainerWorkloadCommand command(ActionType actionType, int minutes, LocalDateTime date) {
+        return new UpdateTrainerWorkloadCommand("jane.smith", "Jane", "Smith", true, date, minutes, actionType);
+    }
+
+    private int durationFor(TrainerSummaryResponse summary, int year, Month month) {
+        return summary.years().stream()
+                .filter(y -> y.year().equals(Year.of(year)))
+                .flatMap(y -> y.months().stream())
+                .filter(m -> m.month() == month)
+                .mapToInt(m -> (int) m.trainingSummaryDuration())
+                .findFirst()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import com.epam.workload.application.cache.TrainerSummaryCache;
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.infrastructure.cache.CaffeineTrainerSummaryCache;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.cache.summary.enabled=true")
+class CaffeineTrainerSummaryCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Autowired
+    private TrainerSummaryCache summaryCache;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+    }
+
+    @Test
+    void caffeineCacheIsWired() {
+        assertThat(summaryCache).isInstanceOf(CaffeineTrainerSummaryCache.class);
+    }
+
+    @Test
+    void summary_isServedFromCache_untilTheTrainerIsUpdated() {
+        workloadService.processRequest(addCommand(60));
+        assertThat(workloadService.getTrainerSummary("cache.user").years()).hasSize(1);
+
+        // Bypassing the service leaves the cached summary in place
+        mongoRepository.deleteAll();
+        assertThat(workloadService.getTrainerSummary("cache.user").years()).hasSize(1);
+
+        workloadService.processRequest(addCommand(30));
+        assertThat(workloadService
+                        .getTrainerSummary("cache.user")
+                        .years()
+                        .getFirst()
+                        .months()
+                        .getFirst()
+                        .trainingSummaryDuration())
+                .isEqualTo(30);
+    }
+
+    private UpdateTrainerWorkloadCommand addCommand(int minutes) {
+        return new UpdateTrainerWorkloadCommand(
+                "cache.user", "Cache", "User", true, LocalDateTime.of(2024, 6, 1, 9, 0), minutes, ActionType.ADD);
+    }
+}
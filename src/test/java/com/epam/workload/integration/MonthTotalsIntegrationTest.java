@@ -0,0 +1,85 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.MonthTotalDTO;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.application.service.WorkloadStatsService;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.infrastructure.persistence.repository.MonthTotalMongoRepository;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import com.epam.workload.infrastructure.persistence.stats.MonthTotalsReconciliationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class MonthTotalsIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private WorkloadStatsService statsService;
+
+    @Autowired
+    private MonthTotalsReconciliationJob reconciliationJob;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Autowired
+    private MonthTotalMongoRepository monthTotalRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+        monthTotalRepository.deleteAll();
+    }
+
+    @Test
+    void monthTotals_followAddsAndDeletesAcrossTrainers() {
+        workloadService.processRequest(command("first.trainer", ActionType.ADD, 60, 2025, 1));
+        workloadService.processRequest(command("second.trainer", ActionType.ADD, 45, 2025, 1));
+        workloadService.processRequest(command("first.trainer", ActionType.DELETE, 15, 2025, 1));
+        workloadService.processBatch(
+                List.of(
+                        command("second.trainer", ActionType.ADD, 30, 2025, 3),
+                        command("third.trainer", ActionType.ADD, 10, 2025, 3)),
+                List.of(SourcePosition.of("training-events", 0, 0), SourcePosition.of("training-events", 0, 1)));
+
+        assertThat(statsService
+                        .getMonthTotals(YearMonth.of(2025, 1), YearMonth.of(2025, 3))
+                        .months())
+                .containsExactly(
+                        new MonthTotalDTO(YearMonth.of(2025, 1), 90),
+                        new MonthTotalDTO(YearMonth.of(2025, 2), 0),
+                        new MonthTotalDTO(YearMonth.of(2025, 3), 40));
+        assertThat(reconciliationJob.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcile_repairsDrift() {
+        workloadService.processRequest(command("first.trainer", ActionType.ADD, 60, 2025, 1));
+        monthTotalRepository.incrementAll(Map.of("2025-01", 500L, "2024-12", 7L));
+
+        assertThat(reconciliationJob.reconcile()).isEqualTo(2);
+
+        assertThat(statsService
+                        .getMonthTotals(YearMonth.of(2024, 12), YearMonth.of(2025, 1))
+                        .totalMinutes())
+                .isEqualTo(60);
+    }
+
+    private UpdateTrainerWorkloadCommand command(
+            String username, ActionType actionType, int minutes, int year, int month) {
+        return new UpdateTrainerWorkloadCommand(
+                username, "Stats", "Trainer", true, LocalDateTime.of(year, month, 1, 9, 0), minutes, actionType);
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"app.workload.update-mode=optimistic", "app.workload.optimistic.max-attempts=50"})
+class OptimisticUpdateModeIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+    }
+
+    @Test
+    void add_versionsTheDocument() {
+        workloadService.processRequest(command(10, LocalDateTime.of(2024, 6, 1, 9, 0)));
+        workloadService.processRequest(command(10, LocalDateTime.of(2024, 6, 2, 9, 0)));
+
+        assertThat(mongoRepository.findByUsername("john.doe"))
+                .hasValueSatisfying(dao -> assertThat(dao.getVersion()).isEqualTo(1L));
+    }
+
+    @Test
+    void concurrentUpdates_areRetriedNotLost() throws InterruptedException {
+        workloadService.processRequest(command(10, LocalDateTime.of(2024, 6, 1, 9, 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 40)
+                .forEach(i -> executor.submit(
+                        () -> workloadService.processRequest(command(5, LocalDateTime.of(2024, 6, 2, 9, 0)))));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        TrainerSummaryResponse summary = workloadService.getTrainerSummary("john.doe");
+        assertThat(summary.years())
+                .filteredOn(y -> y.year().equals(Year.of(2024)))
+                .flatMap(y -> y.months())
+                .filteredOn(m -> m.month() == Month.JUNE)
+                .singleElement()
+                .satisfies(m -> assertThat(m.trainingSummaryDuration()).isEqualTo(210));
+        assertThat(meterRegistry.counter("workload.update.retries.exhausted").count())
+                .isZero();
+    }
+
+    private UpdateTrainerWorkloadCommand command(int minutes, LocalDateTime date) {
+        return new UpdateTrainerWorkloadCommand("john.doe", "John", "Doe", true, date, minutes, ActionType.ADD);
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.service.ReactiveTrainerSummaryService;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReactiveSummaryReadIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private ReactiveTrainerSummaryService reactiveSummaryService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+        workloadService.processRequest(command(45, LocalDateTime.of(2023, 2, 1, 9, 0)));
+        workloadService.processRequest(command(60, LocalDateTime.of(2024, 6, 1, 9, 0)));
+        workloadService.processRequest(command(30, LocalDateTime.of(2024, 7, 1, 9, 0)));
+    }
+
+    @Test
+    void reactiveRead_matchesBlockingRead() {
+        assertThat(reactiveSummaryService
+                        .getTrainerSummary("john.doe", WorkloadPeriod.all())
+                        .block())
+                .isEqualTo(workloadService.getTrainerSummary("john.doe"));
+    }
+
+    @Test
+    void reactiveRead_appliesThePeriodInTheStore() {
+        WorkloadPeriod period = new WorkloadPeriod(Year.of(2024), Year.of(2024), Month.JULY);
+
+        assertThat(reactiveSummaryService.getTrainerSummary("john.doe", period).block())
+                .isEqualTo(workloadService.getTrainerSummary("john.doe", period))
+                .satisfies(summary -> assertThat(summary.lifetimeTotal()).isEqualTo(30));
+    }
+
+    @Test
+    void reactiveRead_failsForUnknownTrainer() {
+        assertThatThrownBy(() -> reactiveSummaryService
+                        .getTrainerSummary("nobody", WorkloadPeriod.all())
+                        .block())
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private UpdateTrainerWorkloadCommand command(int minutes, LocalDateTime date) {
+        return new UpdateTrainerWorkloadCommand("john.doe", "John", "Doe", true, date, minutes, ActionType.ADD);
+    }
+}
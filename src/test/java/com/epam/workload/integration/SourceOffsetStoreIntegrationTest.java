@@ -0,0 +1,100 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.YearlyDurations;
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import com.epam.workload.infrastructure.persistence.repository.SourceOffsetMongoRepository;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"app.kafka.offsets.store=mongo", "app.workload.update-mode=atomic"})
+class SourceOffsetStoreIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private SourceOffsetRepository sourceOffsets;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Autowired
+    private SourceOffsetMongoRepository sourceOffsetMongoRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+        sourceOffsetMongoRepository.deleteAll();
+    }
+
+    @Test
+    void replayedRecords_areAppliedOnce() {
+        SourcePosition first = SourcePosition.of("gym.trainings.created", 0, 10);
+        SourcePosition second = SourcePosition.of("gym.trainings.created", 0, 11);
+
+        assertThat(workloadService.processRequest(command(ActionType.ADD, 60), first))
+                .isPresent();
+        assertThat(workloadService.processRequest(command(ActionType.DELETE, 20), second))
+                .isPresent();
+        assertThat(workloadService.processRequest(command(ActionType.ADD, 60), first))
+                .isEmpty();
+        assertThat(workloadService.processRequest(command(ActionType.DELETE, 20), second))
+                .isEmpty();
+
+        assertThat(workloadService.getTrainerSummary("john.doe").years())
+                .filteredOn(y -> y.year().equals(Year.of(2024)))
+                .flatMap(y -> y.months())
+                .filteredOn(m -> m.month() == Month.JUNE)
+                .singleElement()
+                .satisfies(m -> assertThat(m.trainingSummaryDuration()).isEqualTo(40));
+    }
+
+    @Test
+    void wholeTrainerWrites_keepTheOffsetMarks() {
+        SourcePosition first = SourcePosition.of("gym.trainings.created", 0, 10);
+        assertThat(workloadService.processRequest(command(ActionType.ADD, 60), first))
+                .isPresent();
+
+        // The importer upserts the whole trainer
+        workloadService.importWorkloads(List.of(TrainerWorkload.builder()
+                .username("john.doe")
+                .firstName("John")
+                .lastName("Doe")
+                .active(true)
+                .durations(YearlyDurations.builder().put(2024, 7, 30).build())
+                .build()));
+
+        assertThat(workloadService.processRequest(command(ActionType.ADD, 60), first))
+                .isEmpty();
+    }
+
+    @Test
+    void storedOffsets_onlyMoveForward() {
+        sourceOffsets.advanceAll(Map.of("gym.trainings.created-0", 12L));
+        sourceOffsets.advanceAll(Map.of("gym.trainings.created-0", 9L));
+
+        assertThat(sourceOffsets.findLastProcessed("gym.trainings.created-0")).contains(12L);
+        assertThat(sourceOffsets.findLastProcessed("gym.trainings.created-1")).isEmpty();
+    }
+
+    private UpdateTrainerWorkloadCommand command(ActionType action, int minutes) {
+        return new UpdateTrainerWorkloadCommand(
+                "john.doe", "John", "Doe", true, LocalDateTime.of(2024, 6, 1, 9, 0), minutes, action);
+    }
+}
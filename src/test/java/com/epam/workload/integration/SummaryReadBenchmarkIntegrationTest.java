@@ -0,0 +1,126 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.ReactiveTrainerSummaryService;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Blocking vs non-blocking summary reads under the same concurrency. The blocking path gets a fixed
+ * pool the size of a constrained servlet container; the reactive path is subscribed from a single
+ * thread. Logs wall time and peak live threads of each run at {@code INFO}.
+ *
+ * <p>Run with {@code mvn test -Dtest=SummaryReadBenchmarkIntegrationTest -Dbenchmark=true}; tune with
+ * {@code -Dbenchmark.reads} and {@code -Dbenchmark.threads}. Against the local container the store
+ * answers in well under a millisecond, so the gap shown is a lower bound of what a remote cluster sees.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SummaryReadBenchmarkIntegrationTest extends BaseIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(SummaryReadBenchmarkIntegrationTest.class);
+    private static final int READS = Integer.getInteger("benchmark.reads", 5_000);
+    private static final int BLOCKING_THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int TRAINERS = 200;
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private ReactiveTrainerSummaryService reactiveSummaryService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+        IntStream.range(0, TRAINERS)
+                .forEach(i -> workloadService.processRequest(new UpdateTrainerWorkloadCommand(
+                        "trainer" + i,
+                        "T",
+                        "R",
+                        true,
+                        LocalDateTime.of(2024, 1 + i % 12, 1, 9, 0),
+                        60,
+                        ActionType.ADD)));
+        // Warm both paths (connection pools, JIT) before measuring
+        runBlocking(500);
+        runReactive(500);
+    }
+
+    @Test
+    void compareBlockingAndReactiveReads() {
+        long blocking = runBlocking(READS);
+        int blockingPeak = threads.getPeakThreadCount();
+
+        long reactive = runReactive(READS);
+        int reactivePeak = threads.getPeakThreadCount();
+
+        log.info(
+                "{} summary reads: blocking ({} threads) {} ms, {} reads/s, peak live threads {}; "
+                        + "reactive (1 subscriber) {} ms, {} reads/s, peak live threads {}",
+                READS,
+                BLOCKING_THREADS,
+                blocking,
+                READS * 1000 / Math.max(blocking, 1),
+                blockingPeak,
+                reactive,
+                READS * 1000 / Math.max(reactive, 1),
+                reactivePeak);
+        assertThat(blocking).isPositive();
+        assertThat(reactive).isPositive();
+        // The blocking run starts a thread per pool slot; the reactive one adds none of its own
+        assertThat(blockingPeak).isGreaterThanOrEqualTo(BLOCKING_THREADS);
+    }
+
+    private long runBlocking(int reads) {
+        threads.resetPeakThreadCount();
+        ExecutorService pool = Executors.newFixedThreadPool(BLOCKING_THREADS);
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> pending = new ArrayList<>(reads);
+        for (int i = 0; i < reads; i++) {
+            String username = "trainer" + i % TRAINERS;
+            pending.add(CompletableFuture.runAsync(
+                    () -> workloadService.getTrainerSummary(username, WorkloadPeriod.all()), pool));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        pool.shutdown();
+        return elapsed;
+    }
+
+    private long runReactive(int reads) {
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> pending = new ArrayList<>(reads);
+        for (int i = 0; i < reads; i++) {
+            pending.add(reactiveSummaryService
+                    .getTrainerSummary("trainer" + i % TRAINERS, WorkloadPeriod.all())
+                    .toFuture());
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/** The test container is a single-member replica set, so operation times and sessions are real. */
+@TestPropertySource(properties = "app.persistence.summary-reads.read-preference=secondaryPreferred")
+class SummaryReadRoutingIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+    }
+
+    @Test
+    void write_returnsToken_thatAReadCanWaitFor() {
+        workloadService.processRequest(new UpdateTrainerWorkloadCommand(
+                "john.doe", "John", "Doe", true, LocalDateTime.of(2024, 6, 1, 9, 0), 60, ActionType.ADD));
+
+        String token = workloadService.lastWriteToken().orElseThrow();
+
+        assertThat(workloadService
+                        .getTrainerSummary("john.doe", WorkloadPeriod.all(), token)
+                        .lifetimeTotal())
+                .isEqualTo(60);
+    }
+
+    @Test
+    void routedReads_stillServeCachedAndPeriodSummaries() {
+        workloadService.processRequest(new UpdateTrainerWorkloadCommand(
+                "jane.doe", "Jane", "Doe", true, LocalDateTime.of(2024, 6, 1, 9, 0), 30, ActionType.ADD));
+
+        assertThat(workloadService.getTrainerSummary("jane.doe").lifetimeTotal())
+                .isEqualTo(30);
+        assertThat(workloadService
+                        .getTrainerSummary("jane.doe", WorkloadPeriod.all())
+                        .lifetimeTotal())
+                .isEqualTo(30);
+    }
+
+    @Test
+    void malformedToken_isRejected() {
+        assertThatThrownBy(() -> workloadService.getTrainerSummary("john.doe", WorkloadPeriod.all(), "%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -6,14 +6,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import com.epam.workload.application.dto.request.ActionType;
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
+import com.epam.workload.application.dto.response.YearTotalDTO;
 import com.epam.workload.application.exception.EntityNotFoundException;
 import com.epam.workload.application.exception.InsufficientDurationException;
 import com.epam.workload.application.service.TrainerWorkloadService;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
 import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,8 +49,8 @@ class TrainerWorkloadServiceImplIntegrationTest extends BaseIntegrationTest {
 
         assertThat(mongoRepository.findByUsername("john.doe")).isPresent();
         assertThat(result.getUsername()).isEqualTo("john.doe");
-        assertThat(result.getYearMonthDuration()).containsKey(Year.of(2024));
-        assertThat(result.getYearMonthDuration().get(Year.of(2024))).containsEntry(Month.JUNE, 60);
+        assertThat(result.getDurations().toMap()).containsKey(Year.of(2024));
+        assertThat(result.getDurations().toMap().get(Year.of(2024))).containsEntry(Month.JUNE, 60);
     }
 
     @Test
@@ -139,6 +148,44 @@ class TrainerWorkloadServiceImplIntegrationTest extends BaseIntegrationTest {
         assertThat(durationFor(summary, 2024, Month.JUNE)).isEqualTo(60); // reduced
     }
 
+    @Test
+    void concurrentUpdates_areNotLost() throws InterruptedException {
+        workloadService.processRequest(addCommand("john.doe", 10, LocalDateTime.of(2024, 6, 1, 9, 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 40)
+                .forEach(i -> executor.submit(() ->
+                        workloadService.processRequest(addCommand("john.doe", 5, LocalDateTime.of(2024, 6, 2, 9, 0)))));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        TrainerSummaryResponse summary = workloadService.getTrainerSummary("john.doe");
+        assertThat(durationFor(summary, 2024, Month.JUNE)).isEqualTo(210);
+    }
+
+    @Test
+    void getTrainerSummary_withPeriod_returnsOnlyRequestedSlice() {
+        workloadService.processRequest(addCommand("jane.smith", 30, LocalDateTime.of(2023, 3, 1, 9, 0)));
+        workloadService.processRequest(addCommand("jane.smith", 60, LocalDateTime.of(2024, 3, 1, 9, 0)));
+        workloadService.processRequest(addCommand("jane.smith", 90, LocalDateTime.of(2024, 4, 1, 9, 0)));
+
+        TrainerSummaryResponse range =
+                workloadService.getTrainerSummary("jane.smith", new WorkloadPeriod(Year.of(2024), Year.of(2024), null));
+        assertThat(range.years()).singleElement().satisfies(y -> assertThat(y.months())
+                .hasSize(2));
+
+        TrainerSummaryResponse march =
+                workloadService.getTrainerSummary("jane.smith", new WorkloadPeriod(null, null, Month.MARCH));
+        assertThat(march.years()).hasSize(2);
+        assertThat(durationFor(march, 2024, Month.MARCH)).isEqualTo(60);
+        assertThat(durationFor(march, 2024, Month.APRIL)).isZero();
+
+        TrainerSummaryResponse empty =
+                workloadService.getTrainerSummary("jane.smith", new WorkloadPeriod(Year.of(2022), Year.of(2022), null));
+        assertThat(empty.firstName()).isEqualTo("Jane");
+        assertThat(empty.years()).isEmpty();
+    }
+
     @Test
     void getTrainerSummary_throws_whenTrainerDoesNotExist() {
         assertThatThrownBy(() -> workloadService.getTrainerSummary("nobody"))
@@ -158,6 +205,42 @@ class TrainerWorkloadServiceImplIntegrationTest extends BaseIntegrationTest {
         assertThat(summary.status()).isTrue();
     }
 
+    @Test
+    void getTrainerTotals_tracksAddsAndDeletes() {
+        workloadService.processRequest(addCommand("jane.smith", 30, LocalDateTime.of(2023, 3, 1, 9, 0)));
+        workloadService.processRequest(addCommand("jane.smith", 60, LocalDateTime.of(2024, 3, 1, 9, 0)));
+        workloadService.processRequest(addCommand("jane.smith", 90, LocalDateTime.of(2024, 4, 1, 9, 0)));
+        workloadService.processRequest(addCommand("jane.smith", 15, LocalDateTime.of(2024, 4, 2, 9, 0)));
+        workloadService.processRequest(deleteCommand("jane.smith", 20, LocalDateTime.of(2024, 3, 1, 9, 0)));
+
+        TrainerTotalsResponse totals = workloadService.getTrainerTotals("jane.smith");
+
+        assertThat(totals.lifetimeTotal()).isEqualTo(175);
+        assertThat(totals.years())
+                .containsExactly(new YearTotalDTO(Year.of(2023), 30), new YearTotalDTO(Year.of(2024), 145));
+        assertThat(mongoRepository.findByUsername("jane.smith").orElseThrow().getLifetimeTotal())
+                .isEqualTo(175);
+    }
+
+    @Test
+    void getTrainerTotals_sumsMonths_forDocumentsWithoutStoredTotals() {
+        mongoRepository.save(TrainerWorkloadDAO.builder()
+                .username("legacy")
+                .years(List.of(TrainerWorkloadDAO.YearSummaryDAO.builder()
+                        .year(2022)
+                        .months(List.of(TrainerWorkloadDAO.MonthSummaryDAO.builder()
+                                .month(5)
+                                .durationMin(40)
+                                .build()))
+                        .build()))
+                .build());
+
+        TrainerTotalsResponse totals = workloadService.getTrainerTotals("legacy");
+
+        assertThat(totals.lifetimeTotal()).isEqualTo(40);
+        assertThat(totals.years()).containsExactly(new YearTotalDTO(Year.of(2022), 40));
+    }
+
     private UpdateTrainerWorkloadCommand addCommand(String username, int minutes, LocalDateTime date) {
         return new UpdateTrainerWorkloadCommand(username, "Jane", "Smith", true, date, minutes, ActionType.ADD);
     }
@@ -0,0 +1,120 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.context.TestPropertySource;
+
+@Import(TrainingEventBatchListenerIntegrationTest.TestKafkaProducerConfig.class)
+@TestPropertySource(properties = "app.kafka.batch.enabled=true")
+class TrainingEventBatchListenerIntegrationTest extends BaseIntegrationTest {
+
+    @TestConfiguration
+    static class TestKafkaProducerConfig {
+
+        @Bean
+        public ProducerFactory<String, TrainerWorkloadEvent> testProducerFactory() {
+            Map<String, Object> props = new HashMap<>();
+            props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+            props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+            props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+            return new DefaultKafkaProducerFactory<>(props);
+        }
+
+        @Bean
+        public KafkaTemplate<String, TrainerWorkloadEvent> testKafkaTemplate(
+                ProducerFactory<String, TrainerWorkloadEvent> testProducerFactory) {
+            return new KafkaTemplate<>(testProducerFactory);
+        }
+    }
+
+    @Autowired
+    private KafkaTemplate<String, TrainerWorkloadEvent> kafkaTemplate;
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Value("${app.kafka.topics.training-created}")
+    private String topic;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+    }
+
+    @Test
+    void consumesBurstOfEvents_andAccumulatesPerTrainer() {
+        for (int i = 0; i < 50; i++) {
+            kafkaTemplate.send(topic, "john.doe", event("john.doe", 10, TrainerWorkloadEvent.ActionType.ADD));
+            kafkaTemplate.send(topic, "jane.smith", event("jane.smith", 5, TrainerWorkloadEvent.ActionType.ADD));
+        }
+
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(durationFor(workloadService.getTrainerSummary("john.doe"), 2024, Month.JUNE))
+                    .isEqualTo(500);
+            assertThat(durationFor(workloadService.getTrainerSummary("jane.smith"), 2024, Month.JUNE))
+                    .isEqualTo(250);
+        });
+    }
+
+    @Test
+    void rejectedDeleteInBatch_isSkipped_andRestOfBatchApplied() {
+        kafkaTemplate.send(topic, "john.doe", event("john.doe", 10, TrainerWorkloadEvent.ActionType.ADD));
+        kafkaTemplate.send(topic, "john.doe", event("john.doe", 60, TrainerWorkloadEvent.ActionType.DELETE));
+        kafkaTemplate.send(topic, "john.doe", event("john.doe", 20, TrainerWorkloadEvent.ActionType.ADD));
+
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> assertThat(
+                        durationFor(workloadService.getTrainerSummary("john.doe"), 2024, Month.JUNE))
+                .isEqualTo(30));
+    }
+
+    private TrainerWorkloadEvent event(String username, int minutes, TrainerWorkloadEvent.ActionType actionType) {
+        return TrainerWorkloadEvent.builder()
+                .trainerUsername(username)
+                .trainerFirstname("John")
+                .trainerLastname("Doe")
+                .isActive(true)
+                .trainingDate(LocalDateTime.of(2024, 6, 1, 9, 0))
+                .trainingDurationMinutes(minutes)
+                .actionType(actionType)
+                .build();
+    }
+
+    private int durationFor(TrainerSummaryResponse summary, int year, Month month) {
+        return summary.years().stream()
+                .filter(y -> y.year().equals(Year.of(year)))
+                .flatMap(y -> y.months().stream())
+                .filter(m -> m.month() == month)
+                .mapToInt(m -> (int) m.trainingSummaryDuration())
+                .findFirst()
+                .orElse(0);
+    }
+}
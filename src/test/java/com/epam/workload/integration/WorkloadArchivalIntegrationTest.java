@@ -0,0 +1,136 @@
+package com.epam.workload.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+import com.epam.workload.application.dto.request.ActionType;
+import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.domain.port.TrainerWorkloadRepository;
+import com.epam.workload.infrastructure.persistence.archive.WorkloadArchivalJob;
+import com.epam.workload.infrastructure.persistence.dao.TrainerWorkloadDAO;
+import com.epam.workload.infrastructure.persistence.repository.TrainerWorkloadMongoRepository;
+import com.epam.workload.infrastructure.persistence.repository.WorkloadArchiveMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"app.archive.enabled=true", "app.archive.cron=-", "app.archive.pause=0ms"})
+class WorkloadArchivalIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private WorkloadArchivalJob archivalJob;
+
+    @Autowired
+    private TrainerWorkloadService workloadService;
+
+    @Autowired
+    private TrainerWorkloadRepository repository;
+
+    @Autowired
+    private TrainerWorkloadMongoRepository mongoRepository;
+
+    @Autowired
+    private WorkloadArchiveMongoRepository archiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoRepository.deleteAll();
+        archiveRepository.deleteAll();
+    }
+
+    @Test
+    void archiveBefore_movesColdYearsAndDropsZeroMonths() {
+        add(60, LocalDateTime.of(2019, 5, 1, 9, 0));
+        add(30, LocalDateTime.of(2025, 1, 1, 9, 0));
+        add(20, LocalDateTime.of(2025, 2, 1, 9, 0));
+        workloadService.processRequest(command(ActionType.DELETE, 20, LocalDateTime.of(2025, 2, 1, 9, 0)));
+
+        assertThat(archivalJob.archiveBefore(2023)).isEqualTo(1);
+
+        TrainerWorkloadDAO hot = mongoRepository.findByUsername("archived.user").orElseThrow();
+        assertThat(hot.getYears()).singleElement().satisfies(year -> {
+            assertThat(year.getYear()).isEqualTo(2025);
+            assertThat(year.getMonths()).hasSize(1);
+            assertThat(year.getYearTotal()).isEqualTo(30);
+        });
+        assertThat(hot.getLifetimeTotal()).isEqualTo(30);
+        assertThat(archiveRepository.findByUsernameAndCommittedTrue("archived.user"))
+                .singleElement()
+                .satisfies(archived -> assertThat(archived.getYear()).isEqualTo(2019));
+
+        TrainerWorkload withArchive = repository
+                .findByUsernameIncludingArchive("archived.user", WorkloadPeriod.all())
+                .orElseThrow();
+        assertThat(withArchive.getDurations().get(Year.of(2019), Month.MAY)).hasValue(60);
+        assertThat(repository
+                        .findByUsername("archived.user")
+                        .orElseThrow()
+                        .getDurations()
+                        .years())
+                .containsExactly(Year.of(2025));
+        assertThat(archivalJob.archiveBefore(2023)).isZero();
+    }
+
+    @Test
+    void lateEventsForArchivedYears_areSummedWithTheArchive() {
+        add(60, LocalDateTime.of(2019, 5, 1, 9, 0));
+        archivalJob.archiveBefore(2023);
+
+        add(15, LocalDateTime.of(2019, 5, 2, 9, 0));
+        archivalJob.archiveBefore(2023);
+
+        assertThat(archiveRepository.findByUsernameAndCommittedTrue("archived.user"))
+                .hasSize(2);
+        TrainerWorkload withArchive = repository
+                .findByUsernameIncludingArchive("archived.user", WorkloadPeriod.ofYear(Year.of(2019)))
+                .orElseThrow();
+        assertThat(withArchive.getDurations().get(Year.of(2019), Month.MAY)).hasValue(75);
+        assertThat(workloadService
+                        .getTrainerTotalsIncludingArchive("archived.user")
+                        .lifetimeTotal())
+                .isEqualTo(75);
+    }
+
+    @Test
+    void deleteForArchivedYear_isSubtractedFromTheArchive() {
+        add(60, LocalDateTime.of(2019, 5, 1, 9, 0));
+        archivalJob.archiveBefore(2023);
+
+        TrainerWorkload updated =
+                workloadService.processRequest(command(ActionType.DELETE, 10, LocalDateTime.of(2019, 5, 1, 9, 0)));
+
+        assertThat(updated.getDurations().get(Year.of(2019), Month.MAY)).hasValue(50);
+        assertThat(archiveRepository.findByUsernameAndCommittedTrue("archived.user"))
+                .singleElement()
+                .satisfies(archived -> assertThat(archived.getYearTotal()).isEqualTo(50));
+        assertThat(mongoRepository.findByUsername("archived.user").orElseThrow().getYears())
+                .isEmpty();
+    }
+
+    @Test
+    void deleteForArchivedYear_isRejectedWhenTheArchiveHoldsTooLittle() {
+        add(60, LocalDateTime.of(2019, 5, 1, 9, 0));
+        archivalJob.archiveBefore(2023);
+
+        assertThatThrownBy(() -> workloadService.processRequest(
+                        command(ActionType.DELETE, 61, LocalDateTime.of(2019, 5, 1, 9, 0))))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private void add(int minutes, LocalDateTime date) {
+        workloadService.processRequest(command(ActionType.ADD, minutes, date));
+    }
+
+    private UpdateTrainerWorkloadCommand command(ActionType actionType, int minutes, LocalDateTime date) {
+        return new UpdateTrainerWorkloadCommand("archived.user", "Archived", "User", true, date, minutes, actionType);
+    }
+}
@@ -0,0 +1,196 @@
+package com.epam.workload.interfaces.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.epam.workload.application.service.TrainerWorkloadService;
+import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.infrastructure.persistence.memory.InMemorySourceOffsetRepository;
+import com.epam.workload.interfaces.messaging.event.TrainerWorkloadEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadImportRunner Tests")
+class WorkloadImportRunnerTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path directory;
+
+    private static int minutes(TrainerWorkload workload, int year, Month month) {
+        return workload.getDurations().get(Year.of(year), month).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParserTests {
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            executor = Executors.newFixedThreadPool(4);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        private WorkloadFileParser.Result parse(Path file, int chunkSize) throws IOException {
+            ObjectReader reader = OBJECT_MAPPER.readerFor(TrainerWorkloadEvent.class);
+            return new WorkloadFileParser(reader, chunkSize, executor).parse(file, chunks -> {});
+        }
+
+        @Test
+        @DisplayName("Should sum CSV lines per trainer and month across chunk boundaries")
+        void shouldSumCsvAcrossChunks() throws IOException {
+            List<String> lines = new ArrayList<>();
+            lines.add("trainerUsername,trainerFirstname,trainerLastname,isActive,trainingDate,trainingDurationMinutes,"
+                    + "actionType");
+            for (int i = 0; i < 200; i++) {
+                lines.add("john.smith,John,Smith,true,2019-03-14T10:00:00,10,ADD");
+                lines.add("jane.doe,Jane,Doe,true,2020-0" + (i % 2 + 1) + "-01,5,");
+            }
+            lines.add("john.smith,John,Smith,false,2019-03-20,100,DELETE");
+            Path file = Files.write(directory.resolve("history.csv"), lines);
+
+            // A few lines per chunk, so most lines sit next to a boundary
+            WorkloadFileParser.Result result = parse(file, 128);
+
+            assertThat(result.lines()).isEqualTo(401);
+            assertThat(result.rejectedLines()).isZero();
+            assertThat(result.workloads())
+                    .extracting(TrainerWorkload::getUsername)
+                    .containsExactly("jane.doe", "john.smith");
+            TrainerWorkload john = result.workloads().get(1);
+            assertThat(minutes(john, 2019, Month.MARCH)).isEqualTo(1_900);
+            assertThat(john.getActive()).isFalse();
+            TrainerWorkload jane = result.workloads().get(0);
+            assertThat(minutes(jane, 2020, Month.JANUARY)).isEqualTo(500);
+            assertThat(minutes(jane, 2020, Month.FEBRUARY)).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("Should parse NDJSON and skip unparseable lines and months netting below zero")
+        void shouldSkipBadInput() throws IOException {
+            Path file = Files.write(
+                    directory.resolve("history.ndjson"),
+                    List.of(
+                            "{\"trainerUsername\":\"john.smith\",\"trainerFirstname\":\"John\","
+                                    + "\"trainingDate\":\"2019-03-14T10:00:00\",\"trainingDurationMinutes\":60}",
+                            "not json",
+                            "{\"trainerUsername\":\"john.smith\",\"trainingDurationMinutes\":60}",
+                            "",
+                            "{\"trainerUsername\":\"john.smith\",\"trainingDate\":\"2019-04-01T10:00:00\","
+                                    + "\"trainingDurationMinutes\":30,\"actionType\":\"DELETE\"}"));
+
+            WorkloadFileParser.Result result = parse(file, 1 << 20);
+
+            assertThat(result.lines()).isEqualTo(4);
+            assertThat(result.rejectedLines()).isEqualTo(2);
+            assertThat(result.rejectedMonths()).isEqualTo(1);
+            TrainerWorkload john = result.workloads().get(0);
+            assertThat(minutes(john, 2019, Month.MARCH)).isEqualTo(60);
+            assertThat(john.getDurations().contains(Year.of(2019), Month.APRIL)).isFalse();
+            assertThat(john.getActive()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject a CSV file whose header lacks a required column")
+        void shouldRejectIncompleteHeader() throws IOException {
+            Path file = Files.write(directory.resolve("history.csv"), List.of("trainerUsername,trainingDate"));
+
+            assertThatThrownBy(() -> parse(file, 128))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("trainingDurationMinutes");
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing")
+    class RunnerTests {
+
+        @Mock
+        private TrainerWorkloadService workloadService;
+
+        private final InMemorySourceOffsetRepository offsets = new InMemorySourceOffsetRepository();
+
+        private WorkloadImportRunner runner(Path file) {
+            return new WorkloadImportRunner(
+                    file,
+                    workloadService,
+                    offsets,
+                    OBJECT_MAPPER,
+                    DataSize.ofKilobytes(1),
+                    2,
+                    2,
+                    Duration.ZERO,
+                    new SimpleMeterRegistry());
+        }
+
+        private Path fileWithTrainers(int trainers) throws IOException {
+            List<String> lines = new ArrayList<>();
+            lines.add("trainerUsername,trainingDate,trainingDurationMinutes");
+            for (int i = 0; i < trainers; i++) {
+                lines.add("trainer." + i + ",2019-03-14,60");
+            }
+            return Files.write(directory.resolve("history.csv"), lines);
+        }
+
+        @Test
+        @DisplayName("Should write the trainers in batches and resume after the last checkpoint")
+        @SuppressWarnings("unchecked")
+        void shouldResumeAfterCheckpoint() throws IOException {
+            Path file = fileWithTrainers(5);
+            doThrow(new IllegalStateException("store down"))
+                    .doReturn(List.of())
+                    .when(workloadService)
+                    .importWorkloads(any());
+            WorkloadImportRunner runner = runner(file);
+
+            assertThatThrownBy(() -> runner.importFile(file)).isInstanceOf(IllegalStateException.class);
+            assertThat(offsets.findLastProcessed("import:history.csv:" + Files.size(file)))
+                    .isEmpty();
+
+            assertThat(runner.importFile(file)).isEqualTo(5);
+            assertThat(runner.importFile(file)).isZero();
+
+            ArgumentCaptor<List<TrainerWorkload>> batches = ArgumentCaptor.forClass(List.class);
+            verify(workloadService, times(4)).importWorkloads(batches.capture());
+            assertThat(batches.getAllValues().subList(1, 4))
+                    .extracting(List::size)
+                    .containsExactly(2, 2, 1);
+            assertThat(offsets.findLastProcessed("import:history.csv:" + Files.size(file)))
+                    .contains(5L);
+        }
+    }
+}
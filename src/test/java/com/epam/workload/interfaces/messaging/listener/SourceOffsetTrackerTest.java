@@ -0,0 +1,75 @@
+package com.epam.workload.interfaces.messaging.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.epam.workload.domain.model.SourcePosition;
+import com.epam.workload.domain.port.SourceOffsetRepository;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SourceOffsetTracker Tests")
+class SourceOffsetTrackerTest {
+
+    @Mock
+    private SourceOffsetRepository repository;
+
+    private SourceOffsetTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SourceOffsetTracker(repository, 3);
+    }
+
+    @Test
+    @DisplayName("Should write the highest offset per partition every flush-every records")
+    void shouldFlushInBatches() {
+        tracker.processed(SourcePosition.of("training-events", 0, 7));
+        tracker.processed(SourcePosition.of("training-events", 1, 3));
+        verify(repository, never()).advanceAll(any());
+
+        tracker.processed(SourcePosition.of("training-events", 0, 8));
+
+        verify(repository).advanceAll(Map.of("training-events-0", 8L, "training-events-1", 3L));
+    }
+
+    @Test
+    @DisplayName("Should keep offsets for the next flush when the write fails")
+    void shouldRetainOffsetsOnFailure() {
+        doThrow(new IllegalStateException("down")).doNothing().when(repository).advanceAll(any());
+        tracker.processed(SourcePosition.of("training-events", 0, 7));
+
+        tracker.flush();
+        tracker.flush();
+        tracker.flush();
+
+        verify(repository, times(2)).advanceAll(Map.of("training-events-0", 7L));
+    }
+
+    @Test
+    @DisplayName("Should resume one past the stored offset and leave unknown partitions alone")
+    void shouldResumeAfterStoredOffset() {
+        when(repository.findLastProcessed("training-events-0")).thenReturn(Optional.of(41L));
+        when(repository.findLastProcessed("training-events-1")).thenReturn(Optional.empty());
+
+        Map<TopicPartition, Long> positions = tracker.resumePositions(
+                List.of(new TopicPartition("training-events", 0), new TopicPartition("training-events", 1)));
+
+        assertThat(positions).containsExactly(Map.entry(new TopicPartition("training-events", 0), 42L));
+    }
+}
@@ -0,0 +1,138 @@
+package com.epam.workload.interfaces.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+
+import com.epam.workload.application.dto.response.ReportJobResponse;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.exception.ReportNotReadyException;
+import com.epam.workload.application.service.MonthReportService;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(MonthReportController.class)
+@DisplayName("MonthReportController Tests")
+@TestPropertySource(properties = "spring.main.banner-mode=off")
+class MonthReportControllerTest {
+    private static final Instant CREATED = Instant.parse("2025-04-01T00:00:00Z");
+    private static final ReportJobResponse QUEUED =
+            new ReportJobResponse("job-1", YearMonth.of(2025, 3), "QUEUED", 0, 0, 0, 0, CREATED, CREATED, null);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MonthReportService reportService;
+
+    @MockitoBean
+    private WorkloadRequestMapper mapper;
+
+    @TempDir
+    private Path directory;
+
+    private static com.epam.workload.interfaces.web.dto.response.ReportJobResponse web(ReportJobResponse job) {
+        return new com.epam.workload.interfaces.web.dto.response.ReportJobResponse(
+                job.id(),
+                job.month(),
+                job.status(),
+                job.chunks(),
+                job.chunksDone(),
+                job.trainers(),
+                job.minutes(),
+                job.createdAt(),
+                job.updatedAt(),
+                job.error());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should accept a report and point at its status")
+    void shouldSubmit() throws Exception {
+        when(reportService.submit(YearMonth.of(2025, 3))).thenReturn(QUEUED);
+        when(mapper.toReportJobResponse(QUEUED)).thenReturn(web(QUEUED));
+
+        mockMvc.perform(post("/api/workload/reports").with(csrf()).param("month", "2025-03"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/workload/reports/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 400 for a month that does not parse")
+    void shouldRejectInvalidMonth() throws Exception {
+        mockMvc.perform(post("/api/workload/reports").with(csrf()).param("month", "2025-13"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return the status, or 404 for an unknown job")
+    void shouldGetStatus() throws Exception {
+        ReportJobResponse running = new ReportJobResponse(
+                "job-1", YearMonth.of(2025, 3), "RUNNING", 4, 1, 250, 15_000, CREATED, CREATED, null);
+        when(reportService.getJob("job-1")).thenReturn(running);
+        when(mapper.toReportJobResponse(running)).thenReturn(web(running));
+        when(reportService.getJob("missing")).thenThrow(new EntityNotFoundException("Report job not found: missing"));
+
+        mockMvc.perform(get("/api/workload/reports/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chunksDone").value(1))
+                .andExpect(jsonPath("$.trainers").value(250));
+        mockMvc.perform(get("/api/workload/reports/missing")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should download a completed report as a gzip attachment")
+    void shouldDownload() throws Exception {
+        byte[] content = {0x1f, (byte) 0x8b, 1, 2, 3};
+        when(reportService.getResult("job-1")).thenReturn(Files.write(directory.resolve("job-1.csv.gz"), content));
+
+        MvcResult result = mockMvc.perform(get("/api/workload/reports/job-1/download"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/gzip");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("workload-report-job-1.csv.gz");
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 409 while the report is not completed")
+    void shouldRejectDownloadBeforeCompletion() throws Exception {
+        when(reportService.getResult("job-1"))
+                .thenThrow(new ReportNotReadyException("Report job job-1 is RUNNING (1 of 4 chunks done)"));
+
+        mockMvc.perform(get("/api/workload/reports/job-1/download"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("REPORT_NOT_READY"));
+    }
+}
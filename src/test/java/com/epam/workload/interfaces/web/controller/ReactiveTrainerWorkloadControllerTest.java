@@ -0,0 +1,95 @@
+package com.epam.workload.interfaces.web.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Year;
+import java.util.List;
+
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.exception.EntityNotFoundException;
+import com.epam.workload.application.service.ReactiveTrainerSummaryService;
+import com.epam.workload.domain.model.WorkloadPeriod;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(ReactiveTrainerWorkloadController.class)
+@DisplayName("ReactiveTrainerWorkloadController Tests")
+@TestPropertySource(properties = "spring.main.banner-mode=off")
+class ReactiveTrainerWorkloadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveTrainerSummaryService summaryService;
+
+    @MockitoBean
+    private WorkloadRequestMapper mapper;
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should complete asynchronously with the summary")
+    void shouldReturnSummaryAsynchronously() throws Exception {
+        when(summaryService.getTrainerSummary(
+                        eq("john.smith"), eq(new WorkloadPeriod(Year.of(2025), Year.of(2025), null))))
+                .thenReturn(Mono.just(new TrainerSummaryResponse("john.smith", "John", "Smith", true, 60, List.of())));
+        when(mapper.toTrainerSummaryResponse(any()))
+                .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse(
+                        "john.smith", "John", "Smith", true, 60, List.of()));
+
+        MvcResult started = mockMvc.perform(
+                        get("/api/workload/reactive/john.smith").param("year", "2025"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("john.smith"))
+                .andExpect(jsonPath("$.lifetimeTotal").value(60));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 404 when the Mono fails with EntityNotFoundException")
+    void shouldReturn404ForUnknownTrainer() throws Exception {
+        when(summaryService.getTrainerSummary(eq("ghost"), any()))
+                .thenReturn(Mono.error(new EntityNotFoundException("No workload found for trainer: ghost")));
+
+        MvcResult started = mockMvc.perform(get("/api/workload/reactive/ghost"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Resource Not Found"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should reject 'year' combined with a range before reading")
+    void shouldRejectConflictingPeriod() throws Exception {
+        mockMvc.perform(get("/api/workload/reactive/john.smith")
+                        .param("year", "2025")
+                        .param("fromYear", "2024"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(summaryService);
+    }
+}
@@ -1,28 +1,46 @@
 package com.epam.workload.interfaces.web.controller;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.Year;
 import java.util.List;
+import java.util.Optional;
 
 import com.epam.workload.application.dto.request.ActionType;
 import com.epam.workload.application.dto.request.UpdateTrainerWorkloadCommand;
 import com.epam.workload.application.dto.response.MonthSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerProfileDTO;
+import com.epam.workload.application.dto.response.TrainerSearchResponse;
+import com.epam.workload.application.dto.response.TrainerSummariesResponse;
 import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.TrainerTotalsResponse;
 import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.dto.response.YearTotalDTO;
 import com.epam.workload.application.exception.EntityNotFoundException;
 import com.epam.workload.application.exception.InsufficientDurationException;
+import com.epam.workload.application.exception.StoreUnavailableException;
+import com.epam.workload.application.resilience.StaleRead;
 import com.epam.workload.application.service.TrainerWorkloadService;
 import com.epam.workload.domain.model.TrainerWorkload;
+import com.epam.workload.domain.model.WorkloadPeriod;
 import com.epam.workload.interfaces.web.dto.request.TrainerWorkloadWebRequest;
 import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,6 +49,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
@@ -92,6 +113,22 @@ class TrainerWorkloadControllerTest {
                     .andExpect(jsonPath("$.username").value("john.smith"));
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Should return the consistency token of the write")
+        void shouldReturnConsistencyToken() throws Exception {
+            when(mapper.toUpdateWorkloadCommand(any())).thenReturn(validAddCommand());
+            when(workloadService.processRequest(any())).thenReturn(minimalWorkload());
+            when(workloadService.lastWriteToken()).thenReturn(Optional.of("token-1"));
+
+            mockMvc.perform(post("/api/workload")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validAddRequest())))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Consistency-Token", "token-1"));
+        }
+
         @Test
         @WithMockUser
         @DisplayName("Should return 400 when username is blank")
@@ -200,6 +237,38 @@ class TrainerWorkloadControllerTest {
                     .andExpect(jsonPath("$.message").value(containsString("120")));
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 409 when the trainer keeps changing concurrently")
+        void shouldReturn409OnConcurrentModification() throws Exception {
+            when(mapper.toUpdateWorkloadCommand(any())).thenReturn(validAddCommand());
+            when(workloadService.processRequest(any())).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+            mockMvc.perform(post("/api/workload")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validAddRequest())))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("CONCURRENT_MODIFICATION"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 503 with Retry-After while the store is unavailable")
+        void shouldReturn503WhenStoreUnavailable() throws Exception {
+            when(mapper.toUpdateWorkloadCommand(any())).thenReturn(validAddCommand());
+            when(workloadService.processRequest(any()))
+                    .thenThrow(new StoreUnavailableException("circuit breaker is open", Duration.ofSeconds(30)));
+
+            mockMvc.perform(post("/api/workload")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validAddRequest())))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+                    .andExpect(jsonPath("$.error").value("STORE_UNAVAILABLE"));
+        }
+
         @Test
         @DisplayName("Should return 401 when not authenticated")
         void shouldReturn401WhenNotAuthenticated() throws Exception {
@@ -211,6 +280,82 @@ class TrainerWorkloadControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/workload/summaries")
+    class PostSummariesTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass the usernames and the year to a single service call")
+        void shouldReturnSummaries() throws Exception {
+            var summaries = new TrainerSummariesResponse(List.of(), List.of("ghost"));
+            when(workloadService.getTrainerSummaries(
+                            List.of("john.smith", "ghost"), WorkloadPeriod.ofYear(Year.of(2025))))
+                    .thenReturn(summaries);
+            when(mapper.toTrainerSummariesResponse(summaries))
+                    .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerSummariesResponse(
+                            List.of(), List.of("ghost")));
+
+            mockMvc.perform(post("/api/workload/summaries")
+                            .with(csrf())
+                            .param("year", "2025")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"usernames\":[\"john.smith\",\"ghost\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.notFound[0]").value("ghost"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for an empty username list")
+        void shouldReturn400ForNoUsernames() throws Exception {
+            mockMvc.perform(post("/api/workload/summaries")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"usernames\":[]}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(workloadService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/workload/search")
+    class SearchTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return a page of trainers with the cursor to the next one")
+        void shouldReturnPage() throws Exception {
+            var page = new TrainerSearchResponse(
+                    List.of(new TrainerProfileDTO("john.smith", "John", "Smith", true)), "next-1");
+            when(workloadService.searchTrainers("Jo", null, "cursor-1", 20)).thenReturn(page);
+            when(mapper.toTrainerSearchResponse(page))
+                    .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerSearchResponse(
+                            List.of(new com.epam.workload.interfaces.web.dto.response.TrainerProfileDTO(
+                                    "john.smith", "John", "Smith", true)),
+                            "next-1"));
+
+            mockMvc.perform(get("/api/workload/search").param("firstName", "Jo").param("cursor", "cursor-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.trainers[0].username").value("john.smith"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-1"));
+
+            verify(workloadService, never()).getTrainerSummary(anyString());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for a malformed cursor")
+        void shouldReturn400ForMalformedCursor() throws Exception {
+            when(workloadService.searchTrainers("Jo", null, "garbage", 20))
+                    .thenThrow(new IllegalArgumentException("Malformed cursor: garbage"));
+
+            mockMvc.perform(get("/api/workload/search").param("firstName", "Jo").param("cursor", "garbage"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/workload/{username}")
     class GetWorkloadTests {
@@ -221,8 +366,10 @@ class TrainerWorkloadControllerTest {
                     "John",
                     "Smith",
                     true,
+                    210,
                     List.of(new com.epam.workload.interfaces.web.dto.response.YearSummaryDTO(
                             Year.of(2025),
+                            210,
                             List.of(
                                     new com.epam.workload.interfaces.web.dto.response.MonthSummaryDTO(
                                             Month.JANUARY, 120),
@@ -236,8 +383,10 @@ class TrainerWorkloadControllerTest {
                     "John",
                     "Smith",
                     true,
+                    210,
                     List.of(new YearSummaryDTO(
                             Year.of(2025),
+                            210,
                             List.of(
                                     new MonthSummaryDTO(Month.JANUARY, 120),
                                     new MonthSummaryDTO(Month.FEBRUARY, 90)))));
@@ -256,7 +405,9 @@ class TrainerWorkloadControllerTest {
                     .andExpect(jsonPath("$.firstName").value("John"))
                     .andExpect(jsonPath("$.lastName").value("Smith"))
                     .andExpect(jsonPath("$.status").value(true))
+                    .andExpect(jsonPath("$.lifetimeTotal").value(210))
                     .andExpect(jsonPath("$.years[0].year").value(2025))
+                    .andExpect(jsonPath("$.years[0].yearTotal").value(210))
                     .andExpect(jsonPath("$.years[0].months[0].month").value("JANUARY"))
                     .andExpect(jsonPath("$.years[0].months[0].trainingSummaryDuration")
                             .value(120))
@@ -278,10 +429,282 @@ class TrainerWorkloadControllerTest {
                     .andExpect(jsonPath("$.message").value(containsString("ghost")));
         }
 
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 504 when the read runs out of time")
+        void shouldReturn504WhenDeadlineExceeded() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith"))
+                    .thenThrow(new QueryTimeoutException("operation exceeded time limit"));
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andExpect(jsonPath("$.error").value("DEADLINE_EXCEEDED"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should mark a summary served from last known good data as stale")
+        void shouldMarkStaleSummary() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith")).thenAnswer(invocation -> {
+                StaleRead.record(Instant.now().minusSeconds(90));
+                return serviceSummary();
+            });
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.WARNING, containsString("110")))
+                    .andExpect(header().string(HttpHeaders.AGE, matchesPattern("9[01]")))
+                    .andExpect(jsonPath("$.username").value("john.smith"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should not mark a summary read from the store")
+        void shouldNotMarkFreshSummary() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith")).thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.WARNING))
+                    .andExpect(header().doesNotExist(HttpHeaders.AGE));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 503 when the store is unavailable and nothing is kept")
+        void shouldReturn503WhenStoreUnavailable() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith"))
+                    .thenThrow(new StoreUnavailableException("circuit breaker is open", Duration.ofSeconds(30)));
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.error").value("STORE_UNAVAILABLE"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 504 without reading when the deadline has already passed")
+        void shouldReturn504ForPastDeadline() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .header("X-Request-Deadline", "2000-01-01T00:00:00Z"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andExpect(jsonPath("$.error").value("DEADLINE_EXCEEDED"));
+
+            verifyNoInteractions(workloadService);
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass year and month as a period")
+        void shouldPassYearAndMonthAsPeriod() throws Exception {
+            when(workloadService.getTrainerSummary(
+                            "john.smith", new WorkloadPeriod(Year.of(2025), Year.of(2025), Month.JANUARY)))
+                    .thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("year", "2025")
+                            .param("month", "JANUARY"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value("john.smith"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass an open year range as a period")
+        void shouldPassOpenYearRange() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith", new WorkloadPeriod(Year.of(2024), null, null)))
+                    .thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith").param("fromYear", "2024"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should read archived years only when asked to")
+        void shouldReadArchiveWhenAsked() throws Exception {
+            when(workloadService.getTrainerSummaryIncludingArchive("john.smith", WorkloadPeriod.ofYear(Year.of(2019))))
+                    .thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("year", "2019")
+                            .param("includeArchived", "true"))
+                    .andExpect(status().isOk());
+
+            verify(workloadService, never()).getTrainerSummary(anyString(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should rebuild the summary from the journal when asOf is given")
+        void shouldReadAsOf() throws Exception {
+            Instant asOf = Instant.parse("2025-03-31T23:59:59Z");
+            when(workloadService.getTrainerSummaryAsOf("john.smith", WorkloadPeriod.ofYear(Year.of(2025)), asOf))
+                    .thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("year", "2025")
+                            .param("asOf", "2025-03-31T23:59:59Z"))
+                    .andExpect(status().isOk());
+
+            verify(workloadService, never()).getTrainerSummary(anyString(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should read after the write behind a consistency token")
+        void shouldPassConsistencyToken() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith", WorkloadPeriod.all(), "token-1"))
+                    .thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith").header("X-Consistency-Token", "token-1"))
+                    .andExpect(status().isOk());
+
+            verify(workloadService, never()).getTrainerSummary("john.smith");
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for a malformed consistency token")
+        void shouldReturn400ForMalformedToken() throws Exception {
+            when(workloadService.getTrainerSummary("john.smith", WorkloadPeriod.all(), "garbage"))
+                    .thenThrow(new IllegalArgumentException("Malformed consistency token"));
+
+            mockMvc.perform(get("/api/workload/{username}", "john.smith").header("X-Consistency-Token", "garbage"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 when asOf is combined with includeArchived or a consistency token")
+        void shouldReturn400WhenAsOfCombined() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("asOf", "2025-03-31T23:59:59Z")
+                            .param("includeArchived", "true"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"));
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("asOf", "2025-03-31T23:59:59Z")
+                            .header("X-Consistency-Token", "token-1"))
+                    .andExpect(status().isBadRequest());
+
+            verify(workloadService, never()).getTrainerSummaryAsOf(anyString(), any(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 when includeArchived is combined with a consistency token")
+        void shouldReturn400WhenArchiveCombinedWithToken() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("includeArchived", "true")
+                            .header("X-Consistency-Token", "token-1"))
+                    .andExpect(status().isBadRequest());
+
+            verify(workloadService, never()).getTrainerSummaryIncludingArchive(anyString(), any());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should reach a trainer named like a literal route under /trainers")
+        void shouldReadTrainerNamedLikeRoute() throws Exception {
+            when(workloadService.getTrainerSummary("search")).thenReturn(serviceSummary());
+            when(mapper.toTrainerSummaryResponse(any())).thenReturn(webSummary());
+
+            mockMvc.perform(get("/api/workload/trainers/{username}", "search")).andExpect(status().isOk());
+
+            verify(workloadService, never()).searchTrainers(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 when year is combined with a range")
+        void shouldReturn400WhenYearCombinedWithRange() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("year", "2025")
+                            .param("fromYear", "2024"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 when range is inverted")
+        void shouldReturn400WhenRangeInverted() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith")
+                            .param("fromYear", "2025")
+                            .param("toYear", "2024"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for unknown month")
+        void shouldReturn400ForUnknownMonth() throws Exception {
+            mockMvc.perform(get("/api/workload/{username}", "john.smith").param("month", "SMARCH"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Should return 401 when not authenticated")
         void shouldReturn401WhenNotAuthenticated() throws Exception {
             mockMvc.perform(get("/api/workload/{username}", "john.smith")).andExpect(status().isUnauthorized());
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/workload/{username}/totals")
+    class GetTotalsTests {
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 200 with yearly and lifetime totals")
+        void shouldReturnTotals() throws Exception {
+            TrainerTotalsResponse serviceTotals =
+                    new TrainerTotalsResponse("john.smith", 330, List.of(new YearTotalDTO(Year.of(2025), 330)));
+            when(workloadService.getTrainerTotals("john.smith")).thenReturn(serviceTotals);
+            when(mapper.toTrainerTotalsResponse(serviceTotals))
+                    .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerTotalsResponse(
+                            "john.smith",
+                            330,
+                            List.of(new com.epam.workload.interfaces.web.dto.response.YearTotalDTO(
+                                    Year.of(2025), 330))));
+
+            mockMvc.perform(get("/api/workload/{username}/totals", "john.smith"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value("john.smith"))
+                    .andExpect(jsonPath("$.lifetimeTotal").value(330))
+                    .andExpect(jsonPath("$.years[0].year").value(2025))
+                    .andExpect(jsonPath("$.years[0].yearTotal").value(330));
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 404 when trainer not found")
+        void shouldReturn404WhenTrainerNotFound() throws Exception {
+            when(workloadService.getTrainerTotals("ghost"))
+                    .thenThrow(new EntityNotFoundException("No workload found for trainer: ghost"));
+
+            mockMvc.perform(get("/api/workload/{username}/totals", "ghost")).andExpect(status().isNotFound());
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should serve totals under /trainers as well")
+        void shouldReturnTotalsUnderTrainers() throws Exception {
+            when(workloadService.getTrainerTotals("export"))
+                    .thenThrow(new EntityNotFoundException("No workload found for trainer: export"));
+
+            mockMvc.perform(get("/api/workload/trainers/{username}/totals", "export"))
+                    .andExpect(status().isNotFound());
+
+            verify(workloadService).getTrainerTotals("export");
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package com.epam.workload.interfaces.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import com.epam.workload.application.dto.response.MonthSummaryDTO;
+import com.epam.workload.application.dto.response.TrainerSummaryResponse;
+import com.epam.workload.application.dto.response.YearSummaryDTO;
+import com.epam.workload.application.service.WorkloadExportService;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@WebMvcTest(WorkloadExportController.class)
+@DisplayName("WorkloadExportController Tests")
+@TestPropertySource(properties = "spring.main.banner-mode=off")
+class WorkloadExportControllerTest {
+    private static final TrainerSummaryResponse JANE =
+            new TrainerSummaryResponse("jane.doe", "Jane", "Doe, Jr.", true, 0, List.of());
+    private static final TrainerSummaryResponse JOHN = new TrainerSummaryResponse(
+            "john.smith",
+            "John",
+            "Smith",
+            false,
+            210,
+            List.of(new YearSummaryDTO(
+                    Year.of(2025),
+                    210,
+                    List.of(new MonthSummaryDTO(Month.JANUARY, 120), new MonthSummaryDTO(Month.FEBRUARY, 90)))));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WorkloadExportService exportService;
+
+    @MockitoBean
+    private WorkloadRequestMapper mapper;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        when(exportService.streamSummaries()).thenReturn(Stream.of(JANE, JOHN).onClose(() -> closed.set(true)));
+        when(mapper.toTrainerSummaryResponse(JANE))
+                .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse(
+                        "jane.doe", "Jane", "Doe, Jr.", true, 0, List.of()));
+        when(mapper.toTrainerSummaryResponse(JOHN))
+                .thenReturn(new com.epam.workload.interfaces.web.dto.response.TrainerSummaryResponse(
+                        "john.smith",
+                        "John",
+                        "Smith",
+                        false,
+                        210,
+                        List.of(new com.epam.workload.interfaces.web.dto.response.YearSummaryDTO(
+                                Year.of(2025),
+                                210,
+                                List.of(
+                                        new com.epam.workload.interfaces.web.dto.response.MonthSummaryDTO(
+                                                Month.JANUARY, 120),
+                                        new com.epam.workload.interfaces.web.dto.response.MonthSummaryDTO(
+                                                Month.FEBRUARY, 90))))));
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started =
+                mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should stream one JSON summary per line and close the cursor")
+    void shouldStreamNdjson() throws Exception {
+        MvcResult result = export(get("/api/workload/export"));
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        List<String> lines = result.getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("{\"username\":\"jane.doe\"");
+        assertThat(lines.get(1)).contains("\"lifetimeTotal\":210", "\"month\":\"FEBRUARY\"");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should write one CSV row per month, gzip-compressed when accepted")
+    void shouldStreamGzippedCsv() throws Exception {
+        MvcResult result = export(get("/api/workload/export")
+                .param("format", "CSV")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"));
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(result.getResponse().getContentAsByteArray()).lines())
+                .containsExactly(
+                        "username,firstName,lastName,status,year,month,trainingSummaryDuration",
+                        "jane.doe,Jane,\"Doe, Jr.\",true,,,",
+                        "john.smith,John,Smith,false,2025,JANUARY,120",
+                        "john.smith,John,Smith,false,2025,FEBRUARY,90");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 400 for an unsupported format without opening a cursor")
+    void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/workload/export").param("format", "xml")).andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportService);
+    }
+
+    @Test
+    @DisplayName("Should honour q=0 in Accept-Encoding")
+    void shouldParseAcceptEncoding() {
+        assertThat(WorkloadExportController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(WorkloadExportController.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(WorkloadExportController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(WorkloadExportController.acceptsGzip("deflate")).isFalse();
+        assertThat(WorkloadExportController.acceptsGzip(null)).isFalse();
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
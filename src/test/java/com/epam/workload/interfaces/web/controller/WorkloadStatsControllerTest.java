@@ -0,0 +1,91 @@
+package com.epam.workload.interfaces.web.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import com.epam.workload.application.dto.response.MonthTotalDTO;
+import com.epam.workload.application.dto.response.MonthTotalsResponse;
+import com.epam.workload.application.service.WorkloadStatsService;
+import com.epam.workload.interfaces.web.mapper.WorkloadRequestMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(WorkloadStatsController.class)
+@DisplayName("WorkloadStatsController Tests")
+@TestPropertySource(properties = "spring.main.banner-mode=off")
+class WorkloadStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WorkloadStatsService statsService;
+
+    @MockitoBean
+    private WorkloadRequestMapper mapper;
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 200 with monthly totals for the requested range")
+    void shouldReturnMonthTotals() throws Exception {
+        when(statsService.getMonthTotals(YearMonth.of(2025, 1), YearMonth.of(2025, 2)))
+                .thenReturn(new MonthTotalsResponse(
+                        YearMonth.of(2025, 1),
+                        YearMonth.of(2025, 2),
+                        120,
+                        List.of(
+                                new MonthTotalDTO(YearMonth.of(2025, 1), 120),
+                                new MonthTotalDTO(YearMonth.of(2025, 2), 0))));
+        when(mapper.toMonthTotalsResponse(any()))
+                .thenReturn(new com.epam.workload.interfaces.web.dto.response.MonthTotalsResponse(
+                        YearMonth.of(2025, 1),
+                        YearMonth.of(2025, 2),
+                        120,
+                        List.of(
+                                new com.epam.workload.interfaces.web.dto.response.MonthTotalDTO(
+                                        YearMonth.of(2025, 1), 120),
+                                new com.epam.workload.interfaces.web.dto.response.MonthTotalDTO(
+                                        YearMonth.of(2025, 2), 0))));
+
+        mockMvc.perform(get("/api/workload/stats/months")
+                        .param("from", "2025-01")
+                        .param("to", "2025-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMinutes").value(120))
+                .andExpect(jsonPath("$.months[0].month").value("2025-01"))
+                .andExpect(jsonPath("$.months[1].totalMinutes").value(0));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 400 for an inverted range")
+    void shouldReturn400ForInvertedRange() throws Exception {
+        when(statsService.getMonthTotals(any(), any())).thenThrow(new IllegalArgumentException("from is after to"));
+
+        mockMvc.perform(get("/api/workload/stats/months")
+                        .param("from", "2025-03")
+                        .param("to", "2025-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should return 400 for a malformed month")
+    void shouldReturn400ForMalformedMonth() throws Exception {
+        mockMvc.perform(get("/api/workload/stats/months").param("from", "2025-13"))
+                .andExpect(status().isBadRequest());
+    }
+}